@@ -0,0 +1,43 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.TodoDto;
+import com.connectinghands.entity.Todo;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+/**
+ * Maps between Todo and TodoDto.
+ * The implementation is generated by MapStruct at compile time, so no reflection is used per row.
+ */
+@Mapper(componentModel = "spring")
+public interface TodoMapper {
+
+    /**
+     * Converts a Todo to its DTO, exposing only the id of the owning user.
+     * @param todo The todo to convert.
+     * @return The TodoDto, or null if the todo is null.
+     */
+    @Mapping(target = "userId", source = "user.id")
+    TodoDto toDto(Todo todo);
+
+    /**
+     * Converts a list of Todos to DTOs, preserving order.
+     * @param todos The todos to convert.
+     * @return A list of TodoDto.
+     */
+    List<TodoDto> toDtoList(List<Todo> todos);
+
+    /**
+     * Creates a new Todo from a DTO.
+     * The id, owner and timestamps are left unset; they are assigned by the service and the database.
+     * @param todoDto The DTO to convert.
+     * @return The new Todo.
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "user", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    Todo toEntity(TodoDto todoDto);
+}
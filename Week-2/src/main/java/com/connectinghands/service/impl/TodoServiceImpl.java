@@ -4,18 +4,17 @@ import com.connectinghands.dto.TodoDto;
 import com.connectinghands.entity.Todo;
 import com.connectinghands.entity.User;
 import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.mapper.TodoMapper;
 import com.connectinghands.repository.TodoRepository;
 import com.connectinghands.repository.user.UserRepository;
 import com.connectinghands.service.TodoService;
 import lombok.AllArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -23,7 +22,7 @@ public class TodoServiceImpl implements TodoService {
 
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final TodoMapper todoMapper;
 
     /**
      * Creates a new Todo and associates it with the currently authenticated user.
@@ -34,12 +33,12 @@ public class TodoServiceImpl implements TodoService {
     public TodoDto addTodo(TodoDto todoDto) {
         User user = getCurrentUser();
 
-        Todo todo = modelMapper.map(todoDto, Todo.class);
+        Todo todo = todoMapper.toEntity(todoDto);
         todo.setUser(user);
 
         Todo savedTodo = todoRepository.save(todo);
 
-        return modelMapper.map(savedTodo, TodoDto.class);
+        return todoMapper.toDto(savedTodo);
     }
 
     /**
@@ -63,7 +62,7 @@ public class TodoServiceImpl implements TodoService {
                     .orElseThrow(() -> new ResourceNotFoundException("Todo", "id", todoId));
         }
 
-        return modelMapper.map(todo, TodoDto.class);
+        return todoMapper.toDto(todo);
     }
 
     /**
@@ -83,9 +82,7 @@ public class TodoServiceImpl implements TodoService {
             todos = todoRepository.findByUserId(user.getId());
         }
 
-        return todos.stream()
-                .map(todo -> modelMapper.map(todo, TodoDto.class))
-                .collect(Collectors.toList());
+        return todoMapper.toDtoList(todos);
     }
 
     /**
@@ -108,7 +105,7 @@ public class TodoServiceImpl implements TodoService {
 
         Todo updatedTodo = todoRepository.save(todo);
 
-        return modelMapper.map(updatedTodo, TodoDto.class);
+        return todoMapper.toDto(updatedTodo);
     }
 
     /**
@@ -142,7 +139,7 @@ public class TodoServiceImpl implements TodoService {
         todo.setCompleted(true);
         Todo updatedTodo = todoRepository.save(todo);
 
-        return modelMapper.map(updatedTodo, TodoDto.class);
+        return todoMapper.toDto(updatedTodo);
     }
 
     /**
@@ -161,7 +158,7 @@ public class TodoServiceImpl implements TodoService {
         todo.setCompleted(false);
         Todo updatedTodo = todoRepository.save(todo);
 
-        return modelMapper.map(updatedTodo, TodoDto.class);
+        return todoMapper.toDto(updatedTodo);
     }
 
     private User getCurrentUser() {
@@ -0,0 +1,86 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.TodoDto;
+import com.connectinghands.entity.Todo;
+import com.connectinghands.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of mapping 100,000 Todos to TodoDto, comparing the reflective ModelMapper
+ * previously used by TodoServiceImpl with the generated TodoMapper.
+ * Skipped by default; run with
+ * {@code mvn test -Dtest=TodoMapperBenchmark -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoMapperBenchmark {
+    private static final int ROWS = 100_000;
+
+    private ModelMapper modelMapper;
+    private TodoMapper todoMapper;
+    private List<Todo> todos;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        todoMapper = Mappers.getMapper(TodoMapper.class);
+        todos = new ArrayList<>(ROWS);
+        for (int i = 1; i <= ROWS; i++) {
+            User user = new User();
+            user.setId((long) (i % 100));
+            Todo todo = new Todo();
+            todo.setId(i);
+            todo.setTitle("Todo " + i);
+            todo.setDescription("Description of todo " + i);
+            todo.setCompleted(i % 2 == 0);
+            todo.setUser(user);
+            todos.add(todo);
+        }
+    }
+
+    @Benchmark
+    public List<TodoDto> modelMapper() {
+        List<TodoDto> dtos = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            dtos.add(modelMapper.map(todo, TodoDto.class));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<TodoDto> mapStruct() {
+        return todoMapper.toDtoList(todos);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TodoMapperBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -4,6 +4,7 @@ import com.connectinghands.dto.TodoDto;
 import com.connectinghands.entity.Role;
 import com.connectinghands.entity.Todo;
 import com.connectinghands.entity.User;
+import com.connectinghands.mapper.TodoMapper;
 import com.connectinghands.repository.TodoRepository;
 import com.connectinghands.repository.user.UserRepository;
 import com.connectinghands.service.impl.TodoServiceImpl;
@@ -11,12 +12,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
@@ -42,8 +44,8 @@ public class TodoServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
+    @Spy
+    private TodoMapper todoMapper = Mappers.getMapper(TodoMapper.class);
 
     @InjectMocks
     private TodoServiceImpl todoService;
@@ -107,7 +109,6 @@ public class TodoServiceImplTest {
     void getAllTodos_asUser_shouldReturnOnlyUserTodos() {
         mockCurrentUser(regularUser);
         when(todoRepository.findByUserId(regularUser.getId())).thenReturn(Collections.singletonList(todo1));
-        when(modelMapper.map(any(Todo.class), eq(TodoDto.class))).thenReturn(todoDto1);
 
         List<TodoDto> result = todoService.getAllTodos();
 
@@ -134,7 +135,6 @@ public class TodoServiceImplTest {
     void getTodo_asOwner_shouldReturnTodo() {
         mockCurrentUser(regularUser);
         when(todoRepository.findByIdAndUserId(todo1.getId(), regularUser.getId())).thenReturn(Optional.of(todo1));
-        when(modelMapper.map(todo1, TodoDto.class)).thenReturn(todoDto1);
 
         TodoDto result = todoService.getTodo(todo1.getId());
 
@@ -146,7 +146,6 @@ public class TodoServiceImplTest {
     void getTodo_asAdmin_shouldReturnTodo() {
         mockCurrentUser(adminUser);
         when(todoRepository.findById(anyInt())).thenReturn(Optional.of(todo1));
-        when(modelMapper.map(todo1, TodoDto.class)).thenReturn(todoDto1);
 
         TodoDto result = todoService.getTodo(todo1.getId());
 
@@ -158,7 +157,6 @@ public class TodoServiceImplTest {
     @Test
     void addTodo_shouldAssociateTodoWithCurrentUser() {
         mockCurrentUser(regularUser);
-        when(modelMapper.map(any(TodoDto.class), eq(Todo.class))).thenReturn(todo1);
         when(todoRepository.save(any(Todo.class))).thenReturn(todo1);
 
         todoService.addTodo(new TodoDto());
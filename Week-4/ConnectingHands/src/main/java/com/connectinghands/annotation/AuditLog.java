@@ -1,5 +1,7 @@
 package com.connectinghands.annotation;
 
+import com.connectinghands.audit.CaptureMode;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -10,4 +12,5 @@ import java.lang.annotation.Target;
 public @interface AuditLog {
     String value() default "";
     String description() default "";
-} 
+    CaptureMode capture() default CaptureMode.DEFAULT;
+}
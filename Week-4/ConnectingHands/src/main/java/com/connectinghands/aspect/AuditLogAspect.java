@@ -1,5 +1,8 @@
 package com.connectinghands.aspect;
 
+import com.connectinghands.audit.AuditCapture;
+import com.connectinghands.audit.AuditMetadataRegistry;
+import com.connectinghands.audit.AuditMethodMetadata;
 import com.connectinghands.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -14,75 +17,53 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
-import java.lang.reflect.Method;
-import java.util.Arrays;
-
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class AuditLogAspect {
     private final AuditLogService auditLogService;
+    private final AuditMetadataRegistry metadataRegistry;
+    private final AuditCapture auditCapture;
     private static final Logger log = LoggerFactory.getLogger(AuditLogAspect.class);
 
     @Around("@annotation(com.connectinghands.annotation.AuditLog)")
     public Object logAudit(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        String methodName = method.getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
+        AuditMethodMetadata metadata = metadataRegistry.resolve(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), joinPoint.getTarget());
         Object[] args = joinPoint.getArgs();
-        
+
         // Get current user
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        Long userId = authentication != null && !"anonymousUser".equals(authentication.getPrincipal()) 
-            ? Long.parseLong(authentication.getName()) 
+        Long userId = authentication != null && !"anonymousUser".equals(authentication.getPrincipal())
+            ? Long.parseLong(authentication.getName())
             : null;
 
         // Get IP address with null check
         String ipAddress = "unknown";
         ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         if (attrs != null) {
-            HttpServletRequest request = attrs.getRequest();
-            ipAddress = request.getRemoteAddr();
+            ipAddress = attrs.getRequest().getRemoteAddr();
         }
 
-        // Get entity ID from method arguments
-        Long entityId = extractEntityId(args);
+        Long entityId = metadata.entityId(args);
 
-        // Create audit log entry
-        String action = String.format("%s.%s", className, methodName);
-        String description = String.format("Method %s called with arguments: %s", methodName, Arrays.toString(args));
-        
         try {
             Object result = joinPoint.proceed();
-            auditLogService.logAction(userId, action, className, entityId, null, result != null ? result.toString() : null, description, ipAddress);
+            auditLogService.logAction(userId, metadata.getAction(), metadata.getEntityType(), entityId, null,
+                    auditCapture.captureResult(metadata, result), describe(metadata, args), ipAddress);
             return result;
         } catch (Exception e) {
-            log.error("Audit log aspect caught exception in {}.{}: {}", className, methodName, e.getMessage());
-            auditLogService.logAction(userId, action, className, entityId, null, null, "Error: " + e.getMessage(), ipAddress);
+            log.error("Audit log aspect caught exception in {}: {}", metadata.getAction(), e.getMessage());
+            auditLogService.logAction(userId, metadata.getAction(), metadata.getEntityType(), entityId,
+                    null, null, "Error: " + e.getMessage(), ipAddress);
             throw e;
         }
     }
 
-    private Long extractEntityId(Object[] args) {
-        if (args == null || args.length == 0) {
-            return null;
-        }
-
-        // Try to find ID in the first argument
-        Object firstArg = args[0];
-        if (firstArg instanceof Long) {
-            return (Long) firstArg;
-        }
-
-        // Try to find ID in any argument
-        for (Object arg : args) {
-            if (arg instanceof Long) {
-                return (Long) arg;
-            }
-        }
-
-        return null;
+    private String describe(AuditMethodMetadata metadata, Object[] args) {
+        String capturedArgs = auditCapture.captureArguments(metadata, args);
+        return capturedArgs != null
+                ? metadata.getDescriptionPrefix() + " with arguments: " + capturedArgs
+                : metadata.getDescriptionPrefix();
     }
 }
@@ -0,0 +1,271 @@
+package com.connectinghands.audit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns audited method arguments and results into the strings stored in an audit log.
+ * FULL capture serialises values as JSON with configured fields replaced by a mask and
+ * stops serialising once {@code audit.capture.max-length} characters have been produced,
+ * so large pages and reports cost no more than the cap. IDS capture records only the
+ * {@code getId()} of each value.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class AuditCapture {
+    static final String REDACTED = "***";
+    static final String TRUNCATED = "...(truncated)";
+
+    private static final ClassValue<MethodHandle> ID_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Method getter = type.getMethod("getId");
+                if (getter.getReturnType() == void.class) {
+                    return null;
+                }
+                return MethodHandles.publicLookup().unreflect(getter)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    private final ObjectWriter writer;
+    private final CaptureMode defaultMode;
+    private final int maxLength;
+
+    public AuditCapture(ObjectMapper objectMapper,
+                        @Value("${audit.capture.mode:FULL}") CaptureMode defaultMode,
+                        @Value("${audit.capture.max-length:2048}") int maxLength,
+                        @Value("${audit.capture.redacted-fields:password,token,secret,resetToken,verificationToken}")
+                        String[] redactedFields) {
+        Set<String> redacted = Arrays.stream(redactedFields)
+                .map(field -> field.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.writer = objectMapper.copy()
+                .registerModule(new SimpleModule("audit-redaction").setSerializerModifier(new RedactingModifier(redacted)))
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS, SerializationFeature.WRAP_EXCEPTIONS)
+                .writer();
+        this.defaultMode = defaultMode == CaptureMode.DEFAULT ? CaptureMode.FULL : defaultMode;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Captures the arguments of an audited call.
+     *
+     * @param metadata The audited method
+     * @param args The invocation arguments
+     * @return The captured arguments, or null if nothing is captured
+     */
+    public String captureArguments(AuditMethodMetadata metadata, Object[] args) {
+        return capture(modeOf(metadata), args);
+    }
+
+    /**
+     * Captures the result of an audited call.
+     *
+     * @param metadata The audited method
+     * @param result The returned value
+     * @return The captured result, or null if nothing is captured
+     */
+    public String captureResult(AuditMethodMetadata metadata, Object result) {
+        return result != null ? capture(modeOf(metadata), result) : null;
+    }
+
+    private CaptureMode modeOf(AuditMethodMetadata metadata) {
+        return metadata.getCaptureMode() == CaptureMode.DEFAULT ? defaultMode : metadata.getCaptureMode();
+    }
+
+    private String capture(CaptureMode mode, Object value) {
+        return switch (mode) {
+            case NONE -> null;
+            case IDS -> captureIds(value);
+            default -> serialize(value);
+        };
+    }
+
+    private String serialize(Object value) {
+        CappedWriter out = new CappedWriter(maxLength);
+        try {
+            writer.writeValue(out, value);
+            return out.toString();
+        } catch (CapReachedException e) {
+            return out + TRUNCATED;
+        } catch (IOException | RuntimeException e) {
+            return captureIds(value);
+        }
+    }
+
+    private String captureIds(Object value) {
+        StringBuilder out = new StringBuilder(Math.min(maxLength, 256));
+        return appendIds(out, value) ? out.toString() : out.substring(0, maxLength) + TRUNCATED;
+    }
+
+    /**
+     * Appends the IDs of a value, stopping as soon as the output exceeds the cap.
+     *
+     * @return false if the cap was reached
+     */
+    private boolean appendIds(StringBuilder out, Object value) {
+        if (value instanceof Page<?> page) {
+            return appendIds(out, page.getContent());
+        }
+        if (value instanceof Object[] array) {
+            return appendIds(out, Arrays.asList(array));
+        }
+        if (value instanceof Iterable<?> iterable) {
+            out.append('[');
+            Class<?> elementType = null;
+            MethodHandle accessor = null;
+            boolean first = true;
+            for (Object element : iterable) {
+                if (!first) {
+                    out.append(", ");
+                }
+                first = false;
+                if (element != null && element.getClass() != elementType) {
+                    elementType = element.getClass();
+                    accessor = ID_ACCESSORS.get(elementType);
+                }
+                if (element instanceof Iterable<?> || element instanceof Page<?> || element instanceof Object[]) {
+                    if (!appendIds(out, element)) {
+                        return false;
+                    }
+                } else {
+                    out.append(idOf(element, accessor));
+                }
+                if (out.length() > maxLength) {
+                    return false;
+                }
+            }
+            out.append(']');
+        } else {
+            out.append(idOf(value, value != null ? ID_ACCESSORS.get(value.getClass()) : null));
+        }
+        return out.length() <= maxLength;
+    }
+
+    private Object idOf(Object value, MethodHandle accessor) {
+        if (value == null || value instanceof Number || value instanceof CharSequence || value instanceof Enum<?>) {
+            return value;
+        }
+        if (accessor == null) {
+            return value.getClass().getSimpleName();
+        }
+        try {
+            return accessor.invokeExact(value);
+        } catch (Throwable e) {
+            return value.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * Writer that keeps at most a fixed number of characters and aborts serialisation
+     * as soon as the limit is exceeded.
+     */
+    private static final class CappedWriter extends Writer {
+        private final StringBuilder buffer;
+        private final int limit;
+
+        private CappedWriter(int limit) {
+            this.buffer = new StringBuilder(Math.min(limit, 256));
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int room = limit - buffer.length();
+            if (length > room) {
+                buffer.append(chars, offset, room);
+                throw CapReachedException.INSTANCE;
+            }
+            buffer.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String value, int offset, int length) {
+            int room = limit - buffer.length();
+            if (length > room) {
+                buffer.append(value, offset, offset + room);
+                throw CapReachedException.INSTANCE;
+            }
+            buffer.append(value, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
+    }
+
+    private static final class CapReachedException extends RuntimeException {
+        private static final CapReachedException INSTANCE = new CapReachedException();
+
+        private CapReachedException() {
+            super("Audit capture limit reached", null, false, false);
+        }
+    }
+
+    private static final class RedactingModifier extends BeanSerializerModifier {
+        private final Set<String> redactedFields;
+
+        private RedactingModifier(Set<String> redactedFields) {
+            this.redactedFields = redactedFields;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                                                         List<BeanPropertyWriter> beanProperties) {
+            for (BeanPropertyWriter property : beanProperties) {
+                if (redactedFields.contains(property.getName().toLowerCase(Locale.ROOT))) {
+                    property.assignSerializer(RedactedSerializer.INSTANCE);
+                }
+            }
+            return beanProperties;
+        }
+    }
+
+    private static final class RedactedSerializer extends JsonSerializer<Object> {
+        private static final RedactedSerializer INSTANCE = new RedactedSerializer();
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeString(REDACTED);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.entity.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous ingestion pipeline for audit log entries.
+ * Callers enqueue entries into a bounded lock-free ring buffer and return immediately;
+ * a single background writer drains the buffer and inserts entries in JDBC batches of
+ * up to {@code audit.pipeline.batch-size}, waiting at most {@code audit.pipeline.linger}
+ * for a batch to fill. When the buffer is full the configured {@link OverflowPolicy}
+ * decides whether the caller waits or the entry is dropped. Entries enqueued inside a
+ * transaction are only published once it commits. On shutdown the writer drains the
+ * buffer before the data source is closed, and late entries are written synchronously.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class AuditLogPipeline implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AuditLogPipeline.class);
+
+    private static final String INSERT_SQL = "INSERT INTO audit_logs (user_id, action, entity_type, entity_id, " +
+            "old_value, new_value, additional_info, ip_address, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long BLOCK_PARK_NANOS = 50_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditRingBuffer<AuditLog> buffer;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final Duration shutdownTimeout;
+
+    private final Counter writtenCounter;
+    private final Counter overflowCounter;
+    private final Counter writeErrorCounter;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile Thread writerThread;
+
+    public AuditLogPipeline(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                            @Value("${audit.pipeline.capacity:8192}") int capacity,
+                            @Value("${audit.pipeline.batch-size:200}") int batchSize,
+                            @Value("${audit.pipeline.linger:50ms}") Duration linger,
+                            @Value("${audit.pipeline.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+                            @Value("${audit.pipeline.block-timeout:100ms}") Duration blockTimeout,
+                            @Value("${audit.pipeline.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new AuditRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("audit.pipeline.queue.depth", buffer, AuditRingBuffer::size)
+                .description("Audit log entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("audit.pipeline.queue.capacity", buffer, AuditRingBuffer::capacity)
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.pipeline.written")
+                .description("Audit log entries written to the database")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("audit.pipeline.dropped")
+                .description("Audit log entries that were not written")
+                .tag("reason", "overflow")
+                .register(meterRegistry);
+        this.writeErrorCounter = Counter.builder("audit.pipeline.dropped")
+                .description("Audit log entries that were not written")
+                .tag("reason", "write_error")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.pipeline.flush")
+                .description("Time taken to write one batch of audit log entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an audit log entry for writing. If a transaction is active the entry is
+     * published after it commits and discarded if it rolls back.
+     *
+     * @param entry The audit log entry
+     */
+    public void enqueue(AuditLog entry) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(entry);
+                }
+            });
+        } else {
+            publish(entry);
+        }
+    }
+
+    /**
+     * Writes related audit log entries together in a single JDBC batch on the caller's
+     * thread, bypassing the buffer. If a transaction is active they are written after it
+     * commits and discarded if it rolls back.
+     *
+     * @param entries The audit log entries
+     */
+    public void writeAll(List<AuditLog> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    AuditLogPipeline.this.flush(entries);
+                }
+            });
+        } else {
+            flush(entries);
+        }
+    }
+
+    private void publish(AuditLog entry) {
+        if (!running) {
+            flush(List.of(entry));
+            return;
+        }
+        if (buffer.offer(entry)) {
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writerThread);
+            }
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && offerBlocking(entry)) {
+            return;
+        }
+        overflowCounter.increment();
+        log.warn("Audit log buffer full, dropped {} entry for {} {}",
+                entry.getAction(), entry.getEntityType(), entry.getEntityId());
+    }
+
+    private boolean offerBlocking(AuditLog entry) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        do {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (buffer.offer(entry)) {
+                return true;
+            }
+        } while (System.nanoTime() - deadline < 0);
+        return false;
+    }
+
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        long firstEntryAt = 0L;
+        while (running || buffer.size() > 0) {
+            boolean wasEmpty = batch.isEmpty();
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (wasEmpty && !batch.isEmpty()) {
+                firstEntryAt = System.nanoTime();
+            }
+            long waited = System.nanoTime() - firstEntryAt;
+            if (batch.size() >= batchSize || (!batch.isEmpty() && (waited >= lingerNanos || !running))) {
+                flush(batch);
+                batch.clear();
+            } else if (running) {
+                LockSupport.parkNanos(this, batch.isEmpty() ? lingerNanos : lingerNanos - waited);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<AuditLog> batch) {
+        flushTimer.record(() -> {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+                writtenCounter.increment(batch.size());
+            } catch (RuntimeException e) {
+                // Includes failures outside DataAccessException, such as a bad entry in bind,
+                // which must not end the writer thread.
+                writeErrorCounter.increment(batch.size());
+                log.error("Failed to write {} audit log entries", batch.size(), e);
+            }
+        });
+    }
+
+    private void bind(PreparedStatement statement, AuditLog entry) throws SQLException {
+        statement.setObject(1, entry.getUserId(), Types.BIGINT);
+        statement.setString(2, entry.getAction());
+        statement.setString(3, entry.getEntityType());
+        statement.setObject(4, entry.getEntityId(), Types.BIGINT);
+        statement.setString(5, entry.getOldValue());
+        statement.setString(6, entry.getNewValue());
+        statement.setString(7, entry.getAdditionalInfo());
+        statement.setString(8, entry.getIpAddress());
+        statement.setTimestamp(9, Timestamp.valueOf(entry.getTimestamp()));
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "audit-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Audit log writer did not finish within {}, {} entries may be lost",
+                    shutdownTimeout, buffer.size());
+            return;
+        }
+        List<AuditLog> remaining = new ArrayList<>();
+        buffer.drainTo(remaining, Integer.MAX_VALUE);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the embedded web server, so requests still in
+     * flight during shutdown can enqueue their entries.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,104 @@
+package com.connectinghands.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the monthly partitions of {@code audit_logs}: creates the partitions for the
+ * coming months ahead of time and drops whole partitions once they fall outside the
+ * retention window, which avoids row-by-row deletes and the vacuum work they cause.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class AuditLogRetentionJob {
+    private static final Logger log = LoggerFactory.getLogger(AuditLogRetentionJob.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_y(\\d{4})m(\\d{2})");
+    private static final String LIST_PARTITIONS_SQL = "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = 'audit_logs'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    @Autowired
+    public AuditLogRetentionJob(JdbcTemplate jdbcTemplate,
+                                @Value("${audit.retention.months:12}") int retentionMonths,
+                                @Value("${audit.retention.months-ahead:3}") int monthsAhead) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), retentionMonths, monthsAhead);
+    }
+
+    AuditLogRetentionJob(JdbcTemplate jdbcTemplate, Clock clock, int retentionMonths, int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Creates upcoming partitions and drops expired ones.
+     */
+    @Scheduled(cron = "${audit.retention.cron:0 30 3 * * *}")
+    public void run() {
+        try {
+            createUpcomingPartitions();
+            dropExpiredPartitions();
+        } catch (DataAccessException e) {
+            log.error("Audit log partition maintenance failed", e);
+        }
+    }
+
+    void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now(clock);
+        for (int i = 0; i <= monthsAhead; i++) {
+            LocalDate monthStart = current.plusMonths(i).atDay(1);
+            jdbcTemplate.queryForObject("SELECT create_audit_log_partition(?)", String.class, Date.valueOf(monthStart));
+        }
+    }
+
+    void dropExpiredPartitions() {
+        YearMonth oldestKept = YearMonth.now(clock).minusMonths(retentionMonths - 1L);
+        for (String partition : expiredPartitions(jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class),
+                oldestKept)) {
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Dropped expired audit log partition {}", partition);
+        }
+    }
+
+    /**
+     * Selects the monthly partitions that only hold entries older than the oldest month kept.
+     * Names that do not follow the monthly naming scheme, such as the default partition,
+     * are never selected.
+     *
+     * @param partitions The names of the partitions of audit_logs
+     * @param oldestKept The oldest month whose entries are retained
+     * @return The partitions to drop
+     */
+    static List<String> expiredPartitions(List<String> partitions, YearMonth oldestKept) {
+        return partitions.stream()
+                .filter(name -> {
+                    Matcher matcher = PARTITION_NAME.matcher(name);
+                    return matcher.matches() && YearMonth.of(Integer.parseInt(matcher.group(1)),
+                            Integer.parseInt(matcher.group(2))).isBefore(oldestKept);
+                })
+                .sorted()
+                .toList();
+    }
+}
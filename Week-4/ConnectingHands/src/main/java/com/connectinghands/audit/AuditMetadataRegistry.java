@@ -0,0 +1,59 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.annotation.AuditLog;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link AuditMethodMetadata} keyed by method. Every bean method annotated
+ * with {@link AuditLog} is registered while the context starts; methods reached through
+ * an interface proxy are resolved on first use and cached from then on.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class AuditMetadataRegistry implements BeanPostProcessor {
+    private final Map<Method, AuditMethodMetadata> metadata = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(bean));
+        ReflectionUtils.doWithMethods(targetClass,
+                method -> metadata.putIfAbsent(method, new AuditMethodMetadata(method, targetClass)),
+                method -> AnnotatedElementUtils.hasAnnotation(method, AuditLog.class));
+        return bean;
+    }
+
+    /**
+     * Returns the metadata of an intercepted method.
+     *
+     * @param method The method from the join point signature
+     * @param target The target object the method is invoked on
+     * @return The cached metadata
+     */
+    public AuditMethodMetadata resolve(Method method, Object target) {
+        AuditMethodMetadata cached = metadata.get(method);
+        if (cached != null) {
+            return cached;
+        }
+        return metadata.computeIfAbsent(method, key -> {
+            Class<?> targetClass = ClassUtils.getUserClass(target.getClass());
+            return new AuditMethodMetadata(AopUtils.getMostSpecificMethod(key, targetClass), targetClass);
+        });
+    }
+
+    /**
+     * @return The number of methods with cached metadata
+     */
+    public int size() {
+        return metadata.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.annotation.AuditLog;
+
+import java.lang.reflect.Method;
+
+/**
+ * Everything the audit aspect needs to know about an audited method, resolved once
+ * from its signature and {@link AuditLog} annotation so no reflection or string
+ * formatting happens per call.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class AuditMethodMetadata {
+    private final String action;
+    private final String entityType;
+    private final String descriptionPrefix;
+    private final int entityIdIndex;
+    private final CaptureMode captureMode;
+
+    AuditMethodMetadata(Method method, Class<?> targetClass) {
+        AuditLog annotation = method.getAnnotation(AuditLog.class);
+        String className = targetClass.getSimpleName();
+        this.entityType = className;
+        this.action = annotation != null && !annotation.value().isEmpty()
+                ? annotation.value() : className + "." + method.getName();
+        this.descriptionPrefix = annotation != null && !annotation.description().isEmpty()
+                ? annotation.description() : "Method " + method.getName() + " called";
+        this.captureMode = annotation != null ? annotation.capture() : CaptureMode.DEFAULT;
+        this.entityIdIndex = findEntityIdIndex(method.getParameterTypes());
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public String getDescriptionPrefix() {
+        return descriptionPrefix;
+    }
+
+    public CaptureMode getCaptureMode() {
+        return captureMode;
+    }
+
+    /**
+     * Returns the entity ID argument: the first parameter declared as a Long.
+     *
+     * @param args The invocation arguments
+     * @return The entity ID, or null if the method has no Long parameter
+     */
+    public Long entityId(Object[] args) {
+        return entityIdIndex >= 0 && entityIdIndex < args.length ? (Long) args[entityIdIndex] : null;
+    }
+
+    private static int findEntityIdIndex(Class<?>[] parameterTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i] == Long.class) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.connectinghands.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Producers claim a slot by advancing the tail with a CAS and then publish the
+ * element into it; the consumer treats an unpublished slot as the end of the queue.
+ *
+ * @param <E> the element type
+ * @author Ragul Venkatesan
+ */
+class AuditRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity The requested capacity, rounded up to the next power of two
+     */
+    AuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     *
+     * @param element The element to add
+     * @return false if the buffer is full
+     */
+    boolean offer(E element) {
+        while (true) {
+            long claimed = tail.get();
+            if (claimed - head.get() >= slots.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(claimed, claimed + 1)) {
+                slots.set((int) claimed & mask, element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code max} published elements into the target list, in insertion order.
+     * Must only be called from the consumer thread.
+     *
+     * @param target The list to add the elements to
+     * @param max The maximum number of elements to move
+     * @return The number of elements moved
+     */
+    int drainTo(List<E> target, int max) {
+        long current = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) current & mask;
+            E element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            current++;
+            drained++;
+        }
+        head.lazySet(current);
+        return drained;
+    }
+
+    /**
+     * @return The number of claimed slots, including ones not yet published
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * @return The number of slots in the buffer
+     */
+    int capacity() {
+        return slots.length();
+    }
+}
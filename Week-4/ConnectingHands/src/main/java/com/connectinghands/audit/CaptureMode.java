@@ -0,0 +1,28 @@
+package com.connectinghands.audit;
+
+/**
+ * How much of an audited method's arguments and result is recorded.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum CaptureMode {
+    /**
+     * Use the application-wide mode from {@code audit.capture.mode}
+     */
+    DEFAULT,
+
+    /**
+     * Serialise arguments and result as JSON, redacted and size-capped
+     */
+    FULL,
+
+    /**
+     * Record only the IDs of the arguments and result
+     */
+    IDS,
+
+    /**
+     * Record neither arguments nor result
+     */
+    NONE
+}
@@ -0,0 +1,18 @@
+package com.connectinghands.audit;
+
+/**
+ * What the audit pipeline does with a new entry when its buffer is full.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum OverflowPolicy {
+    /**
+     * Discard the entry immediately and count it as dropped
+     */
+    DROP,
+
+    /**
+     * Wait up to the configured timeout for the writer to free a slot, then drop
+     */
+    BLOCK
+}
@@ -0,0 +1,10 @@
+package com.connectinghands.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Scheduled jobs declare their own cron expressions
+}
@@ -0,0 +1,59 @@
+package com.connectinghands.controller;
+
+import java.util.Locale;
+
+/**
+ * Reads the {@code Accept-Encoding} request header as described in RFC 9110, section 12.5.3.
+ * A coding listed with {@code q=0} is refused, and {@code *} stands for every coding the
+ * header does not list by name.
+ *
+ * @author Ragul Venkatesan
+ */
+final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * @param header The value of the Accept-Encoding header, or null if it was not sent
+     * @param coding The content coding to look for, such as gzip
+     * @return Whether the client accepts the coding
+     */
+    static boolean accepts(String header, String coding) {
+        if (header == null) {
+            return false;
+        }
+        Double named = null;
+        Double wildcard = null;
+        for (String element : header.split(",")) {
+            String[] parts = element.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (name.equals(coding)) {
+                named = quality(parts);
+            } else if (name.equals("*")) {
+                wildcard = quality(parts);
+            }
+        }
+        Double quality = named != null ? named : wildcard;
+        return quality != null && quality > 0;
+    }
+
+    /**
+     * Returns the q parameter of an element, 1 if it has none and 0 if it cannot be read,
+     * so that a malformed weight never turns a coding on.
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 1 && Character.toLowerCase(parameter.charAt(0)) == 'q'
+                    && parameter.substring(1).trim().startsWith("=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(parameter.indexOf('=') + 1).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -1,6 +1,7 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.AuditLogDto;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.service.AuditLogService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -31,6 +32,21 @@ public class AuditLogController {
         return ResponseEntity.ok(auditLogService.getAuditLogs(userId, action, entityType, entityId, startDate, endDate, pageable));
     }
 
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<AuditLogDto>> scrollAuditLogs(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auditLogService.scrollAuditLogs(userId, action, entityType, entityId, startDate, endDate,
+                cursor, size));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AuditLogDto> getAuditLog(@PathVariable Long id) {
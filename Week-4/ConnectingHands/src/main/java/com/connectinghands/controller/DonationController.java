@@ -5,13 +5,16 @@ import com.connectinghands.dto.DonationDto;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.DonationStatus;
 import com.connectinghands.service.DonationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing donations.
@@ -24,6 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DonationController {
     private final DonationService donationService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new donation.
@@ -52,15 +56,28 @@ public class DonationController {
     }
 
     /**
-     * Retrieves all donations.
+     * Retrieves one slice of all donations.
      * Requires ADMIN role.
      *
-     * @return A list of donation DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDto>> getAllDonations() {
-        return ResponseEntity.ok(donationService.getAllDonations());
+    public ResponseEntity<Slice<DonationDto>> getAllDonations(Pageable pageable) {
+        return ResponseEntity.ok(donationService.getAllDonations(pageable));
+    }
+
+    /**
+     * Streams all donations as newline-delimited JSON.
+     * Requires ADMIN role.
+     *
+     * @return The streamed donation DTOs
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllDonations() {
+        return NdjsonResponses.<DonationDto>of(objectMapper, donationService::streamAllDonations);
     }
 
     /**
@@ -68,12 +85,27 @@ public class DonationController {
      * Accessible to the donor and ADMIN role.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs made by the donor
      */
     @GetMapping("/donor/{donorId}")
     @PreAuthorize("hasRole('ADMIN') or @securityService.isCurrentUser(#donorId)")
-    public ResponseEntity<List<DonationDto>> getDonationsByDonor(@PathVariable Long donorId) {
-        return ResponseEntity.ok(donationService.getDonationsByDonor(donorId));
+    public ResponseEntity<Slice<DonationDto>> getDonationsByDonor(@PathVariable Long donorId, Pageable pageable) {
+        return ResponseEntity.ok(donationService.getDonationsByDonor(donorId, pageable));
+    }
+
+    /**
+     * Streams all donations made by a specific donor as newline-delimited JSON.
+     * Accessible to the donor and ADMIN role.
+     *
+     * @param donorId The ID of the donor
+     * @return The streamed donation DTOs
+     */
+    @GetMapping(value = "/donor/{donorId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or @securityService.isCurrentUser(#donorId)")
+    public ResponseEntity<StreamingResponseBody> streamDonationsByDonor(@PathVariable Long donorId) {
+        return NdjsonResponses.<DonationDto>of(objectMapper,
+                consumer -> donationService.streamDonationsByDonor(donorId, consumer));
     }
 
     /**
@@ -81,12 +113,27 @@ public class DonationController {
      * Accessible to the orphanage and ADMIN role.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs received by the orphanage
      */
     @GetMapping("/orphanage/{orphanageId}")
     @PreAuthorize("hasRole('ADMIN') or @securityService.isOrphanageUser(#orphanageId)")
-    public ResponseEntity<List<DonationDto>> getDonationsByOrphanage(@PathVariable Long orphanageId) {
-        return ResponseEntity.ok(donationService.getDonationsByOrphanage(orphanageId));
+    public ResponseEntity<Slice<DonationDto>> getDonationsByOrphanage(@PathVariable Long orphanageId, Pageable pageable) {
+        return ResponseEntity.ok(donationService.getDonationsByOrphanage(orphanageId, pageable));
+    }
+
+    /**
+     * Streams all donations received by a specific orphanage as newline-delimited JSON.
+     * Accessible to the orphanage and ADMIN role.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return The streamed donation DTOs
+     */
+    @GetMapping(value = "/orphanage/{orphanageId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or @securityService.isOrphanageUser(#orphanageId)")
+    public ResponseEntity<StreamingResponseBody> streamDonationsByOrphanage(@PathVariable Long orphanageId) {
+        return NdjsonResponses.<DonationDto>of(objectMapper,
+                consumer -> donationService.streamDonationsByOrphanage(orphanageId, consumer));
     }
 
     /**
@@ -94,12 +141,27 @@ public class DonationController {
      * Requires ADMIN role.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs with the specified status
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDto>> getDonationsByStatus(@PathVariable DonationStatus status) {
-        return ResponseEntity.ok(donationService.getDonationsByStatus(status));
+    public ResponseEntity<Slice<DonationDto>> getDonationsByStatus(@PathVariable DonationStatus status, Pageable pageable) {
+        return ResponseEntity.ok(donationService.getDonationsByStatus(status, pageable));
+    }
+
+    /**
+     * Streams all donations with a specific status as newline-delimited JSON.
+     * Requires ADMIN role.
+     *
+     * @param status The status to search for
+     * @return The streamed donation DTOs
+     */
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamDonationsByStatus(@PathVariable DonationStatus status) {
+        return NdjsonResponses.<DonationDto>of(objectMapper,
+                consumer -> donationService.streamDonationsByStatus(status, consumer));
     }
 
     /**
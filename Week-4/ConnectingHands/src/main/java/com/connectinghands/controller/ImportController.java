@@ -0,0 +1,90 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.ImportProgressDto;
+import com.connectinghands.importer.ImportFormat;
+import com.connectinghands.importer.ImportTarget;
+import com.connectinghands.service.BulkImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * REST controller for creating orphanages, resources and resource requests in bulk.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "API for bulk imports from CSV and NDJSON files")
+@SecurityRequirement(name = "JWT")
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Import the rows of an uploaded file. The body is read and written in chunks while
+     * progress is streamed back, one NDJSON event per chunk listing its rejected rows.
+     * The request runs on the servlet thread so the upload is read as it arrives. If the
+     * database refuses a chunk the stream still ends with a completed event, which reports
+     * the failure and the last committed row to resume after.
+     *
+     * @param target the kind of record each row describes: orphanages, resources or resource-requests
+     * @param contentType text/csv or application/x-ndjson
+     * @param request the request whose body holds the file
+     * @param response the response the progress events are written to
+     * @throws IOException if the upload cannot be read or the response cannot be written
+     */
+    @Operation(
+        summary = "Bulk import rows",
+        description = "Creates orphanages, resources or resource requests from a CSV file with a header row or " +
+                "from NDJSON, and streams progress and row-level errors as newline-delimited JSON"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import progress streamed",
+            content = @Content(mediaType = "application/x-ndjson")),
+        @ApiResponse(responseCode = "400", description = "Unsupported target or format"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PostMapping(value = "/{target}", consumes = {"text/csv", "application/x-ndjson"},
+            produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importRows(
+            @Parameter(description = "orphanages, resources or resource-requests") @PathVariable String target,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        ImportTarget importTarget = ImportTarget.from(target);
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        NdjsonResponses.<ImportProgressDto>writeFlushed(objectMapper, response.getOutputStream(), consumer -> {
+            try {
+                bulkImportService.importRows(importTarget, format, request.getInputStream(), consumer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+}
@@ -1,7 +1,9 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateMessageRequest;
+import com.connectinghands.dto.MarkMessagesReadRequest;
 import com.connectinghands.dto.MessageDto;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.service.MessageService;
 import com.connectinghands.service.SecurityService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,8 +11,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Controller for managing messages between users.
@@ -43,6 +47,26 @@ public class MessageController {
         return ResponseEntity.ok(messageService.sendMessage(request));
     }
 
+    /**
+     * Open a server-sent event stream of messages received by the current user, replacing
+     * inbox and unread-count polling. Each event's ID is the message ID; a reconnecting
+     * client passes the last one it saw, either as the standard {@code Last-Event-ID} header
+     * or as {@code lastMessageId}, and the messages it missed are replayed first.
+     * Requires authentication.
+     *
+     * @param lastEventId The last event ID the client saw, sent by browsers on reconnect
+     * @param lastMessageId The last message ID the client saw, for clients that cannot set headers
+     * @return The event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream received messages")
+    public SseEmitter streamMessages(
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestParam(required = false) Long lastMessageId) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return messageService.subscribe(currentUserId, lastEventId != null ? lastEventId : lastMessageId);
+    }
+
     /**
      * Get a paginated conversation between the current user and another user.
      * Requires authentication.
@@ -54,10 +78,29 @@ public class MessageController {
     @GetMapping("/conversation/{userId}")
     @Operation(summary = "Get conversation with a user")
     public ResponseEntity<Page<MessageDto>> getConversation(@PathVariable Long userId, Pageable pageable) {
-        Long currentUserId = securityService.getCurrentUser().getId();
+        Long currentUserId = securityService.getCurrentUserId();
         return ResponseEntity.ok(messageService.getConversation(currentUserId, userId, pageable));
     }
 
+    /**
+     * Get the conversation between the current user and another user using cursor pagination.
+     * Requires authentication.
+     *
+     * @param userId The other user's ID
+     * @param cursor The continuation token from the previous page
+     * @param size The page size
+     * @return Page of messages without a total count
+     */
+    @GetMapping("/conversation/{userId}/scroll")
+    @Operation(summary = "Scroll through a conversation with a user")
+    public ResponseEntity<CursorPage<MessageDto>> scrollConversation(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(messageService.scrollConversation(currentUserId, userId, cursor, size));
+    }
+
     /**
      * Get a paginated list of messages received by the current user.
      * Requires authentication.
@@ -68,10 +111,27 @@ public class MessageController {
     @GetMapping("/inbox")
     @Operation(summary = "Get inbox messages")
     public ResponseEntity<Page<MessageDto>> getInbox(Pageable pageable) {
-        Long currentUserId = securityService.getCurrentUser().getId();
+        Long currentUserId = securityService.getCurrentUserId();
         return ResponseEntity.ok(messageService.getInbox(currentUserId, pageable));
     }
 
+    /**
+     * Get messages received by the current user using cursor pagination.
+     * Requires authentication.
+     *
+     * @param cursor The continuation token from the previous page
+     * @param size The page size
+     * @return Page of messages without a total count
+     */
+    @GetMapping("/inbox/scroll")
+    @Operation(summary = "Scroll through inbox messages")
+    public ResponseEntity<CursorPage<MessageDto>> scrollInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(messageService.scrollInbox(currentUserId, cursor, size));
+    }
+
     /**
      * Get a paginated list of messages sent by the current user.
      * Requires authentication.
@@ -82,10 +142,27 @@ public class MessageController {
     @GetMapping("/sent")
     @Operation(summary = "Get sent messages")
     public ResponseEntity<Page<MessageDto>> getSent(Pageable pageable) {
-        Long currentUserId = securityService.getCurrentUser().getId();
+        Long currentUserId = securityService.getCurrentUserId();
         return ResponseEntity.ok(messageService.getSent(currentUserId, pageable));
     }
 
+    /**
+     * Get messages sent by the current user using cursor pagination.
+     * Requires authentication.
+     *
+     * @param cursor The continuation token from the previous page
+     * @param size The page size
+     * @return Page of messages without a total count
+     */
+    @GetMapping("/sent/scroll")
+    @Operation(summary = "Scroll through sent messages")
+    public ResponseEntity<CursorPage<MessageDto>> scrollSent(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(messageService.scrollSent(currentUserId, cursor, size));
+    }
+
     /**
      * Mark a message as read.
      * Requires authentication and the message must be received by the current user.
@@ -100,6 +177,36 @@ public class MessageController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Mark several messages received by the current user as read at once.
+     * Requires authentication; messages received by other users are skipped.
+     *
+     * @param request The message IDs
+     * @return The number of messages that were unread and are now read
+     */
+    @PutMapping("/read")
+    @Operation(summary = "Mark several messages as read")
+    public ResponseEntity<Integer> markMessagesRead(@Valid @RequestBody MarkMessagesReadRequest request) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(messageService.markMessagesRead(currentUserId, request.getIds()));
+    }
+
+    /**
+     * Mark the conversation with another user as read up to and including a message,
+     * typically the newest one the client has displayed.
+     * Requires authentication and the message must belong to the conversation.
+     *
+     * @param userId The other user's ID
+     * @param upTo The ID of the last message read
+     * @return The number of messages that were unread and are now read
+     */
+    @PutMapping("/conversation/{userId}/read")
+    @Operation(summary = "Mark a conversation as read up to a message")
+    public ResponseEntity<Integer> markConversationRead(@PathVariable Long userId, @RequestParam Long upTo) {
+        Long currentUserId = securityService.getCurrentUserId();
+        return ResponseEntity.ok(messageService.markConversationRead(currentUserId, userId, upTo));
+    }
+
     /**
      * Get the count of unread messages for the current user.
      * Requires authentication.
@@ -109,7 +216,7 @@ public class MessageController {
     @GetMapping("/unread/count")
     @Operation(summary = "Get unread message count")
     public ResponseEntity<Long> countUnread() {
-        Long currentUserId = securityService.getCurrentUser().getId();
+        Long currentUserId = securityService.getCurrentUserId();
         return ResponseEntity.ok(messageService.countUnread(currentUserId));
     }
 }
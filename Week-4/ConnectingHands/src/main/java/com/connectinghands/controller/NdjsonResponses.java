@@ -0,0 +1,75 @@
+package com.connectinghands.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Builds newline-delimited JSON responses for listings that are streamed rather than paged.
+ * Items are written one at a time through a single generator, so memory use does not
+ * depend on the number of rows.
+ *
+ * @author Ragul Venkatesan
+ */
+final class NdjsonResponses {
+
+    private NdjsonResponses() {
+    }
+
+    /**
+     * Creates a streaming NDJSON response.
+     *
+     * @param objectMapper The mapper used to serialise each item
+     * @param producer Pushes every item of the listing to the consumer it is given
+     * @return The streaming response
+     */
+    static <T> ResponseEntity<StreamingResponseBody> of(ObjectMapper objectMapper, Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = outputStream -> write(objectMapper, outputStream, false, producer);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Writes NDJSON to an output stream on the calling thread, flushing after every item so
+     * the client sees each one as soon as it is produced. Used when items are produced
+     * while the request body is still being read.
+     *
+     * @param objectMapper The mapper used to serialise each item
+     * @param outputStream The response body; not closed
+     * @param producer Pushes every item to the consumer it is given
+     * @throws IOException if the response cannot be written
+     */
+    static <T> void writeFlushed(ObjectMapper objectMapper, OutputStream outputStream,
+                                 Consumer<Consumer<T>> producer) throws IOException {
+        write(objectMapper, outputStream, true, producer);
+    }
+
+    private static <T> void write(ObjectMapper objectMapper, OutputStream outputStream, boolean flushEachItem,
+                                  Consumer<Consumer<T>> producer) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            producer.accept(item -> {
+                try {
+                    writer.writeValue(generator, item);
+                    generator.writeRaw('\n');
+                    if (flushEachItem) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
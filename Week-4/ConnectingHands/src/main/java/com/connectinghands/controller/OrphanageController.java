@@ -1,9 +1,14 @@
 package com.connectinghands.controller;
 
+import com.connectinghands.dto.BulkTransitionRequest;
+import com.connectinghands.dto.BulkTransitionResultDto;
 import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.NearbyOrphanageDto;
 import com.connectinghands.dto.OrphanageDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.OrphanageTransition;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.service.OrphanageService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller for managing orphanages.
  * 
@@ -64,6 +71,32 @@ public class OrphanageController {
         return ResponseEntity.ok(orphanageService.getAllOrphanages(pageable));
     }
 
+    /**
+     * Get orphanages newest first using cursor pagination, optionally filtered.
+     * Only users with ADMIN role can access this endpoint.
+     *
+     * @param status the status to filter by
+     * @param adminId the admin user ID to filter by
+     * @param city the city to filter by
+     * @param state the state to filter by
+     * @param country the country to filter by
+     * @param cursor the continuation token from the previous page
+     * @param size the page size
+     * @return a page of orphanages without a total count
+     */
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<OrphanageDto>> scrollOrphanages(
+            @RequestParam(required = false) OrphanageStatus status,
+            @RequestParam(required = false) Long adminId,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(orphanageService.scrollOrphanages(status, adminId, city, state, country, cursor, size));
+    }
+
     /**
      * Get orphanages by status with pagination.
      * Only users with ADMIN role can access this endpoint.
@@ -140,7 +173,7 @@ public class OrphanageController {
     }
 
     /**
-     * Search orphanages by name, city, state, or country.
+     * Search orphanages by name, city, state, or country, most relevant first.
      * Any authenticated user can access this endpoint.
      *
      * @param searchTerm the search term
@@ -155,16 +188,39 @@ public class OrphanageController {
     }
 
     /**
-     * Get orphanages with available capacity.
+     * Get active orphanages with available capacity, most free places first unless
+     * another sort is requested (e.g. {@code sort=availableSlots,asc}).
      * Any authenticated user can access this endpoint.
      *
+     * @param minSlots the smallest number of free places
      * @param pageable pagination information
      * @return a page of orphanages
      */
     @GetMapping("/available")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Page<OrphanageDto>> getOrphanagesWithAvailableCapacity(Pageable pageable) {
-        return ResponseEntity.ok(orphanageService.getOrphanagesWithAvailableCapacity(pageable));
+    public ResponseEntity<Page<OrphanageDto>> getOrphanagesWithAvailableCapacity(
+            @RequestParam(defaultValue = "1") int minSlots, Pageable pageable) {
+        return ResponseEntity.ok(orphanageService.getOrphanagesWithAvailableCapacity(minSlots, pageable));
+    }
+
+    /**
+     * Get the orphanages with available capacity nearest to a location, closest first.
+     * Any authenticated user can access this endpoint.
+     *
+     * @param latitude the latitude of the location
+     * @param longitude the longitude of the location
+     * @param limit the largest number of orphanages to return
+     * @param radiusKm the largest distance to search, in kilometres
+     * @return the nearest orphanages with their distances
+     */
+    @GetMapping("/nearby")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<NearbyOrphanageDto>> getNearestOrphanagesWithCapacity(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "50") double radiusKm) {
+        return ResponseEntity.ok(orphanageService.findNearestWithCapacity(latitude, longitude, limit, radiusKm));
     }
 
     /**
@@ -268,4 +324,75 @@ public class OrphanageController {
             @PathVariable Long id, @RequestParam String notes) {
         return ResponseEntity.ok(orphanageService.closeOrphanage(id, notes));
     }
+
+    /**
+     * Verify several pending orphanages at once.
+     * Only users with ADMIN role can verify orphanages.
+     *
+     * @param request the orphanage IDs and verification notes
+     * @return the outcome for every requested orphanage
+     */
+    @PostMapping("/bulk/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTransitionResultDto> verifyOrphanages(@Valid @RequestBody BulkTransitionRequest request) {
+        return transition(OrphanageTransition.VERIFY, request);
+    }
+
+    /**
+     * Reject several pending orphanages at once.
+     * Only users with ADMIN role can reject orphanages.
+     *
+     * @param request the orphanage IDs and rejection notes
+     * @return the outcome for every requested orphanage
+     */
+    @PostMapping("/bulk/reject")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTransitionResultDto> rejectOrphanages(@Valid @RequestBody BulkTransitionRequest request) {
+        return transition(OrphanageTransition.REJECT, request);
+    }
+
+    /**
+     * Suspend several active orphanages at once.
+     * Only users with ADMIN role can suspend orphanages.
+     *
+     * @param request the orphanage IDs and suspension notes
+     * @return the outcome for every requested orphanage
+     */
+    @PostMapping("/bulk/suspend")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTransitionResultDto> suspendOrphanages(@Valid @RequestBody BulkTransitionRequest request) {
+        return transition(OrphanageTransition.SUSPEND, request);
+    }
+
+    /**
+     * Reactivate several suspended orphanages at once.
+     * Only users with ADMIN role can reactivate orphanages.
+     *
+     * @param request the orphanage IDs
+     * @return the outcome for every requested orphanage
+     */
+    @PostMapping("/bulk/reactivate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTransitionResultDto> reactivateOrphanages(
+            @Valid @RequestBody BulkTransitionRequest request) {
+        return transition(OrphanageTransition.REACTIVATE, request);
+    }
+
+    /**
+     * Close several orphanages at once.
+     * Only users with ADMIN role can close orphanages.
+     *
+     * @param request the orphanage IDs and closure notes
+     * @return the outcome for every requested orphanage
+     */
+    @PostMapping("/bulk/close")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkTransitionResultDto> closeOrphanages(@Valid @RequestBody BulkTransitionRequest request) {
+        return transition(OrphanageTransition.CLOSE, request);
+    }
+
+    private ResponseEntity<BulkTransitionResultDto> transition(OrphanageTransition transition,
+                                                               BulkTransitionRequest request) {
+        return ResponseEntity.ok(orphanageService.transitionOrphanages(transition, request.getIds(), request.getNotes()));
+    }
 }
@@ -2,7 +2,10 @@ package com.connectinghands.controller;
 
 import com.connectinghands.dto.DonationReportDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
+import com.connectinghands.export.ReportFormat;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.service.ReportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +23,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -29,7 +36,10 @@ import java.time.LocalDateTime;
 @Tag(name = "Reports", description = "API for generating and exporting reports")
 @SecurityRequirement(name = "JWT")
 public class ReportController {
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final ReportService reportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
         summary = "Get donation report for an orphanage",
@@ -89,6 +99,65 @@ public class ReportController {
                 startDate, endDate, reportType, currency, timeZone, pageable));
     }
 
+    @Operation(
+        summary = "Scroll donation reports for all orphanages",
+        description = "Retrieves donation reports for one page of orphanages using an opaque cursor instead of page numbers"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reports generated successfully",
+            content = @Content(schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/donations/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<DonationReportDto>> scrollDonationReports(
+            @Parameter(description = "Start date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Type of report to generate")
+            @RequestParam(defaultValue = "SUMMARY") String reportType,
+            @Parameter(description = "Currency for monetary amounts")
+            @RequestParam(defaultValue = "USD") String currency,
+            @Parameter(description = "Time zone for date/time values")
+            @RequestParam(defaultValue = "UTC") String timeZone,
+            @Parameter(description = "Continuation token returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of reports per page")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(reportService.scrollDonationReports(
+                startDate, endDate, reportType, currency, timeZone, cursor, size));
+    }
+
+    @Operation(
+        summary = "Stream donation reports for all orphanages",
+        description = "Streams donation reports for every orphanage within a date range as newline-delimited JSON"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reports streamed successfully",
+            content = @Content(mediaType = "application/x-ndjson")),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping(value = "/donations/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamDonationReports(
+            @Parameter(description = "Start date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Type of report to generate")
+            @RequestParam(defaultValue = "SUMMARY") String reportType,
+            @Parameter(description = "Currency for monetary amounts")
+            @RequestParam(defaultValue = "USD") String currency,
+            @Parameter(description = "Time zone for date/time values")
+            @RequestParam(defaultValue = "UTC") String timeZone) {
+
+        return NdjsonResponses.<DonationReportDto>of(objectMapper, consumer -> reportService.streamDonationReports(
+                startDate, endDate, reportType, currency, timeZone, consumer));
+    }
+
     @Operation(
         summary = "Get resource utilization report for an orphanage",
         description = "Retrieves a detailed resource utilization report for a specific orphanage within a date range"
@@ -143,6 +212,36 @@ public class ReportController {
                 startDate, endDate, reportType, timeZone, pageable));
     }
 
+    @Operation(
+        summary = "Scroll resource utilization reports for all orphanages",
+        description = "Retrieves resource utilization reports for one page of orphanages using an opaque cursor instead of page numbers"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Reports generated successfully",
+            content = @Content(schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+        @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/resources/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<ResourceUtilizationReportDto>> scrollResourceUtilizationReports(
+            @Parameter(description = "Start date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @Parameter(description = "End date for the report period")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @Parameter(description = "Type of report to generate")
+            @RequestParam(defaultValue = "SUMMARY") String reportType,
+            @Parameter(description = "Time zone for date/time values")
+            @RequestParam(defaultValue = "UTC") String timeZone,
+            @Parameter(description = "Continuation token returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of reports per page")
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(reportService.scrollResourceUtilizationReports(
+                startDate, endDate, reportType, timeZone, cursor, size));
+    }
+
     @Operation(
         summary = "Export donation report",
         description = "Exports a donation report for a specific orphanage in the specified format"
@@ -150,12 +249,13 @@ public class ReportController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Report exported successfully",
             content = @Content(mediaType = "application/octet-stream")),
+        @ApiResponse(responseCode = "400", description = "Unsupported format or time zone"),
         @ApiResponse(responseCode = "403", description = "Access denied"),
         @ApiResponse(responseCode = "404", description = "Orphanage not found")
     })
     @GetMapping("/donations/{orphanageId}/export")
     @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
-    public ResponseEntity<byte[]> exportDonationReport(
+    public ResponseEntity<StreamingResponseBody> exportDonationReport(
             @Parameter(description = "ID of the orphanage") @PathVariable Long orphanageId,
             @Parameter(description = "Start date for the report period")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -168,19 +268,21 @@ public class ReportController {
             @Parameter(description = "Time zone for date/time values")
             @RequestParam(defaultValue = "UTC") String timeZone,
             @Parameter(description = "Export format (PDF, CSV, EXCEL)")
-            @RequestParam(defaultValue = "PDF") String format) {
-        
-        byte[] reportData = reportService.exportDonationReport(
-                orphanageId, startDate, endDate, reportType, currency, timeZone, format);
+            @RequestParam(defaultValue = "PDF") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(getMediaType(format));
-        headers.setContentDispositionFormData("attachment", 
-                String.format("donation-report-%d.%s", orphanageId, format.toLowerCase()));
+        // once the body starts streaming the attachment headers are sent, so fail here first
+        reportService.checkExport(orphanageId, timeZone, format);
+        ReportFormat reportFormat = ReportFormat.from(format);
+        boolean gzip = reportFormat.isCompressible() && AcceptEncoding.accepts(acceptEncoding, "gzip");
+        StreamingResponseBody body = outputStream -> writeExport(outputStream, gzip,
+                out -> reportService.exportDonationReport(
+                        orphanageId, startDate, endDate, reportType, currency, timeZone, format, out));
 
         return ResponseEntity.ok()
-                .headers(headers)
-                .body(reportData);
+                .headers(exportHeaders(reportFormat, gzip,
+                        String.format("donation-report-%d.%s", orphanageId, reportFormat.getExtension())))
+                .body(body);
     }
 
     @Operation(
@@ -190,12 +292,13 @@ public class ReportController {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Report exported successfully",
             content = @Content(mediaType = "application/octet-stream")),
+        @ApiResponse(responseCode = "400", description = "Unsupported format or time zone"),
         @ApiResponse(responseCode = "403", description = "Access denied"),
         @ApiResponse(responseCode = "404", description = "Orphanage not found")
     })
     @GetMapping("/resources/{orphanageId}/export")
     @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
-    public ResponseEntity<byte[]> exportResourceUtilizationReport(
+    public ResponseEntity<StreamingResponseBody> exportResourceUtilizationReport(
             @Parameter(description = "ID of the orphanage") @PathVariable Long orphanageId,
             @Parameter(description = "Start date for the report period")
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
@@ -206,27 +309,46 @@ public class ReportController {
             @Parameter(description = "Time zone for date/time values")
             @RequestParam(defaultValue = "UTC") String timeZone,
             @Parameter(description = "Export format (PDF, CSV, EXCEL)")
-            @RequestParam(defaultValue = "PDF") String format) {
-        
-        byte[] reportData = reportService.exportResourceUtilizationReport(
-                orphanageId, startDate, endDate, reportType, timeZone, format);
+            @RequestParam(defaultValue = "PDF") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(getMediaType(format));
-        headers.setContentDispositionFormData("attachment", 
-                String.format("resource-utilization-report-%d.%s", orphanageId, format.toLowerCase()));
+        // once the body starts streaming the attachment headers are sent, so fail here first
+        reportService.checkExport(orphanageId, timeZone, format);
+        ReportFormat reportFormat = ReportFormat.from(format);
+        boolean gzip = reportFormat.isCompressible() && AcceptEncoding.accepts(acceptEncoding, "gzip");
+        StreamingResponseBody body = outputStream -> writeExport(outputStream, gzip,
+                out -> reportService.exportResourceUtilizationReport(
+                        orphanageId, startDate, endDate, reportType, timeZone, format, out));
 
         return ResponseEntity.ok()
-                .headers(headers)
-                .body(reportData);
+                .headers(exportHeaders(reportFormat, gzip,
+                        String.format("resource-utilization-report-%d.%s", orphanageId, reportFormat.getExtension())))
+                .body(body);
+    }
+
+    private HttpHeaders exportHeaders(ReportFormat format, boolean gzip, String fileName) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(format.getMediaType()));
+        headers.setContentDispositionFormData("attachment", fileName);
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return headers;
+    }
+
+    private void writeExport(OutputStream outputStream, boolean gzip, ExportTask task) throws IOException {
+        if (!gzip) {
+            task.writeTo(outputStream);
+            return;
+        }
+        GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        task.writeTo(gzipStream);
+        gzipStream.finish();
     }
 
-    private MediaType getMediaType(String format) {
-        return switch (format.toUpperCase()) {
-            case "PDF" -> MediaType.APPLICATION_PDF;
-            case "CSV" -> MediaType.parseMediaType("text/csv");
-            case "EXCEL" -> MediaType.parseMediaType("application/vnd.ms-excel");
-            default -> MediaType.APPLICATION_OCTET_STREAM;
-        };
+    @FunctionalInterface
+    private interface ExportTask {
+        void writeTo(OutputStream outputStream) throws IOException;
     }
 }
@@ -1,17 +1,25 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.QuantityChangeRequest;
 import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.dto.ResourceInventoryDto;
 import com.connectinghands.dto.UpdateResourceDto;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceStatus;
 import com.connectinghands.service.ResourceService;
 import com.connectinghands.exception.DuplicateResourceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.function.Consumer;
@@ -29,6 +37,7 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ResourceController {
     private final ResourceService resourceService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new resource.
@@ -67,6 +76,60 @@ public class ResourceController {
         return ResponseEntity.ok(resourceService.getAllResources(pageable));
     }
 
+    /**
+     * Retrieves one slice of the resources in a category.
+     * Accessible to all authenticated users.
+     *
+     * @param category The category of the resources
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
+     */
+    @GetMapping("/category/{category}")
+    public ResponseEntity<Slice<ResourceDto>> getResourcesByCategory(@PathVariable ResourceCategory category,
+                                                                     Pageable pageable) {
+        return ResponseEntity.ok(resourceService.getResourcesByCategory(category, pageable));
+    }
+
+    /**
+     * Streams all resources in a category as newline-delimited JSON.
+     * Accessible to all authenticated users.
+     *
+     * @param category The category of the resources
+     * @return The streamed resource DTOs
+     */
+    @GetMapping(value = "/category/{category}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResourcesByCategory(@PathVariable ResourceCategory category) {
+        return NdjsonResponses.<ResourceDto>of(objectMapper,
+                consumer -> resourceService.streamResourcesByCategory(category, consumer));
+    }
+
+    /**
+     * Retrieves one slice of the resources with a status.
+     * Accessible to all authenticated users.
+     *
+     * @param status The status of the resources
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
+     */
+    @GetMapping("/status/{status}")
+    public ResponseEntity<Slice<ResourceDto>> getResourcesByStatus(@PathVariable ResourceStatus status,
+                                                                   Pageable pageable) {
+        return ResponseEntity.ok(resourceService.getResourcesByStatus(status, pageable));
+    }
+
+    /**
+     * Streams all resources with a status as newline-delimited JSON.
+     * Accessible to all authenticated users.
+     *
+     * @param status The status of the resources
+     * @return The streamed resource DTOs
+     */
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamResourcesByStatus(@PathVariable ResourceStatus status) {
+        return NdjsonResponses.<ResourceDto>of(objectMapper,
+                consumer -> resourceService.streamResourcesByStatus(status, consumer));
+    }
+
     /**
      * Updates an existing resource.
      * Requires SYSTEM_ADMIN role.
@@ -81,6 +144,66 @@ public class ResourceController {
         return ResponseEntity.ok(resourceService.updateResource(id, request));
     }
 
+    /**
+     * Adds a received amount to the quantity of a resource.
+     * Requires SYSTEM_ADMIN or ORPHANAGE_ADMIN role.
+     *
+     * @param id The ID of the resource
+     * @param request The amount received
+     * @return The quantities of the resource
+     */
+    @PostMapping("/{id}/inventory/increment")
+    @PreAuthorize("hasAnyRole('ROLE_SYSTEM_ADMIN', 'ROLE_ORPHANAGE_ADMIN')")
+    public ResponseEntity<ResourceInventoryDto> incrementQuantity(@PathVariable Long id,
+                                                                  @Valid @RequestBody QuantityChangeRequest request) {
+        return ResponseEntity.ok(resourceService.incrementQuantity(id, request.getAmount()));
+    }
+
+    /**
+     * Takes an amount that is not reserved from a resource.
+     * Requires SYSTEM_ADMIN or ORPHANAGE_ADMIN role.
+     *
+     * @param id The ID of the resource
+     * @param request The amount taken
+     * @return The quantities of the resource
+     */
+    @PostMapping("/{id}/inventory/decrement")
+    @PreAuthorize("hasAnyRole('ROLE_SYSTEM_ADMIN', 'ROLE_ORPHANAGE_ADMIN')")
+    public ResponseEntity<ResourceInventoryDto> decrementQuantity(@PathVariable Long id,
+                                                                  @Valid @RequestBody QuantityChangeRequest request) {
+        return ResponseEntity.ok(resourceService.decrementQuantity(id, request.getAmount()));
+    }
+
+    /**
+     * Holds an amount of a resource.
+     * Requires SYSTEM_ADMIN or ORPHANAGE_ADMIN role.
+     *
+     * @param id The ID of the resource
+     * @param request The amount held
+     * @return The quantities of the resource
+     */
+    @PostMapping("/{id}/inventory/reserve")
+    @PreAuthorize("hasAnyRole('ROLE_SYSTEM_ADMIN', 'ROLE_ORPHANAGE_ADMIN')")
+    public ResponseEntity<ResourceInventoryDto> reserveQuantity(@PathVariable Long id,
+                                                                @Valid @RequestBody QuantityChangeRequest request) {
+        return ResponseEntity.ok(resourceService.reserveQuantity(id, request.getAmount()));
+    }
+
+    /**
+     * Returns a held amount of a resource to its available quantity.
+     * Requires SYSTEM_ADMIN or ORPHANAGE_ADMIN role.
+     *
+     * @param id The ID of the resource
+     * @param request The amount released
+     * @return The quantities of the resource
+     */
+    @PostMapping("/{id}/inventory/release")
+    @PreAuthorize("hasAnyRole('ROLE_SYSTEM_ADMIN', 'ROLE_ORPHANAGE_ADMIN')")
+    public ResponseEntity<ResourceInventoryDto> releaseQuantity(@PathVariable Long id,
+                                                                @Valid @RequestBody QuantityChangeRequest request) {
+        return ResponseEntity.ok(resourceService.releaseQuantity(id, request.getAmount()));
+    }
+
     /**
      * Deletes a resource by its ID.
      * Requires SYSTEM_ADMIN role.
@@ -5,11 +5,16 @@ import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
 import com.connectinghands.service.ResourceRequestService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,6 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ResourceRequestController {
     private final ResourceRequestService resourceRequestService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Create a new resource request.
@@ -55,12 +61,25 @@ public class ResourceRequestController {
      * Get all resource requests.
      * Requires ADMIN role.
      *
-     * @return List of all resource request DTOs
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource request DTOs
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ResourceRequestDto>> getAllResourceRequests() {
-        return ResponseEntity.ok(resourceRequestService.getAllResourceRequests());
+    public ResponseEntity<Slice<ResourceRequestDto>> getAllResourceRequests(Pageable pageable) {
+        return ResponseEntity.ok(resourceRequestService.getAllResourceRequests(pageable));
+    }
+
+    /**
+     * Stream all resource requests as newline-delimited JSON.
+     * Requires ADMIN role.
+     *
+     * @return The streamed resource request DTOs
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllResourceRequests() {
+        return NdjsonResponses.<ResourceRequestDto>of(objectMapper, resourceRequestService::streamAllResourceRequests);
     }
 
     /**
@@ -81,12 +100,28 @@ public class ResourceRequestController {
      * Requires ADMIN role.
      *
      * @param status The status to filter by
-     * @return List of resource request DTOs with the specified status
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource request DTOs with the specified status
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ResourceRequestDto>> getResourceRequestsByStatus(@PathVariable ResourceRequestStatus status) {
-        return ResponseEntity.ok(resourceRequestService.getResourceRequestsByStatus(status));
+    public ResponseEntity<Slice<ResourceRequestDto>> getResourceRequestsByStatus(@PathVariable ResourceRequestStatus status,
+                                                                                 Pageable pageable) {
+        return ResponseEntity.ok(resourceRequestService.getResourceRequestsByStatus(status, pageable));
+    }
+
+    /**
+     * Stream all resource requests with a specific status as newline-delimited JSON.
+     * Requires ADMIN role.
+     *
+     * @param status The status to filter by
+     * @return The streamed resource request DTOs
+     */
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamResourceRequestsByStatus(@PathVariable ResourceRequestStatus status) {
+        return NdjsonResponses.<ResourceRequestDto>of(objectMapper,
+                consumer -> resourceRequestService.streamResourceRequestsByStatus(status, consumer));
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for applying one status transition to several orphanages.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class BulkTransitionRequest {
+    @NotEmpty(message = "At least one orphanage ID is required")
+    @Size(max = 1000, message = "At most 1000 orphanages can be changed at once")
+    private List<@NotNull Long> ids;
+
+    @Size(max = 1000, message = "Notes cannot exceed 1000 characters")
+    private String notes;
+}
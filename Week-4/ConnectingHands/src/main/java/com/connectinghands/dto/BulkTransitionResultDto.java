@@ -0,0 +1,45 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.OrphanageTransition;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO reporting the outcome of a bulk status transition for every requested orphanage.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransitionResultDto {
+    private OrphanageTransition transition;
+    private int transitioned;
+    private List<Item> results;
+
+    /**
+     * Outcome for one orphanage.
+     */
+    public enum Outcome {
+        TRANSITIONED,
+        NOT_FOUND,
+        INVALID_STATUS
+    }
+
+    /**
+     * Result for one requested orphanage. The status is the one it has after the request,
+     * or null if it does not exist.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private Outcome outcome;
+        private OrphanageStatus status;
+    }
+}
@@ -0,0 +1,17 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO holding donation totals for an orphanage over a date range.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class DonationTotalsDto {
+    private Long totalDonations = 0L;
+    private BigDecimal totalMonetaryAmount = BigDecimal.ZERO;
+    private Long totalResourceDonations = 0L;
+}
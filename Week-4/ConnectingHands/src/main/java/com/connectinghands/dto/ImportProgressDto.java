@@ -0,0 +1,41 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.importer.ImportTarget;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO reporting the progress of a bulk import after each chunk of rows. Counts are
+ * running totals over the committed chunks; errors are those of the chunk just processed.
+ * The last event of an import has completed set, and also failure if a chunk could not be
+ * written, in which case the import stopped and can be resumed after lastCommittedRow.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressDto {
+    private ImportTarget target;
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsRejected;
+    private List<RowError> errors;
+    private long lastCommittedRow;
+    private boolean completed;
+    private String failure;
+
+    /**
+     * Why one row was not imported.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for marking several received messages as read at once.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class MarkMessagesReadRequest {
+    @NotEmpty(message = "At least one message ID is required")
+    @Size(max = 1000, message = "At most 1000 messages can be marked at once")
+    private List<@NotNull Long> ids;
+}
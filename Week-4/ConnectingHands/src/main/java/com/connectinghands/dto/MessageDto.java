@@ -16,6 +16,7 @@ public class MessageDto {
     private String senderName;
     private Long receiverId;
     private String receiverName;
+    private Long conversationId;
     private String content;
     private boolean read;
     private LocalDateTime readAt;
@@ -0,0 +1,18 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pairing an orphanage with its distance from the searched location.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyOrphanageDto {
+    private OrphanageDto orphanage;
+    private double distanceKm;
+}
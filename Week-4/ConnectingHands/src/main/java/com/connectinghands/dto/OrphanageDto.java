@@ -25,6 +25,9 @@ public class OrphanageDto {
     private String website;
     private Integer capacity;
     private Integer currentChildren;
+    private Integer availableSlots;
+    private Double latitude;
+    private Double longitude;
     private OrphanageStatus status;
     private Long adminId;
     private String adminName;
@@ -0,0 +1,17 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+/**
+ * Request to add, take, reserve or release an amount of a resource.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class QuantityChangeRequest {
+    @NotNull(message = "Amount is required")
+    @Positive(message = "Amount must be positive")
+    private Integer amount;
+}
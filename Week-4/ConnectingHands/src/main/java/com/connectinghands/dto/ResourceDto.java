@@ -36,6 +36,11 @@ public class ResourceDto {
      */
     private Integer quantity;
 
+    /**
+     * Part of the quantity held for accepted requests.
+     */
+    private Integer reservedQuantity;
+
     /**
      * Unit of measurement for the resource.
      */
@@ -67,6 +72,7 @@ public class ResourceDto {
     public String getDescription() { return description; }
     public ResourceCategory getCategory() { return category; }
     public Integer getQuantity() { return quantity; }
+    public Integer getReservedQuantity() { return reservedQuantity; }
     public String getUnit() { return unit; }
     public String getOrphanageName() { return orphanageName; }
     public ResourceStatus getStatus() { return status; }
@@ -79,6 +85,7 @@ public class ResourceDto {
     public void setDescription(String description) { this.description = description; }
     public void setCategory(ResourceCategory category) { this.category = category; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public void setReservedQuantity(Integer reservedQuantity) { this.reservedQuantity = reservedQuantity; }
     public void setUnit(String unit) { this.unit = unit; }
     public void setOrphanageName(String orphanageName) { this.orphanageName = orphanageName; }
     public void setStatus(ResourceStatus status) { this.status = status; }
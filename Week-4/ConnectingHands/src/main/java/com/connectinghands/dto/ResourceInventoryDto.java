@@ -0,0 +1,16 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+/**
+ * DTO holding the quantities of a resource after an inventory operation.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class ResourceInventoryDto {
+    private Long resourceId;
+    private Integer quantity;
+    private Integer reservedQuantity;
+    private Integer availableQuantity;
+}
@@ -0,0 +1,23 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+/**
+ * DTO holding how one resource moved over a report window, computed from the resource ledger.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class ResourceUtilizationDto {
+    private Long resourceId;
+    private String resourceName;
+    private Long openingQuantity = 0L;
+    private Long receivedQuantity = 0L;
+    private Long consumedQuantity = 0L;
+    private Long adjustedQuantity = 0L; // Openings and corrections, net
+    private Long closingQuantity = 0L;
+    private Double averageQuantity; // Time-weighted over the window
+    private Double consumptionPerDay;
+    private Double turnover; // Consumed quantity / average quantity
+    private Long stockOutMinutes = 0L; // Time with nothing available outside reservations
+}
@@ -15,7 +15,8 @@ public class ResourceUtilizationReportDto {
     private Map<String, Long> resourceUtilization; // Resource name -> Quantity used
     private Map<String, Long> resourceRequests; // Resource name -> Number of requests
     private Map<String, Long> resourceDonations; // Resource name -> Quantity donated
-    private List<String> lowStockResources; // Resources below minimum threshold
+    private List<ResourceUtilizationDto> resources; // Per-resource movements over the window
+    private List<String> lowStockResources; // Resources that ran out during the window
     private List<String> highDemandResources; // Resources with most requests
     private String timeZone;
 }
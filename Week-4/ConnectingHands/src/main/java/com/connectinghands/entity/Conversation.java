@@ -0,0 +1,51 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing the message thread between two users. The pair is stored
+ * with the lower user ID first, so each pair of users has exactly one conversation.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "conversations", uniqueConstraints = @UniqueConstraint(
+        name = "uk_conversations_participants", columnNames = {"user_low_id", "user_high_id"}))
+public class Conversation {
+    /**
+     * Unique identifier for the conversation.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conversations_id_seq")
+    @SequenceGenerator(name = "conversations_id_seq", sequenceName = "conversations_id_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The lower of the two participants' user IDs.
+     */
+    @Column(name = "user_low_id", nullable = false)
+    private Long userLowId;
+
+    /**
+     * The higher of the two participants' user IDs.
+     */
+    @Column(name = "user_high_id", nullable = false)
+    private Long userHighId;
+
+    /**
+     * When the first message between the two users was sent.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,85 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Id;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing pre-aggregated donation totals for one orphanage,
+ * currency and time bucket. Rows are maintained incrementally as donations change.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "donation_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_donation_rollups_bucket",
+        columnNames = {"orphanage_id", "currency", "granularity", "bucket_start"}))
+public class DonationRollup {
+    /**
+     * Currency code used for in-kind donations, which carry no currency (ISO 4217 "XXX").
+     */
+    public static final String NO_CURRENCY = "XXX";
+
+    /**
+     * Unique identifier for the rollup row.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "donation_rollups_id_seq")
+    @SequenceGenerator(name = "donation_rollups_id_seq", sequenceName = "donation_rollups_id_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the orphanage the donations were made to.
+     */
+    @Column(name = "orphanage_id", nullable = false)
+    private Long orphanageId;
+
+    /**
+     * Currency of the aggregated donations.
+     */
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    /**
+     * Size of the time bucket.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    /**
+     * Inclusive start of the time bucket.
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /**
+     * Number of donations in the bucket.
+     */
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount;
+
+    /**
+     * Sum of the monetary amounts in the bucket.
+     */
+    @Column(name = "monetary_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal monetaryAmount;
+
+    /**
+     * Number of in-kind donations in the bucket.
+     */
+    @Column(name = "resource_donation_count", nullable = false)
+    private Long resourceDonationCount;
+}
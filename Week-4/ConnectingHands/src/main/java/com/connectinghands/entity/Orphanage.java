@@ -1,9 +1,12 @@
 package com.connectinghands.entity;
 
+import com.connectinghands.search.GeoHash;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.springframework.data.annotation.CreatedBy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedBy;
@@ -25,7 +28,8 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class Orphanage {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orphanages_id_seq")
+    @SequenceGenerator(name = "orphanages_id_seq", sequenceName = "orphanages_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -63,6 +67,23 @@ public class Orphanage {
     @Column(name = "current_children", nullable = false)
     private Integer currentChildren = 0;
 
+    /**
+     * Free places, capacity minus current children. Recomputed whenever either changes.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "available_slots", nullable = false)
+    private Integer availableSlots;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    /**
+     * Geohash of the location, kept in step with latitude and longitude on every write.
+     */
+    @Column(length = GeoHash.MAX_PRECISION)
+    private String geohash;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrphanageStatus status = OrphanageStatus.PENDING;
@@ -122,9 +143,9 @@ public class Orphanage {
     public String getWebsite() { return website; }
     public void setWebsite(String website) { this.website = website; }
     public Integer getCapacity() { return capacity; }
-    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; updateAvailableSlots(); }
     public Integer getCurrentChildren() { return currentChildren; }
-    public void setCurrentChildren(Integer currentChildren) { this.currentChildren = currentChildren; }
+    public void setCurrentChildren(Integer currentChildren) { this.currentChildren = currentChildren; updateAvailableSlots(); }
     public OrphanageStatus getStatus() { return status; }
     public void setStatus(OrphanageStatus status) { this.status = status; }
     public User getAdmin() { return admin; }
@@ -135,5 +156,17 @@ public class Orphanage {
     public void setCreatedAt(java.time.LocalDateTime createdAt) { this.createdAt = createdAt; }
     public java.time.LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(java.time.LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    private void updateAvailableSlots() {
+        availableSlots = capacity != null && currentChildren != null ? capacity - currentChildren : null;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateGeohash() {
+        geohash = latitude != null && longitude != null
+                ? GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION)
+                : null;
+    }
 } 
 
@@ -0,0 +1,78 @@
+package com.connectinghands.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Status transitions an administrator can apply to orphanages, with the statuses each
+ * one may start from.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum OrphanageTransition {
+    VERIFY(OrphanageStatus.ACTIVE, EnumSet.of(OrphanageStatus.PENDING), "ORPHANAGE_VERIFIED", "Verified", true),
+    REJECT(OrphanageStatus.REJECTED, EnumSet.of(OrphanageStatus.PENDING), "ORPHANAGE_REJECTED", "Rejected", true),
+    SUSPEND(OrphanageStatus.SUSPENDED, EnumSet.of(OrphanageStatus.ACTIVE), "ORPHANAGE_SUSPENDED", "Suspended", true),
+    REACTIVATE(OrphanageStatus.ACTIVE, EnumSet.of(OrphanageStatus.SUSPENDED), "ORPHANAGE_REACTIVATED", "Reactivated",
+            false),
+    CLOSE(OrphanageStatus.CLOSED, EnumSet.complementOf(EnumSet.of(OrphanageStatus.CLOSED)), "ORPHANAGE_CLOSED",
+            "Closed", true);
+
+    private final OrphanageStatus target;
+    private final Set<OrphanageStatus> from;
+    private final String auditAction;
+    private final String verb;
+    private final boolean recordsNotes;
+
+    OrphanageTransition(OrphanageStatus target, Set<OrphanageStatus> from, String auditAction, String verb,
+                        boolean recordsNotes) {
+        this.target = target;
+        this.from = from;
+        this.auditAction = auditAction;
+        this.verb = verb;
+        this.recordsNotes = recordsNotes;
+    }
+
+    /**
+     * @return The status an orphanage has after the transition
+     */
+    public OrphanageStatus getTarget() {
+        return target;
+    }
+
+    /**
+     * @return The statuses the transition may start from
+     */
+    public Set<OrphanageStatus> getFrom() {
+        return from;
+    }
+
+    /**
+     * @return The audit log action recorded for each transitioned orphanage
+     */
+    public String getAuditAction() {
+        return auditAction;
+    }
+
+    /**
+     * @return The past-tense verb used in audit log descriptions, e.g. "Suspended"
+     */
+    public String getVerb() {
+        return verb;
+    }
+
+    /**
+     * @return true if the transition stores notes as the verification notes
+     */
+    public boolean recordsNotes() {
+        return recordsNotes;
+    }
+
+    /**
+     * @param status The current status of an orphanage
+     * @return true if the transition may be applied to an orphanage in that status
+     */
+    public boolean appliesTo(OrphanageStatus status) {
+        return from.contains(status);
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
@@ -15,6 +16,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -24,11 +26,14 @@ import java.time.LocalDateTime;
 /**
  * Entity class representing a resource in the system.
  * Resources are items that can be donated or requested by orphanages.
+ * Updates write only the changed columns, so editing the details of a resource never
+ * overwrites a quantity changed concurrently through the inventory operations.
  *
  * @author Ragul Venkatesan
  */
 @Data
 @Entity
+@DynamicUpdate
 @Table(name = "resources")
 @EntityListeners(AuditingEntityListener.class)
 public class Resource {
@@ -36,7 +41,8 @@ public class Resource {
      * Unique identifier for the resource.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resources_id_seq")
+    @SequenceGenerator(name = "resources_id_seq", sequenceName = "resources_id_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -64,6 +70,12 @@ public class Resource {
     @Column(nullable = false)
     private Integer quantity;
 
+    /**
+     * Part of the quantity held for accepted requests and not available to take.
+     */
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity = 0;
+
     /**
      * Unit of measurement for the resource (e.g., pieces, kg, liters).
      */
@@ -119,6 +131,8 @@ public class Resource {
     public void setCategory(ResourceCategory category) { this.category = category; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public Integer getReservedQuantity() { return reservedQuantity; }
+    public void setReservedQuantity(Integer reservedQuantity) { this.reservedQuantity = reservedQuantity; }
     public String getUnit() { return unit; }
     public void setUnit(String unit) { this.unit = unit; }
     public Orphanage getOrphanage() { return orphanage; }
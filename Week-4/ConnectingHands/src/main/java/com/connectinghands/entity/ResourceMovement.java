@@ -0,0 +1,67 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing one change to the quantities of a resource. Movements are
+ * only ever appended, in the transaction that changes the resource.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "resource_movements")
+public class ResourceMovement {
+    /**
+     * Unique identifier for the movement.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resource_movements_id_seq")
+    @SequenceGenerator(name = "resource_movements_id_seq", sequenceName = "resource_movements_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the resource that changed.
+     */
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    /**
+     * Kind of change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20)
+    private ResourceMovementType type;
+
+    /**
+     * Change to the quantity, negative for outflows.
+     */
+    @Column(name = "quantity_change", nullable = false)
+    private Integer quantityChange;
+
+    /**
+     * Change to the reserved quantity.
+     */
+    @Column(name = "reserved_change", nullable = false)
+    private Integer reservedChange;
+
+    /**
+     * When the change was made.
+     */
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,47 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the kinds of change recorded in the resource ledger.
+ * OPENED: Resource created with its initial quantity
+ * RECEIVED: Quantity received
+ * CONSUMED: Quantity taken out of stock
+ * RESERVED: Quantity held for a request
+ * RELEASED: Held quantity returned to the available quantity
+ * ADJUSTED: Quantity corrected by an update, up or down
+ * CLOSED: Remaining quantity written off when the resource is deleted
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ResourceMovementType {
+    OPENED(1, 0),
+    RECEIVED(1, 0),
+    CONSUMED(-1, 0),
+    RESERVED(0, 1),
+    RELEASED(0, -1),
+    ADJUSTED(1, 0),
+    CLOSED(-1, 0);
+
+    private final int quantitySign;
+    private final int reservedSign;
+
+    ResourceMovementType(int quantitySign, int reservedSign) {
+        this.quantitySign = quantitySign;
+        this.reservedSign = reservedSign;
+    }
+
+    /**
+     * @param amount The amount moved, negative only for adjustments
+     * @return The change the movement makes to the quantity
+     */
+    public int quantityChange(int amount) {
+        return quantitySign * amount;
+    }
+
+    /**
+     * @param amount The amount moved
+     * @return The change the movement makes to the reserved quantity
+     */
+    public int reservedChange(int amount) {
+        return reservedSign * amount;
+    }
+}
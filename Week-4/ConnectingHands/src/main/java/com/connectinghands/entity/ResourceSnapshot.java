@@ -0,0 +1,60 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing the quantities of a resource at a point in time, derived
+ * from the previous snapshot and the movements since. Lets the position at any time be
+ * computed without replaying the resource's whole history.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "resource_snapshots", uniqueConstraints = @UniqueConstraint(
+        name = "uk_resource_snapshots_resource_snapshot_at",
+        columnNames = {"resource_id", "snapshot_at"}))
+public class ResourceSnapshot {
+    /**
+     * Unique identifier for the snapshot.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resource_snapshots_id_seq")
+    @SequenceGenerator(name = "resource_snapshots_id_seq", sequenceName = "resource_snapshots_id_seq",
+            allocationSize = 50)
+    private Long id;
+
+    /**
+     * ID of the resource.
+     */
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    /**
+     * Time the quantities were taken at; movements up to and including it are counted.
+     */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    /**
+     * Quantity at the snapshot time.
+     */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /**
+     * Reserved quantity at the snapshot time.
+     */
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+}
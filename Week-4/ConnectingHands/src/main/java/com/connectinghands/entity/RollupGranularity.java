@@ -0,0 +1,86 @@
+package com.connectinghands.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Enum representing the time bucket sizes maintained for donation rollups.
+ * HOUR: Bucket covering one clock hour
+ * DAY: Bucket covering one calendar day
+ * MONTH: Bucket covering one calendar month
+ *
+ * @author Ragul Venkatesan
+ */
+public enum RollupGranularity {
+    /**
+     * Bucket covering one clock hour.
+     */
+    HOUR {
+        @Override
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(ChronoUnit.HOURS);
+        }
+
+        @Override
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusHours(1);
+        }
+    },
+
+    /**
+     * Bucket covering one calendar day.
+     */
+    DAY {
+        @Override
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(ChronoUnit.DAYS);
+        }
+
+        @Override
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusDays(1);
+        }
+    },
+
+    /**
+     * Bucket covering one calendar month.
+     */
+    MONTH {
+        @Override
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plusMonths(1);
+        }
+    };
+
+    /**
+     * Returns the start of the bucket containing the given time.
+     *
+     * @param time The time to truncate
+     * @return The start of the enclosing bucket
+     */
+    public abstract LocalDateTime truncate(LocalDateTime time);
+
+    /**
+     * Returns the start of the bucket following the one starting at the given time.
+     *
+     * @param bucketStart The start of a bucket
+     * @return The start of the next bucket
+     */
+    public abstract LocalDateTime next(LocalDateTime bucketStart);
+
+    /**
+     * Returns the first bucket boundary at or after the given time.
+     *
+     * @param time The time to round up
+     * @return The nearest bucket boundary not before the given time
+     */
+    public LocalDateTime ceil(LocalDateTime time) {
+        LocalDateTime floor = truncate(time);
+        return floor.equals(time) ? floor : next(floor);
+    }
+}
@@ -0,0 +1,40 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class holding the number of unread messages a user has received. Rows are
+ * adjusted in the same transaction as the messages they count and repaired by a periodic
+ * reconciliation against the messages table.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "unread_message_counters")
+public class UnreadMessageCounter {
+    /**
+     * ID of the receiving user.
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * Number of unread messages the user has received.
+     */
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+
+    /**
+     * When the count last changed.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
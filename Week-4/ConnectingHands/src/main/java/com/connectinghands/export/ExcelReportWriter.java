@@ -0,0 +1,69 @@
+package com.connectinghands.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+
+/**
+ * XLSX writer backed by POI's streaming workbook. Only the last {@value #ROW_WINDOW}
+ * rows are kept in memory; older rows are flushed to a temporary file and copied
+ * into the response when the writer is closed.
+ *
+ * @author Ragul Venkatesan
+ */
+class ExcelReportWriter implements TabularReportWriter {
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowIndex;
+
+    ExcelReportWriter(OutputStream outputStream, String title) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(WorkbookUtil.createSafeSheetName(title));
+    }
+
+    @Override
+    public void writeHeader(String... columns) {
+        writeRow((Object[]) columns);
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        Row row = sheet.createRow(rowIndex++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof BigDecimal decimal) {
+                cell.setCellValue(decimal.doubleValue());
+            } else if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.connectinghands.export;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * PDF writer that renders the report as one large table. The table is marked
+ * incomplete so every {@value #FLUSH_EVERY} rows the finished rows are laid out,
+ * written to the stream and released.
+ *
+ * @author Ragul Venkatesan
+ */
+class PdfReportWriter implements TabularReportWriter {
+    private static final int FLUSH_EVERY = 500;
+    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+    private static final Font CELL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8);
+
+    private final Document document;
+    private final String title;
+    private PdfPTable table;
+    private int pendingRows;
+
+    PdfReportWriter(OutputStream outputStream, String title) {
+        this.document = new Document(PageSize.A4.rotate());
+        this.title = title;
+        PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
+    }
+
+    @Override
+    public void writeHeader(String... columns) throws IOException {
+        try {
+            document.open();
+            document.add(new Paragraph(title, HEADER_FONT));
+            table = new PdfPTable(columns.length);
+            table.setWidthPercentage(100);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+            for (String column : columns) {
+                table.addCell(new PdfPCell(new Phrase(column, HEADER_FONT)));
+            }
+        } catch (DocumentException e) {
+            throw new IOException("Failed to start PDF export", e);
+        }
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        for (Object value : values) {
+            table.addCell(new Phrase(value != null ? value.toString() : "", CELL_FONT));
+        }
+        if (++pendingRows >= FLUSH_EVERY) {
+            addTable();
+            pendingRows = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (table != null) {
+                table.setComplete(true);
+                addTable();
+            }
+        } finally {
+            document.close();
+        }
+    }
+
+    private void addTable() throws IOException {
+        try {
+            document.add(table);
+        } catch (DocumentException e) {
+            throw new IOException("Failed to write PDF rows", e);
+        }
+    }
+}
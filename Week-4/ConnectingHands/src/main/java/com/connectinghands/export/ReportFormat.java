@@ -0,0 +1,75 @@
+package com.connectinghands.export;
+
+import com.connectinghands.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * File formats a report can be exported in.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ReportFormat {
+    /**
+     * Portable Document Format, one table row per report row
+     */
+    PDF("application/pdf", "pdf", true),
+
+    /**
+     * Comma separated values as described in RFC 4180
+     */
+    CSV("text/csv", "csv", true),
+
+    /**
+     * Office Open XML workbook with a single sheet
+     */
+    EXCEL("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx", false);
+
+    private final String mediaType;
+    private final String extension;
+    private final boolean compressible;
+
+    ReportFormat(String mediaType, String extension, boolean compressible) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+        this.compressible = compressible;
+    }
+
+    /**
+     * @return The MIME type of the exported file
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return The file name extension of the exported file
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Workbooks are already zip archives, so gzipping them again only costs CPU.
+     *
+     * @return Whether the exported file benefits from transfer compression
+     */
+    public boolean isCompressible() {
+        return compressible;
+    }
+
+    /**
+     * Resolves a format by name, ignoring case.
+     *
+     * @param format The format name (PDF, CSV, EXCEL)
+     * @return The matching format
+     * @throws ValidationException if the format is not supported
+     */
+    public static ReportFormat from(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new ValidationException("Unsupported export format: " + format);
+        }
+    }
+}
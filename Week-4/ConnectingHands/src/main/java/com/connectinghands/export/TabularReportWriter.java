@@ -0,0 +1,48 @@
+package com.connectinghands.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a report as a single table, one row at a time, straight to an output stream.
+ * Implementations keep at most a small fixed window of rows in memory so exports run
+ * in constant memory regardless of row count. Closing the writer completes the
+ * document but leaves the underlying stream open.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface TabularReportWriter extends Closeable {
+
+    /**
+     * Writes the column headers. Must be called once, before the first row.
+     *
+     * @param columns The column titles
+     * @throws IOException if writing to the stream fails
+     */
+    void writeHeader(String... columns) throws IOException;
+
+    /**
+     * Writes a data row. Null values are written as empty cells.
+     *
+     * @param values The cell values, in header order
+     * @throws IOException if writing to the stream fails
+     */
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * Opens a writer for the given format.
+     *
+     * @param format The export format
+     * @param outputStream The stream to write the document to
+     * @param title The document title, used where the format supports one
+     * @return A writer positioned before the header
+     */
+    static TabularReportWriter open(ReportFormat format, OutputStream outputStream, String title) {
+        return switch (format) {
+            case CSV -> new CsvReportWriter(outputStream);
+            case EXCEL -> new ExcelReportWriter(outputStream, title);
+            case PDF -> new PdfReportWriter(outputStream, title);
+        };
+    }
+}
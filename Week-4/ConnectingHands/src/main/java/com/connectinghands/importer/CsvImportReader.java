@@ -0,0 +1,116 @@
+package com.connectinghands.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV reader. The first record names the fields; quoted fields may contain
+ * commas, doubled quotes and line breaks. Blank lines are skipped.
+ *
+ * @author Ragul Venkatesan
+ */
+class CsvImportReader implements ImportRowReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private List<String> header;
+    private boolean unterminated;
+    private long number;
+
+    CsvImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = new ArrayList<>(names.size());
+            for (String name : names) {
+                header.add(name.trim());
+            }
+            if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BYTE_ORDER_MARK) {
+                header.set(0, header.get(0).substring(1));
+            }
+        }
+
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank() && !unterminated);
+
+        number++;
+        if (unterminated) {
+            return ImportRow.malformed(number, "Unterminated quoted field");
+        }
+        if (record.size() != header.size()) {
+            return ImportRow.malformed(number, "Expected " + header.size() + " fields but found " + record.size());
+        }
+        Map<String, String> values = new HashMap<>(record.size() * 2);
+        for (int i = 0; i < record.size(); i++) {
+            String value = record.get(i).trim();
+            if (!value.isEmpty()) {
+                values.put(header.get(i), value);
+            }
+        }
+        return ImportRow.of(number, values);
+    }
+
+    /**
+     * @return The fields of the next record, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>(header != null ? header.size() : 16);
+        field.setLength(0);
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                reader.mark(1);
+                if (reader.read() == '"') {
+                    field.append('"');
+                    continue;
+                }
+                reader.reset();
+                quoted = false;
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        unterminated = quoted;
+        fields.add(field.toString());
+        return fields;
+    }
+}
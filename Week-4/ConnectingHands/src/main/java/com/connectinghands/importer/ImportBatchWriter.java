@@ -0,0 +1,153 @@
+package com.connectinghands.importer;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.search.GeoHash;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * Writes imported rows with JDBC batch inserts, bypassing the persistence context. The
+ * rows must already be validated; their associations only need an ID. IDs are drawn from
+ * the same sequences the entities use, one value per row. Resource IDs are fetched up front
+ * in a single query, because each resource also gets an opening movement in the resource
+ * ledger, which needs the ID. Runs in the caller's transaction.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class ImportBatchWriter {
+    private static final String INSERT_ORPHANAGE_SQL = "INSERT INTO orphanages (id, name, description, address, " +
+            "city, state, country, postal_code, phone, email, website, capacity, current_children, available_slots, " +
+            "latitude, longitude, geohash, status, admin_id, verification_documents, created_at, updated_at, " +
+            "created_by) VALUES (%s, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_RESOURCE_SQL = "INSERT INTO resources (id, name, description, category, " +
+            "quantity, reserved_quantity, unit, orphanage_id, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?, ?)";
+    private static final String NEXT_RESOURCE_IDS_SQL = "SELECT %s FROM generate_series(1, ?)";
+    private static final String INSERT_RESOURCE_MOVEMENT_SQL = "INSERT INTO resource_movements (id, resource_id, " +
+            "movement_type, quantity_change, reserved_change, occurred_at) VALUES (%s, ?, ?, ?, 0, ?)";
+    private static final String INSERT_RESOURCE_REQUEST_SQL = "INSERT INTO resource_requests (id, name, " +
+            "description, category, quantity, unit, orphanage_id, status, created_at, updated_at, created_by) " +
+            "VALUES (%s, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertOrphanageSql;
+    private final String nextResourceIdsSql;
+    private final String insertResourceMovementSql;
+    private final String insertResourceRequestSql;
+
+    public ImportBatchWriter(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.insertOrphanageSql = INSERT_ORPHANAGE_SQL.formatted(nextValue(dialect, "orphanages_id_seq"));
+        this.nextResourceIdsSql = NEXT_RESOURCE_IDS_SQL.formatted(nextValue(dialect, "resources_id_seq"));
+        this.insertResourceMovementSql = INSERT_RESOURCE_MOVEMENT_SQL.formatted(
+                nextValue(dialect, "resource_movements_id_seq"));
+        this.insertResourceRequestSql = INSERT_RESOURCE_REQUEST_SQL.formatted(
+                nextValue(dialect, "resource_requests_id_seq"));
+    }
+
+    /**
+     * @param orphanages The orphanages to insert
+     */
+    public void insertOrphanages(List<Orphanage> orphanages) {
+        jdbcTemplate.batchUpdate(insertOrphanageSql, orphanages, orphanages.size(), this::bind);
+    }
+
+    /**
+     * Inserts resources and their opening ledger movements, setting the ID of each resource.
+     *
+     * @param resources The resources to insert
+     */
+    public void insertResources(List<Resource> resources) {
+        List<Long> ids = jdbcTemplate.queryForList(nextResourceIdsSql, Long.class, resources.size());
+        for (int i = 0; i < resources.size(); i++) {
+            resources.get(i).setId(ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESOURCE_SQL, resources, resources.size(), this::bind);
+        jdbcTemplate.batchUpdate(insertResourceMovementSql, resources, resources.size(), this::bindOpening);
+    }
+
+    /**
+     * @param requests The resource requests to insert
+     */
+    public void insertResourceRequests(List<ResourceRequest> requests) {
+        jdbcTemplate.batchUpdate(insertResourceRequestSql, requests, requests.size(), this::bind);
+    }
+
+    private static String nextValue(Dialect dialect, String sequence) {
+        return dialect.getSequenceSupport().getSelectSequenceNextValString(sequence);
+    }
+
+    private void bind(PreparedStatement statement, Orphanage orphanage) throws SQLException {
+        statement.setString(1, orphanage.getName());
+        statement.setString(2, orphanage.getDescription());
+        statement.setString(3, orphanage.getAddress());
+        statement.setString(4, orphanage.getCity());
+        statement.setString(5, orphanage.getState());
+        statement.setString(6, orphanage.getCountry());
+        statement.setString(7, orphanage.getPostalCode());
+        statement.setString(8, orphanage.getPhone());
+        statement.setString(9, orphanage.getEmail());
+        statement.setString(10, orphanage.getWebsite());
+        statement.setInt(11, orphanage.getCapacity());
+        statement.setInt(12, orphanage.getCurrentChildren());
+        statement.setInt(13, orphanage.getAvailableSlots());
+        statement.setObject(14, orphanage.getLatitude(), Types.DOUBLE);
+        statement.setObject(15, orphanage.getLongitude(), Types.DOUBLE);
+        statement.setString(16, orphanage.getLatitude() != null && orphanage.getLongitude() != null
+                ? GeoHash.encode(orphanage.getLatitude(), orphanage.getLongitude(), GeoHash.MAX_PRECISION)
+                : null);
+        statement.setString(17, orphanage.getStatus().name());
+        statement.setLong(18, orphanage.getAdmin().getId());
+        statement.setString(19, orphanage.getVerificationDocuments());
+        statement.setTimestamp(20, Timestamp.valueOf(orphanage.getCreatedAt()));
+        statement.setTimestamp(21, Timestamp.valueOf(orphanage.getCreatedAt()));
+        statement.setString(22, orphanage.getCreatedBy());
+    }
+
+    private void bind(PreparedStatement statement, Resource resource) throws SQLException {
+        statement.setLong(1, resource.getId());
+        statement.setString(2, resource.getName());
+        statement.setString(3, resource.getDescription());
+        statement.setString(4, resource.getCategory().name());
+        statement.setInt(5, resource.getQuantity());
+        statement.setString(6, resource.getUnit());
+        statement.setLong(7, resource.getOrphanage().getId());
+        statement.setString(8, resource.getStatus().name());
+        statement.setTimestamp(9, Timestamp.valueOf(resource.getCreatedAt()));
+        statement.setTimestamp(10, Timestamp.valueOf(resource.getCreatedAt()));
+    }
+
+    private void bindOpening(PreparedStatement statement, Resource resource) throws SQLException {
+        statement.setLong(1, resource.getId());
+        statement.setString(2, ResourceMovementType.OPENED.name());
+        statement.setInt(3, resource.getQuantity());
+        statement.setTimestamp(4, Timestamp.valueOf(resource.getCreatedAt()));
+    }
+
+    private void bind(PreparedStatement statement, ResourceRequest request) throws SQLException {
+        statement.setString(1, request.getName());
+        statement.setString(2, request.getDescription());
+        statement.setString(3, request.getCategory());
+        statement.setInt(4, request.getQuantity());
+        statement.setString(5, request.getUnit());
+        statement.setLong(6, request.getOrphanage().getId());
+        statement.setString(7, request.getStatus().name());
+        statement.setTimestamp(8, Timestamp.valueOf(request.getCreatedAt()));
+        statement.setTimestamp(9, Timestamp.valueOf(request.getCreatedAt()));
+        statement.setString(10, request.getCreatedBy());
+    }
+}
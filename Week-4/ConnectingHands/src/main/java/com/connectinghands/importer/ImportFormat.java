@@ -0,0 +1,69 @@
+package com.connectinghands.importer;
+
+import com.connectinghands.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+/**
+ * File formats rows can be imported from.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ImportFormat {
+    /**
+     * Comma separated values as described in RFC 4180, with a header row naming the fields
+     */
+    CSV(new MediaType("text", "csv")),
+
+    /**
+     * One JSON object per line
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    ImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * @return The MIME type of the imported file
+     */
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Opens a reader over an input in this format. The reader does not close the input.
+     *
+     * @param inputStream The input to read rows from
+     * @param objectMapper The mapper used to parse JSON lines
+     * @return A reader positioned before the first row
+     */
+    public ImportRowReader open(InputStream inputStream, ObjectMapper objectMapper) {
+        return this == CSV ? new CsvImportReader(inputStream) : new NdjsonImportReader(inputStream, objectMapper);
+    }
+
+    /**
+     * Resolves a format from a Content-Type header, ignoring parameters such as charset.
+     *
+     * @param contentType The Content-Type of the uploaded body
+     * @return The matching format
+     * @throws ValidationException if the content type is not supported
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        try {
+            MediaType type = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (format.mediaType.equalsTypeAndSubtype(type)) {
+                    return format;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // InvalidMediaTypeException, reported below
+        }
+        throw new ValidationException("Unsupported import format: " + contentType);
+    }
+}
@@ -0,0 +1,50 @@
+package com.connectinghands.importer;
+
+import java.util.Map;
+
+/**
+ * One row read from an import file: its field values by name, or the reason it could
+ * not be read.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class ImportRow {
+    private final long number;
+    private final Map<String, String> values;
+    private final String error;
+
+    private ImportRow(long number, Map<String, String> values, String error) {
+        this.number = number;
+        this.values = values;
+        this.error = error;
+    }
+
+    static ImportRow of(long number, Map<String, String> values) {
+        return new ImportRow(number, values, null);
+    }
+
+    static ImportRow malformed(long number, String error) {
+        return new ImportRow(number, Map.of(), error);
+    }
+
+    /**
+     * @return The 1-based position of the row among the data rows of the file
+     */
+    public long getNumber() {
+        return number;
+    }
+
+    /**
+     * @return The field values by name; blank fields are absent
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * @return Why the row could not be read, or null if it was read
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.importer;
+
+import java.io.IOException;
+
+/**
+ * Reads the rows of an import file one at a time, so memory use does not depend on
+ * the size of the file.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ImportRowReader {
+
+    /**
+     * Reads the next row. A row that cannot be parsed is returned with an error rather
+     * than ending the import.
+     *
+     * @return The next row, or null at the end of the input
+     * @throws IOException if the input cannot be read
+     */
+    ImportRow next() throws IOException;
+}
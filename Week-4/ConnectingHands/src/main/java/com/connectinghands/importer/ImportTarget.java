@@ -0,0 +1,55 @@
+package com.connectinghands.importer;
+
+import com.connectinghands.exception.ValidationException;
+
+import java.util.Locale;
+
+/**
+ * Kinds of records that can be created by a bulk import.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ImportTarget {
+    /**
+     * Orphanages, created pending verification
+     */
+    ORPHANAGES("ORPHANAGES_IMPORTED"),
+
+    /**
+     * Resources held by existing orphanages, created available
+     */
+    RESOURCES("RESOURCES_IMPORTED"),
+
+    /**
+     * Resource requests of existing orphanages, created pending
+     */
+    RESOURCE_REQUESTS("RESOURCE_REQUESTS_IMPORTED");
+
+    private final String auditAction;
+
+    ImportTarget(String auditAction) {
+        this.auditAction = auditAction;
+    }
+
+    /**
+     * @return The audit log action recorded for each imported chunk
+     */
+    public String getAuditAction() {
+        return auditAction;
+    }
+
+    /**
+     * Resolves a target by its path name, e.g. "resource-requests", ignoring case.
+     *
+     * @param target The target name
+     * @return The matching target
+     * @throws ValidationException if the target is not supported
+     */
+    public static ImportTarget from(String target) {
+        try {
+            return valueOf(target.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new ValidationException("Unsupported import target: " + target);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.connectinghands.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Newline-delimited JSON reader. Every non-blank line must hold one JSON object whose
+ * fields are scalars; null fields are treated as absent.
+ *
+ * @author Ragul Venkatesan
+ */
+class NdjsonImportReader implements ImportRowReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long number;
+
+    NdjsonImportReader(InputStream inputStream, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        number++;
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRow.malformed(number, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRow.malformed(number, "Expected a JSON object");
+        }
+
+        Map<String, String> values = new HashMap<>(node.size() * 2);
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            if (value.isContainerNode()) {
+                return ImportRow.malformed(number, "Field " + field.getKey() + " must be a single value");
+            }
+            if (!value.isNull()) {
+                values.put(field.getKey(), value.asText());
+            }
+        }
+        return ImportRow.of(number, values);
+    }
+}
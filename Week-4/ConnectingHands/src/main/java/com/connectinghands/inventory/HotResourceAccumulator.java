@@ -0,0 +1,195 @@
+package com.connectinghands.inventory;
+
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.service.ResourceLedgerService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory accumulator for quantities received by the resources listed in
+ * {@code resource.inventory.hot-resource-ids}. Every donation to the busiest resources
+ * would otherwise update the same row, so their increments are instead added to a
+ * {@link LongAdder}, whose cells spread concurrent writers, and applied in one JDBC batch
+ * every {@code resource.inventory.flush-interval} milliseconds, together with one ledger
+ * movement per resource for everything received since the last flush. Only increments are
+ * accumulated; taking and reserving still check the row. Accumulated amounts not yet
+ * flushed are lost if the node dies, which is why the list is empty by default.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class HotResourceAccumulator {
+    private static final Logger log = LoggerFactory.getLogger(HotResourceAccumulator.class);
+
+    private static final String FLUSH_SQL =
+            "UPDATE resources SET quantity = quantity + ?, updated_at = ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pending = new HashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final ResourceLedgerService resourceLedgerService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter failureCounter;
+
+    public HotResourceAccumulator(JdbcTemplate jdbcTemplate, ResourceLedgerService resourceLedgerService,
+                                  PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                  @Value("${resource.inventory.hot-resource-ids:}") String hotResourceIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.resourceLedgerService = resourceLedgerService;
+        // flushes commit on their own, so a rolled-back caller never discards other callers' amounts
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // fixed at startup, so the map is only ever read concurrently
+        for (String id : StringUtils.commaDelimitedListToSet(hotResourceIds)) {
+            if (StringUtils.hasText(id)) {
+                pending.put(Long.valueOf(id.trim()), new LongAdder());
+            }
+        }
+
+        Gauge.builder("resource.inventory.pending", this, HotResourceAccumulator::pendingTotal)
+                .description("Quantity received by hot resources and not yet written")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("resource.inventory.flushed")
+                .description("Accumulated quantity changes written to resources")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("resource.inventory.dropped")
+                .description("Accumulated quantity changes dropped because the resource no longer exists")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("resource.inventory.flush.failures")
+                .description("Flushes that failed and were kept for the next attempt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param resourceId The ID of the resource
+     * @return Whether increments of the resource are accumulated
+     */
+    public boolean isHot(Long resourceId) {
+        return pending.containsKey(resourceId);
+    }
+
+    /**
+     * Accumulates an increment of a hot resource.
+     *
+     * @param resourceId The ID of a hot resource
+     * @param amount The amount received
+     * @throws IllegalArgumentException if the resource is not hot
+     */
+    public void add(Long resourceId, int amount) {
+        LongAdder adder = pending.get(resourceId);
+        if (adder == null) {
+            throw new IllegalArgumentException("Resource " + resourceId + " is not accumulated");
+        }
+        adder.add(amount);
+    }
+
+    /**
+     * @param resourceId The ID of the resource
+     * @return The accumulated amount not yet written, 0 for resources that are not hot
+     */
+    public long pending(Long resourceId) {
+        LongAdder adder = pending.get(resourceId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Writes the accumulated amount of one resource now, for example before retrying a
+     * decrement that found too little in the row.
+     *
+     * @param resourceId The ID of the resource
+     * @return Whether anything was written
+     */
+    public boolean flush(Long resourceId) {
+        LongAdder adder = pending.get(resourceId);
+        if (adder == null) {
+            return false;
+        }
+        long amount = adder.sumThenReset();
+        return amount != 0 && write(Map.of(resourceId, amount));
+    }
+
+    /**
+     * Writes the accumulated amounts of every hot resource in one batch.
+     */
+    @Scheduled(fixedDelayString = "${resource.inventory.flush-interval:1000}")
+    @PreDestroy
+    public void flushAll() {
+        Map<Long, Long> amounts = new HashMap<>();
+        pending.forEach((resourceId, adder) -> {
+            long amount = adder.sumThenReset();
+            if (amount != 0) {
+                amounts.put(resourceId, amount);
+            }
+        });
+        if (!amounts.isEmpty()) {
+            write(amounts);
+        }
+    }
+
+    private boolean write(Map<Long, Long> amounts) {
+        List<Long> resourceIds = new ArrayList<>(amounts.keySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(resourceIds.size());
+        for (Long resourceId : resourceIds) {
+            args.add(new Object[] {amounts.get(resourceId), now, resourceId});
+        }
+        try {
+            int[] counts = transactionTemplate.execute(status -> {
+                int[] updated = jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+                for (int i = 0; i < updated.length; i++) {
+                    if (updated[i] > 0) {
+                        resourceLedgerService.record(resourceIds.get(i), ResourceMovementType.RECEIVED,
+                                Math.toIntExact(amounts.get(resourceIds.get(i))));
+                    }
+                }
+                return updated;
+            });
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    log.warn("Dropping {} accumulated for deleted resource {}",
+                            amounts.get(resourceIds.get(i)), resourceIds.get(i));
+                    droppedCounter.increment();
+                } else {
+                    flushedCounter.increment();
+                }
+            }
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Writing accumulated resource quantities failed; keeping them for the next flush", e);
+            failureCounter.increment();
+            amounts.forEach((resourceId, amount) -> pending.get(resourceId).add(amount));
+            return false;
+        }
+    }
+
+    private double pendingTotal() {
+        long total = 0;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,47 @@
+package com.connectinghands.inventory;
+
+import com.connectinghands.service.ResourceLedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Periodically snapshots the position of every resource, so utilization reports start
+ * from a recent snapshot instead of replaying the ledger from the beginning. Positions are
+ * taken {@code resource.ledger.snapshot-delay} in the past, so movements of transactions
+ * that were still committing when the job ran are not left out of the snapshot.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class ResourceSnapshotJob {
+    private static final Logger log = LoggerFactory.getLogger(ResourceSnapshotJob.class);
+
+    private final ResourceLedgerService resourceLedgerService;
+    private final Duration snapshotDelay;
+
+    public ResourceSnapshotJob(ResourceLedgerService resourceLedgerService,
+                               @Value("${resource.ledger.snapshot-delay:1m}") Duration snapshotDelay) {
+        this.resourceLedgerService = resourceLedgerService;
+        this.snapshotDelay = snapshotDelay;
+    }
+
+    /**
+     * Snapshots every resource.
+     */
+    @Scheduled(cron = "${resource.ledger.snapshot-cron:0 0 1 * * *}")
+    public void run() {
+        try {
+            int written = resourceLedgerService.takeSnapshots(LocalDateTime.now().minus(snapshotDelay));
+            log.info("Snapshotted {} resources", written);
+        } catch (DataAccessException e) {
+            log.error("Resource snapshot failed", e);
+        }
+    }
+}
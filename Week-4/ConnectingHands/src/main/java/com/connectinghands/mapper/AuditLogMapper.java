@@ -0,0 +1,14 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.AuditLogDto;
+import com.connectinghands.entity.AuditLog;
+import org.mapstruct.Mapper;
+
+/**
+ * Maps AuditLog entities to AuditLogDto.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface AuditLogMapper extends EntityMapper<AuditLog, AuditLogDto> {
+}
@@ -0,0 +1,20 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.DonationDto;
+import com.connectinghands.entity.Donation;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Maps Donation entities to DonationDto. Only the IDs of the donor and orphanage are read,
+ * which does not initialise lazy associations.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface DonationMapper extends EntityMapper<Donation, DonationDto> {
+    @Override
+    @Mapping(target = "donorId", source = "donor.id")
+    @Mapping(target = "orphanageId", source = "orphanage.id")
+    DonationDto toDto(Donation donation);
+}
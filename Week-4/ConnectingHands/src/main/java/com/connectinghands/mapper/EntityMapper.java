@@ -0,0 +1,52 @@
+package com.connectinghands.mapper;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Common contract of the entity-to-DTO mappers. Implementations are generated by MapStruct
+ * at compile time, so mapping is plain getter/setter calls with no reflection at runtime.
+ *
+ * @param <E> The entity type
+ * @param <D> The DTO type
+ * @author Ragul Venkatesan
+ */
+public interface EntityMapper<E, D> {
+    /**
+     * Converts an entity to its DTO.
+     *
+     * @param entity The entity to convert
+     * @return The DTO, or null if the entity is null
+     */
+    D toDto(E entity);
+
+    /**
+     * Converts a list of entities to DTOs, preserving order.
+     *
+     * @param entities The entities to convert
+     * @return The DTOs
+     */
+    List<D> toDtoList(List<E> entities);
+
+    /**
+     * Converts a page of entities to a page of DTOs with the same paging information.
+     *
+     * @param page The page of entities
+     * @return The page of DTOs
+     */
+    default Page<D> toDtoPage(Page<E> page) {
+        return page.map(this::toDto);
+    }
+
+    /**
+     * Converts a slice of entities to a slice of DTOs with the same paging information.
+     *
+     * @param slice The slice of entities
+     * @return The slice of DTOs
+     */
+    default Slice<D> toDtoSlice(Slice<E> slice) {
+        return slice.map(this::toDto);
+    }
+}
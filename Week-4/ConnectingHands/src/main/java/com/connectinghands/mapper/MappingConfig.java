@@ -0,0 +1,14 @@
+package com.connectinghands.mapper;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Shared MapStruct configuration. Mappers are Spring beans, and a DTO property that no
+ * source property or explicit mapping fills fails the build instead of silently staying null.
+ *
+ * @author Ragul Venkatesan
+ */
+@MapperConfig(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface MappingConfig {
+}
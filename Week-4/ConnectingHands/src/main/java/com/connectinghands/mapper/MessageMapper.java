@@ -0,0 +1,21 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.MessageDto;
+import com.connectinghands.entity.Message;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Maps Message entities to MessageDto.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface MessageMapper extends EntityMapper<Message, MessageDto> {
+    @Override
+    @Mapping(target = "senderId", source = "sender.id")
+    @Mapping(target = "senderName", source = "sender.name")
+    @Mapping(target = "receiverId", source = "receiver.id")
+    @Mapping(target = "receiverName", source = "receiver.name")
+    MessageDto toDto(Message message);
+}
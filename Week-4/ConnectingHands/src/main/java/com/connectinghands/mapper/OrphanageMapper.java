@@ -0,0 +1,32 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Maps Orphanage entities to OrphanageDto.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface OrphanageMapper extends EntityMapper<Orphanage, OrphanageDto> {
+    @Override
+    @Mapping(target = "adminId", source = "admin.id")
+    @Mapping(target = "adminName", source = "admin", qualifiedByName = "fullName")
+    OrphanageDto toDto(Orphanage orphanage);
+
+    /**
+     * Formats the display name of an orphanage administrator.
+     *
+     * @param user The administrator
+     * @return First and last name separated by a space, or null if there is no administrator
+     */
+    @Named("fullName")
+    default String fullName(User user) {
+        return user == null ? null : user.getFirstName() + " " + user.getLastName();
+    }
+}
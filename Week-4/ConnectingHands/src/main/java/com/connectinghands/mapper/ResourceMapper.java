@@ -0,0 +1,18 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.entity.Resource;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Maps Resource entities to ResourceDto.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface ResourceMapper extends EntityMapper<Resource, ResourceDto> {
+    @Override
+    @Mapping(target = "orphanageName", source = "orphanage.name")
+    ResourceDto toDto(Resource resource);
+}
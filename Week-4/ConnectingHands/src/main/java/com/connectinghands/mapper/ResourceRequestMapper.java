@@ -0,0 +1,20 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.ResourceRequestDto;
+import com.connectinghands.entity.ResourceRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Maps ResourceRequest entities to ResourceRequestDto. The stored category name is
+ * converted to {@link com.connectinghands.entity.ResourceCategory} by the generated code.
+ *
+ * @author Ragul Venkatesan
+ */
+@Mapper(config = MappingConfig.class)
+public interface ResourceRequestMapper extends EntityMapper<ResourceRequest, ResourceRequestDto> {
+    @Override
+    @Mapping(target = "orphanageId", source = "orphanage.id")
+    @Mapping(target = "orphanageName", source = "orphanage.name")
+    ResourceRequestDto toDto(ResourceRequest request);
+}
@@ -0,0 +1,394 @@
+package com.connectinghands.messaging;
+
+import com.connectinghands.dto.MessageDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-user registry of open server-sent event connections on this node. New messages are
+ * pushed to every connection of their receiver, so clients no longer poll the inbox and
+ * unread count. Each event carries the message ID as its SSE event ID, which browsers send
+ * back as {@code Last-Event-ID} when they reconnect. A user may hold up to
+ * {@code message.push.max-connections-per-user} connections; opening another closes the
+ * oldest. Connections that fail a send or a heartbeat are dropped.
+ * <p>
+ * Live messages and heartbeats are queued per connection and written by a small dedicated
+ * pool, one event at a time per connection, so a client that stops reading blocks neither
+ * the sender's request nor the scheduler. A connection with more than
+ * {@code message.push.max-pending-events} unsent events, or whose current send has taken
+ * longer than {@code message.push.send-timeout}, is dropped; its client reconnects and
+ * the messages it missed are replayed.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class MessagePushRegistry {
+    private static final Logger log = LoggerFactory.getLogger(MessagePushRegistry.class);
+
+    /**
+     * Event name for a pushed message.
+     */
+    public static final String MESSAGE_EVENT = "message";
+
+    /**
+     * Event name telling the client that too much was missed to replay and that it should
+     * reload its inbox.
+     */
+    public static final String RESYNC_EVENT = "resync";
+
+    private final Map<Long, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Executor sendExecutor;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+    private final int replayLimit;
+    private final int maxPendingEvents;
+    private final long sendTimeoutNanos;
+
+    private final Counter pushedCounter;
+    private final Counter replayedCounter;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public MessagePushRegistry(MeterRegistry meterRegistry,
+                               @Value("${message.push.timeout:30m}") Duration timeout,
+                               @Value("${message.push.max-connections-per-user:5}") int maxConnectionsPerUser,
+                               @Value("${message.push.replay-limit:200}") int replayLimit,
+                               @Value("${message.push.send-threads:4}") int sendThreads,
+                               @Value("${message.push.send-queue:10000}") int sendQueue,
+                               @Value("${message.push.max-pending-events:100}") int maxPendingEvents,
+                               @Value("${message.push.send-timeout:10s}") Duration sendTimeout) {
+        this(meterRegistry, newSendExecutor(sendThreads, sendQueue), timeout, maxConnectionsPerUser, replayLimit,
+                maxPendingEvents, sendTimeout);
+    }
+
+    MessagePushRegistry(MeterRegistry meterRegistry, Executor sendExecutor, Duration timeout,
+                        int maxConnectionsPerUser, int replayLimit, int maxPendingEvents, Duration sendTimeout) {
+        this.sendExecutor = sendExecutor;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.replayLimit = replayLimit;
+        this.maxPendingEvents = maxPendingEvents;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        Gauge.builder("message.push.connections", connectionCount, AtomicInteger::get)
+                .description("Open message push connections")
+                .register(meterRegistry);
+        this.pushedCounter = Counter.builder("message.push.events")
+                .description("Messages pushed to open connections")
+                .tag("source", "live")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("message.push.events")
+                .description("Messages pushed to open connections")
+                .tag("source", "replay")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("message.push.dropped")
+                .description("Connections dropped after a failed, stalled or backed-up send")
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService newSendExecutor(int sendThreads, int sendQueue) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("message-push-");
+        threadFactory.setDaemon(true);
+        // at most one task per connection is queued, so a full queue means too many connections are backed up
+        return new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueue), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Open a connection for a user.
+     *
+     * @param userId The user's ID
+     * @return The emitter to return from the request handler
+     */
+    public SseEmitter connect(Long userId) {
+        SseEmitter emitter = createEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+        // added inside compute so a concurrent removal cannot drop the deque under us
+        Deque<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            Deque<Connection> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(connection);
+            return deque;
+        });
+        connectionCount.incrementAndGet();
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(error -> remove(connection));
+
+        while (userConnections.size() > maxConnectionsPerUser) {
+            Connection oldest = userConnections.pollFirst();
+            if (oldest != null && oldest != connection) {
+                connectionCount.decrementAndGet();
+                oldest.close(null);
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * Queue a message on every open connection of a user. Does nothing if the user has none.
+     *
+     * @param userId The receiving user's ID
+     * @param message The message to push
+     */
+    public void publish(Long userId, MessageDto message) {
+        Deque<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        for (Connection connection : userConnections) {
+            connection.enqueue(messageEvent(message), pushedCounter);
+        }
+    }
+
+    /**
+     * Send a missed message to one connection while it resumes. Runs on the caller's
+     * thread, which is the resuming client's own request.
+     *
+     * @param userId The connected user's ID
+     * @param emitter The connection
+     * @param message The missed message
+     * @return Whether the connection is still open
+     */
+    public boolean replay(Long userId, SseEmitter emitter, MessageDto message) {
+        boolean sent = deliver(userId, emitter, messageEvent(message));
+        if (sent) {
+            replayedCounter.increment();
+        }
+        return sent;
+    }
+
+    /**
+     * Tell one connection to reload its inbox instead of replaying.
+     *
+     * @param userId The connected user's ID
+     * @param emitter The connection
+     */
+    public void resync(Long userId, SseEmitter emitter) {
+        deliver(userId, emitter, SseEmitter.event().name(RESYNC_EVENT).data(""));
+    }
+
+    /**
+     * Queue a comment on every idle connection so that proxies keep idle connections open
+     * and connections whose client has gone away are noticed and dropped. Connections
+     * whose current send has stalled for longer than the send timeout are dropped here.
+     */
+    @Scheduled(fixedDelayString = "${message.push.heartbeat-interval:25000}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        connections.forEach((userId, userConnections) -> {
+            for (Connection connection : userConnections) {
+                if (connection.sending && now - connection.sendStartedNanos > sendTimeoutNanos) {
+                    drop(connection, "send stalled");
+                } else if (connection.pendingCount.get() == 0) {
+                    connection.enqueue(SseEmitter.event().comment("heartbeat"), null);
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The most missed messages replayed to a resuming connection before it is told
+     * to resync instead
+     */
+    public int getReplayLimit() {
+        return replayLimit;
+    }
+
+    /**
+     * @param userId The user's ID
+     * @return The number of open connections the user holds on this node
+     */
+    public int connectionCount(Long userId) {
+        Deque<Connection> userConnections = connections.get(userId);
+        return userConnections == null ? 0 : userConnections.size();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private static SseEmitter.SseEventBuilder messageEvent(MessageDto message) {
+        return SseEmitter.event()
+                .id(String.valueOf(message.getId()))
+                .name(MESSAGE_EVENT)
+                .data(message);
+    }
+
+    private boolean deliver(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping message push connection of user {}: {}", userId, e.getMessage());
+            droppedCounter.increment();
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * Removes a connection that can no longer keep up. The emitter is completed from its own
+     * queue, after any send still blocked on it, so the calling thread never waits.
+     */
+    private void drop(Connection connection, String reason) {
+        if (connection.closed) {
+            return;
+        }
+        log.debug("Dropping message push connection of user {}: {}", connection.userId, reason);
+        droppedCounter.increment();
+        remove(connection);
+        connection.close(new IOException(reason));
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (id, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        Deque<Connection> userConnections = connections.get(userId);
+        if (userConnections != null) {
+            userConnections.stream().filter(connection -> connection.emitter == emitter).findFirst()
+                    .ifPresent(this::remove);
+        }
+    }
+
+    /**
+     * One open connection and the events waiting to be written to it. At most one drain
+     * task per connection is queued or running, which keeps its events in order and limits
+     * a stalled client to one sending thread.
+     */
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<Outgoing> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+        private volatile boolean closed;
+        private boolean failed;
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event, Counter sentCounter) {
+            if (closed) {
+                return;
+            }
+            if (pendingCount.get() >= maxPendingEvents) {
+                drop(this, "too many unsent events");
+                return;
+            }
+            submit(new Outgoing(event, sentCounter, false, null));
+        }
+
+        /**
+         * Completes the emitter once the events queued before are written, or with the
+         * error if one is given.
+         */
+        private void close(Throwable error) {
+            closed = true;
+            submit(new Outgoing(null, null, true, error));
+        }
+
+        private void submit(Outgoing outgoing) {
+            pending.add(outgoing);
+            if (pendingCount.getAndIncrement() == 0) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // too many connections are backed up; give up on this one without blocking
+                    closed = true;
+                    pending.clear();
+                    pendingCount.set(0);
+                    droppedCounter.increment();
+                    remove(this);
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                Outgoing outgoing = pending.poll();
+                if (outgoing.completes) {
+                    if (!failed && outgoing.error != null) {
+                        emitter.completeWithError(outgoing.error);
+                    } else if (!failed) {
+                        emitter.complete();
+                    }
+                } else if (!closed) {
+                    sendStartedNanos = System.nanoTime();
+                    sending = true;
+                    boolean sent = deliver(userId, emitter, outgoing.event);
+                    sending = false;
+                    if (!sent) {
+                        // deliver has already completed the emitter with the error
+                        failed = true;
+                        closed = true;
+                    } else if (outgoing.sentCounter != null) {
+                        outgoing.sentCounter.increment();
+                    }
+                }
+            } while (pendingCount.decrementAndGet() > 0);
+        }
+    }
+
+    /**
+     * An event to write, or a request to complete the emitter, with an error if one is set.
+     */
+    private static final class Outgoing {
+        private final SseEmitter.SseEventBuilder event;
+        private final Counter sentCounter;
+        private final boolean completes;
+        private final Throwable error;
+
+        private Outgoing(SseEmitter.SseEventBuilder event, Counter sentCounter, boolean completes, Throwable error) {
+            this.event = event;
+            this.sentCounter = sentCounter;
+            this.completes = completes;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.connectinghands.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-process cache of unread message counts in front of the counter table. Users are
+ * spread over a fixed number of stripes, each a small least-recently-used map behind its
+ * own lock, so concurrent badge lookups rarely contend and the size stays bounded without
+ * a global scan. Entries live for {@code message.unread.cache.ttl}, which bounds how stale
+ * a count changed on another node can be; changes on this node evict the user's entry
+ * both immediately and again after the surrounding transaction commits.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class UnreadCountCache {
+    private final Stripe[] stripes;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public UnreadCountCache(MeterRegistry meterRegistry,
+                            @Value("${message.unread.cache.stripes:16}") int stripes,
+                            @Value("${message.unread.cache.max-size:100000}") int maxSize,
+                            @Value("${message.unread.cache.ttl:30s}") Duration ttl) {
+        this(meterRegistry, Clock.systemUTC(), stripes, maxSize, ttl);
+    }
+
+    UnreadCountCache(MeterRegistry meterRegistry, Clock clock, int stripes, int maxSize, Duration ttl) {
+        // a power of two, so the stripe is picked with a mask
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[stripeCount];
+        int stripeSize = Math.max(1, maxSize / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(stripeSize);
+        }
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+
+        Gauge.builder("message.unread.cache.size", this, UnreadCountCache::size)
+                .description("Unread message counts currently cached")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("message.unread.cache.requests")
+                .description("Lookups in the unread message count cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("message.unread.cache.requests")
+                .description("Lookups in the unread message count cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param userId The ID of the user
+     * @return The cached unread count, or null if it is not cached or has expired
+     */
+    public Long get(Long userId) {
+        Stripe stripe = stripeFor(userId);
+        Entry entry;
+        synchronized (stripe) {
+            entry = stripe.get(userId);
+            if (entry != null && entry.expiresAt <= clock.millis()) {
+                stripe.remove(userId);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.count;
+    }
+
+    /**
+     * Caches a user's unread count, evicting the least recently used entry of its stripe
+     * when the stripe is full.
+     *
+     * @param userId The ID of the user
+     * @param count The unread count
+     */
+    public void put(Long userId, long count) {
+        Stripe stripe = stripeFor(userId);
+        Entry entry = new Entry(count, clock.millis() + ttlMillis);
+        synchronized (stripe) {
+            stripe.put(userId, entry);
+        }
+    }
+
+    /**
+     * Evicts a user's unread count.
+     *
+     * @param userId The ID of the user
+     */
+    public void evict(Long userId) {
+        remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    private void remove(Long userId) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            stripe.remove(userId);
+        }
+    }
+
+    private Stripe stripeFor(Long userId) {
+        int hash = userId.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static final class Stripe extends LinkedHashMap<Long, Entry> {
+        private final int maxSize;
+
+        private Stripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static final class Entry {
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
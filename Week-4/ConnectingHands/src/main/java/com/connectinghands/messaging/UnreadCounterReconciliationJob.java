@@ -0,0 +1,41 @@
+package com.connectinghands.messaging;
+
+import com.connectinghands.service.UnreadCounterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recounts the unread message counters against the messages table and
+ * repairs any that drifted, for example after a failed transaction on another node or a
+ * counter created while a message was still being sent.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class UnreadCounterReconciliationJob {
+    private static final Logger log = LoggerFactory.getLogger(UnreadCounterReconciliationJob.class);
+
+    private final UnreadCounterService unreadCounterService;
+
+    public UnreadCounterReconciliationJob(UnreadCounterService unreadCounterService) {
+        this.unreadCounterService = unreadCounterService;
+    }
+
+    /**
+     * Repairs drifted counters.
+     */
+    @Scheduled(cron = "${message.unread.reconcile-cron:0 15 * * * *}")
+    public void run() {
+        try {
+            int repaired = unreadCounterService.reconcile();
+            if (repaired > 0) {
+                log.warn("Repaired {} drifted unread message counters", repaired);
+            }
+        } catch (DataAccessException e) {
+            log.error("Unread message counter reconciliation failed", e);
+        }
+    }
+}
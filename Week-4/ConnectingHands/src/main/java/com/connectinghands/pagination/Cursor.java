@@ -0,0 +1,93 @@
+package com.connectinghands.pagination;
+
+import com.connectinghands.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a keyset-paginated listing ordered by creation time and ID, newest first.
+ * Clients receive it as an opaque URL-safe token and send it back to fetch the rows that
+ * come strictly after it.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class Cursor {
+    private static final char SEPARATOR = '|';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private Cursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    /**
+     * Creates the cursor positioned at a row.
+     *
+     * @param createdAt The creation time of the row
+     * @param id The ID of the row
+     * @return The cursor
+     */
+    public static Cursor of(LocalDateTime createdAt, Long id) {
+        return new Cursor(createdAt, id);
+    }
+
+    /**
+     * Decodes a continuation token.
+     *
+     * @param token The token, or null/blank for the first page
+     * @return The cursor, or null for the first page
+     * @throws ValidationException if the token is malformed
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque continuation token.
+     *
+     * @return The token
+     */
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Cursor cursor && createdAt.equals(cursor.createdAt) && id.equals(cursor.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(createdAt, id);
+    }
+
+    @Override
+    public String toString() {
+        return "Cursor(" + createdAt + ", " + id + ")";
+    }
+}
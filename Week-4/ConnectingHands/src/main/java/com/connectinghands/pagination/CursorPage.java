@@ -0,0 +1,78 @@
+package com.connectinghands.pagination;
+
+import com.connectinghands.exception.ValidationException;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated listing. Unlike {@link org.springframework.data.domain.Page}
+ * it carries no total count; {@code nextCursor} is the token for the following page and
+ * is null on the last page.
+ *
+ * @param <T> The element type
+ * @author Ragul Venkatesan
+ */
+@Getter
+public class CursorPage<T> {
+    /**
+     * Largest page size a client may request.
+     */
+    public static final int MAX_SIZE = 100;
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    private CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Builds a page from rows fetched with a limit of {@code size + 1}; the extra row only
+     * signals that another page exists and is not returned.
+     *
+     * @param rows The fetched rows, in keyset order
+     * @param size The requested page size
+     * @param cursorOf Extracts the keyset position of a row
+     * @param mapper Converts a row to the returned element
+     * @return The page
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, int size, Function<E, Cursor> cursorOf,
+                                          Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(size - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+
+    /**
+     * Builds the page of a listing known to be empty without querying it.
+     *
+     * @param size The requested page size
+     * @return The empty page
+     * @throws ValidationException if the size is not between 1 and {@link #MAX_SIZE}
+     */
+    public static <T> CursorPage<T> empty(int size) {
+        return new CursorPage<>(List.of(), checkSize(size), false, null);
+    }
+
+    /**
+     * Validates a requested page size.
+     *
+     * @param size The requested page size
+     * @return The size
+     * @throws ValidationException if the size is not between 1 and {@link #MAX_SIZE}
+     */
+    public static int checkSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        return size;
+    }
+}
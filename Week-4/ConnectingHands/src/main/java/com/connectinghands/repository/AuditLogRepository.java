@@ -1,59 +1,16 @@
 package com.connectinghands.repository;
 
 import com.connectinghands.entity.AuditLog;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-
+/**
+ * Repository interface for managing AuditLog entities.
+ * Filtered queries are built with {@link com.connectinghands.repository.specification.AuditLogSpecifications}.
+ *
+ * @author Ragul Venkatesan
+ */
 @Repository
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
-    @Query("SELECT a FROM AuditLog a WHERE " +
-            "(:userId IS NULL OR a.userId = :userId) AND " +
-            "(:action IS NULL OR a.action = :action) AND " +
-            "(:entityType IS NULL OR a.entityType = :entityType) AND " +
-            "(:entityId IS NULL OR a.entityId = :entityId) AND " +
-            "(:startDate IS NULL OR a.timestamp >= :startDate) AND " +
-            "(:endDate IS NULL OR a.timestamp <= :endDate)")
-    Page<AuditLog> findByFilters(
-            @Param("userId") Long userId,
-            @Param("action") String action,
-            @Param("entityType") String entityType,
-            @Param("entityId") Long entityId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    @Query("SELECT a FROM AuditLog a WHERE a.userId = :userId AND " +
-            "(:action IS NULL OR a.action = :action) AND " +
-            "(:entityType IS NULL OR a.entityType = :entityType) AND " +
-            "(:entityId IS NULL OR a.entityId = :entityId) AND " +
-            "(:startDate IS NULL OR a.timestamp >= :startDate) AND " +
-            "(:endDate IS NULL OR a.timestamp <= :endDate)")
-    Page<AuditLog> findByUserIdAndFilters(
-            @Param("userId") Long userId,
-            @Param("action") String action,
-            @Param("entityType") String entityType,
-            @Param("entityId") Long entityId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    @Query("SELECT a FROM AuditLog a WHERE a.entityType = :entityType AND a.entityId = :entityId AND " +
-            "(:userId IS NULL OR a.userId = :userId) AND " +
-            "(:action IS NULL OR a.action = :action) AND " +
-            "(:startDate IS NULL OR a.timestamp >= :startDate) AND " +
-            "(:endDate IS NULL OR a.timestamp <= :endDate)")
-    Page<AuditLog> findByEntityTypeAndEntityIdAndFilters(
-            @Param("entityType") String entityType,
-            @Param("entityId") Long entityId,
-            @Param("userId") Long userId,
-            @Param("action") String action,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
 }
@@ -0,0 +1,42 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Conversation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for managing Conversation entities.
+ * Participants are always passed lower user ID first.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface ConversationRepository extends JpaRepository<Conversation, Long> {
+    /**
+     * Find the ID of the conversation between two users.
+     *
+     * @param userLowId The lower of the two user IDs
+     * @param userHighId The higher of the two user IDs
+     * @return The conversation ID, if the users have exchanged messages
+     */
+    @Query("SELECT c.id FROM Conversation c WHERE c.userLowId = :userLowId AND c.userHighId = :userHighId")
+    Optional<Long> findIdByParticipants(@Param("userLowId") Long userLowId, @Param("userHighId") Long userHighId);
+
+    /**
+     * Create the conversation between two users unless another transaction already has.
+     *
+     * @param userLowId The lower of the two user IDs
+     * @param userHighId The higher of the two user IDs
+     */
+    @Modifying
+    @Query(value = "INSERT INTO conversations (user_low_id, user_high_id, created_at) " +
+            "VALUES (:userLowId, :userHighId, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (user_low_id, user_high_id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("userLowId") Long userLowId, @Param("userHighId") Long userHighId);
+}
@@ -2,11 +2,24 @@ package com.connectinghands.repository;
 
 import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.repository.projection.CurrencyTotals;
+import com.connectinghands.repository.projection.DonationAggregate;
+import com.connectinghands.repository.projection.DonationExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Donation entities.
@@ -17,28 +30,102 @@ import java.util.List;
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, Long> {
     /**
-     * Finds all donations made by a specific donor.
+     * Per-orphanage donation totals within [:startDate, :endDate], shared by the report queries below,
+     * which add their own WHERE, GROUP BY and ORDER BY clauses. Donations are counted in every currency,
+     * but only amounts in :currency are summed, matching the single-orphanage rollup report.
+     */
+    String AGGREGATE_BY_ORPHANAGE = "SELECT o.id AS orphanageId, o.name AS orphanageName, " +
+            "COUNT(d.id) AS totalDonations, " +
+            "SUM(CASE WHEN UPPER(d.currency) = UPPER(:currency) THEN d.amount END) AS totalMonetaryAmount, " +
+            "SUM(CASE WHEN d.id IS NOT NULL AND d.amount IS NULL THEN 1 ELSE 0 END) AS totalResourceDonations " +
+            "FROM Orphanage o LEFT JOIN Donation d ON d.orphanage = o " +
+            "AND d.createdAt BETWEEN :startDate AND :endDate ";
+
+    /**
+     * Finds one slice of all donations without counting the total.
+     *
+     * @param pageable Pagination and sorting information
+     * @return Slice of donations
+     */
+    Slice<Donation> findAllBy(Pageable pageable);
+
+    /**
+     * Finds one slice of the donations made by a specific donor.
+     *
+     * @param donorId The ID of the donor
+     * @param pageable Pagination and sorting information
+     * @return Slice of donations made by the donor
+     */
+    Slice<Donation> findByDonorId(Long donorId, Pageable pageable);
+
+    /**
+     * Finds one slice of the donations received by a specific orphanage.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param pageable Pagination and sorting information
+     * @return Slice of donations received by the orphanage
+     */
+    Slice<Donation> findByOrphanageId(Long orphanageId, Pageable pageable);
+
+    /**
+     * Finds one slice of the donations with a specific status.
+     *
+     * @param status The status to search for
+     * @param pageable Pagination and sorting information
+     * @return Slice of donations with the specified status
+     */
+    Slice<Donation> findByStatus(DonationStatus status, Pageable pageable);
+
+    /**
+     * Streams all donations ordered by ID through a forward-only cursor.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return Stream of donations
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Donation> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams the donations made by a specific donor ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
      *
      * @param donorId The ID of the donor
-     * @return List of donations made by the donor
+     * @return Stream of donations made by the donor
      */
-    List<Donation> findByDonorId(Long donorId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Donation> streamByDonorIdOrderByIdAsc(Long donorId);
 
     /**
-     * Finds all donations received by a specific orphanage.
+     * Streams the donations received by a specific orphanage ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
      *
      * @param orphanageId The ID of the orphanage
-     * @return List of donations received by the orphanage
+     * @return Stream of donations received by the orphanage
      */
-    List<Donation> findByOrphanageId(Long orphanageId);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Donation> streamByOrphanageIdOrderByIdAsc(Long orphanageId);
 
     /**
-     * Finds all donations with a specific status.
+     * Streams the donations with a specific status ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
      *
      * @param status The status to search for
-     * @return List of donations with the specified status
+     * @return Stream of donations with the specified status
      */
-    List<Donation> findByStatus(DonationStatus status);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Donation> streamByStatusOrderByIdAsc(DonationStatus status);
 
     /**
      * Finds all donations received by a specific orphanage within a date range.
@@ -49,4 +136,99 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
      * @return List of donations received by the orphanage within the date range
      */
     List<Donation> findByOrphanageIdAndCreatedAtBetween(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * Aggregates donation totals per orphanage within a date range, one page of orphanages at a time.
+     * Orphanages without donations in the range are included with zero totals.
+     *
+     * @param startDate The start date of the range
+     * @param endDate The end date of the range
+     * @param currency The currency whose amounts are summed
+     * @param pageable Pagination and sorting over orphanages; should end on {@code id} so pages are stable
+     * @return Page of per-orphanage donation aggregates
+     */
+    @Query(value = AGGREGATE_BY_ORPHANAGE +
+            "GROUP BY o.id, o.name",
+            countQuery = "SELECT COUNT(o) FROM Orphanage o")
+    Page<DonationAggregate> aggregateByOrphanage(@Param("startDate") LocalDateTime startDate,
+                                                 @Param("endDate") LocalDateTime endDate,
+                                                 @Param("currency") String currency,
+                                                 Pageable pageable);
+
+    /**
+     * Streams donation totals for every orphanage within a date range, ordered by orphanage ID.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param startDate The start date of the range
+     * @param endDate The end date of the range
+     * @param currency The currency whose amounts are summed
+     * @return Stream of per-orphanage donation aggregates
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(AGGREGATE_BY_ORPHANAGE +
+            "GROUP BY o.id, o.name ORDER BY o.id")
+    Stream<DonationAggregate> streamAggregatesByOrphanage(@Param("startDate") LocalDateTime startDate,
+                                                          @Param("endDate") LocalDateTime endDate,
+                                                          @Param("currency") String currency);
+
+    /**
+     * Aggregates donation totals within a date range for the given orphanages only.
+     * Used by keyset-paginated report listings, which select the page of orphanages first.
+     *
+     * @param orphanageIds The IDs of the orphanages on the current page
+     * @param startDate The start date of the range
+     * @param endDate The end date of the range
+     * @param currency The currency whose amounts are summed
+     * @return Per-orphanage donation aggregates, in no particular order
+     */
+    @Query(AGGREGATE_BY_ORPHANAGE +
+            "WHERE o.id IN :orphanageIds " +
+            "GROUP BY o.id, o.name")
+    List<DonationAggregate> aggregateByOrphanageIds(@Param("orphanageIds") Collection<Long> orphanageIds,
+                                                    @Param("startDate") LocalDateTime startDate,
+                                                    @Param("endDate") LocalDateTime endDate,
+                                                    @Param("currency") String currency);
+
+    /**
+     * Sums the donations of one orphanage created in [from, to), per currency.
+     * In-kind donations without a currency are reported under the "XXX" code.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param from Inclusive lower bound for the creation time
+     * @param to Exclusive upper bound for the creation time
+     * @return Totals per currency
+     */
+    @Query("SELECT COALESCE(d.currency, 'XXX') AS currency, COUNT(d.id) AS donationCount, " +
+            "SUM(d.amount) AS monetaryAmount, " +
+            "SUM(CASE WHEN d.amount IS NULL THEN 1 ELSE 0 END) AS resourceDonationCount " +
+            "FROM Donation d WHERE d.orphanage.id = :orphanageId " +
+            "AND d.createdAt >= :from AND d.createdAt < :to " +
+            "GROUP BY COALESCE(d.currency, 'XXX')")
+    List<CurrencyTotals> sumByCurrency(@Param("orphanageId") Long orphanageId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    /**
+     * Streams the export rows of an orphanage's donations within a date range through a
+     * forward-only cursor, oldest first.
+     * The caller must consume the stream inside a transaction and close it.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param startDate The start date of the range
+     * @param endDate The end date of the range
+     * @return Stream of donation export rows
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d.id AS id, d.createdAt AS createdAt, d.donor.id AS donorId, d.amount AS amount, " +
+            "d.currency AS currency, d.status AS status, d.paymentMethod AS paymentMethod, " +
+            "d.transactionId AS transactionId " +
+            "FROM Donation d WHERE d.orphanage.id = :orphanageId " +
+            "AND d.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY d.createdAt, d.id")
+    Stream<DonationExportRow> streamExportRows(@Param("orphanageId") Long orphanageId,
+                                               @Param("startDate") LocalDateTime startDate,
+                                               @Param("endDate") LocalDateTime endDate);
 }
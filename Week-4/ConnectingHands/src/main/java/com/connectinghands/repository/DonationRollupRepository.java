@@ -0,0 +1,70 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.DonationRollup;
+import com.connectinghands.entity.RollupGranularity;
+import com.connectinghands.repository.projection.CurrencyTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing DonationRollup entities.
+ * Provides atomic bucket increments and range sums over pre-aggregated donations.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface DonationRollupRepository extends JpaRepository<DonationRollup, Long> {
+    /**
+     * Atomically adds the given deltas to a bucket, creating it if it does not exist yet.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param currency The currency of the bucket
+     * @param granularity The granularity name of the bucket
+     * @param bucketStart The start of the bucket
+     * @param donationCount Delta for the donation count
+     * @param monetaryAmount Delta for the monetary amount
+     * @param resourceDonationCount Delta for the in-kind donation count
+     */
+    @Modifying
+    @Query(value = "INSERT INTO donation_rollups (orphanage_id, currency, granularity, bucket_start, " +
+            "donation_count, monetary_amount, resource_donation_count) " +
+            "VALUES (:orphanageId, :currency, :granularity, :bucketStart, " +
+            ":donationCount, :monetaryAmount, :resourceDonationCount) " +
+            "ON CONFLICT (orphanage_id, currency, granularity, bucket_start) DO UPDATE SET " +
+            "donation_count = donation_rollups.donation_count + EXCLUDED.donation_count, " +
+            "monetary_amount = donation_rollups.monetary_amount + EXCLUDED.monetary_amount, " +
+            "resource_donation_count = donation_rollups.resource_donation_count + EXCLUDED.resource_donation_count",
+            nativeQuery = true)
+    void increment(@Param("orphanageId") Long orphanageId,
+                   @Param("currency") String currency,
+                   @Param("granularity") String granularity,
+                   @Param("bucketStart") LocalDateTime bucketStart,
+                   @Param("donationCount") long donationCount,
+                   @Param("monetaryAmount") BigDecimal monetaryAmount,
+                   @Param("resourceDonationCount") long resourceDonationCount);
+
+    /**
+     * Sums the buckets of one granularity whose start lies in [from, to), per currency.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param granularity The granularity of the buckets to sum
+     * @param from Inclusive lower bound for the bucket start
+     * @param to Exclusive upper bound for the bucket start
+     * @return Totals per currency
+     */
+    @Query("SELECT r.currency AS currency, SUM(r.donationCount) AS donationCount, " +
+            "SUM(r.monetaryAmount) AS monetaryAmount, SUM(r.resourceDonationCount) AS resourceDonationCount " +
+            "FROM DonationRollup r WHERE r.orphanageId = :orphanageId AND r.granularity = :granularity " +
+            "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.currency")
+    List<CurrencyTotals> sumBuckets(@Param("orphanageId") Long orphanageId,
+                                    @Param("granularity") RollupGranularity granularity,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to);
+}
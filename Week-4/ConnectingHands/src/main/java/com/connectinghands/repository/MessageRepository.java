@@ -4,18 +4,27 @@ import com.connectinghands.entity.Message;
 import com.connectinghands.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository interface for Message entity.
- * 
+ * Keyset-paginated listings are built from
+ * {@link com.connectinghands.repository.specification.MessageSpecifications}.
+ *
  * @author Ragul Venkatesan
  */
 @Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
+public interface MessageRepository extends JpaRepository<Message, Long>, JpaSpecificationExecutor<Message> {
     /**
      * Find all messages between two users.
      *
@@ -24,6 +33,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @param pageable Pagination information
      * @return Page of messages
      */
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     Page<Message> findBySenderAndReceiverOrReceiverAndSenderOrderByCreatedAtDesc(
             User user1, User user2, User user3, User user4, Pageable pageable);
 
@@ -33,6 +43,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @param user User to find unread messages for
      * @return List of unread messages
      */
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     List<Message> findByReceiverAndReadFalseOrderByCreatedAtDesc(User user);
 
     /**
@@ -50,6 +61,7 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @param pageable Pagination information
      * @return Page of messages
      */
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     Page<Message> findBySenderOrderByCreatedAtDesc(User sender, Pageable pageable);
 
     /**
@@ -59,11 +71,73 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
      * @param pageable Pagination information
      * @return Page of messages
      */
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     Page<Message> findByReceiverOrderByCreatedAtDesc(User receiver, Pageable pageable);
 
-    Page<Message> findBySenderIdAndReceiverIdOrReceiverIdAndSenderId(
-        Long senderId1, Long receiverId1, Long senderId2, Long receiverId2, Pageable pageable);
+    /**
+     * Find the messages of a conversation.
+     *
+     * @param conversationId The conversation ID
+     * @param pageable Pagination information
+     * @return Page of messages
+     */
+    @EntityGraph(attributePaths = {"sender", "receiver"})
+    Page<Message> findByConversationId(Long conversationId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     Page<Message> findByReceiverId(Long receiverId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"sender", "receiver"})
     Page<Message> findBySenderId(Long senderId, Pageable pageable);
+
     Long countByReceiverIdAndReadFalse(Long receiverId);
+
+    /**
+     * Mark a message as read unless it already is, so that concurrent calls change it,
+     * and the unread counter, only once.
+     *
+     * @param id The message ID
+     * @param readAt When the message was read
+     * @return The number of messages changed from unread to read, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.read = true, m.readAt = :readAt WHERE m.id = :id AND m.read = false")
+    int markRead(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Mark the unread messages among the given IDs that a user received as read. IDs of
+     * messages received by someone else or already read are skipped.
+     *
+     * @param receiverId The receiving user's ID
+     * @param ids The message IDs
+     * @param readAt When the messages were read
+     * @return The number of messages changed from unread to read
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.read = true, m.readAt = :readAt " +
+            "WHERE m.id IN :ids AND m.receiver.id = :receiverId AND m.read = false")
+    int markRead(@Param("receiverId") Long receiverId, @Param("ids") Collection<Long> ids,
+                 @Param("readAt") LocalDateTime readAt);
+
+    /**
+     * Mark every unread message a user received from another user up to and including a
+     * position in the conversation as read. Positions follow creation time and then ID, the
+     * order the conversation is listed in, so messages sent after the reader's last seen
+     * message stay unread. Filtering on the conversation reads one range of the
+     * (conversation_id, created_at, id) index, as the conversation listing does.
+     *
+     * @param conversationId The ID of the conversation between the two users
+     * @param receiverId The receiving user's ID
+     * @param createdAt Creation time of the last message read
+     * @param id ID of the last message read
+     * @param readAt When the messages were read
+     * @return The number of messages changed from unread to read
+     */
+    @Modifying
+    @Query("UPDATE Message m SET m.read = true, m.readAt = :readAt " +
+            "WHERE m.conversationId = :conversationId AND m.receiver.id = :receiverId AND m.read = false " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id <= :id))")
+    int markConversationRead(@Param("conversationId") Long conversationId, @Param("receiverId") Long receiverId,
+                             @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                             @Param("readAt") LocalDateTime readAt);
 }
@@ -0,0 +1,23 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.repository.projection.OrphanageLocation;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Location queries on orphanages that select only the columns a proximity search needs.
+ * Spring Data's fluent specification queries always select the whole entity.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OrphanageLocationQueries {
+    /**
+     * Finds the ID and coordinates of every orphanage matching a specification.
+     *
+     * @param specification The specification to match
+     * @return The matching locations, in no particular order
+     */
+    List<OrphanageLocation> findLocations(Specification<Orphanage> specification);
+}
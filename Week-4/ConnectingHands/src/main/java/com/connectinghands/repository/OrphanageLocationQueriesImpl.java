@@ -0,0 +1,35 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.repository.projection.OrphanageLocation;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link OrphanageLocationQueries}, picked up by Spring Data
+ * as a fragment of {@link OrphanageRepository}.
+ *
+ * @author Ragul Venkatesan
+ */
+class OrphanageLocationQueriesImpl implements OrphanageLocationQueries {
+    private final EntityManager entityManager;
+
+    OrphanageLocationQueriesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrphanageLocation> findLocations(Specification<Orphanage> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<OrphanageLocation> query = cb.createQuery(OrphanageLocation.class);
+        Root<Orphanage> root = query.from(Orphanage.class);
+        query.select(cb.construct(OrphanageLocation.class, root.get("id"), root.get("latitude"), root.get("longitude")))
+                .where(specification.toPredicate(root, query, cb));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -2,23 +2,36 @@ package com.connectinghands.repository;
 
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.repository.projection.OrphanageContactView;
+import com.connectinghands.repository.projection.OrphanageStatusView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 /**
  * Repository interface for managing Orphanage entities.
- * 
+ * Keyset-paginated listings are built from
+ * {@link com.connectinghands.repository.specification.OrphanageSpecifications}; proximity searches
+ * use {@link OrphanageLocationQueries}.
+ *
  * @author Ragul Venkatesan
  */
 @Repository
-public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
+public interface OrphanageRepository extends JpaRepository<Orphanage, Long>, JpaSpecificationExecutor<Orphanage>,
+        OrphanageLocationQueries {
     /**
      * Find an orphanage by its name.
      *
@@ -27,6 +40,16 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      */
     Optional<Orphanage> findByName(String name);
 
+    /**
+     * Find one page of orphanages together with their admins.
+     *
+     * @param pageable pagination information
+     * @return a page of orphanages
+     */
+    @Override
+    @EntityGraph(attributePaths = "admin")
+    Page<Orphanage> findAll(Pageable pageable);
+
     /**
      * Find orphanages by their status.
      *
@@ -34,6 +57,7 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @param pageable pagination information
      * @return a page of orphanages with the specified status
      */
+    @EntityGraph(attributePaths = "admin")
     Page<Orphanage> findByStatus(OrphanageStatus status, Pageable pageable);
 
     /**
@@ -43,6 +67,7 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @param pageable pagination information
      * @return a page of orphanages managed by the specified admin
      */
+    @EntityGraph(attributePaths = "admin")
     Page<Orphanage> findByAdminId(Long adminId, Pageable pageable);
 
     /**
@@ -52,6 +77,7 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @param pageable pagination information
      * @return a page of orphanages in the specified city
      */
+    @EntityGraph(attributePaths = "admin")
     Page<Orphanage> findByCity(String city, Pageable pageable);
 
     /**
@@ -61,6 +87,7 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @param pageable pagination information
      * @return a page of orphanages in the specified state
      */
+    @EntityGraph(attributePaths = "admin")
     Page<Orphanage> findByState(String state, Pageable pageable);
 
     /**
@@ -70,30 +97,113 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @param pageable pagination information
      * @return a page of orphanages in the specified country
      */
+    @EntityGraph(attributePaths = "admin")
     Page<Orphanage> findByCountry(String country, Pageable pageable);
 
     /**
-     * Search orphanages by name, city, state, or country.
+     * Search orphanage IDs by name, city, state, or country, most relevant first.
+     * An orphanage matches if it contains every word of the text search query, or if the
+     * search text is similar enough to one of its words to tolerate typos. Backed by the
+     * V11 GIN indexes on search_vector and search_text; the pageable must be unsorted.
      *
-     * @param searchTerm the search term
+     * @param tsQuery the text search query, see {@link com.connectinghands.search.SearchQuery#toTsQuery()}
+     * @param text the plain search text, see {@link com.connectinghands.search.SearchQuery#toText()}
      * @param pageable pagination information
-     * @return a page of orphanages matching the search criteria
+     * @return a page of matching orphanage IDs in relevance order
      */
-    @Query("SELECT o FROM Orphanage o WHERE " +
-           "LOWER(o.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(o.city) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(o.state) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(o.country) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Orphanage> searchOrphanages(@Param("searchTerm") String searchTerm, Pageable pageable);
+    @Query(value = "SELECT o.id FROM orphanages o " +
+           "WHERE o.search_vector @@ to_tsquery('simple', :tsQuery) OR :text <% o.search_text " +
+           "ORDER BY ts_rank_cd(o.search_vector, to_tsquery('simple', :tsQuery)) " +
+           "+ word_similarity(:text, o.search_text) DESC, o.id",
+           countQuery = "SELECT COUNT(*) FROM orphanages o " +
+           "WHERE o.search_vector @@ to_tsquery('simple', :tsQuery) OR :text <% o.search_text",
+           nativeQuery = true)
+    Page<Long> searchIds(@Param("tsQuery") String tsQuery, @Param("text") String text, Pageable pageable);
 
     /**
-     * Find orphanages with available capacity.
+     * Find orphanages by ID together with their admin.
      *
+     * @param ids the IDs of the orphanages
+     * @return the orphanages found, in no particular order
+     */
+    @EntityGraph(attributePaths = "admin")
+    List<Orphanage> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Find active orphanages with at least the given number of free places.
+     * The literal status and slot predicates let PostgreSQL answer from the V13 partial
+     * index on available_slots.
+     *
+     * @param minSlots the smallest number of free places, at least 1
      * @param pageable pagination information
      * @return a page of orphanages that have available capacity
      */
-    @Query("SELECT o FROM Orphanage o WHERE o.currentChildren < o.capacity")
-    Page<Orphanage> findOrphanagesWithAvailableCapacity(Pageable pageable);
+    @EntityGraph(attributePaths = "admin")
+    @Query("SELECT o FROM Orphanage o WHERE o.status = com.connectinghands.entity.OrphanageStatus.ACTIVE " +
+           "AND o.availableSlots > 0 AND o.availableSlots >= :minSlots")
+    Page<Orphanage> findOrphanagesWithAvailableCapacity(@Param("minSlots") int minSlots, Pageable pageable);
+
+    /**
+     * Find the ID, name and status of the given orphanages and lock their rows until the
+     * transaction ends. Rows are locked in ID order so concurrent bulk changes cannot deadlock.
+     *
+     * @param ids the IDs of the orphanages
+     * @return the orphanages found, ordered by ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.id AS id, o.name AS name, o.status AS status FROM Orphanage o " +
+           "WHERE o.id IN :ids ORDER BY o.id")
+    List<OrphanageStatusView> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Move the given orphanages to a new status in one statement. Only rows still in one of
+     * the expected statuses are changed. Null notes keep the current verification notes.
+     *
+     * @param ids the IDs of the orphanages
+     * @param expected the statuses the orphanages may be in
+     * @param target the new status
+     * @param notes the new verification notes, or null to keep them
+     * @param verifiedAt the time of the change
+     * @param verifiedBy the ID of the user making the change
+     * @param updatedBy the email of the user making the change
+     * @return the number of orphanages changed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Orphanage o SET o.status = :target, " +
+           "o.verificationNotes = COALESCE(:notes, o.verificationNotes), " +
+           "o.verifiedAt = :verifiedAt, o.verifiedBy = :verifiedBy, " +
+           "o.updatedAt = :verifiedAt, o.updatedBy = :updatedBy " +
+           "WHERE o.id IN :ids AND o.status IN :expected")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("expected") Collection<OrphanageStatus> expected,
+                     @Param("target") OrphanageStatus target,
+                     @Param("notes") String notes,
+                     @Param("verifiedAt") LocalDateTime verifiedAt,
+                     @Param("verifiedBy") Long verifiedBy,
+                     @Param("updatedBy") String updatedBy);
+
+    /**
+     * Find which of the given IDs belong to existing orphanages.
+     *
+     * @param ids the IDs to check
+     * @return the IDs that exist, in no particular order
+     */
+    @Query("SELECT o.id FROM Orphanage o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the orphanages that already use any of the given names, emails or phone numbers.
+     *
+     * @param names the names to check
+     * @param emails the emails to check
+     * @param phones the phone numbers to check
+     * @return the name, email and phone of every conflicting orphanage
+     */
+    @Query("SELECT o.name AS name, o.email AS email, o.phone AS phone FROM Orphanage o " +
+           "WHERE o.name IN :names OR o.email IN :emails OR o.phone IN :phones")
+    List<OrphanageContactView> findContacts(@Param("names") Collection<String> names,
+                                            @Param("emails") Collection<String> emails,
+                                            @Param("phones") Collection<String> phones);
 
     /**
      * Check if an orphanage exists with the given name.
@@ -0,0 +1,67 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.ResourceMovement;
+import com.connectinghands.repository.projection.ResourceChangeTotals;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for the append-only resource ledger.
+ * Every query is bounded by resource and time, so it is served by the
+ * (resource_id, occurred_at) index.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface ResourceMovementRepository extends JpaRepository<ResourceMovement, Long> {
+    /**
+     * Sums the movements of the given resources in (from, to].
+     *
+     * @param resourceIds The IDs of the resources
+     * @param from Exclusive lower bound for the movement time
+     * @param to Inclusive upper bound for the movement time
+     * @return Totals per resource, absent for resources without movements
+     */
+    @Query("SELECT m.resourceId AS resourceId, SUM(m.quantityChange) AS quantityChange, " +
+            "SUM(m.reservedChange) AS reservedChange FROM ResourceMovement m " +
+            "WHERE m.resourceId IN :resourceIds AND m.occurredAt > :from AND m.occurredAt <= :to " +
+            "GROUP BY m.resourceId")
+    List<ResourceChangeTotals> sumChanges(@Param("resourceIds") Collection<Long> resourceIds,
+                                          @Param("from") LocalDateTime from,
+                                          @Param("to") LocalDateTime to);
+
+    /**
+     * Sums every movement of the given resources up to a time, for resources that have no
+     * snapshot to start from yet.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param to Inclusive upper bound for the movement time
+     * @return Totals per resource, absent for resources without movements
+     */
+    @Query("SELECT m.resourceId AS resourceId, SUM(m.quantityChange) AS quantityChange, " +
+            "SUM(m.reservedChange) AS reservedChange FROM ResourceMovement m " +
+            "WHERE m.resourceId IN :resourceIds AND m.occurredAt <= :to GROUP BY m.resourceId")
+    List<ResourceChangeTotals> sumChangesUpTo(@Param("resourceIds") Collection<Long> resourceIds,
+                                              @Param("to") LocalDateTime to);
+
+    /**
+     * Finds the movements of the given resources in (from, to], in the order they were made.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param from Exclusive lower bound for the movement time
+     * @param to Inclusive upper bound for the movement time
+     * @return Movements ordered by time and ID
+     */
+    @Query("SELECT m FROM ResourceMovement m " +
+            "WHERE m.resourceId IN :resourceIds AND m.occurredAt > :from AND m.occurredAt <= :to " +
+            "ORDER BY m.occurredAt, m.id")
+    List<ResourceMovement> findInRange(@Param("resourceIds") Collection<Long> resourceIds,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+}
@@ -3,31 +3,113 @@ package com.connectinghands.repository;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.repository.projection.ResourceInventory;
+import com.connectinghands.repository.projection.ResourceQuantity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Resource entities.
  * Provides CRUD operations and custom queries for resources.
+ * Quantities are only changed with single-row conditional updates, never read-modify-write,
+ * so concurrent changes neither get lost nor need a lock held across a round trip.
  *
  * @author Ragul Venkatesan
  */
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
     /**
-     * Finds all resources owned by a specific orphanage.
+     * Finds all resources owned by a specific orphanage, with the orphanage.
      *
      * @param orphanageId The ID of the orphanage
      * @return List of resources owned by the orphanage
      */
+    @EntityGraph(attributePaths = "orphanage")
     List<Resource> findByOrphanageId(Long orphanageId);
 
-    List<Resource> findByCategory(ResourceCategory category);
-    List<Resource> findByStatus(ResourceStatus status);
+    /**
+     * Finds one page of resources with their orphanages.
+     *
+     * @param pageable Pagination and sorting information
+     * @return Page of resources
+     */
+    @Override
+    @EntityGraph(attributePaths = "orphanage")
+    Page<Resource> findAll(Pageable pageable);
+
+    /**
+     * Finds one slice of the resources in a category, with their orphanages.
+     *
+     * @param category The category to search for
+     * @param pageable Pagination and sorting information
+     * @return Slice of resources in the category
+     */
+    @EntityGraph(attributePaths = "orphanage")
+    Slice<Resource> findByCategory(ResourceCategory category, Pageable pageable);
+
+    /**
+     * Finds one slice of the resources with a status, with their orphanages.
+     *
+     * @param status The status to search for
+     * @param pageable Pagination and sorting information
+     * @return Slice of resources with the status
+     */
+    @EntityGraph(attributePaths = "orphanage")
+    Slice<Resource> findByStatus(ResourceStatus status, Pageable pageable);
+
+    /**
+     * Streams the resources in a category with their orphanages, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param category The category to search for
+     * @return Stream of resources in the category
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Resource r JOIN FETCH r.orphanage WHERE r.category = :category ORDER BY r.id")
+    Stream<Resource> streamByCategory(@Param("category") ResourceCategory category);
+
+    /**
+     * Streams the resources with a status with their orphanages, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param status The status to search for
+     * @return Stream of resources with the status
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Resource r JOIN FETCH r.orphanage WHERE r.status = :status ORDER BY r.id")
+    Stream<Resource> streamByStatus(@Param("status") ResourceStatus status);
+
+    /**
+     * Finds the ID, name and quantity of every resource owned by the given orphanages.
+     * Used by report listings to read a whole page of orphanages in one query.
+     *
+     * @param orphanageIds The IDs of the orphanages
+     * @return Resource quantities, ordered by orphanage and resource ID
+     */
+    @Query("SELECT r.id AS id, r.orphanage.id AS orphanageId, r.name AS name, r.quantity AS quantity " +
+            "FROM Resource r WHERE r.orphanage.id IN :orphanageIds ORDER BY r.orphanage.id, r.id")
+    List<ResourceQuantity> findQuantitiesByOrphanageIds(@Param("orphanageIds") Collection<Long> orphanageIds);
 
     /**
      * Fetches all resources with their orphanages using a fetch join to avoid N+1 queries.
@@ -36,4 +118,89 @@ public interface ResourceRepository extends JpaRepository<Resource, Long> {
      */
     @Query("SELECT r FROM Resource r JOIN FETCH r.orphanage")
     List<Resource> findAllWithOrphanage();
-}
\ No newline at end of file
+
+    /**
+     * Finds resource IDs in ascending order after a given ID, for walking every resource in batches.
+     *
+     * @param afterId Exclusive lower bound for the ID
+     * @param pageable The batch size
+     * @return The next IDs
+     */
+    @Query("SELECT r.id FROM Resource r WHERE r.id > :afterId ORDER BY r.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Reads the current quantities of a resource.
+     *
+     * @param id The ID of the resource
+     * @return The quantities, if the resource exists
+     */
+    @Query("SELECT r.id AS id, r.quantity AS quantity, r.reservedQuantity AS reservedQuantity " +
+            "FROM Resource r WHERE r.id = :id")
+    Optional<ResourceInventory> findInventoryById(@Param("id") Long id);
+
+    /**
+     * Adds to the quantity of a resource.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount received
+     * @return The number of resources updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Resource r SET r.quantity = r.quantity + :amount, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id")
+    int incrementQuantity(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Takes from the quantity of a resource, unless less than the amount is available
+     * outside reservations.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount taken
+     * @return The number of resources updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Resource r SET r.quantity = r.quantity - :amount, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id AND r.quantity - r.reservedQuantity >= :amount")
+    int decrementQuantity(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Holds part of the quantity of a resource, unless less than the amount is available
+     * outside reservations.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount held
+     * @return The number of resources updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Resource r SET r.reservedQuantity = r.reservedQuantity + :amount, " +
+            "r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id AND r.quantity - r.reservedQuantity >= :amount")
+    int reserveQuantity(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Returns held quantity of a resource to the available quantity, unless less than the
+     * amount is held.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount released
+     * @return The number of resources updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Resource r SET r.reservedQuantity = r.reservedQuantity - :amount, " +
+            "r.updatedAt = CURRENT_TIMESTAMP WHERE r.id = :id AND r.reservedQuantity >= :amount")
+    int releaseQuantity(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Replaces the quantity of a resource, unless it no longer has the expected quantity or
+     * the new quantity is below the reserved amount.
+     *
+     * @param id The ID of the resource
+     * @param expected The quantity the caller read
+     * @param quantity The new quantity
+     * @return The number of resources updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE Resource r SET r.quantity = :quantity, r.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.id = :id AND r.quantity = :expected AND r.reservedQuantity <= :quantity")
+    int adjustQuantity(@Param("id") Long id, @Param("expected") int expected, @Param("quantity") int quantity);
+}
@@ -2,11 +2,20 @@ package com.connectinghands.repository;
 
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing ResourceRequest entities.
@@ -17,20 +26,59 @@ import java.util.List;
 @Repository
 public interface ResourceRequestRepository extends JpaRepository<ResourceRequest, Long> {
     /**
-     * Find all resource requests made by a specific orphanage.
+     * Find all resource requests made by a specific orphanage, with the orphanage.
      *
      * @param orphanageId The ID of the orphanage
      * @return List of resource requests made by the orphanage
      */
+    @EntityGraph(attributePaths = "orphanage")
     List<ResourceRequest> findByOrphanageId(Long orphanageId);
 
     /**
-     * Find all resource requests with a specific status.
+     * Find one slice of all resource requests, with their orphanages, without counting the total.
+     *
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource requests
+     */
+    @EntityGraph(attributePaths = "orphanage")
+    Slice<ResourceRequest> findAllBy(Pageable pageable);
+
+    /**
+     * Find one slice of the resource requests with a specific status, with their orphanages.
+     *
+     * @param status The status to search for
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource requests with the specified status
+     */
+    @EntityGraph(attributePaths = "orphanage")
+    Slice<ResourceRequest> findByStatus(ResourceRequestStatus status, Pageable pageable);
+
+    /**
+     * Stream all resource requests with their orphanages, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return Stream of resource requests
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM ResourceRequest r JOIN FETCH r.orphanage ORDER BY r.id")
+    Stream<ResourceRequest> streamAll();
+
+    /**
+     * Stream the resource requests with a specific status, with their orphanages, ordered by ID.
+     * Must be consumed inside a transaction and closed after use.
      *
      * @param status The status to search for
-     * @return List of resource requests with the specified status
+     * @return Stream of resource requests with the specified status
      */
-    List<ResourceRequest> findByStatus(ResourceRequestStatus status);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM ResourceRequest r JOIN FETCH r.orphanage WHERE r.status = :status ORDER BY r.id")
+    Stream<ResourceRequest> streamByStatus(@Param("status") ResourceRequestStatus status);
 
     /**
      * Find all resource requests fulfilled by a specific donor.
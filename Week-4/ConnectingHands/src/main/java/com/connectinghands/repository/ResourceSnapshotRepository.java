@@ -0,0 +1,52 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.ResourceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing ResourceSnapshot entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface ResourceSnapshotRepository extends JpaRepository<ResourceSnapshot, Long> {
+    /**
+     * Finds the time of the latest snapshot run at or before a time.
+     *
+     * @param at The time
+     * @return The snapshot time, or null if there is none
+     */
+    @Query("SELECT MAX(s.snapshotAt) FROM ResourceSnapshot s WHERE s.snapshotAt <= :at")
+    LocalDateTime findLatestSnapshotTime(@Param("at") LocalDateTime at);
+
+    /**
+     * Finds the snapshots of the given resources taken at one time.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param snapshotAt The snapshot time
+     * @return The snapshots, absent for resources not snapshotted at that time
+     */
+    List<ResourceSnapshot> findByResourceIdInAndSnapshotAt(Collection<Long> resourceIds, LocalDateTime snapshotAt);
+
+    /**
+     * Finds the latest snapshot at or before a time of each of the given resources. Meant
+     * for the few resources missing from the latest run, since it looks at every snapshot
+     * of the given resources.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param at The time
+     * @return The snapshots, absent for resources never snapshotted before the time
+     */
+    @Query("SELECT s FROM ResourceSnapshot s WHERE s.resourceId IN :resourceIds AND s.snapshotAt = " +
+            "(SELECT MAX(l.snapshotAt) FROM ResourceSnapshot l WHERE l.resourceId = s.resourceId " +
+            "AND l.snapshotAt <= :at)")
+    List<ResourceSnapshot> findLatestByResourceIds(@Param("resourceIds") Collection<Long> resourceIds,
+                                                   @Param("at") LocalDateTime at);
+}
@@ -0,0 +1,84 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.UnreadMessageCounter;
+import com.connectinghands.repository.projection.UnreadCounterCheck;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing UnreadMessageCounter entities.
+ * Counters are only changed with single-row atomic updates, never read-modify-write.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface UnreadMessageCounterRepository extends JpaRepository<UnreadMessageCounter, Long> {
+    /**
+     * Adds to a user's counter. Does nothing if the user has not been counted yet.
+     *
+     * @param userId The ID of the user
+     * @param count The number of messages received
+     * @return The number of counters updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE UnreadMessageCounter c SET c.unreadCount = c.unreadCount + :count, " +
+            "c.updatedAt = CURRENT_TIMESTAMP WHERE c.userId = :userId")
+    int increment(@Param("userId") Long userId, @Param("count") long count);
+
+    /**
+     * Subtracts from a user's counter, stopping at zero. Does nothing if the user has not
+     * been counted yet.
+     *
+     * @param userId The ID of the user
+     * @param count The number of messages read
+     * @return The number of counters updated, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE UnreadMessageCounter c SET c.unreadCount = CASE WHEN c.unreadCount > :count " +
+            "THEN c.unreadCount - :count ELSE 0 END, c.updatedAt = CURRENT_TIMESTAMP WHERE c.userId = :userId")
+    int decrement(@Param("userId") Long userId, @Param("count") long count);
+
+    /**
+     * Creates a user's counter unless another transaction already has.
+     *
+     * @param userId The ID of the user
+     * @param count The counted number of unread messages
+     */
+    @Modifying
+    @Query(value = "INSERT INTO unread_message_counters (user_id, unread_count, updated_at) " +
+            "VALUES (:userId, :count, CURRENT_TIMESTAMP) ON CONFLICT (user_id) DO NOTHING",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId, @Param("count") long count);
+
+    /**
+     * Overwrites a counter with its recounted value, but only if it still holds the value
+     * it was compared with, so a concurrent increment is never lost.
+     *
+     * @param userId The ID of the user
+     * @param expected The stored count the recount was compared with
+     * @param actual The recounted number of unread messages
+     * @return The number of counters repaired, 0 or 1
+     */
+    @Modifying
+    @Query("UPDATE UnreadMessageCounter c SET c.unreadCount = :actual, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.userId = :userId AND c.unreadCount = :expected")
+    int repair(@Param("userId") Long userId, @Param("expected") long expected, @Param("actual") long actual);
+
+    /**
+     * Recounts the unread messages of the counters after a user ID, in user ID order.
+     *
+     * @param afterUserId Only counters of users with a greater ID are checked
+     * @param pageable The number of counters to check
+     * @return Each counter with its stored and recounted value
+     */
+    @Query("SELECT c.userId AS userId, c.unreadCount AS storedCount, " +
+            "(SELECT COUNT(m) FROM Message m WHERE m.receiver.id = c.userId AND m.read = false) AS actualCount " +
+            "FROM UnreadMessageCounter c WHERE c.userId > :afterUserId ORDER BY c.userId")
+    List<UnreadCounterCheck> checkCounters(@Param("afterUserId") Long afterUserId, Pageable pageable);
+}
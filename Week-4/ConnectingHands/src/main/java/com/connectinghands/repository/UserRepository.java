@@ -2,8 +2,12 @@ package com.connectinghands.repository;
 
 import com.connectinghands.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -42,4 +46,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByResetToken(String token);
 
     Optional<User> findByEmail(String email);
+
+    /**
+     * Find which of the given IDs belong to existing users.
+     *
+     * @param ids The IDs to check
+     * @return The IDs that exist, in no particular order
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
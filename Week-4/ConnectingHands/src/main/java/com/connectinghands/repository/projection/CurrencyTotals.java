@@ -0,0 +1,18 @@
+package com.connectinghands.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection holding donation totals for a single currency.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface CurrencyTotals {
+    String getCurrency();
+
+    Long getDonationCount();
+
+    BigDecimal getMonetaryAmount();
+
+    Long getResourceDonationCount();
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection holding the donation totals of a single orphanage.
+ * Produced by grouped aggregate queries so that no Donation entities are loaded.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonationAggregate {
+    Long getOrphanageId();
+
+    String getOrphanageName();
+
+    Long getTotalDonations();
+
+    BigDecimal getTotalMonetaryAmount();
+
+    Long getTotalResourceDonations();
+}
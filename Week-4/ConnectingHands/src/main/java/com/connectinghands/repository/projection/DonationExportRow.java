@@ -0,0 +1,31 @@
+package com.connectinghands.repository.projection;
+
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.PaymentMethod;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection holding the columns of a single donation in a report export.
+ * Rows are scalar tuples, so streaming them does not grow the persistence context.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonationExportRow {
+    Long getId();
+
+    LocalDateTime getCreatedAt();
+
+    Long getDonorId();
+
+    BigDecimal getAmount();
+
+    String getCurrency();
+
+    DonationStatus getStatus();
+
+    PaymentMethod getPaymentMethod();
+
+    String getTransactionId();
+}
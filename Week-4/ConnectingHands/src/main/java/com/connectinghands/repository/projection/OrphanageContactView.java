@@ -0,0 +1,16 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * Read-only projection holding the name, email and phone number of an orphanage, the
+ * values that must be unique. Lets bulk imports check a whole chunk of new orphanages
+ * for conflicts in one query.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OrphanageContactView {
+    String getName();
+
+    String getEmail();
+
+    String getPhone();
+}
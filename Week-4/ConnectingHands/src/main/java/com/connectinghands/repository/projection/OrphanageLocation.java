@@ -0,0 +1,10 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * ID and coordinates of an orphanage. Lets proximity searches rank candidates by
+ * distance before loading any Orphanage entities.
+ *
+ * @author Ragul Venkatesan
+ */
+public record OrphanageLocation(Long id, Double latitude, Double longitude) {
+}
@@ -0,0 +1,18 @@
+package com.connectinghands.repository.projection;
+
+import com.connectinghands.entity.OrphanageStatus;
+
+/**
+ * Read-only projection holding the ID, name and status of an orphanage.
+ * Lets bulk status transitions check and lock a set of orphanages in one query
+ * without loading Orphanage entities.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OrphanageStatusView {
+    Long getId();
+
+    String getName();
+
+    OrphanageStatus getStatus();
+}
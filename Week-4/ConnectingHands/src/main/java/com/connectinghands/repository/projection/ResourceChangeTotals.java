@@ -0,0 +1,15 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * Read-only projection holding the summed ledger movements of one resource over a time
+ * range, so a position can be brought forward from a snapshot without loading movements.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceChangeTotals {
+    Long getResourceId();
+
+    Long getQuantityChange();
+
+    Long getReservedChange();
+}
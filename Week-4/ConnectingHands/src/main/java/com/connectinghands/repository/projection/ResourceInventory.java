@@ -0,0 +1,15 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * Read-only projection holding the quantities of one resource. Read after an inventory
+ * operation so the result reflects the database even if the entity is already loaded.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceInventory {
+    Long getId();
+
+    Integer getQuantity();
+
+    Integer getReservedQuantity();
+}
@@ -0,0 +1,18 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * Read-only projection holding the ID, name and quantity of one resource of an orphanage.
+ * Lets the utilisation reports of a whole page of orphanages be read in one query
+ * without loading Resource entities.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceQuantity {
+    Long getId();
+
+    Long getOrphanageId();
+
+    String getName();
+
+    Integer getQuantity();
+}
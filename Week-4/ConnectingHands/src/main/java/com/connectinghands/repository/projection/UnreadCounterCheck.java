@@ -0,0 +1,14 @@
+package com.connectinghands.repository.projection;
+
+/**
+ * Read-only projection comparing a stored unread counter with the messages it counts.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface UnreadCounterCheck {
+    Long getUserId();
+
+    Long getStoredCount();
+
+    Long getActualCount();
+}
@@ -0,0 +1,77 @@
+package com.connectinghands.repository.specification;
+
+import com.connectinghands.entity.AuditLog;
+import com.connectinghands.pagination.Cursor;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specifications for querying audit logs. Only the filters that are actually supplied
+ * become predicates, so the generated SQL can use the composite indexes on
+ * {@code audit_logs} and prune monthly partitions by timestamp.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class AuditLogSpecifications {
+    /**
+     * Newest first, with the ID as tie-breaker so keyset pagination is stable.
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "timestamp", "id");
+
+    private AuditLogSpecifications() {
+    }
+
+    /**
+     * Matches audit logs against the supplied filters. Null filters are ignored.
+     *
+     * @param userId The ID of the acting user
+     * @param action The action performed
+     * @param entityType The type of entity acted upon
+     * @param entityId The ID of the entity acted upon
+     * @param startDate Inclusive lower bound on the timestamp
+     * @param endDate Inclusive upper bound on the timestamp
+     * @return The combined specification
+     */
+    public static Specification<AuditLog> matching(Long userId, String action, String entityType, Long entityId,
+                                                   LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(6);
+            if (userId != null) {
+                predicates.add(cb.equal(root.get("userId"), userId));
+            }
+            if (action != null) {
+                predicates.add(cb.equal(root.get("action"), action));
+            }
+            if (entityType != null) {
+                predicates.add(cb.equal(root.get("entityType"), entityType));
+            }
+            if (entityId != null) {
+                predicates.add(cb.equal(root.get("entityId"), entityId));
+            }
+            if (startDate != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("timestamp"), startDate));
+            }
+            if (endDate != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("timestamp"), endDate));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Matches audit logs that come after the cursor in {@link #NEWEST_FIRST} order, i.e. older
+     * than its timestamp or equally old with a lower ID. A null cursor matches everything,
+     * which starts from the newest entry.
+     *
+     * @param cursor The position of the last entry already returned
+     * @return The keyset specification
+     */
+    public static Specification<AuditLog> before(Cursor cursor) {
+        return KeysetSpecifications.before("timestamp", cursor);
+    }
+}
@@ -0,0 +1,80 @@
+package com.connectinghands.repository.specification;
+
+import com.connectinghands.pagination.Cursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset pagination predicates shared by the {@code /scroll} listings. Rows are ordered by
+ * creation time and ID, newest first, and each page starts strictly after the cursor, so
+ * the database seeks into the (created_at, id) index instead of skipping an offset.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class KeysetSpecifications {
+    /**
+     * Newest first, with the ID as tie-breaker so the order is total.
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    /**
+     * Oldest first, the order in which missed rows are replayed.
+     */
+    public static final Sort OLDEST_FIRST = Sort.by(Sort.Direction.ASC, "createdAt", "id");
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * Matches rows after the cursor in {@link #NEWEST_FIRST} order.
+     *
+     * @param cursor The position of the last row already returned, or null for the first page
+     * @return The keyset specification
+     */
+    public static <T> Specification<T> createdBefore(Cursor cursor) {
+        return before("createdAt", cursor);
+    }
+
+    /**
+     * Matches rows after the cursor in {@link #OLDEST_FIRST} order.
+     *
+     * @param cursor The position of the last row already seen, or null to match everything
+     * @return The keyset specification
+     */
+    public static <T> Specification<T> createdAfter(Cursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return cb.and(
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), cursor.getCreatedAt()),
+                    cb.or(
+                            cb.greaterThan(root.get("createdAt"), cursor.getCreatedAt()),
+                            cb.and(cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                                    cb.greaterThan(root.get("id"), cursor.getId()))));
+        };
+    }
+
+    /**
+     * Matches rows that are older than the cursor on the given time attribute, or equally
+     * old with a lower ID. A null cursor matches everything.
+     *
+     * @param timeAttribute The attribute the listing is ordered by
+     * @param cursor The position of the last row already returned, or null for the first page
+     * @return The keyset specification
+     */
+    public static <T> Specification<T> before(String timeAttribute, Cursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            // The redundant upper bound gives the planner an index range to seek to.
+            return cb.and(
+                    cb.lessThanOrEqualTo(root.get(timeAttribute), cursor.getCreatedAt()),
+                    cb.or(
+                            cb.lessThan(root.get(timeAttribute), cursor.getCreatedAt()),
+                            cb.and(cb.equal(root.get(timeAttribute), cursor.getCreatedAt()),
+                                    cb.lessThan(root.get("id"), cursor.getId()))));
+        };
+    }
+}
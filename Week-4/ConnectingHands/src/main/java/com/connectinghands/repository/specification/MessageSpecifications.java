@@ -0,0 +1,45 @@
+package com.connectinghands.repository.specification;
+
+import com.connectinghands.entity.Message;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications for querying messages.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class MessageSpecifications {
+
+    private MessageSpecifications() {
+    }
+
+    /**
+     * Matches messages received by a user.
+     *
+     * @param userId The receiver's ID
+     * @return The specification
+     */
+    public static Specification<Message> receivedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("receiver").get("id"), userId);
+    }
+
+    /**
+     * Matches messages sent by a user.
+     *
+     * @param userId The sender's ID
+     * @return The specification
+     */
+    public static Specification<Message> sentBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("sender").get("id"), userId);
+    }
+
+    /**
+     * Matches the messages of a conversation.
+     *
+     * @param conversationId The conversation ID
+     * @return The specification
+     */
+    public static Specification<Message> inConversation(Long conversationId) {
+        return (root, query, cb) -> cb.equal(root.get("conversationId"), conversationId);
+    }
+}
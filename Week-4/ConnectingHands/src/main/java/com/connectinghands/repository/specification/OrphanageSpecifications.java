@@ -0,0 +1,72 @@
+package com.connectinghands.repository.specification;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Specifications for querying orphanages. Only the filters that are actually supplied
+ * become predicates.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class OrphanageSpecifications {
+
+    private OrphanageSpecifications() {
+    }
+
+    /**
+     * Matches orphanages against the supplied filters. Null filters are ignored.
+     *
+     * @param status The status to filter by
+     * @param adminId The ID of the admin user
+     * @param city The city to filter by
+     * @param state The state to filter by
+     * @param country The country to filter by
+     * @return The combined specification
+     */
+    public static Specification<Orphanage> matching(OrphanageStatus status, Long adminId, String city, String state,
+                                                    String country) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(5);
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (adminId != null) {
+                predicates.add(cb.equal(root.get("admin").get("id"), adminId));
+            }
+            if (city != null) {
+                predicates.add(cb.equal(root.get("city"), city));
+            }
+            if (state != null) {
+                predicates.add(cb.equal(root.get("state"), state));
+            }
+            if (country != null) {
+                predicates.add(cb.equal(root.get("country"), country));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Matches active orphanages with a free place whose location lies in one of the given
+     * geohash cells.
+     *
+     * @param cells The geohashes of the cells
+     * @return The specification
+     */
+    public static Specification<Orphanage> availableInCells(Collection<String> cells) {
+        return (root, query, cb) -> {
+            Predicate[] inCells = cells.stream()
+                    .map(cell -> cb.like(root.get("geohash"), cell + "%"))
+                    .toArray(Predicate[]::new);
+            return cb.and(cb.or(inCells), cb.equal(root.get("status"), OrphanageStatus.ACTIVE),
+                    cb.lessThan(root.get("currentChildren"), root.get("capacity")));
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package com.connectinghands.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Geohash encoding of latitude/longitude points. A geohash names a rectangular cell; every
+ * extra character splits the cell into 32, and all points inside a cell share its hash as a
+ * prefix. A prefix match on an indexed geohash column is therefore a bounded index range
+ * scan, and the 3x3 block of cells around a point covers every location within
+ * {@link #coveredRadiusKm(double, int)} of it.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class GeoHash {
+    /**
+     * Precision stored for each orphanage, about 3.7cm x 1.9cm.
+     */
+    public static final int MAX_PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180;
+
+    private GeoHash() {
+    }
+
+    /**
+     * Encodes a point.
+     *
+     * @param latitude The latitude in degrees, -90 to 90
+     * @param longitude The longitude in degrees, -180 to 180
+     * @param precision The number of characters, 1 to {@link #MAX_PRECISION}
+     * @return The geohash of the cell containing the point
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lonBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (lonBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    value = value << 1 | 1;
+                    minLon = mid;
+                } else {
+                    value <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    value = value << 1 | 1;
+                    minLat = mid;
+                } else {
+                    value <<= 1;
+                    maxLat = mid;
+                }
+            }
+            lonBit = !lonBit;
+            if (++bits == 5) {
+                hash.append(BASE32.charAt(value));
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Returns the cell containing a point and its up to eight neighbours, without
+     * duplicates. Cells beyond a pole are left out; longitudes wrap around.
+     *
+     * @param latitude The latitude in degrees
+     * @param longitude The longitude in degrees
+     * @param precision The number of characters of each cell
+     * @return The geohashes of the 3x3 block of cells centred on the point's cell
+     */
+    public static List<String> neighbourhood(double latitude, double longitude, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        double centerLat = Math.min(Math.floor((latitude + 90) / height) * height - 90 + height / 2, 90 - height / 2);
+        double centerLon = Math.min(Math.floor((longitude + 180) / width) * width - 180 + width / 2, 180 - width / 2);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = centerLat + dy * height;
+            if (lat < -90 || lat > 90) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                cells.add(encode(lat, wrapLongitude(centerLon + dx * width), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    /**
+     * Returns the radius around a point that its {@link #neighbourhood} is guaranteed to
+     * cover. Any location closer than this lies in one of the nine cells.
+     *
+     * @param latitude The latitude of the point in degrees
+     * @param precision The number of characters of each cell
+     * @return The covered radius in kilometres
+     */
+    public static double coveredRadiusKm(double latitude, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        double heightKm = height * KM_PER_DEGREE;
+        // distance from the point to the great circle through a side edge of the block
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double widthKm = EARTH_RADIUS_KM * Math.asin(cosLat * Math.sin(Math.toRadians(Math.min(width, 90))));
+        return Math.min(heightKm, widthKm);
+    }
+
+    /**
+     * Computes the great-circle distance between two points with the haversine formula.
+     *
+     * @return The distance in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLon = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    static double cellHeight(int precision) {
+        return 180 / Math.pow(2, 5 * precision / 2);
+    }
+
+    static double cellWidth(int precision) {
+        return 360 / Math.pow(2, 5 * precision - 5 * precision / 2);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        return longitude;
+    }
+}
@@ -0,0 +1,81 @@
+package com.connectinghands.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A free-text search term reduced to the words the search index understands.
+ * Punctuation and operators in the raw term are dropped, so the derived queries are
+ * always valid; words of at least {@value #MIN_PREFIX_LENGTH} characters also match
+ * as prefixes.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class SearchQuery {
+    static final int MIN_PREFIX_LENGTH = 3;
+    static final int MAX_WORDS = 8;
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{M}\\p{N}]+");
+
+    private final List<String> words;
+
+    private SearchQuery(List<String> words) {
+        this.words = words;
+    }
+
+    /**
+     * Parses a raw search term.
+     *
+     * @param term The term as entered by the user, may be null
+     * @return The parsed query, empty if the term contains no words
+     */
+    public static SearchQuery parse(String term) {
+        if (term == null) {
+            return new SearchQuery(Collections.emptyList());
+        }
+        List<String> words = new ArrayList<>();
+        Matcher matcher = WORD.matcher(term.toLowerCase(Locale.ROOT));
+        while (matcher.find() && words.size() < MAX_WORDS) {
+            words.add(matcher.group());
+        }
+        return new SearchQuery(Collections.unmodifiableList(words));
+    }
+
+    /**
+     * @return true if there is nothing to search for
+     */
+    public boolean isEmpty() {
+        return words.isEmpty();
+    }
+
+    /**
+     * @return The words of the query, lower-cased
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * Builds the {@code to_tsquery} input requiring every word, as a prefix where long enough.
+     *
+     * @return The text search query, e.g. {@code hope:* & home:*}
+     */
+    public String toTsQuery() {
+        List<String> terms = new ArrayList<>(words.size());
+        for (String word : words) {
+            terms.add(word.length() >= MIN_PREFIX_LENGTH ? word + ":*" : word);
+        }
+        return String.join(" & ", terms);
+    }
+
+    /**
+     * @return The words joined by spaces, for trigram similarity
+     */
+    public String toText() {
+        return String.join(" ", words);
+    }
+}
@@ -0,0 +1,171 @@
+package com.connectinghands.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Short-lived cache of orphanage-admin decisions across requests, keyed by user and
+ * orphanage. Entries live for {@code security.authorization.cache.ttl}; changes to an
+ * orphanage's admin or a user's membership evict the affected entries, both immediately
+ * and again after the surrounding transaction commits.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class AuthorizationDecisionCache {
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    @Autowired
+    public AuthorizationDecisionCache(MeterRegistry meterRegistry,
+                                      @Value("${security.authorization.cache.max-size:10000}") int maxSize,
+                                      @Value("${security.authorization.cache.ttl:30s}") Duration ttl) {
+        this(meterRegistry, Clock.systemUTC(), maxSize, ttl);
+    }
+
+    AuthorizationDecisionCache(MeterRegistry meterRegistry, Clock clock, int maxSize, Duration ttl) {
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+
+        Gauge.builder("security.authorization.cache.size", entries, Map::size)
+                .description("Authorization decisions currently cached")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("security.authorization.cache.requests")
+                .description("Lookups in the authorization decision cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.authorization.cache.requests")
+                .description("Lookups in the authorization decision cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a cached decision on whether a user administers an orphanage.
+     *
+     * @param userId The ID of the user
+     * @param orphanageId The ID of the orphanage
+     * @return The decision, or null if it is not cached or has expired
+     */
+    public Boolean get(Long userId, Long orphanageId) {
+        Key key = new Key(userId, orphanageId);
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt <= clock.millis()) {
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.decision;
+    }
+
+    /**
+     * Caches a decision on whether a user administers an orphanage. When the cache is full,
+     * expired entries are purged first; if it is still full the decision is not cached.
+     *
+     * @param userId The ID of the user
+     * @param orphanageId The ID of the orphanage
+     * @param decision The decision
+     */
+    public void put(Long userId, Long orphanageId, boolean decision) {
+        long now = clock.millis();
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(new Key(userId, orphanageId), new Entry(decision, now + ttlMillis));
+    }
+
+    /**
+     * Evicts every decision about a user.
+     *
+     * @param userId The ID of the user
+     */
+    public void evictUser(Long userId) {
+        evict(key -> key.userId.equals(userId));
+    }
+
+    /**
+     * Evicts every decision about an orphanage.
+     *
+     * @param orphanageId The ID of the orphanage
+     */
+    public void evictOrphanage(Long orphanageId) {
+        evict(key -> key.orphanageId.equals(orphanageId));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(Predicate<Key> matching) {
+        entries.keySet().removeIf(matching);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.keySet().removeIf(matching);
+                }
+            });
+        }
+    }
+
+    private static final class Key {
+        private final Long userId;
+        private final Long orphanageId;
+
+        private Key(Long userId, Long orphanageId) {
+            this.userId = userId;
+            this.orphanageId = orphanageId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return userId.equals(other.userId) && orphanageId.equals(other.orphanageId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, orphanageId);
+        }
+    }
+
+    private static final class Entry {
+        private final boolean decision;
+        private final long expiresAt;
+
+        private Entry(boolean decision, long expiresAt) {
+            this.decision = decision;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
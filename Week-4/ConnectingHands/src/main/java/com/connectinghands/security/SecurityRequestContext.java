@@ -0,0 +1,76 @@
+package com.connectinghands.security;
+
+import com.connectinghands.entity.User;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Security lookups already resolved during the current request: the current user and
+ * the orphanage-admin decisions made for them. Held as a request attribute by
+ * {@link com.connectinghands.service.impl.SecurityServiceImpl}, so it is confined to the
+ * request's thread and discarded with the request.
+ *
+ * @author Ragul Venkatesan
+ */
+public class SecurityRequestContext {
+    private final Long userId;
+    private final Map<Long, Boolean> orphanageAdminDecisions = new HashMap<>();
+    private User currentUser;
+    private int lookupsAvoided;
+
+    public SecurityRequestContext(Long userId) {
+        this.userId = userId;
+    }
+
+    /**
+     * @return The ID of the user the resolved lookups belong to
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * @return The current user if already loaded in this request, otherwise null
+     */
+    public User getCurrentUser() {
+        return currentUser;
+    }
+
+    public void setCurrentUser(User currentUser) {
+        this.currentUser = currentUser;
+    }
+
+    /**
+     * @param orphanageId The ID of the orphanage
+     * @return The decision already made in this request, or null if there is none
+     */
+    public Boolean getOrphanageAdminDecision(Long orphanageId) {
+        return orphanageAdminDecisions.get(orphanageId);
+    }
+
+    public void putOrphanageAdminDecision(Long orphanageId, boolean decision) {
+        orphanageAdminDecisions.put(orphanageId, decision);
+    }
+
+    /**
+     * Forgets the decisions made so far, after a change to orphanage membership.
+     */
+    public void clearOrphanageAdminDecisions() {
+        orphanageAdminDecisions.clear();
+    }
+
+    /**
+     * Records a lookup that was answered without going to the database.
+     */
+    public void lookupAvoided() {
+        lookupsAvoided++;
+    }
+
+    /**
+     * @return The number of lookups answered without going to the database in this request
+     */
+    public int getLookupsAvoided() {
+        return lookupsAvoided;
+    }
+}
@@ -0,0 +1,80 @@
+package com.connectinghands.security.jwt;
+
+import com.connectinghands.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal rebuilt from the signed claims of a {@link JwtTokenFormat#CLAIMS} token.
+ * It carries what authorization checks need without loading the user; it has no
+ * password and cannot be used to authenticate credentials.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class JwtPrincipal implements UserDetails {
+    private final Long userId;
+    private final String email;
+    private final UserRole role;
+    private final Long orphanageId;
+
+    public JwtPrincipal(Long userId, String email, UserRole role, Long orphanageId) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.orphanageId = orphanageId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    /**
+     * @return The ID of the orphanage the user is linked to, or null if there is none
+     */
+    public Long getOrphanageId() {
+        return orphanageId;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
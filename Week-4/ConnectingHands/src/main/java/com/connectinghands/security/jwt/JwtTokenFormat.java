@@ -0,0 +1,21 @@
+package com.connectinghands.security.jwt;
+
+/**
+ * Format of the tokens issued by {@link JwtTokenProvider}. Both formats are accepted
+ * when verifying, so switching formats does not invalidate tokens already issued.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum JwtTokenFormat {
+    /**
+     * Only the email is signed; the user is loaded from the database to authenticate.
+     */
+    SUBJECT,
+
+    /**
+     * User id, role and orphanage id are signed as claims, and the request is
+     * authenticated from them without a database lookup. Role or orphanage changes
+     * take effect when the user next signs in.
+     */
+    CLAIMS
+}
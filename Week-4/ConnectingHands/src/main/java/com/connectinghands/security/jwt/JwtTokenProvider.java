@@ -1,5 +1,7 @@
 package com.connectinghands.security.jwt;
 
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -9,12 +11,22 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String ORPHANAGE_ID_CLAIM = "oid";
 
     @Value("${jwt.secret}")
     private String jwtSecret;
@@ -22,11 +34,35 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.token-format:SUBJECT}")
+    private JwtTokenFormat tokenFormat = JwtTokenFormat.SUBJECT;
+
+    @Value("${jwt.previous-secrets:}")
+    private String[] previousSecrets = new String[0];
+
     private Key key;
 
+    private String keyId;
+
+    private Map<String, Key> verificationKeys;
+
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.keyId = keyId(jwtSecret);
+        this.verificationKeys = new LinkedHashMap<>();
+        verificationKeys.put(keyId, key);
+        Arrays.stream(previousSecrets)
+                .filter(secret -> !secret.isBlank())
+                .forEach(secret -> verificationKeys.putIfAbsent(keyId(secret), Keys.hmacShaKeyFor(secret.getBytes())));
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return verificationKey(header.getKeyId());
+            }
+        }).build();
     }
 
     public String generateToken(Authentication authentication) {
@@ -34,30 +70,82 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(key)
-                .compact();
+                .setExpiration(expiryDate);
+        if (tokenFormat == JwtTokenFormat.CLAIMS && userDetails instanceof User user) {
+            builder.claim(USER_ID_CLAIM, user.getId())
+                    .claim(ROLE_CLAIM, user.getRole().name());
+            if (user.getOrphanage() != null) {
+                builder.claim(ORPHANAGE_ID_CLAIM, user.getOrphanage().getId());
+            }
+        }
+        return builder.signWith(key).compact();
     }
 
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         return claims.getSubject();
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * Verifies the signature and expiry of a token and returns its claims,
+     * so callers that need both do not verify the token twice.
+     *
+     * @param token The token to verify
+     * @return The claims, or null if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    /**
+     * Builds the principal of a {@link JwtTokenFormat#CLAIMS} token from its verified claims.
+     *
+     * @param claims The verified claims
+     * @return The principal, or null if the token only carries a subject
+     */
+    public JwtPrincipal getPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new JwtPrincipal(userId, claims.getSubject(), UserRole.valueOf(role),
+                claims.get(ORPHANAGE_ID_CLAIM, Long.class));
+    }
+
+    /**
+     * Tokens signed before key IDs were added carry none and are checked against the current key.
+     */
+    private Key verificationKey(String kid) {
+        if (kid == null) {
+            return key;
+        }
+        Key verificationKey = verificationKeys.get(kid);
+        if (verificationKey == null) {
+            throw new UnsupportedJwtException("Unknown signing key: " + kid);
+        }
+        return verificationKey;
+    }
+
+    private static String keyId(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 }
@@ -0,0 +1,175 @@
+package com.connectinghands.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the principal of tokens that have already been verified, so a repeated token
+ * skips the signature check and the user lookup. Entries are keyed by the SHA-256 digest
+ * of the token, never the token itself, and live until the token expires or for at most
+ * {@code jwt.cache.max-ttl}, which bounds how stale a principal can get on another
+ * instance. Password resets evict that user's entries through {@link #evictUser(String)};
+ * any other change to the user is picked up once its entries expire.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class VerifiedTokenCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxSize;
+    private final long maxTtlMillis;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    @Autowired
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl) {
+        this(meterRegistry, Clock.systemUTC(), maxSize, maxTtl);
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, Clock clock, int maxSize, Duration maxTtl) {
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.maxTtlMillis = maxTtl.toMillis();
+
+        Gauge.builder("security.jwt.cache.size", entries, Map::size)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("security.jwt.cache.requests")
+                .description("Token lookups in the verified-token cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("security.jwt.cache.requests")
+                .description("Token lookups in the verified-token cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("security.jwt.cache.evictions")
+                .description("Cached tokens evicted because their user changed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the principal of a previously verified token.
+     *
+     * @param token The raw token
+     * @return The cached principal, or null if the token is not cached or has expired
+     */
+    public UserDetails get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key, entry);
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.principal;
+    }
+
+    /**
+     * Caches the principal of a verified token. When the cache is full, expired entries
+     * are purged first; if it is still full the token is not cached.
+     *
+     * @param token The raw token
+     * @param principal The principal the token was issued to
+     * @param tokenExpiry The expiry of the token
+     */
+    public void put(String token, UserDetails principal, Date tokenExpiry) {
+        long now = clock.millis();
+        long expiresAt = Math.min(tokenExpiry.getTime(), now + maxTtlMillis);
+        if (expiresAt <= now) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(digest(token), new Entry(principal, expiresAt));
+    }
+
+    /**
+     * Evicts every cached token of a user. Inside a transaction the entries are evicted
+     * again after commit, so a request that reloaded the user before the commit cannot
+     * leave the old state cached.
+     *
+     * @param username The username (email) of the user
+     */
+    public void evictUser(String username) {
+        evict(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(username);
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts every cached token.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(String username) {
+        entries.values().removeIf(entry -> {
+            boolean match = entry.principal.getUsername().equals(username);
+            if (match) {
+                evictionCounter.increment();
+            }
+            return match;
+        });
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final UserDetails principal;
+        private final long expiresAt;
+
+        private Entry(UserDetails principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,10 +1,12 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.AuditLogDto;
+import com.connectinghands.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * Service interface for managing audit logs.
@@ -36,6 +38,14 @@ public interface AuditLogService {
      */
     void logAction(String action, String description, Long entityId);
 
+    /**
+     * Log the same action for several entities, written together in one batch.
+     *
+     * @param action the action being performed
+     * @param descriptions a description of the action per entity ID
+     */
+    void logActions(String action, Map<Long, String> descriptions);
+
     Page<AuditLogDto> getAuditLogs(Long userId, String action, String entityType, Long entityId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
     AuditLogDto getAuditLog(Long id);
@@ -43,4 +53,13 @@ public interface AuditLogService {
     Page<AuditLogDto> getUserAuditLogs(Long userId, String action, String entityType, Long entityId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
     
     Page<AuditLogDto> getEntityAuditLogs(String entityType, Long entityId, Long userId, String action, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable);
+
+    /**
+     * Returns the next page of audit logs, newest first, using keyset pagination instead of offsets.
+     *
+     * @param cursor the continuation token from the previous page, or null for the first page
+     * @param size the maximum number of entries to return
+     */
+    CursorPage<AuditLogDto> scrollAuditLogs(Long userId, String action, String entityType, Long entityId,
+                                            LocalDateTime startDate, LocalDateTime endDate, String cursor, int size);
 }
@@ -0,0 +1,34 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ImportProgressDto;
+import com.connectinghands.importer.ImportFormat;
+import com.connectinghands.importer.ImportTarget;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for creating orphanages, resources and resource requests in bulk
+ * from uploaded files.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface BulkImportService {
+
+    /**
+     * Imports every row of a file. Rows are validated and written in chunks, each chunk in
+     * its own transaction, so rows already reported as imported stay imported if a later
+     * chunk fails. Invalid rows are reported and skipped. A chunk the database refuses,
+     * for example because of a concurrent insert or a lost connection, stops the import;
+     * the final event then reports the failure and the last committed row.
+     *
+     * @param target The kind of record each row describes
+     * @param format The format of the file
+     * @param input The file contents; not closed
+     * @param progress Receives one event per committed chunk and a final completed event
+     * @throws IOException if the input cannot be read
+     */
+    void importRows(ImportTarget target, ImportFormat format, InputStream input,
+                    Consumer<ImportProgressDto> progress) throws IOException;
+}
@@ -0,0 +1,40 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.DonationTotalsDto;
+import com.connectinghands.entity.Donation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for maintaining and querying time-bucketed donation rollups.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonationRollupService {
+    /**
+     * Adds a donation to its hourly, daily and monthly buckets.
+     *
+     * @param donation The donation to add, already saved so that its creation time is set
+     * @throws IllegalStateException if the donation has no creation time
+     */
+    void recordDonation(Donation donation);
+
+    /**
+     * Removes a donation from its hourly, daily and monthly buckets.
+     *
+     * @param donation The donation to remove, with the values it was recorded with
+     */
+    void reverseDonation(Donation donation);
+
+    /**
+     * Computes donation totals for an orphanage over an arbitrary date range.
+     * Counts cover all currencies; the monetary amount covers the given currency only.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param startDate Inclusive start of the range
+     * @param endDate Inclusive end of the range
+     * @param currency The currency to sum monetary amounts in
+     * @return The donation totals for the range
+     */
+    DonationTotalsDto getTotals(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate, String currency);
+}
@@ -4,8 +4,10 @@ import com.connectinghands.dto.CreateDonationRequest;
 import com.connectinghands.dto.DonationDto;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.DonationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing donations.
@@ -31,35 +33,70 @@ public interface DonationService {
     DonationDto getDonation(Long id);
 
     /**
-     * Retrieves all donations.
+     * Retrieves one slice of all donations.
      *
-     * @return A list of all donation DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs
      */
-    List<DonationDto> getAllDonations();
+    Slice<DonationDto> getAllDonations(Pageable pageable);
 
     /**
-     * Retrieves all donations made by a specific donor.
+     * Retrieves one slice of the donations made by a specific donor.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs made by the donor
      */
-    List<DonationDto> getDonationsByDonor(Long donorId);
+    Slice<DonationDto> getDonationsByDonor(Long donorId, Pageable pageable);
 
     /**
-     * Retrieves all donations received by a specific orphanage.
+     * Retrieves one slice of the donations received by a specific orphanage.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs received by the orphanage
      */
-    List<DonationDto> getDonationsByOrphanage(Long orphanageId);
+    Slice<DonationDto> getDonationsByOrphanage(Long orphanageId, Pageable pageable);
 
     /**
-     * Retrieves all donations with a specific status.
+     * Retrieves one slice of the donations with a specific status.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs with the specified status
      */
-    List<DonationDto> getDonationsByStatus(DonationStatus status);
+    Slice<DonationDto> getDonationsByStatus(DonationStatus status, Pageable pageable);
+
+    /**
+     * Streams all donations, ordered by ID, to the consumer without holding them in memory.
+     *
+     * @param consumer Receives each donation DTO
+     */
+    void streamAllDonations(Consumer<DonationDto> consumer);
+
+    /**
+     * Streams the donations made by a specific donor, ordered by ID, to the consumer.
+     *
+     * @param donorId The ID of the donor
+     * @param consumer Receives each donation DTO
+     */
+    void streamDonationsByDonor(Long donorId, Consumer<DonationDto> consumer);
+
+    /**
+     * Streams the donations received by a specific orphanage, ordered by ID, to the consumer.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param consumer Receives each donation DTO
+     */
+    void streamDonationsByOrphanage(Long orphanageId, Consumer<DonationDto> consumer);
+
+    /**
+     * Streams the donations with a specific status, ordered by ID, to the consumer.
+     *
+     * @param status The status to search for
+     * @param consumer Receives each donation DTO
+     */
+    void streamDonationsByStatus(DonationStatus status, Consumer<DonationDto> consumer);
 
     /**
      * Updates an existing donation.
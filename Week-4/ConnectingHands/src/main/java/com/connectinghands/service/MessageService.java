@@ -2,8 +2,12 @@ package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateMessageRequest;
 import com.connectinghands.dto.MessageDto;
+import com.connectinghands.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 /**
  * Service interface for managing messages between users (orphanages).
@@ -56,6 +60,49 @@ public interface MessageService {
      */
     Page<MessageDto> getSent(Long userId, Pageable pageable);
 
+    /**
+     * Get messages between two users, newest first, using keyset pagination.
+     *
+     * @param userId1 The first user's ID
+     * @param userId2 The second user's ID
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @param size The maximum number of messages to return
+     * @return Page of message DTOs without a total count
+     */
+    CursorPage<MessageDto> scrollConversation(Long userId1, Long userId2, String cursor, int size);
+
+    /**
+     * Get messages received by a user, newest first, using keyset pagination.
+     *
+     * @param userId The user's ID
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @param size The maximum number of messages to return
+     * @return Page of message DTOs without a total count
+     */
+    CursorPage<MessageDto> scrollInbox(Long userId, String cursor, int size);
+
+    /**
+     * Get messages sent by a user, newest first, using keyset pagination.
+     *
+     * @param userId The user's ID
+     * @param cursor The continuation token from the previous page, or null for the first page
+     * @param size The maximum number of messages to return
+     * @return Page of message DTOs without a total count
+     */
+    CursorPage<MessageDto> scrollSent(Long userId, String cursor, int size);
+
+    /**
+     * Open a push connection on which messages received by a user are delivered as they are
+     * sent. A client resuming after a disconnect passes the last message it saw; the messages
+     * received since then are replayed first, oldest first, or a resync event is sent if there
+     * are too many or the message is unknown. A message sent while resuming may arrive twice.
+     *
+     * @param userId The receiving user's ID
+     * @param lastMessageId The ID of the last message the client saw, or null for live messages only
+     * @return The emitter to return from the request handler
+     */
+    SseEmitter subscribe(Long userId, Long lastMessageId);
+
     /**
      * Mark a message as read by the current user.
      *
@@ -63,6 +110,27 @@ public interface MessageService {
      */
     void markAsRead(Long id);
 
+    /**
+     * Mark messages received by a user as read with a single update. IDs of messages the
+     * user did not receive or has already read are skipped.
+     *
+     * @param userId The receiving user's ID
+     * @param ids The message IDs, at most 1000
+     * @return The number of messages changed from unread to read
+     */
+    int markMessagesRead(Long userId, List<Long> ids);
+
+    /**
+     * Mark everything a user received in a conversation up to and including a message as
+     * read with a single update. Messages sent after that one stay unread.
+     *
+     * @param userId The receiving user's ID
+     * @param otherUserId The other user's ID
+     * @param upToMessageId The ID of the last message the user has seen in the conversation
+     * @return The number of messages changed from unread to read
+     */
+    int markConversationRead(Long userId, Long otherUserId, Long upToMessageId);
+
     /**
      * Count the number of unread messages for a user.
      *
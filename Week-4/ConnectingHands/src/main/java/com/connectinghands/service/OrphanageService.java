@@ -1,12 +1,18 @@
 package com.connectinghands.service;
 
+import com.connectinghands.dto.BulkTransitionResultDto;
 import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.NearbyOrphanageDto;
 import com.connectinghands.dto.OrphanageDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.OrphanageTransition;
+import com.connectinghands.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service interface for managing orphanages.
  * 
@@ -82,7 +88,10 @@ public interface OrphanageService {
     Page<OrphanageDto> getOrphanagesByCountry(String country, Pageable pageable);
 
     /**
-     * Search orphanages by name, city, state, or country.
+     * Search orphanages by name, city, state, or country, most relevant first.
+     * Every word of the term must match, words of three or more characters also match
+     * as prefixes, and near misses are found by trigram similarity. Any sort in the
+     * pageable is ignored.
      *
      * @param searchTerm the search term
      * @param pageable pagination information
@@ -91,12 +100,42 @@ public interface OrphanageService {
     Page<OrphanageDto> searchOrphanages(String searchTerm, Pageable pageable);
 
     /**
-     * Get orphanages with available capacity.
+     * Get active orphanages with at least the given number of free places.
+     * Unless the pageable is sorted, orphanages with the most free places come first.
      *
+     * @param minSlots the smallest number of free places, at least 1
      * @param pageable pagination information
      * @return a page of orphanage DTOs
      */
-    Page<OrphanageDto> getOrphanagesWithAvailableCapacity(Pageable pageable);
+    Page<OrphanageDto> getOrphanagesWithAvailableCapacity(int minSlots, Pageable pageable);
+
+    /**
+     * Get orphanages newest first using keyset pagination, optionally filtered.
+     * Null filters are ignored.
+     *
+     * @param status the status to filter by
+     * @param adminId the admin user ID to filter by
+     * @param city the city to filter by
+     * @param state the state to filter by
+     * @param country the country to filter by
+     * @param cursor the continuation token from the previous page, or null for the first page
+     * @param size the maximum number of orphanages to return
+     * @return a page of orphanage DTOs without a total count
+     */
+    CursorPage<OrphanageDto> scrollOrphanages(OrphanageStatus status, Long adminId, String city, String state,
+                                              String country, String cursor, int size);
+
+    /**
+     * Find the orphanages with a free place nearest to a location, closest first.
+     * Orphanages without a location are never returned.
+     *
+     * @param latitude the latitude of the location in degrees
+     * @param longitude the longitude of the location in degrees
+     * @param limit the largest number of orphanages to return, 1 to 100
+     * @param radiusKm the largest distance to search, in kilometres
+     * @return the nearest orphanages with their distances
+     */
+    List<NearbyOrphanageDto> findNearestWithCapacity(double latitude, double longitude, int limit, double radiusKm);
 
     /**
      * Update an existing orphanage.
@@ -157,4 +196,16 @@ public interface OrphanageService {
      * @return the closed orphanage DTO
      */
     OrphanageDto closeOrphanage(Long id, String notes);
+
+    /**
+     * Apply one status transition to several orphanages at once. Orphanages that do not
+     * exist or whose status does not allow the transition are reported and left unchanged;
+     * the others are changed together and audited in one batch.
+     *
+     * @param transition the transition to apply
+     * @param ids the IDs of the orphanages
+     * @param notes the verification notes, ignored by REACTIVATE
+     * @return the outcome for every requested orphanage, in request order
+     */
+    BulkTransitionResultDto transitionOrphanages(OrphanageTransition transition, List<Long> ids, String notes);
 }
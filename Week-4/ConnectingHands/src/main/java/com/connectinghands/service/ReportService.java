@@ -2,10 +2,14 @@ package com.connectinghands.service;
 
 import com.connectinghands.dto.DonationReportDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
+import com.connectinghands.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 public interface ReportService {
     DonationReportDto generateDonationReport(
@@ -24,6 +28,31 @@ public interface ReportService {
             String timeZone,
             Pageable pageable);
 
+    /**
+     * Returns donation reports for one page of orphanages, newest orphanage first, using
+     * keyset pagination instead of offsets and without a total count.
+     */
+    CursorPage<DonationReportDto> scrollDonationReports(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String reportType,
+            String currency,
+            String timeZone,
+            String cursor,
+            int size);
+
+    /**
+     * Streams donation reports for every orphanage to the given consumer without
+     * materialising donation entities or the full result list.
+     */
+    void streamDonationReports(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String reportType,
+            String currency,
+            String timeZone,
+            Consumer<DonationReportDto> consumer);
+
     ResourceUtilizationReportDto generateResourceUtilizationReport(
             Long orphanageId,
             LocalDateTime startDate,
@@ -38,20 +67,52 @@ public interface ReportService {
             String timeZone,
             Pageable pageable);
 
-    byte[] exportDonationReport(
+    /**
+     * Returns resource utilization reports for one page of orphanages, newest orphanage first,
+     * using keyset pagination instead of offsets and without a total count.
+     */
+    CursorPage<ResourceUtilizationReportDto> scrollResourceUtilizationReports(
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String reportType,
+            String timeZone,
+            String cursor,
+            int size);
+
+    /**
+     * Checks the parts of an export request that can fail before any of the response is
+     * sent, so that they are reported with an error status instead of partway through a
+     * download whose headers are already committed.
+     *
+     * @throws com.connectinghands.exception.ResourceNotFoundException if the orphanage does not exist
+     * @throws com.connectinghands.exception.ValidationException if the format or time zone is not supported
+     */
+    void checkExport(Long orphanageId, String timeZone, String format);
+
+    /**
+     * Writes every donation an orphanage received within the date range to the output stream
+     * in the requested format. Rows are read through a forward-only cursor and written as they
+     * arrive, so memory use does not depend on the number of donations.
+     */
+    void exportDonationReport(
             Long orphanageId,
             LocalDateTime startDate,
             LocalDateTime endDate,
             String reportType,
             String currency,
             String timeZone,
-            String format); // PDF, CSV, EXCEL
+            String format, // PDF, CSV, EXCEL
+            OutputStream outputStream) throws IOException;
 
-    byte[] exportResourceUtilizationReport(
+    /**
+     * Writes the resource utilization of an orphanage to the output stream in the requested format.
+     */
+    void exportResourceUtilizationReport(
             Long orphanageId,
             LocalDateTime startDate,
             LocalDateTime endDate,
             String reportType,
             String timeZone,
-            String format); // PDF, CSV, EXCEL
+            String format, // PDF, CSV, EXCEL
+            OutputStream outputStream) throws IOException;
 }
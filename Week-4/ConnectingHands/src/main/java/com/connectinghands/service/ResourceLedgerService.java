@@ -0,0 +1,44 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ResourceUtilizationDto;
+import com.connectinghands.entity.ResourceMovementType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Service interface for the append-only resource ledger and its periodic snapshots.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceLedgerService {
+    /**
+     * Appends a movement to the ledger. Must run in the transaction that changes the resource.
+     *
+     * @param resourceId The ID of the resource
+     * @param type The kind of change
+     * @param amount The amount moved, negative only for downward adjustments
+     */
+    void record(Long resourceId, ResourceMovementType type, int amount);
+
+    /**
+     * Computes how each resource moved over a window, starting from the latest snapshot
+     * before the window and replaying only the movements up to its end.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param startDate Start of the window, at which the opening quantity is taken
+     * @param endDate Inclusive end of the window; times after now count up to now
+     * @return Utilization per resource ID, for every given resource
+     */
+    Map<Long, ResourceUtilizationDto> getUtilization(Collection<Long> resourceIds, LocalDateTime startDate,
+                                                     LocalDateTime endDate);
+
+    /**
+     * Snapshots the position of every resource at a time.
+     *
+     * @param snapshotAt The time to take the positions at
+     * @return The number of snapshots written
+     */
+    int takeSnapshots(LocalDateTime snapshotAt);
+}
@@ -4,8 +4,11 @@ import com.connectinghands.dto.CreateResourceRequest;
 import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing resource requests.
@@ -31,11 +34,19 @@ public interface ResourceRequestService {
     ResourceRequestDto getResourceRequest(Long id);
 
     /**
-     * Get all resource requests.
+     * Get one slice of all resource requests.
      *
-     * @return List of all resource request DTOs
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource request DTOs
      */
-    List<ResourceRequestDto> getAllResourceRequests();
+    Slice<ResourceRequestDto> getAllResourceRequests(Pageable pageable);
+
+    /**
+     * Stream all resource requests, ordered by ID, to the consumer without holding them in memory.
+     *
+     * @param consumer Receives each resource request DTO
+     */
+    void streamAllResourceRequests(Consumer<ResourceRequestDto> consumer);
 
     /**
      * Get all resource requests for a specific orphanage.
@@ -46,12 +57,21 @@ public interface ResourceRequestService {
     List<ResourceRequestDto> getResourceRequestsByOrphanage(Long orphanageId);
 
     /**
-     * Get all resource requests with a specific status.
+     * Get one slice of the resource requests with a specific status.
+     *
+     * @param status The status to filter by
+     * @param pageable Pagination and sorting information
+     * @return Slice of resource request DTOs with the specified status
+     */
+    Slice<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status, Pageable pageable);
+
+    /**
+     * Stream the resource requests with a specific status, ordered by ID, to the consumer.
      *
      * @param status The status to filter by
-     * @return List of resource request DTOs with the specified status
+     * @param consumer Receives each resource request DTO
      */
-    List<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status);
+    void streamResourceRequestsByStatus(ResourceRequestStatus status, Consumer<ResourceRequestDto> consumer);
 
     /**
      * Update an existing resource request.
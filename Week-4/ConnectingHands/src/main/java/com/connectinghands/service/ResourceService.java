@@ -2,13 +2,16 @@ package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateResourceRequest;
 import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.dto.ResourceInventoryDto;
 import com.connectinghands.dto.UpdateResourceDto;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing resources.
@@ -42,20 +45,38 @@ public interface ResourceService {
     List<ResourceDto> getResourcesByOrphanage(Long orphanageId);
 
     /**
-     * Retrieves resources by category.
+     * Retrieves one slice of the resources in a category.
      *
      * @param category The category of the resources
-     * @return A list of resource DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
      */
-    List<ResourceDto> getResourcesByCategory(ResourceCategory category);
+    Slice<ResourceDto> getResourcesByCategory(ResourceCategory category, Pageable pageable);
 
     /**
-     * Retrieves resources by status.
+     * Streams the resources in a category, ordered by ID, to the consumer without holding them in memory.
+     *
+     * @param category The category of the resources
+     * @param consumer Receives each resource DTO
+     */
+    void streamResourcesByCategory(ResourceCategory category, Consumer<ResourceDto> consumer);
+
+    /**
+     * Retrieves one slice of the resources with a status.
      *
      * @param status The status of the resources
-     * @return A list of resource DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
      */
-    List<ResourceDto> getResourcesByStatus(ResourceStatus status);
+    Slice<ResourceDto> getResourcesByStatus(ResourceStatus status, Pageable pageable);
+
+    /**
+     * Streams the resources with a status, ordered by ID, to the consumer without holding them in memory.
+     *
+     * @param status The status of the resources
+     * @param consumer Receives each resource DTO
+     */
+    void streamResourcesByStatus(ResourceStatus status, Consumer<ResourceDto> consumer);
 
     /**
      * Updates an existing resource.
@@ -66,6 +87,42 @@ public interface ResourceService {
      */
     ResourceDto updateResource(Long id, UpdateResourceDto request);
 
+    /**
+     * Adds a received amount to the quantity of a resource.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount received
+     * @return The quantities of the resource
+     */
+    ResourceInventoryDto incrementQuantity(Long id, int amount);
+
+    /**
+     * Takes an amount from the quantity of a resource that is not reserved.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount taken
+     * @return The quantities of the resource
+     */
+    ResourceInventoryDto decrementQuantity(Long id, int amount);
+
+    /**
+     * Holds an amount of a resource so that it cannot be taken by others.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount held
+     * @return The quantities of the resource
+     */
+    ResourceInventoryDto reserveQuantity(Long id, int amount);
+
+    /**
+     * Returns a held amount of a resource to its available quantity.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount released
+     * @return The quantities of the resource
+     */
+    ResourceInventoryDto releaseQuantity(Long id, int amount);
+
     /**
      * Deletes a resource by its ID.
      *
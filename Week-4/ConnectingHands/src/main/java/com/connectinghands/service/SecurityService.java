@@ -33,4 +33,20 @@ public interface SecurityService {
     boolean isCurrentUser(Long userId);
 
     User getCurrentUser();
+
+    /**
+     * Discards cached authorization decisions about a user, after their orphanage
+     * membership or role has changed.
+     *
+     * @param userId The ID of the user
+     */
+    void evictUserDecisions(Long userId);
+
+    /**
+     * Discards cached authorization decisions about an orphanage, after its admin
+     * has changed or it has been removed.
+     *
+     * @param orphanageId The ID of the orphanage
+     */
+    void evictOrphanageDecisions(Long orphanageId);
 }
@@ -0,0 +1,40 @@
+package com.connectinghands.service;
+
+/**
+ * Service interface for the per-user unread message counters behind the unread badge.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface UnreadCounterService {
+    /**
+     * Count newly received messages. Must run in the transaction that saves them.
+     *
+     * @param userId The receiving user's ID
+     * @param count The number of messages received
+     */
+    void increment(Long userId, long count);
+
+    /**
+     * Uncount messages that were marked as read. Must run in the transaction that marks them.
+     *
+     * @param userId The receiving user's ID
+     * @param count The number of messages that changed from unread to read
+     */
+    void decrement(Long userId, long count);
+
+    /**
+     * Get the number of unread messages a user has received, from the cache or the counter
+     * row. A user without a counter yet is counted once from the messages table.
+     *
+     * @param userId The user's ID
+     * @return Number of unread messages
+     */
+    long getUnreadCount(Long userId);
+
+    /**
+     * Recount every counter against the messages table and repair the ones that drifted.
+     *
+     * @return The number of counters repaired
+     */
+    int reconcile();
+}
@@ -1,14 +1,20 @@
 package com.connectinghands.service.impl;
 
+import com.connectinghands.audit.AuditLogPipeline;
 import com.connectinghands.dto.AuditLogDto;
 import com.connectinghands.entity.AuditLog;
+import com.connectinghands.mapper.AuditLogMapper;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.repository.AuditLogRepository;
 import com.connectinghands.service.AuditLogService;
 import com.connectinghands.service.SecurityService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -16,10 +22,18 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.connectinghands.repository.specification.AuditLogSpecifications.NEWEST_FIRST;
+import static com.connectinghands.repository.specification.AuditLogSpecifications.before;
+import static com.connectinghands.repository.specification.AuditLogSpecifications.matching;
 
 /**
  * Implementation of the AuditLogService interface.
- * Handles audit logging for all operations in the system.
+ * Handles audit logging for all operations in the system. Entries are handed to the
+ * {@link AuditLogPipeline} and written in batches off the caller's thread.
  *
  * @author Ragul Venkatesan
  */
@@ -28,9 +42,10 @@ import java.time.LocalDateTime;
 public class AuditLogServiceImpl implements AuditLogService {
     private final AuditLogRepository auditLogRepository;
     private final SecurityService securityService;
+    private final AuditLogPipeline auditLogPipeline;
+    private final AuditLogMapper auditLogMapper;
 
     @Override
-    @Transactional
     public void logAction(Long userId, String action, String entityType, Long entityId,
                          String oldValue, String newValue, String additionalInfo, String ipAddress) {
         AuditLog log = new AuditLog();
@@ -44,11 +59,10 @@ public class AuditLogServiceImpl implements AuditLogService {
         log.setIpAddress(ipAddress);
         log.setTimestamp(LocalDateTime.now());
 
-        auditLogRepository.save(log);
+        auditLogPipeline.enqueue(log);
     }
 
     @Override
-    @Transactional
     public void logAction(String action, String description, Long entityId) {
         Long userId = securityService.getCurrentUserId();
         String ipAddress = getCurrentUserIpAddress();
@@ -62,22 +76,44 @@ public class AuditLogServiceImpl implements AuditLogService {
         log.setIpAddress(ipAddress);
         log.setTimestamp(LocalDateTime.now());
 
-        auditLogRepository.save(log);
+        auditLogPipeline.enqueue(log);
+    }
+
+    @Override
+    public void logActions(String action, Map<Long, String> descriptions) {
+        Long userId = securityService.getCurrentUserId();
+        String ipAddress = getCurrentUserIpAddress();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<AuditLog> logs = new ArrayList<>(descriptions.size());
+        descriptions.forEach((entityId, description) -> {
+            AuditLog log = new AuditLog();
+            log.setUserId(userId);
+            log.setAction(action);
+            log.setEntityType("SYSTEM");
+            log.setEntityId(entityId);
+            log.setAdditionalInfo(description);
+            log.setIpAddress(ipAddress);
+            log.setTimestamp(now);
+            logs.add(log);
+        });
+
+        auditLogPipeline.writeAll(logs);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AuditLogDto> getAuditLogs(Long userId, String action, String entityType, Long entityId,
                                          LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        return auditLogRepository.findByFilters(userId, action, entityType, entityId, startDate, endDate, pageable)
-                .map(this::mapToDto);
+        return auditLogMapper.toDtoPage(auditLogRepository.findAll(
+                        matching(userId, action, entityType, entityId, startDate, endDate), newestFirstByDefault(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public AuditLogDto getAuditLog(Long id) {
         return auditLogRepository.findById(id)
-                .map(this::mapToDto)
+                .map(auditLogMapper::toDto)
                 .orElseThrow(() -> new EntityNotFoundException("Audit log not found"));
     }
 
@@ -85,31 +121,34 @@ public class AuditLogServiceImpl implements AuditLogService {
     @Transactional(readOnly = true)
     public Page<AuditLogDto> getUserAuditLogs(Long userId, String action, String entityType, Long entityId,
                                             LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        return auditLogRepository.findByUserIdAndFilters(userId, action, entityType, entityId, startDate, endDate, pageable)
-                .map(this::mapToDto);
+        return auditLogMapper.toDtoPage(auditLogRepository.findAll(
+                        matching(userId, action, entityType, entityId, startDate, endDate), newestFirstByDefault(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AuditLogDto> getEntityAuditLogs(String entityType, Long entityId, Long userId, String action,
                                               LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
-        return auditLogRepository.findByEntityTypeAndEntityIdAndFilters(entityType, entityId, userId, action, startDate, endDate, pageable)
-                .map(this::mapToDto);
+        return auditLogMapper.toDtoPage(auditLogRepository.findAll(
+                        matching(userId, action, entityType, entityId, startDate, endDate), newestFirstByDefault(pageable)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<AuditLogDto> scrollAuditLogs(Long userId, String action, String entityType, Long entityId,
+                                                   LocalDateTime startDate, LocalDateTime endDate,
+                                                   String cursor, int size) {
+        CursorPage.checkSize(size);
+        Specification<AuditLog> specification = matching(userId, action, entityType, entityId, startDate, endDate)
+                .and(before(Cursor.decode(cursor)));
+        List<AuditLog> logs = auditLogRepository.findBy(specification,
+                query -> query.sortBy(NEWEST_FIRST).limit(size + 1).all());
+        return CursorPage.of(logs, size, log -> Cursor.of(log.getTimestamp(), log.getId()), auditLogMapper::toDto);
     }
 
-    private AuditLogDto mapToDto(AuditLog log) {
-        AuditLogDto dto = new AuditLogDto();
-        dto.setId(log.getId());
-        dto.setUserId(log.getUserId());
-        dto.setAction(log.getAction());
-        dto.setEntityType(log.getEntityType());
-        dto.setEntityId(log.getEntityId());
-        dto.setOldValue(log.getOldValue());
-        dto.setNewValue(log.getNewValue());
-        dto.setAdditionalInfo(log.getAdditionalInfo());
-        dto.setIpAddress(log.getIpAddress());
-        dto.setTimestamp(log.getTimestamp());
-        return dto;
+    private Pageable newestFirstByDefault(Pageable pageable) {
+        return pageable.getSort().isSorted() ? pageable : PageRequest.of(
+                pageable.getPageNumber(), pageable.getPageSize(), NEWEST_FIRST);
     }
 
     private String getCurrentUserIpAddress() {
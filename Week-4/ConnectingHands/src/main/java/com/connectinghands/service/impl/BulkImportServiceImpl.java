@@ -0,0 +1,400 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.ImportProgressDto;
+import com.connectinghands.dto.ImportProgressDto.RowError;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.importer.ImportBatchWriter;
+import com.connectinghands.importer.ImportFormat;
+import com.connectinghands.importer.ImportRow;
+import com.connectinghands.importer.ImportRowReader;
+import com.connectinghands.importer.ImportTarget;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.repository.projection.OrphanageContactView;
+import com.connectinghands.service.AuditLogService;
+import com.connectinghands.service.BulkImportService;
+import com.connectinghands.service.SecurityService;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of BulkImportService.
+ * Reads rows in chunks, validates each chunk with one lookup per referenced table and
+ * writes the valid rows with JDBC batch inserts.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+    private static final Logger log = LoggerFactory.getLogger(BulkImportServiceImpl.class);
+
+    private final OrphanageRepository orphanageRepository;
+    private final UserRepository userRepository;
+    private final SecurityService securityService;
+    private final AuditLogService auditLogService;
+    private final ImportBatchWriter importBatchWriter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Map<ImportTarget, Counter> importedCounters = new EnumMap<>(ImportTarget.class);
+    private final Map<ImportTarget, Counter> rejectedCounters = new EnumMap<>(ImportTarget.class);
+
+    public BulkImportServiceImpl(OrphanageRepository orphanageRepository, UserRepository userRepository,
+                                 SecurityService securityService, AuditLogService auditLogService,
+                                 ImportBatchWriter importBatchWriter, Validator validator, ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${import.chunk-size:1000}") int chunkSize) {
+        this.orphanageRepository = orphanageRepository;
+        this.userRepository = userRepository;
+        this.securityService = securityService;
+        this.auditLogService = auditLogService;
+        this.importBatchWriter = importBatchWriter;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        for (ImportTarget target : ImportTarget.values()) {
+            importedCounters.put(target, Counter.builder("import.rows")
+                    .description("Rows read by bulk imports")
+                    .tag("target", target.name().toLowerCase(Locale.ROOT))
+                    .tag("result", "imported")
+                    .register(meterRegistry));
+            rejectedCounters.put(target, Counter.builder("import.rows")
+                    .description("Rows read by bulk imports")
+                    .tag("target", target.name().toLowerCase(Locale.ROOT))
+                    .tag("result", "rejected")
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void importRows(ImportTarget target, ImportFormat format, InputStream input,
+                           Consumer<ImportProgressDto> progress) throws IOException {
+        User importer = securityService.getCurrentUser();
+        ImportRowReader reader = format.open(input, objectMapper);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        long read = 0;
+        long imported = 0;
+        long lastCommittedRow = 0;
+
+        ImportRow row;
+        do {
+            row = reader.next();
+            if (row != null) {
+                chunk.add(row);
+            }
+            if (chunk.size() == chunkSize || (row == null && !chunk.isEmpty())) {
+                List<RowError> errors = new ArrayList<>();
+                Integer written;
+                try {
+                    written = transactionTemplate.execute(status -> importChunk(target, chunk, importer, errors));
+                } catch (DataAccessException e) {
+                    // the chunk was rolled back; stop so the client can resume after the last committed row
+                    log.warn("Import of {} stopped at rows {}-{}", target, chunk.get(0).getNumber(),
+                            chunk.get(chunk.size() - 1).getNumber(), e);
+                    progress.accept(new ImportProgressDto(target, read, imported, read - imported, List.of(),
+                            lastCommittedRow, true, "Rows " + chunk.get(0).getNumber() + "-"
+                            + chunk.get(chunk.size() - 1).getNumber() + " could not be written"));
+                    return;
+                }
+                errors.sort(Comparator.comparingLong(RowError::getRow));
+                read += chunk.size();
+                imported += written;
+                lastCommittedRow = chunk.get(chunk.size() - 1).getNumber();
+                importedCounters.get(target).increment(written);
+                rejectedCounters.get(target).increment(chunk.size() - written);
+                progress.accept(new ImportProgressDto(target, read, imported, read - imported, errors,
+                        lastCommittedRow, false, null));
+                chunk.clear();
+            }
+        } while (row != null);
+
+        progress.accept(new ImportProgressDto(target, read, imported, read - imported, List.of(),
+                lastCommittedRow, true, null));
+    }
+
+    private int importChunk(ImportTarget target, List<ImportRow> chunk, User importer, List<RowError> errors) {
+        int written = switch (target) {
+            case ORPHANAGES -> importOrphanages(chunk, importer, errors);
+            case RESOURCES -> importResources(chunk, errors);
+            case RESOURCE_REQUESTS -> importResourceRequests(chunk, importer, errors);
+        };
+        if (written > 0) {
+            auditLogService.logAction(target.getAuditAction(), "Imported " + written + " of rows "
+                    + chunk.get(0).getNumber() + "-" + chunk.get(chunk.size() - 1).getNumber(), null);
+        }
+        return written;
+    }
+
+    /**
+     * Applies the checks of createOrphanage to a chunk: the admin must exist and name, email
+     * and phone must not be used by an existing orphanage or an earlier row of the import.
+     * Earlier chunks are committed by the time this one is checked, so the lookup of
+     * existing orphanages covers them and only the chunk's own keys are kept in memory.
+     * The admin defaults to the importing user.
+     */
+    private int importOrphanages(List<ImportRow> chunk, User importer, List<RowError> errors) {
+        List<ParsedRow<CreateOrphanageRequest>> rows = new ArrayList<>(chunk.size());
+        List<Long> adminIds = new ArrayList<>(chunk.size());
+        for (ParsedRow<CreateOrphanageRequest> row : parse(chunk, CreateOrphanageRequest.class, errors)) {
+            String adminId = row.values.get("adminId");
+            try {
+                adminIds.add(adminId != null ? Long.valueOf(adminId) : importer.getId());
+                rows.add(row);
+            } catch (NumberFormatException e) {
+                errors.add(new RowError(row.number, "Invalid value for field adminId"));
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existingAdmins = new HashSet<>(userRepository.findExistingIds(new HashSet<>(adminIds)));
+        Set<String> taken = new HashSet<>();
+        for (OrphanageContactView contact : orphanageRepository.findContacts(
+                rows.stream().map(row -> row.request.getName()).collect(Collectors.toSet()),
+                rows.stream().map(row -> row.request.getEmail()).collect(Collectors.toSet()),
+                rows.stream().map(row -> row.request.getPhone()).collect(Collectors.toSet()))) {
+            taken.add(nameKey(contact.getName()));
+            taken.add(emailKey(contact.getEmail()));
+            taken.add(phoneKey(contact.getPhone()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> seenKeys = new HashSet<>();
+        List<Orphanage> orphanages = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ParsedRow<CreateOrphanageRequest> row = rows.get(i);
+            CreateOrphanageRequest request = row.request;
+            Long adminId = adminIds.get(i);
+            String error = null;
+            if (!existingAdmins.contains(adminId)) {
+                error = "User not found: " + adminId;
+            } else if (request.getCurrentChildren() > request.getCapacity()) {
+                error = "Current children cannot exceed capacity";
+            } else if (taken.contains(nameKey(request.getName())) || seenKeys.contains(nameKey(request.getName()))) {
+                error = "An orphanage with this name already exists";
+            } else if (taken.contains(emailKey(request.getEmail())) || seenKeys.contains(emailKey(request.getEmail()))) {
+                error = "An orphanage with this email already exists";
+            } else if (taken.contains(phoneKey(request.getPhone())) || seenKeys.contains(phoneKey(request.getPhone()))) {
+                error = "An orphanage with this phone number already exists";
+            }
+            if (error != null) {
+                errors.add(new RowError(row.number, error));
+                continue;
+            }
+            seenKeys.add(nameKey(request.getName()));
+            seenKeys.add(emailKey(request.getEmail()));
+            seenKeys.add(phoneKey(request.getPhone()));
+
+            Orphanage orphanage = new Orphanage();
+            orphanage.setName(request.getName());
+            orphanage.setDescription(request.getDescription());
+            orphanage.setAddress(request.getAddress());
+            orphanage.setCity(request.getCity());
+            orphanage.setState(request.getState());
+            orphanage.setCountry(request.getCountry());
+            orphanage.setPostalCode(request.getPostalCode());
+            orphanage.setPhone(request.getPhone());
+            orphanage.setEmail(request.getEmail());
+            orphanage.setWebsite(request.getWebsite());
+            orphanage.setCapacity(request.getCapacity());
+            orphanage.setCurrentChildren(request.getCurrentChildren());
+            orphanage.setLatitude(request.getLatitude());
+            orphanage.setLongitude(request.getLongitude());
+            orphanage.setStatus(OrphanageStatus.PENDING);
+            orphanage.setAdmin(userRepository.getReferenceById(adminId));
+            orphanage.setVerificationDocuments(request.getVerificationDocuments());
+            orphanage.setCreatedAt(now);
+            orphanage.setCreatedBy(importer.getEmail());
+            orphanages.add(orphanage);
+        }
+        if (!orphanages.isEmpty()) {
+            importBatchWriter.insertOrphanages(orphanages);
+        }
+        return orphanages.size();
+    }
+
+    private int importResources(List<ImportRow> chunk, List<RowError> errors) {
+        List<ParsedRow<CreateResourceRequest>> rows = parse(chunk, CreateResourceRequest.class, errors);
+        Set<Long> orphanageIds = existingOrphanageIds(rows);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Resource> resources = new ArrayList<>(rows.size());
+        for (ParsedRow<CreateResourceRequest> row : rows) {
+            CreateResourceRequest request = row.request;
+            if (!orphanageIds.contains(request.getOrphanageId())) {
+                errors.add(new RowError(row.number, "Orphanage not found: " + request.getOrphanageId()));
+                continue;
+            }
+            if (request.getDescription() == null) {
+                errors.add(new RowError(row.number, "Description is required"));
+                continue;
+            }
+            ResourceCategory category;
+            try {
+                category = ResourceCategory.valueOf(request.getCategory());
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(row.number, "Unknown category: " + request.getCategory()));
+                continue;
+            }
+
+            Resource resource = new Resource();
+            resource.setName(request.getName());
+            resource.setDescription(request.getDescription());
+            resource.setCategory(category);
+            resource.setQuantity(request.getQuantity());
+            resource.setUnit(request.getUnit());
+            resource.setOrphanage(orphanageRepository.getReferenceById(request.getOrphanageId()));
+            resource.setStatus(ResourceStatus.AVAILABLE);
+            resource.setCreatedAt(now);
+            resources.add(resource);
+        }
+        if (!resources.isEmpty()) {
+            importBatchWriter.insertResources(resources);
+        }
+        return resources.size();
+    }
+
+    private int importResourceRequests(List<ImportRow> chunk, User importer, List<RowError> errors) {
+        List<ParsedRow<CreateResourceRequest>> rows = parse(chunk, CreateResourceRequest.class, errors);
+        Set<Long> orphanageIds = existingOrphanageIds(rows);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ResourceRequest> requests = new ArrayList<>(rows.size());
+        for (ParsedRow<CreateResourceRequest> row : rows) {
+            CreateResourceRequest request = row.request;
+            if (!orphanageIds.contains(request.getOrphanageId())) {
+                errors.add(new RowError(row.number, "Orphanage not found: " + request.getOrphanageId()));
+                continue;
+            }
+
+            ResourceRequest resourceRequest = new ResourceRequest();
+            resourceRequest.setName(request.getName());
+            resourceRequest.setDescription(request.getDescription());
+            resourceRequest.setCategory(request.getCategory());
+            resourceRequest.setQuantity(request.getQuantity());
+            resourceRequest.setUnit(request.getUnit());
+            resourceRequest.setOrphanage(orphanageRepository.getReferenceById(request.getOrphanageId()));
+            resourceRequest.setStatus(ResourceRequestStatus.PENDING);
+            resourceRequest.setCreatedAt(now);
+            resourceRequest.setCreatedBy(importer.getEmail());
+            requests.add(resourceRequest);
+        }
+        if (!requests.isEmpty()) {
+            importBatchWriter.insertResourceRequests(requests);
+        }
+        return requests.size();
+    }
+
+    private Set<Long> existingOrphanageIds(List<ParsedRow<CreateResourceRequest>> rows) {
+        if (rows.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> ids = rows.stream().map(row -> row.request.getOrphanageId()).collect(Collectors.toSet());
+        return new HashSet<>(orphanageRepository.findExistingIds(ids));
+    }
+
+    /**
+     * Binds every readable row of a chunk to a request object and applies its bean
+     * validation constraints. Rows that fail are added to errors.
+     */
+    private <T> List<ParsedRow<T>> parse(List<ImportRow> chunk, Class<T> type, List<RowError> errors) {
+        List<ParsedRow<T>> rows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.getError() != null) {
+                errors.add(new RowError(row.getNumber(), row.getError()));
+                continue;
+            }
+            T request;
+            try {
+                request = objectMapper.convertValue(row.getValues(), type);
+            } catch (IllegalArgumentException e) {
+                errors.add(new RowError(row.getNumber(), invalidValue(e)));
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.add(new RowError(row.getNumber(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "))));
+                continue;
+            }
+            rows.add(new ParsedRow<>(row.getNumber(), row.getValues(), request));
+        }
+        return rows;
+    }
+
+    private static String invalidValue(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "Invalid value for field " + mapping.getPath().get(0).getFieldName();
+        }
+        return "Invalid row";
+    }
+
+    private static String nameKey(String name) {
+        return "name:" + name;
+    }
+
+    private static String emailKey(String email) {
+        return "email:" + email;
+    }
+
+    private static String phoneKey(String phone) {
+        return "phone:" + phone;
+    }
+
+    /**
+     * A row that passed bean validation, with its raw values for fields the request type
+     * does not bind.
+     */
+    private static final class ParsedRow<T> {
+        private final long number;
+        private final Map<String, String> values;
+        private final T request;
+
+        private ParsedRow(long number, Map<String, String> values, T request) {
+            this.number = number;
+            this.values = values;
+            this.request = request;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.DonationTotalsDto;
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationRollup;
+import com.connectinghands.entity.RollupGranularity;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.DonationRollupRepository;
+import com.connectinghands.repository.projection.CurrencyTotals;
+import com.connectinghands.service.DonationRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of the DonationRollupService interface.
+ * Keeps hourly, daily and monthly donation buckets in step with the donations table and
+ * answers range queries by combining the coarsest buckets that fit with finer ones at the edges.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+@RequiredArgsConstructor
+public class DonationRollupServiceImpl implements DonationRollupService {
+    private static final RollupGranularity[] COARSEST_FIRST = {
+            RollupGranularity.MONTH, RollupGranularity.DAY, RollupGranularity.HOUR
+    };
+
+    private final DonationRollupRepository donationRollupRepository;
+    private final DonationRepository donationRepository;
+
+    @Override
+    @Transactional
+    public void recordDonation(Donation donation) {
+        applyDelta(donation, 1);
+    }
+
+    @Override
+    @Transactional
+    public void reverseDonation(Donation donation) {
+        applyDelta(donation, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DonationTotalsDto getTotals(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
+                                       String currency) {
+        DonationTotalsDto totals = new DonationTotalsDto();
+        // Reports use an inclusive end date; buckets are half-open.
+        addRange(totals, orphanageId, startDate, endDate.plusNanos(1), 0, currency);
+        return totals;
+    }
+
+    private void applyDelta(Donation donation, long sign) {
+        Long orphanageId = donation.getOrphanage().getId();
+        LocalDateTime createdAt = donation.getCreatedAt();
+        if (createdAt == null) {
+            // the bucket comes from the creation time, so an unsaved donation cannot be placed
+            throw new IllegalStateException("Donation " + donation.getId() + " has no creation time");
+        }
+        String currency = donation.getCurrency() != null ? donation.getCurrency() : DonationRollup.NO_CURRENCY;
+        BigDecimal amount = donation.getAmount() != null ? donation.getAmount() : BigDecimal.ZERO;
+        long resourceDonations = donation.getAmount() == null ? 1 : 0;
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            donationRollupRepository.increment(orphanageId, currency, granularity.name(),
+                    granularity.truncate(createdAt), sign, amount.multiply(BigDecimal.valueOf(sign)),
+                    resourceDonations * sign);
+        }
+    }
+
+    /**
+     * Adds the totals for [from, to) using the bucket level at the given index, then recurses
+     * into the unaligned edges with the next finer level. Below the hourly level the raw
+     * donations table is used, so at most one partial hour is scanned at each end.
+     */
+    private void addRange(DonationTotalsDto totals, Long orphanageId, LocalDateTime from, LocalDateTime to,
+                          int level, String currency) {
+        if (!from.isBefore(to)) {
+            return;
+        }
+        if (level == COARSEST_FIRST.length) {
+            add(totals, donationRepository.sumByCurrency(orphanageId, from, to), currency);
+            return;
+        }
+
+        RollupGranularity granularity = COARSEST_FIRST[level];
+        LocalDateTime alignedFrom = granularity.ceil(from);
+        LocalDateTime alignedTo = granularity.truncate(to);
+        if (!alignedFrom.isBefore(alignedTo)) {
+            addRange(totals, orphanageId, from, to, level + 1, currency);
+            return;
+        }
+
+        add(totals, donationRollupRepository.sumBuckets(orphanageId, granularity, alignedFrom, alignedTo), currency);
+        addRange(totals, orphanageId, from, alignedFrom, level + 1, currency);
+        addRange(totals, orphanageId, alignedTo, to, level + 1, currency);
+    }
+
+    private void add(DonationTotalsDto totals, List<CurrencyTotals> rows, String currency) {
+        for (CurrencyTotals row : rows) {
+            totals.setTotalDonations(totals.getTotalDonations() + valueOf(row.getDonationCount()));
+            totals.setTotalResourceDonations(totals.getTotalResourceDonations() + valueOf(row.getResourceDonationCount()));
+            if (row.getCurrency().equalsIgnoreCase(currency) && row.getMonetaryAmount() != null) {
+                totals.setTotalMonetaryAmount(totals.getTotalMonetaryAmount().add(row.getMonetaryAmount()));
+            }
+        }
+    }
+
+    private long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -7,18 +7,22 @@ import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.DonationStatus;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.User;
+import com.connectinghands.mapper.DonationMapper;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.DonationRollupService;
 import com.connectinghands.service.DonationService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Implementation of the DonationService interface.
@@ -33,10 +37,13 @@ public class DonationServiceImpl implements DonationService {
     private final DonationRepository donationRepository;
     private final UserRepository userRepository;
     private final OrphanageRepository orphanageRepository;
+    private final DonationRollupService donationRollupService;
+    private final EntityManager entityManager;
+    private final DonationMapper donationMapper;
 
     /**
      * Creates a new donation.
-     * Logs the creation action and sets initial status to PENDING.
+     * Logs the creation action, sets initial status to PENDING and adds it to the donation rollups.
      *
      * @param request The request containing donation details
      * @return The created donation DTO
@@ -62,7 +69,8 @@ public class DonationServiceImpl implements DonationService {
         donation.setNotes(request.getNotes());
 
         Donation savedDonation = donationRepository.save(donation);
-        return mapToDto(savedDonation);
+        donationRollupService.recordDonation(savedDonation);
+        return donationMapper.toDto(savedDonation);
     }
 
     /**
@@ -77,67 +85,113 @@ public class DonationServiceImpl implements DonationService {
     public DonationDto getDonation(Long id) {
         Donation donation = donationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
-        return mapToDto(donation);
+        return donationMapper.toDto(donation);
     }
 
     /**
-     * Retrieves all donations.
+     * Retrieves one slice of all donations without counting the total.
      *
-     * @return A list of all donation DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getAllDonations() {
-        return donationRepository.findAll().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public Slice<DonationDto> getAllDonations(Pageable pageable) {
+        return donationMapper.toDtoSlice(donationRepository.findAllBy(pageable));
     }
 
     /**
-     * Retrieves all donations made by a specific donor.
+     * Retrieves one slice of the donations made by a specific donor.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs made by the donor
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByDonor(Long donorId) {
-        return donationRepository.findByDonorId(donorId).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public Slice<DonationDto> getDonationsByDonor(Long donorId, Pageable pageable) {
+        return donationMapper.toDtoSlice(donationRepository.findByDonorId(donorId, pageable));
     }
 
     /**
-     * Retrieves all donations received by a specific orphanage.
+     * Retrieves one slice of the donations received by a specific orphanage.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs received by the orphanage
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByOrphanage(Long orphanageId) {
-        return donationRepository.findByOrphanageId(orphanageId).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public Slice<DonationDto> getDonationsByOrphanage(Long orphanageId, Pageable pageable) {
+        return donationMapper.toDtoSlice(donationRepository.findByOrphanageId(orphanageId, pageable));
     }
 
     /**
-     * Retrieves all donations with a specific status.
+     * Retrieves one slice of the donations with a specific status.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param pageable Pagination and sorting information
+     * @return A slice of donation DTOs with the specified status
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByStatus(DonationStatus status) {
-        return donationRepository.findByStatus(status).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public Slice<DonationDto> getDonationsByStatus(DonationStatus status, Pageable pageable) {
+        return donationMapper.toDtoSlice(donationRepository.findByStatus(status, pageable));
+    }
+
+    /**
+     * Streams all donations through a forward-only cursor.
+     *
+     * @param consumer Receives each donation DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllDonations(Consumer<DonationDto> consumer) {
+        EntityStreams.forEach(donationRepository.streamAllByOrderByIdAsc(), entityManager, donationMapper::toDto, consumer);
+    }
+
+    /**
+     * Streams the donations made by a specific donor through a forward-only cursor.
+     *
+     * @param donorId The ID of the donor
+     * @param consumer Receives each donation DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDonationsByDonor(Long donorId, Consumer<DonationDto> consumer) {
+        EntityStreams.forEach(donationRepository.streamByDonorIdOrderByIdAsc(donorId), entityManager,
+                donationMapper::toDto, consumer);
+    }
+
+    /**
+     * Streams the donations received by a specific orphanage through a forward-only cursor.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param consumer Receives each donation DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDonationsByOrphanage(Long orphanageId, Consumer<DonationDto> consumer) {
+        EntityStreams.forEach(donationRepository.streamByOrphanageIdOrderByIdAsc(orphanageId), entityManager,
+                donationMapper::toDto, consumer);
+    }
+
+    /**
+     * Streams the donations with a specific status through a forward-only cursor.
+     *
+     * @param status The status to search for
+     * @param consumer Receives each donation DTO
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDonationsByStatus(DonationStatus status, Consumer<DonationDto> consumer) {
+        EntityStreams.forEach(donationRepository.streamByStatusOrderByIdAsc(status), entityManager,
+                donationMapper::toDto, consumer);
     }
 
     /**
      * Updates an existing donation.
-     * Logs the update action.
+     * Logs the update action and moves it between rollup buckets if its amount or currency changed.
      *
      * @param id The ID of the donation to update
      * @param request The request containing updated donation details
@@ -150,6 +204,13 @@ public class DonationServiceImpl implements DonationService {
         Donation donation = donationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
 
+        boolean rollupChanged = (request.getAmount() != null
+                && (donation.getAmount() == null || request.getAmount().compareTo(donation.getAmount()) != 0))
+                || (request.getCurrency() != null && !request.getCurrency().equals(donation.getCurrency()));
+        if (rollupChanged) {
+            donationRollupService.reverseDonation(donation);
+        }
+
         if (request.getAmount() != null) {
             donation.setAmount(request.getAmount());
         }
@@ -167,12 +228,15 @@ public class DonationServiceImpl implements DonationService {
         }
 
         Donation updatedDonation = donationRepository.save(donation);
-        return mapToDto(updatedDonation);
+        if (rollupChanged) {
+            donationRollupService.recordDonation(updatedDonation);
+        }
+        return donationMapper.toDto(updatedDonation);
     }
 
     /**
      * Deletes a donation by its ID.
-     * Logs the deletion action.
+     * Logs the deletion action and removes it from the donation rollups.
      *
      * @param id The ID of the donation to delete
      * @throws EntityNotFoundException if the donation is not found
@@ -180,29 +244,9 @@ public class DonationServiceImpl implements DonationService {
     @Override
     @Transactional
     public void deleteDonation(Long id) {
-        if (!donationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Donation not found");
-        }
-        donationRepository.deleteById(id);
-    }
-
-    /**
-     * Converts a Donation entity to a DonationDto.
-     *
-     * @param donation The donation entity to convert
-     * @return The converted DonationDto
-     */
-    private DonationDto mapToDto(Donation donation) {
-        DonationDto dto = new DonationDto();
-        dto.setId(donation.getId());
-        dto.setDonorId(donation.getDonor().getId());
-        dto.setOrphanageId(donation.getOrphanage().getId());
-        dto.setAmount(donation.getAmount());
-        dto.setCurrency(donation.getCurrency());
-        dto.setStatus(donation.getStatus());
-        dto.setPaymentMethod(donation.getPaymentMethod());
-        dto.setTransactionId(donation.getTransactionId());
-        dto.setNotes(donation.getNotes());
-        return dto;
+        Donation donation = donationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
+        donationRollupService.reverseDonation(donation);
+        donationRepository.delete(donation);
     }
 }
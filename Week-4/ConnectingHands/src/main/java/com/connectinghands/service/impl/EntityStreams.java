@@ -0,0 +1,48 @@
+package com.connectinghands.service.impl;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Drains repository streams into a consumer with bounded memory. Each entity is mapped as
+ * soon as it is read, and the persistence context is cleared every {@link #CLEAR_INTERVAL}
+ * entities so neither the entities nor the proxies they reference accumulate over the whole
+ * result. Callers must run inside a read-only transaction with nothing else to flush.
+ *
+ * @author Ragul Venkatesan
+ */
+final class EntityStreams {
+    /**
+     * Matches the fetch size hint of the streaming repository queries.
+     */
+    static final int CLEAR_INTERVAL = 500;
+
+    private EntityStreams() {
+    }
+
+    /**
+     * Maps every entity of the stream and hands it to the consumer, then closes the stream.
+     *
+     * @param entities The repository stream
+     * @param entityManager The entity manager the stream was opened with
+     * @param mapper Converts an entity to the value handed to the consumer
+     * @param consumer Receives the mapped values in stream order
+     */
+    static <E, T> void forEach(Stream<E> entities, EntityManager entityManager, Function<E, T> mapper,
+                               Consumer<? super T> consumer) {
+        try (entities) {
+            Iterator<E> iterator = entities.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                consumer.accept(mapper.apply(iterator.next()));
+                if (++count % CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
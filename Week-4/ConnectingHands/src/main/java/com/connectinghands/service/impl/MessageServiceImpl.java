@@ -5,12 +5,35 @@ import com.connectinghands.dto.MessageDto;
 import com.connectinghands.entity.Message;
 import com.connectinghands.entity.User;
 import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.MessageMapper;
+import com.connectinghands.messaging.MessagePushRegistry;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
+import com.connectinghands.repository.ConversationRepository;
 import com.connectinghands.repository.MessageRepository;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.repository.specification.MessageSpecifications;
 import com.connectinghands.service.MessageService;
+import com.connectinghands.service.UnreadCounterService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.connectinghands.repository.specification.KeysetSpecifications.NEWEST_FIRST;
+import static com.connectinghands.repository.specification.KeysetSpecifications.OLDEST_FIRST;
+import static com.connectinghands.repository.specification.KeysetSpecifications.createdAfter;
+import static com.connectinghands.repository.specification.KeysetSpecifications.createdBefore;
 
 /**
  * Implementation of the MessageService interface.
@@ -20,16 +43,29 @@ import org.springframework.stereotype.Service;
  */
 @Service
 public class MessageServiceImpl implements MessageService {
+    static final int MAX_BULK_IDS = 1000;
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final MessageMapper messageMapper;
+    private final MessagePushRegistry messagePushRegistry;
+    private final UnreadCounterService unreadCounterService;
+    private final ConversationRepository conversationRepository;
 
-    public MessageServiceImpl(MessageRepository messageRepository, UserRepository userRepository) {
+    public MessageServiceImpl(MessageRepository messageRepository, UserRepository userRepository,
+                              MessageMapper messageMapper, MessagePushRegistry messagePushRegistry,
+                              UnreadCounterService unreadCounterService,
+                              ConversationRepository conversationRepository) {
         this.messageRepository = messageRepository;
+        this.conversationRepository = conversationRepository;
         this.userRepository = userRepository;
+        this.messageMapper = messageMapper;
+        this.messagePushRegistry = messagePushRegistry;
+        this.unreadCounterService = unreadCounterService;
     }
 
     @Override
+    @Transactional
     public MessageDto sendMessage(CreateMessageRequest request) {
         User sender = userRepository.findById(request.getSenderId())
                 .orElseThrow(() -> new ResourceNotFoundException("Sender not found"));
@@ -39,62 +75,182 @@ public class MessageServiceImpl implements MessageService {
         Message message = new Message();
         message.setSender(sender);
         message.setReceiver(receiver);
+        message.setConversationId(conversationIdFor(sender.getId(), receiver.getId()));
         message.setContent(request.getContent());
         message.setRead(false);
 
         Message savedMessage = messageRepository.save(message);
-        return convertToDto(savedMessage);
+        unreadCounterService.increment(receiver.getId(), 1);
+        MessageDto dto = messageMapper.toDto(savedMessage);
+        push(receiver.getId(), dto);
+        return dto;
     }
 
     @Override
     public MessageDto getMessage(Long id) {
         Message message = messageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
-        return convertToDto(message);
+        return messageMapper.toDto(message);
     }
 
     @Override
     public Page<MessageDto> getConversation(Long userId1, Long userId2, Pageable pageable) {
-        return messageRepository.findBySenderIdAndReceiverIdOrReceiverIdAndSenderId(
-                userId1, userId2, userId1, userId2, pageable)
-                .map(this::convertToDto);
+        Optional<Long> conversationId = findConversationId(userId1, userId2);
+        if (conversationId.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+        return messageMapper.toDtoPage(messageRepository.findByConversationId(conversationId.get(), pageable));
     }
 
     @Override
     public Page<MessageDto> getInbox(Long userId, Pageable pageable) {
-        return messageRepository.findByReceiverId(userId, pageable)
-                .map(this::convertToDto);
+        return messageMapper.toDtoPage(messageRepository.findByReceiverId(userId, pageable));
     }
 
     @Override
     public Page<MessageDto> getSent(Long userId, Pageable pageable) {
-        return messageRepository.findBySenderId(userId, pageable)
-                .map(this::convertToDto);
+        return messageMapper.toDtoPage(messageRepository.findBySenderId(userId, pageable));
+    }
+
+    @Override
+    public CursorPage<MessageDto> scrollConversation(Long userId1, Long userId2, String cursor, int size) {
+        Optional<Long> conversationId = findConversationId(userId1, userId2);
+        if (conversationId.isEmpty()) {
+            return CursorPage.empty(size);
+        }
+        return scroll(MessageSpecifications.inConversation(conversationId.get()), cursor, size);
+    }
+
+    @Override
+    public CursorPage<MessageDto> scrollInbox(Long userId, String cursor, int size) {
+        return scroll(MessageSpecifications.receivedBy(userId), cursor, size);
     }
 
     @Override
+    public CursorPage<MessageDto> scrollSent(Long userId, String cursor, int size) {
+        return scroll(MessageSpecifications.sentBy(userId), cursor, size);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, Long lastMessageId) {
+        // Connected before reading the backlog, so a message sent in between is pushed
+        // live and may also be replayed, but is never missed.
+        SseEmitter emitter = messagePushRegistry.connect(userId);
+        if (lastMessageId != null) {
+            replayMissed(userId, lastMessageId, emitter);
+        }
+        return emitter;
+    }
+
+    @Override
+    @Transactional
     public void markAsRead(Long id) {
         Message message = messageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
-        message.setRead(true);
-        messageRepository.save(message);
+        if (messageRepository.markRead(id, LocalDateTime.now()) > 0) {
+            unreadCounterService.decrement(message.getReceiver().getId(), 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int markMessagesRead(Long userId, List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.size() > MAX_BULK_IDS) {
+            throw new ValidationException("Between 1 and " + MAX_BULK_IDS + " message IDs are required");
+        }
+        int changed = messageRepository.markRead(userId, ids, LocalDateTime.now());
+        if (changed > 0) {
+            unreadCounterService.decrement(userId, changed);
+        }
+        return changed;
+    }
+
+    @Override
+    @Transactional
+    public int markConversationRead(Long userId, Long otherUserId, Long upToMessageId) {
+        Message upTo = messageRepository.findById(upToMessageId)
+                .orElseThrow(() -> new ResourceNotFoundException("Message not found"));
+        Long senderId = upTo.getSender().getId();
+        Long receiverId = upTo.getReceiver().getId();
+        if (!(senderId.equals(userId) && receiverId.equals(otherUserId))
+                && !(senderId.equals(otherUserId) && receiverId.equals(userId))) {
+            throw new ValidationException("Message is not part of this conversation");
+        }
+        Long conversationId = findConversationId(userId, otherUserId)
+                .orElseThrow(() -> new ValidationException("Message is not part of this conversation"));
+        int changed = messageRepository.markConversationRead(conversationId, userId, upTo.getCreatedAt(),
+                upTo.getId(), LocalDateTime.now());
+        if (changed > 0) {
+            unreadCounterService.decrement(userId, changed);
+        }
+        return changed;
     }
 
     @Override
     public Long countUnread(Long userId) {
-        return messageRepository.countByReceiverIdAndReadFalse(userId);
-    }
-
-    private MessageDto convertToDto(Message message) {
-        MessageDto dto = new MessageDto();
-        dto.setId(message.getId());
-        dto.setSenderId(message.getSender().getId());
-        dto.setSenderName(message.getSender().getName());
-        dto.setReceiverId(message.getReceiver().getId());
-        dto.setReceiverName(message.getReceiver().getName());
-        dto.setContent(message.getContent());
-        dto.setRead(message.isRead());
-        dto.setCreatedAt(message.getCreatedAt());
-        return dto;
+        return unreadCounterService.getUnreadCount(userId);
+    }
+
+    private void replayMissed(Long userId, Long lastMessageId, SseEmitter emitter) {
+        Message lastSeen = messageRepository.findById(lastMessageId)
+                .filter(message -> message.getReceiver().getId().equals(userId))
+                .orElse(null);
+        if (lastSeen == null) {
+            messagePushRegistry.resync(userId, emitter);
+            return;
+        }
+        int limit = messagePushRegistry.getReplayLimit();
+        List<Message> missed = messageRepository.findBy(MessageSpecifications.receivedBy(userId)
+                        .and(createdAfter(Cursor.of(lastSeen.getCreatedAt(), lastSeen.getId()))),
+                query -> query.sortBy(OLDEST_FIRST).limit(limit + 1).project("sender", "receiver").all());
+        if (missed.size() > limit) {
+            messagePushRegistry.resync(userId, emitter);
+            return;
+        }
+        for (Message message : missed) {
+            if (!messagePushRegistry.replay(userId, emitter, messageMapper.toDto(message))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the conversation between two users, creating it on their first message. The
+     * insert is a no-op when a concurrent first message has already created it, and the
+     * following lookup then sees that row.
+     */
+    private Long conversationIdFor(Long userId1, Long userId2) {
+        Long low = Math.min(userId1, userId2);
+        Long high = Math.max(userId1, userId2);
+        return conversationRepository.findIdByParticipants(low, high).orElseGet(() -> {
+            conversationRepository.insertIfAbsent(low, high);
+            return conversationRepository.findIdByParticipants(low, high)
+                    .orElseThrow(() -> new IllegalStateException("Conversation was not created"));
+        });
+    }
+
+    private Optional<Long> findConversationId(Long userId1, Long userId2) {
+        return conversationRepository.findIdByParticipants(Math.min(userId1, userId2), Math.max(userId1, userId2));
+    }
+
+    private void push(Long receiverId, MessageDto message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messagePushRegistry.publish(receiverId, message);
+                }
+            });
+        } else {
+            messagePushRegistry.publish(receiverId, message);
+        }
+    }
+
+    private CursorPage<MessageDto> scroll(Specification<Message> specification, String cursor, int size) {
+        CursorPage.checkSize(size);
+        List<Message> messages = messageRepository.findBy(specification.and(createdBefore(Cursor.decode(cursor))),
+                query -> query.sortBy(NEWEST_FIRST).limit(size + 1).project("sender", "receiver").all());
+        return CursorPage.of(messages, size, message -> Cursor.of(message.getCreatedAt(), message.getId()),
+                messageMapper::toDto);
     }
 }
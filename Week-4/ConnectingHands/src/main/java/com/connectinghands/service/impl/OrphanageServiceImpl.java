@@ -1,30 +1,54 @@
 package com.connectinghands.service.impl;
 
+import com.connectinghands.dto.BulkTransitionResultDto;
 import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.NearbyOrphanageDto;
 import com.connectinghands.dto.OrphanageDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.OrphanageTransition;
 import com.connectinghands.entity.User;
 import com.connectinghands.exception.DuplicateResourceException;
 import com.connectinghands.exception.PermissionDeniedException;
 import com.connectinghands.exception.ResourceNotFoundException;
 import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.OrphanageMapper;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.repository.projection.OrphanageStatusView;
+import com.connectinghands.repository.specification.OrphanageSpecifications;
+import com.connectinghands.search.GeoHash;
+import com.connectinghands.search.SearchQuery;
 import com.connectinghands.service.AuditLogService;
 import com.connectinghands.service.OrphanageService;
 import com.connectinghands.service.SecurityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.connectinghands.repository.specification.KeysetSpecifications.NEWEST_FIRST;
+import static com.connectinghands.repository.specification.KeysetSpecifications.createdBefore;
+
 /**
  * Implementation of the OrphanageService interface.
  * Handles CRUD operations for orphanages.
@@ -34,10 +58,25 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class OrphanageServiceImpl implements OrphanageService {
+    static final int MAX_BULK_IDS = 1000;
+    static final int MAX_NEAREST = 100;
+    static final double MAX_RADIUS_KM = 1000;
+
+    /**
+     * Finest geohash precision a proximity search starts from, cells of about 1.2km x 0.6km.
+     */
+    private static final int NEAREST_START_PRECISION = 6;
+
+    /**
+     * Default order of the available-capacity listing, matching the available_slots index.
+     */
+    private static final Sort MOST_AVAILABLE_FIRST = Sort.by(Sort.Order.desc("availableSlots"), Sort.Order.asc("id"));
+
     private final OrphanageRepository orphanageRepository;
     private final UserRepository userRepository;
     private final SecurityService securityService;
     private final AuditLogService auditLogService;
+    private final OrphanageMapper orphanageMapper;
 
     @Override
     @Transactional
@@ -75,6 +114,7 @@ public class OrphanageServiceImpl implements OrphanageService {
         orphanage.setStatus(OrphanageStatus.PENDING);
         orphanage.setAdmin(admin);
         orphanage.setVerificationDocuments(request.getVerificationDocuments());
+        setLocation(orphanage, request.getLatitude(), request.getLongitude());
 
         orphanage = orphanageRepository.save(orphanage);
 
@@ -85,7 +125,7 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
@@ -93,63 +133,141 @@ public class OrphanageServiceImpl implements OrphanageService {
     public OrphanageDto getOrphanage(Long id) {
         Orphanage orphanage = orphanageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Orphanage not found"));
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getAllOrphanages(Pageable pageable) {
-        return orphanageRepository.findAll(pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findAll(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getOrphanagesByStatus(OrphanageStatus status, Pageable pageable) {
-        return orphanageRepository.findByStatus(status, pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findByStatus(status, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getOrphanagesByAdmin(Long adminId, Pageable pageable) {
-        return orphanageRepository.findByAdminId(adminId, pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findByAdminId(adminId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getOrphanagesByCity(String city, Pageable pageable) {
-        return orphanageRepository.findByCity(city, pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findByCity(city, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getOrphanagesByState(String state, Pageable pageable) {
-        return orphanageRepository.findByState(state, pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findByState(state, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> getOrphanagesByCountry(String country, Pageable pageable) {
-        return orphanageRepository.findByCountry(country, pageable)
-                .map(this::mapToDto);
+        return orphanageMapper.toDtoPage(orphanageRepository.findByCountry(country, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrphanageDto> searchOrphanages(String searchTerm, Pageable pageable) {
-        return orphanageRepository.searchOrphanages(searchTerm, pageable)
-                .map(this::mapToDto);
+        SearchQuery query = SearchQuery.parse(searchTerm);
+        if (query.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // Results are ordered by relevance, so any requested sort is ignored
+        Pageable unsorted = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+                : pageable;
+        Page<Long> ids = orphanageRepository.searchIds(query.toTsQuery(), query.toText(), unsorted);
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Orphanage> orphanages = orphanageRepository.findByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(Orphanage::getId, Function.identity()));
+        List<Orphanage> ranked = ids.getContent().stream()
+                .map(orphanages::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return orphanageMapper.toDtoPage(new PageImpl<>(ranked, ids.getPageable(), ids.getTotalElements()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<OrphanageDto> getOrphanagesWithAvailableCapacity(Pageable pageable) {
-        return orphanageRepository.findOrphanagesWithAvailableCapacity(pageable)
-                .map(this::mapToDto);
+    public Page<OrphanageDto> getOrphanagesWithAvailableCapacity(int minSlots, Pageable pageable) {
+        if (minSlots < 1) {
+            throw new ValidationException("Minimum free places must be at least 1");
+        }
+        Pageable sorted = pageable.isPaged() && pageable.getSort().isUnsorted()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), MOST_AVAILABLE_FIRST)
+                : pageable;
+        return orphanageMapper.toDtoPage(orphanageRepository.findOrphanagesWithAvailableCapacity(minSlots, sorted));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrphanageDto> scrollOrphanages(OrphanageStatus status, Long adminId, String city, String state,
+                                                     String country, String cursor, int size) {
+        CursorPage.checkSize(size);
+        Specification<Orphanage> specification = OrphanageSpecifications.matching(status, adminId, city, state, country)
+                .and(createdBefore(Cursor.decode(cursor)));
+        List<Orphanage> orphanages = orphanageRepository.findBy(specification,
+                query -> query.sortBy(NEWEST_FIRST).limit(size + 1).project("admin").all());
+        return CursorPage.of(orphanages, size, orphanage -> Cursor.of(orphanage.getCreatedAt(), orphanage.getId()),
+                orphanageMapper::toDto);
+    }
+
+    /**
+     * Searches the 3x3 block of geohash cells around the location, widening the cells
+     * until either enough orphanages lie within the radius the block is known to cover,
+     * or that radius reaches the requested one. Each step is one query over a few prefix
+     * ranges of the geohash index that reads only IDs and coordinates; just the nearest
+     * orphanages are then loaded in full.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyOrphanageDto> findNearestWithCapacity(double latitude, double longitude, int limit,
+                                                            double radiusKm) {
+        checkLocation(latitude, longitude);
+        if (limit < 1 || limit > MAX_NEAREST) {
+            throw new ValidationException("Limit must be between 1 and " + MAX_NEAREST);
+        }
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new ValidationException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+
+        List<Map.Entry<Long, Double>> nearest = List.of();
+        for (int precision = NEAREST_START_PRECISION; precision >= 1; precision--) {
+            double reachKm = Math.min(GeoHash.coveredRadiusKm(latitude, precision), radiusKm);
+            boolean lastStep = reachKm >= radiusKm || precision == 1;
+            nearest = orphanageRepository.findLocations(
+                            OrphanageSpecifications.availableInCells(GeoHash.neighbourhood(latitude, longitude, precision)))
+                    .stream()
+                    .map(location -> Map.entry(location.id(), GeoHash.distanceKm(latitude, longitude,
+                            location.latitude(), location.longitude())))
+                    .filter(candidate -> candidate.getValue() <= reachKm)
+                    .sorted(Map.Entry.comparingByValue())
+                    .limit(limit)
+                    .toList();
+            if (nearest.size() == limit || lastStep) {
+                break;
+            }
+        }
+        if (nearest.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Orphanage> orphanages = orphanageRepository.findAllById(nearest.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Orphanage::getId, Function.identity()));
+        return nearest.stream()
+                .map(candidate -> new NearbyOrphanageDto(orphanageMapper.toDto(orphanages.get(candidate.getKey())),
+                        candidate.getValue()))
+                .toList();
     }
 
     @Override
@@ -166,7 +284,7 @@ public class OrphanageServiceImpl implements OrphanageService {
 
         orphanage = orphanageRepository.save(orphanage);
         logOrphanageUpdate(orphanage);
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     private void validateUpdatePermission(Long orphanageId) {
@@ -200,6 +318,9 @@ public class OrphanageServiceImpl implements OrphanageService {
         setIfNotNull(request.getWebsite(), orphanage::setWebsite);
         setIfNotNull(request.getVerificationDocuments(), orphanage::setVerificationDocuments);
         setIfNotNull(request.getVerificationNotes(), orphanage::setVerificationNotes);
+        if (request.getLatitude() != null || request.getLongitude() != null) {
+            setLocation(orphanage, request.getLatitude(), request.getLongitude());
+        }
     }
 
     private void updateCapacity(UpdateOrphanageRequest request, Orphanage orphanage) {
@@ -226,6 +347,24 @@ public class OrphanageServiceImpl implements OrphanageService {
     }
 
     // Helper methods
+    private void setLocation(Orphanage orphanage, Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new ValidationException("Latitude and longitude must be given together");
+        }
+        checkLocation(latitude, longitude);
+        orphanage.setLatitude(latitude);
+        orphanage.setLongitude(longitude);
+    }
+
+    private void checkLocation(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new ValidationException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+    }
+
     private <T> void setIfNotNull(T value, java.util.function.Consumer<T> setter) {
         if (value != null) setter.accept(value);
     }
@@ -242,6 +381,7 @@ public class OrphanageServiceImpl implements OrphanageService {
         }
 
         orphanageRepository.delete(orphanage);
+        securityService.evictOrphanageDecisions(id);
 
         // Log the deletion
         auditLogService.logAction(
@@ -275,7 +415,7 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
@@ -302,7 +442,7 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
@@ -329,7 +469,7 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
@@ -355,7 +495,7 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
     @Override
@@ -382,33 +522,57 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.getId()
         );
 
-        return mapToDto(orphanage);
+        return orphanageMapper.toDto(orphanage);
     }
 
-    private OrphanageDto mapToDto(Orphanage orphanage) {
-        OrphanageDto dto = new OrphanageDto();
-        dto.setId(orphanage.getId());
-        dto.setName(orphanage.getName());
-        dto.setDescription(orphanage.getDescription());
-        dto.setAddress(orphanage.getAddress());
-        dto.setCity(orphanage.getCity());
-        dto.setState(orphanage.getState());
-        dto.setCountry(orphanage.getCountry());
-        dto.setPostalCode(orphanage.getPostalCode());
-        dto.setPhone(orphanage.getPhone());
-        dto.setEmail(orphanage.getEmail());
-        dto.setWebsite(orphanage.getWebsite());
-        dto.setCapacity(orphanage.getCapacity());
-        dto.setCurrentChildren(orphanage.getCurrentChildren());
-        dto.setStatus(orphanage.getStatus());
-        dto.setAdminId(orphanage.getAdmin().getId());
-        dto.setAdminName(orphanage.getAdmin().getFirstName() + " " + orphanage.getAdmin().getLastName());
-        dto.setVerificationDocuments(orphanage.getVerificationDocuments());
-        dto.setVerificationNotes(orphanage.getVerificationNotes());
-        dto.setVerifiedAt(orphanage.getVerifiedAt());
-        dto.setVerifiedBy(orphanage.getVerifiedBy());
-        dto.setCreatedAt(orphanage.getCreatedAt());
-        dto.setUpdatedAt(orphanage.getUpdatedAt());
-        return dto;
+    /**
+     * Checks and locks all requested rows with one query, changes the eligible ones with a
+     * single guarded UPDATE and writes their audit entries in one batch after commit.
+     */
+    @Override
+    @Transactional
+    public BulkTransitionResultDto transitionOrphanages(OrphanageTransition transition, List<Long> ids, String notes) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.isEmpty() || requested.size() > MAX_BULK_IDS) {
+            throw new ValidationException("Between 1 and " + MAX_BULK_IDS + " orphanage IDs are required");
+        }
+
+        Map<Long, OrphanageStatusView> current = orphanageRepository.findStatusesForUpdate(requested).stream()
+                .collect(Collectors.toMap(OrphanageStatusView::getId, Function.identity()));
+        Map<Long, String> descriptions = new LinkedHashMap<>();
+        for (Long id : requested) {
+            OrphanageStatusView orphanage = current.get(id);
+            if (orphanage != null && transition.appliesTo(orphanage.getStatus())) {
+                descriptions.put(id, transition.getVerb() + " orphanage: " + orphanage.getName());
+            }
+        }
+
+        if (!descriptions.isEmpty()) {
+            User currentUser = securityService.getCurrentUser();
+            int updated = orphanageRepository.updateStatus(descriptions.keySet(), transition.getFrom(),
+                    transition.getTarget(), transition.recordsNotes() ? notes : null, LocalDateTime.now(),
+                    currentUser.getId(), currentUser.getEmail());
+            if (updated != descriptions.size()) {
+                // the rows are locked, so this only happens if the lock was not honoured
+                throw new IllegalStateException("Expected to change " + descriptions.size()
+                        + " orphanages but changed " + updated);
+            }
+            auditLogService.logActions(transition.getAuditAction(), descriptions);
+        }
+
+        List<BulkTransitionResultDto.Item> results = new ArrayList<>(requested.size());
+        for (Long id : requested) {
+            OrphanageStatusView orphanage = current.get(id);
+            if (orphanage == null) {
+                results.add(new BulkTransitionResultDto.Item(id, BulkTransitionResultDto.Outcome.NOT_FOUND, null));
+            } else if (descriptions.containsKey(id)) {
+                results.add(new BulkTransitionResultDto.Item(id, BulkTransitionResultDto.Outcome.TRANSITIONED,
+                        transition.getTarget()));
+            } else {
+                results.add(new BulkTransitionResultDto.Item(id, BulkTransitionResultDto.Outcome.INVALID_STATUS,
+                        orphanage.getStatus()));
+            }
+        }
+        return new BulkTransitionResultDto(transition, descriptions.size(), results);
     }
 }
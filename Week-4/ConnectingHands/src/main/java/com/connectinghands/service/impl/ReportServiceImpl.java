@@ -1,34 +1,63 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.dto.DonationReportDto;
+import com.connectinghands.dto.DonationTotalsDto;
+import com.connectinghands.dto.ResourceUtilizationDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
-import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.Orphanage;
-import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.export.ReportFormat;
+import com.connectinghands.export.TabularReportWriter;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.projection.DonationAggregate;
+import com.connectinghands.repository.projection.DonationExportRow;
+import com.connectinghands.repository.projection.ResourceQuantity;
+import com.connectinghands.service.DonationRollupService;
 import com.connectinghands.service.ReportService;
+import com.connectinghands.service.ResourceLedgerService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.connectinghands.repository.specification.KeysetSpecifications.NEWEST_FIRST;
+import static com.connectinghands.repository.specification.KeysetSpecifications.createdBefore;
 
 /**
  * Implementation of the ReportService interface.
- * Handles generation of donation and resource utilization reports.
+ * Handles generation of donation and resource utilization reports. Resource utilization
+ * is computed from the resource ledger for the requested window.
  *
  * @author Ragul Venkatesan
  */
@@ -39,6 +68,8 @@ public class ReportServiceImpl implements ReportService {
     private final ResourceRepository resourceRepository;
     private final ResourceRequestRepository resourceRequestRepository;
     private final OrphanageRepository orphanageRepository;
+    private final DonationRollupService donationRollupService;
+    private final ResourceLedgerService resourceLedgerService;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,7 +78,7 @@ public class ReportServiceImpl implements ReportService {
         Orphanage orphanage = orphanageRepository.findById(orphanageId)
                 .orElseThrow(() -> new EntityNotFoundException("Orphanage not found"));
 
-        List<Donation> donations = donationRepository.findByOrphanageIdAndCreatedAtBetween(orphanageId, startDate, endDate);
+        DonationTotalsDto totals = donationRollupService.getTotals(orphanageId, startDate, endDate, currency);
 
         DonationReportDto report = new DonationReportDto();
         report.setOrphanageId(orphanageId);
@@ -58,14 +89,9 @@ public class ReportServiceImpl implements ReportService {
         report.setCurrency(currency);
         report.setTimeZone(timeZone);
 
-        report.setTotalDonations((long) donations.size());
-        report.setTotalMonetaryAmount(donations.stream()
-                .filter(d -> d.getAmount() != null)
-                .map(Donation::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add));
-        report.setTotalResourceDonations(donations.stream()
-                .filter(d -> d.getAmount() == null)
-                .count());
+        report.setTotalDonations(totals.getTotalDonations());
+        report.setTotalMonetaryAmount(totals.getTotalMonetaryAmount());
+        report.setTotalResourceDonations(totals.getTotalResourceDonations());
 
         return report;
     }
@@ -74,13 +100,35 @@ public class ReportServiceImpl implements ReportService {
     @Transactional(readOnly = true)
     public Page<DonationReportDto> generateDonationReports(LocalDateTime startDate, LocalDateTime endDate,
             String reportType, String currency, String timeZone, Pageable pageable) {
-        Page<Orphanage> orphanages = orphanageRepository.findAll(pageable);
+        return donationRepository.aggregateByOrphanage(startDate, endDate, currency, orderedById(pageable))
+                .map(aggregate -> toDonationReport(aggregate, startDate, endDate, reportType, currency, timeZone));
+    }
 
-        List<DonationReportDto> reports = orphanages.getContent().stream()
-                .map(orphanage -> generateDonationReport(orphanage.getId(), startDate, endDate, reportType, currency, timeZone))
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<DonationReportDto> scrollDonationReports(LocalDateTime startDate, LocalDateTime endDate,
+            String reportType, String currency, String timeZone, String cursor, int size) {
+        List<Orphanage> orphanages = scrollOrphanages(cursor, size);
+        List<Long> orphanageIds = orphanages.stream()
+                .limit(size)
+                .map(Orphanage::getId)
+                .toList();
+        Map<Long, DonationAggregate> aggregates = orphanageIds.isEmpty() ? Map.of()
+                : donationRepository.aggregateByOrphanageIds(orphanageIds, startDate, endDate, currency).stream()
+                        .collect(Collectors.toMap(DonationAggregate::getOrphanageId, aggregate -> aggregate));
+        return CursorPage.of(orphanages, size, ReportServiceImpl::cursorOf,
+                orphanage -> toDonationReport(aggregates.get(orphanage.getId()), startDate, endDate,
+                        reportType, currency, timeZone));
+    }
 
-        return new PageImpl<>(reports, pageable, orphanages.getTotalElements());
+    @Override
+    @Transactional(readOnly = true)
+    public void streamDonationReports(LocalDateTime startDate, LocalDateTime endDate,
+            String reportType, String currency, String timeZone, Consumer<DonationReportDto> consumer) {
+        try (Stream<DonationAggregate> aggregates = donationRepository.streamAggregatesByOrphanage(startDate, endDate, currency)) {
+            aggregates.map(aggregate -> toDonationReport(aggregate, startDate, endDate, reportType, currency, timeZone))
+                    .forEach(consumer);
+        }
     }
 
     @Override
@@ -88,21 +136,13 @@ public class ReportServiceImpl implements ReportService {
     public ResourceUtilizationReportDto generateResourceUtilizationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate, String reportType, String timeZone) {
         Orphanage orphanage = orphanageRepository.findById(orphanageId)
                 .orElseThrow(() -> new EntityNotFoundException("Orphanage not found"));
-
-        List<Resource> resources = resourceRepository.findByOrphanageId(orphanageId);
-        Map<String, Long> utilizationMap = new HashMap<>();
-
-        for (Resource resource : resources) {
-            utilizationMap.put(resource.getName(), resource.getQuantity().longValue());
-        }
-
-        ResourceUtilizationReportDto report = new ResourceUtilizationReportDto();
-        report.setOrphanageName(orphanage.getName());
-        report.setResourceUtilization(utilizationMap);
-        report.setStartDate(startDate);
-        report.setEndDate(endDate);
-        report.setReportType(reportType);
-        report.setTimeZone(timeZone);
+        Map<Long, List<ResourceUtilizationDto>> utilization =
+                utilizationByOrphanage(List.of(orphanage), startDate, endDate);
+        ResourceUtilizationReportDto report = toResourceUtilizationReport(orphanage, utilization.get(orphanageId),
+                startDate, endDate, reportType, timeZone);
+        report.setResourceRequests(resourceRequestRepository
+                .findByOrphanageIdAndCreatedAtBetween(orphanageId, startDate, endDate).stream()
+                .collect(Collectors.groupingBy(ResourceRequest::getName, Collectors.counting())));
         return report;
     }
 
@@ -111,23 +151,192 @@ public class ReportServiceImpl implements ReportService {
     public Page<ResourceUtilizationReportDto> generateResourceUtilizationReports(LocalDateTime startDate,
             LocalDateTime endDate, String reportType, String timeZone, Pageable pageable) {
         Page<Orphanage> orphanages = orphanageRepository.findAll(pageable);
+        Map<Long, List<ResourceUtilizationDto>> utilization =
+                utilizationByOrphanage(orphanages.getContent(), startDate, endDate);
 
         List<ResourceUtilizationReportDto> reports = orphanages.getContent().stream()
-                .map(orphanage -> generateResourceUtilizationReport(orphanage.getId(), startDate, endDate, reportType, timeZone))
+                .map(orphanage -> toResourceUtilizationReport(orphanage, utilization.get(orphanage.getId()),
+                        startDate, endDate, reportType, timeZone))
                 .collect(Collectors.toList());
 
         return new PageImpl<>(reports, pageable, orphanages.getTotalElements());
     }
 
     @Override
-    public byte[] exportDonationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
-            String reportType, String currency, String timeZone, String format) {
-        throw new UnsupportedOperationException("Export functionality not implemented yet");
+    @Transactional(readOnly = true)
+    public CursorPage<ResourceUtilizationReportDto> scrollResourceUtilizationReports(LocalDateTime startDate,
+            LocalDateTime endDate, String reportType, String timeZone, String cursor, int size) {
+        List<Orphanage> orphanages = scrollOrphanages(cursor, size);
+        Map<Long, List<ResourceUtilizationDto>> utilization = utilizationByOrphanage(
+                orphanages.subList(0, Math.min(size, orphanages.size())), startDate, endDate);
+        return CursorPage.of(orphanages, size, ReportServiceImpl::cursorOf,
+                orphanage -> toResourceUtilizationReport(orphanage, utilization.get(orphanage.getId()),
+                        startDate, endDate, reportType, timeZone));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void checkExport(Long orphanageId, String timeZone, String format) {
+        if (!orphanageRepository.existsById(orphanageId)) {
+            throw new ResourceNotFoundException("Orphanage not found");
+        }
+        ReportFormat.from(format);
+        toZoneId(timeZone);
     }
 
     @Override
-    public byte[] exportResourceUtilizationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
-            String reportType, String timeZone, String format) {
-        throw new UnsupportedOperationException("Export functionality not implemented yet");
+    @Transactional(readOnly = true)
+    public void exportDonationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
+            String reportType, String currency, String timeZone, String format, OutputStream outputStream)
+            throws IOException {
+        Orphanage orphanage = orphanageRepository.findById(orphanageId)
+                .orElseThrow(() -> new EntityNotFoundException("Orphanage not found"));
+        ReportFormat reportFormat = ReportFormat.from(format);
+        ZoneId zone = toZoneId(timeZone);
+
+        try (Stream<DonationExportRow> rows = donationRepository.streamExportRows(orphanageId, startDate, endDate);
+             TabularReportWriter writer = TabularReportWriter.open(reportFormat, outputStream,
+                     String.format("Donations %s - %s", reportType, orphanage.getName()))) {
+            writer.writeHeader("Donation ID", "Date", "Donor ID", "Amount", "Currency", "Status",
+                    "Payment Method", "Transaction ID");
+            Iterator<DonationExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                DonationExportRow row = iterator.next();
+                writer.writeRow(row.getId(), toZone(row.getCreatedAt(), zone), row.getDonorId(), row.getAmount(),
+                        row.getCurrency(), row.getStatus(), row.getPaymentMethod(), row.getTransactionId());
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportResourceUtilizationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
+            String reportType, String timeZone, String format, OutputStream outputStream) throws IOException {
+        ReportFormat reportFormat = ReportFormat.from(format);
+        ResourceUtilizationReportDto report = generateResourceUtilizationReport(
+                orphanageId, startDate, endDate, reportType, timeZone);
+
+        try (TabularReportWriter writer = TabularReportWriter.open(reportFormat, outputStream,
+                String.format("Resource utilization %s - %s", reportType, report.getOrphanageName()))) {
+            writer.writeHeader("Resource", "Opening", "Received", "Consumed", "Adjusted", "Closing",
+                    "Consumption per day", "Turnover", "Stock-out minutes");
+            List<ResourceUtilizationDto> resources = new ArrayList<>(report.getResources());
+            resources.sort(Comparator.comparing(ResourceUtilizationDto::getResourceName)
+                    .thenComparing(ResourceUtilizationDto::getResourceId));
+            for (ResourceUtilizationDto resource : resources) {
+                writer.writeRow(resource.getResourceName(), resource.getOpeningQuantity(),
+                        resource.getReceivedQuantity(), resource.getConsumedQuantity(), resource.getAdjustedQuantity(),
+                        resource.getClosingQuantity(), resource.getConsumptionPerDay(), resource.getTurnover(),
+                        resource.getStockOutMinutes());
+            }
+        }
+    }
+
+    private ZoneId toZoneId(String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new ValidationException("Unsupported time zone: " + timeZone);
+        }
+    }
+
+    private OffsetDateTime toZone(LocalDateTime dateTime, ZoneId zone) {
+        return dateTime != null
+                ? dateTime.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toOffsetDateTime()
+                : null;
+    }
+
+    private List<Orphanage> scrollOrphanages(String cursor, int size) {
+        CursorPage.checkSize(size);
+        return orphanageRepository.findBy(createdBefore(Cursor.decode(cursor)),
+                query -> query.sortBy(NEWEST_FIRST).limit(size + 1).all());
+    }
+
+    /**
+     * Reads the resources of a page of orphanages in one query and computes the utilization
+     * of all of them from the ledger at once, keyed by orphanage ID.
+     */
+    private Map<Long, List<ResourceUtilizationDto>> utilizationByOrphanage(List<Orphanage> orphanages,
+            LocalDateTime startDate, LocalDateTime endDate) {
+        if (orphanages.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> orphanageIds = orphanages.stream().map(Orphanage::getId).toList();
+        List<ResourceQuantity> resources = resourceRepository.findQuantitiesByOrphanageIds(orphanageIds);
+        if (resources.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ResourceUtilizationDto> byResource = resourceLedgerService.getUtilization(
+                resources.stream().map(ResourceQuantity::getId).toList(), startDate, endDate);
+        Map<Long, List<ResourceUtilizationDto>> utilization = new HashMap<>();
+        for (ResourceQuantity resource : resources) {
+            ResourceUtilizationDto resourceUtilization = byResource.get(resource.getId());
+            resourceUtilization.setResourceName(resource.getName());
+            utilization.computeIfAbsent(resource.getOrphanageId(), id -> new ArrayList<>()).add(resourceUtilization);
+        }
+        return utilization;
+    }
+
+    private ResourceUtilizationReportDto toResourceUtilizationReport(Orphanage orphanage,
+            List<ResourceUtilizationDto> resources, LocalDateTime startDate, LocalDateTime endDate,
+            String reportType, String timeZone) {
+        List<ResourceUtilizationDto> utilization = resources != null ? resources : new ArrayList<>();
+        // resources are reported by name, so resources sharing a name are added up
+        Map<String, Long> consumed = new HashMap<>();
+        Map<String, Long> received = new HashMap<>();
+        Set<String> lowStock = new TreeSet<>();
+        for (ResourceUtilizationDto resource : utilization) {
+            consumed.merge(resource.getResourceName(), resource.getConsumedQuantity(), Long::sum);
+            received.merge(resource.getResourceName(), resource.getReceivedQuantity(), Long::sum);
+            if (resource.getStockOutMinutes() > 0) {
+                lowStock.add(resource.getResourceName());
+            }
+        }
+
+        ResourceUtilizationReportDto report = new ResourceUtilizationReportDto();
+        report.setOrphanageId(orphanage.getId());
+        report.setOrphanageName(orphanage.getName());
+        report.setResources(utilization);
+        report.setResourceUtilization(consumed);
+        report.setResourceDonations(received);
+        report.setLowStockResources(new ArrayList<>(lowStock));
+        report.setStartDate(startDate);
+        report.setEndDate(endDate);
+        report.setReportType(reportType);
+        report.setTimeZone(timeZone);
+        return report;
+    }
+
+    private static Cursor cursorOf(Orphanage orphanage) {
+        return Cursor.of(orphanage.getCreatedAt(), orphanage.getId());
+    }
+
+    /**
+     * Appends orphanage ID to the requested sort, so that orphanages with equal sort keys
+     * keep the same order from one page to the next.
+     */
+    private static Pageable orderedById(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+
+    private DonationReportDto toDonationReport(DonationAggregate aggregate, LocalDateTime startDate,
+            LocalDateTime endDate, String reportType, String currency, String timeZone) {
+        DonationReportDto report = new DonationReportDto();
+        report.setOrphanageId(aggregate.getOrphanageId());
+        report.setOrphanageName(aggregate.getOrphanageName());
+        report.setStartDate(startDate);
+        report.setEndDate(endDate);
+        report.setReportType(reportType);
+        report.setCurrency(currency);
+        report.setTimeZone(timeZone);
+        report.setTotalDonations(aggregate.getTotalDonations());
+        report.setTotalMonetaryAmount(aggregate.getTotalMonetaryAmount() != null
+                ? aggregate.getTotalMonetaryAmount() : BigDecimal.ZERO);
+        report.setTotalResourceDonations(aggregate.getTotalResourceDonations() != null
+                ? aggregate.getTotalResourceDonations() : 0L);
+        return report;
     }
 }
\ No newline at end of file
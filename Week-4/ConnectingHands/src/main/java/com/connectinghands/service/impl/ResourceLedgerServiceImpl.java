@@ -0,0 +1,261 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.ResourceUtilizationDto;
+import com.connectinghands.entity.ResourceMovement;
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.entity.ResourceSnapshot;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.ResourceMovementRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceSnapshotRepository;
+import com.connectinghands.repository.projection.ResourceChangeTotals;
+import com.connectinghands.service.ResourceLedgerService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ResourceLedgerService interface.
+ * The position of a resource at a time is the latest snapshot at or before it plus the
+ * movements since that snapshot. Every resource is snapshotted in each run, so finding
+ * the snapshot is one lookup of the latest run and the movements read are bounded by the
+ * snapshot interval plus the report window, however long the history grows.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+public class ResourceLedgerServiceImpl implements ResourceLedgerService {
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    private final ResourceMovementRepository movementRepository;
+    private final ResourceSnapshotRepository snapshotRepository;
+    private final ResourceRepository resourceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int snapshotBatchSize;
+
+    public ResourceLedgerServiceImpl(ResourceMovementRepository movementRepository,
+                                     ResourceSnapshotRepository snapshotRepository,
+                                     ResourceRepository resourceRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${resource.ledger.snapshot-batch-size:1000}") int snapshotBatchSize) {
+        this.movementRepository = movementRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.resourceRepository = resourceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotBatchSize = snapshotBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public void record(Long resourceId, ResourceMovementType type, int amount) {
+        ResourceMovement movement = new ResourceMovement();
+        movement.setResourceId(resourceId);
+        movement.setType(type);
+        movement.setQuantityChange(type.quantityChange(amount));
+        movement.setReservedChange(type.reservedChange(amount));
+        movement.setOccurredAt(LocalDateTime.now());
+        movementRepository.save(movement);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ResourceUtilizationDto> getUtilization(Collection<Long> resourceIds, LocalDateTime startDate,
+                                                            LocalDateTime endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        if (resourceIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = endDate.isBefore(now) ? endDate : startDate.isAfter(now) ? startDate : now;
+
+        Map<Long, Position> openings = positionsAt(resourceIds, startDate);
+        Map<Long, Replay> replays = new LinkedHashMap<>();
+        for (Long resourceId : resourceIds) {
+            replays.put(resourceId, new Replay(openings.get(resourceId), startDate));
+        }
+        for (ResourceMovement movement : movementRepository.findInRange(resourceIds, startDate, until)) {
+            replays.get(movement.getResourceId()).apply(movement);
+        }
+
+        long windowMillis = Duration.between(startDate, until).toMillis();
+        Map<Long, ResourceUtilizationDto> utilization = new LinkedHashMap<>();
+        replays.forEach((resourceId, replay) ->
+                utilization.put(resourceId, replay.finish(resourceId, until, windowMillis)));
+        return utilization;
+    }
+
+    @Override
+    public int takeSnapshots(LocalDateTime snapshotAt) {
+        int written = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<Long> resourceIds = resourceRepository.findIdsAfter(afterId, PageRequest.of(0, snapshotBatchSize));
+            if (resourceIds.isEmpty()) {
+                return written;
+            }
+            written += transactionTemplate.execute(status -> snapshot(resourceIds, snapshotAt));
+            afterId = resourceIds.get(resourceIds.size() - 1);
+        }
+    }
+
+    private int snapshot(List<Long> resourceIds, LocalDateTime snapshotAt) {
+        Map<Long, Position> positions = positionsAt(resourceIds, snapshotAt);
+        List<ResourceSnapshot> snapshots = new ArrayList<>(positions.size());
+        // resources without a position were created after the snapshot time
+        positions.forEach((resourceId, position) -> {
+            ResourceSnapshot snapshot = new ResourceSnapshot();
+            snapshot.setResourceId(resourceId);
+            snapshot.setSnapshotAt(snapshotAt);
+            snapshot.setQuantity(Math.toIntExact(position.quantity));
+            snapshot.setReservedQuantity(Math.toIntExact(position.reserved));
+            snapshots.add(snapshot);
+        });
+        snapshotRepository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    /**
+     * Computes the positions of the given resources at a time, absent for resources that
+     * have neither a snapshot nor a movement by then.
+     */
+    private Map<Long, Position> positionsAt(Collection<Long> resourceIds, LocalDateTime at) {
+        Map<Long, Position> positions = new HashMap<>();
+        Set<Long> missing = new HashSet<>(resourceIds);
+
+        LocalDateTime latestRun = snapshotRepository.findLatestSnapshotTime(at);
+        if (latestRun != null) {
+            addSnapshots(positions, missing,
+                    snapshotRepository.findByResourceIdInAndSnapshotAt(resourceIds, latestRun), at);
+        }
+        if (!missing.isEmpty()) {
+            // created since the latest run, or skipped by a run that failed part way
+            addSnapshots(positions, missing, snapshotRepository.findLatestByResourceIds(missing, at), at);
+        }
+        if (!missing.isEmpty()) {
+            addChanges(positions, movementRepository.sumChangesUpTo(missing, at));
+        }
+        return positions;
+    }
+
+    private void addSnapshots(Map<Long, Position> positions, Set<Long> missing, List<ResourceSnapshot> snapshots,
+                              LocalDateTime at) {
+        Map<LocalDateTime, List<ResourceSnapshot>> byTime = snapshots.stream()
+                .collect(Collectors.groupingBy(ResourceSnapshot::getSnapshotAt));
+        byTime.forEach((snapshotAt, taken) -> {
+            List<Long> takenIds = new ArrayList<>(taken.size());
+            for (ResourceSnapshot snapshot : taken) {
+                positions.put(snapshot.getResourceId(),
+                        new Position(snapshot.getQuantity(), snapshot.getReservedQuantity()));
+                takenIds.add(snapshot.getResourceId());
+            }
+            missing.removeAll(takenIds);
+            if (snapshotAt.isBefore(at)) {
+                addChanges(positions, movementRepository.sumChanges(takenIds, snapshotAt, at));
+            }
+        });
+    }
+
+    private static void addChanges(Map<Long, Position> positions, List<ResourceChangeTotals> totals) {
+        for (ResourceChangeTotals total : totals) {
+            Position position = positions.computeIfAbsent(total.getResourceId(), id -> new Position(0, 0));
+            position.quantity += total.getQuantityChange();
+            position.reserved += total.getReservedChange();
+        }
+    }
+
+    private static final class Position {
+        private long quantity;
+        private long reserved;
+
+        private Position(long quantity, long reserved) {
+            this.quantity = quantity;
+            this.reserved = reserved;
+        }
+    }
+
+    /**
+     * Walks the movements of one resource through the window, integrating its quantity and
+     * the time nothing was available over the time between movements.
+     */
+    private static final class Replay {
+        private final long openingQuantity;
+        private boolean open;
+        private long quantity;
+        private long reserved;
+        private LocalDateTime last;
+        private double quantityMillis;
+        private long stockOutMillis;
+        private long received;
+        private long consumed;
+        private long adjusted;
+
+        private Replay(Position opening, LocalDateTime start) {
+            // a resource without an opening position did not exist yet and is not out of stock
+            this.open = opening != null;
+            this.quantity = open ? opening.quantity : 0;
+            this.reserved = open ? opening.reserved : 0;
+            this.openingQuantity = quantity;
+            this.last = start;
+        }
+
+        private void apply(ResourceMovement movement) {
+            advance(movement.getOccurredAt());
+            open = true;
+            quantity += movement.getQuantityChange();
+            reserved += movement.getReservedChange();
+            switch (movement.getType()) {
+                case RECEIVED -> received += movement.getQuantityChange();
+                case CONSUMED -> consumed -= movement.getQuantityChange();
+                case OPENED, ADJUSTED, CLOSED -> adjusted += movement.getQuantityChange();
+                default -> {
+                    // reservations move no stock in or out
+                }
+            }
+        }
+
+        private void advance(LocalDateTime to) {
+            long millis = Duration.between(last, to).toMillis();
+            quantityMillis += (double) quantity * millis;
+            if (open && quantity - reserved <= 0) {
+                stockOutMillis += millis;
+            }
+            last = to;
+        }
+
+        private ResourceUtilizationDto finish(Long resourceId, LocalDateTime until, long windowMillis) {
+            advance(until);
+            ResourceUtilizationDto dto = new ResourceUtilizationDto();
+            dto.setResourceId(resourceId);
+            dto.setOpeningQuantity(openingQuantity);
+            dto.setReceivedQuantity(received);
+            dto.setConsumedQuantity(consumed);
+            dto.setAdjustedQuantity(adjusted);
+            dto.setClosingQuantity(quantity);
+            dto.setStockOutMinutes(Duration.ofMillis(stockOutMillis).toMinutes());
+            if (windowMillis > 0) {
+                double averageQuantity = quantityMillis / windowMillis;
+                dto.setAverageQuantity(averageQuantity);
+                dto.setConsumptionPerDay(consumed / (windowMillis / MILLIS_PER_DAY));
+                dto.setTurnover(averageQuantity > 0 ? consumed / averageQuantity : null);
+            }
+            return dto;
+        }
+    }
+}
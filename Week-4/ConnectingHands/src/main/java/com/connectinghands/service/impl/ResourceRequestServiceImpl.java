@@ -8,20 +8,23 @@ import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
 import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.mapper.ResourceRequestMapper;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
 import com.connectinghands.service.AuditLogService;
 import com.connectinghands.service.ResourceRequestService;
 import com.connectinghands.service.SecurityService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Implementation of ResourceRequestService.
@@ -36,6 +39,8 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
     private final OrphanageRepository orphanageRepository;
     private final SecurityService securityService;
     private final AuditLogService auditLogService;
+    private final EntityManager entityManager;
+    private final ResourceRequestMapper resourceRequestMapper;
 
     @Override
     @Transactional
@@ -60,7 +65,7 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             savedRequest.getId()
         );
 
-        return convertToDto(savedRequest);
+        return resourceRequestMapper.toDto(savedRequest);
     }
 
     @Override
@@ -69,31 +74,38 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
         ResourceRequest resourceRequest = resourceRequestRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
 
-        return convertToDto(resourceRequest);
+        return resourceRequestMapper.toDto(resourceRequest);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ResourceRequestDto> getAllResourceRequests() {
-        return resourceRequestRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public Slice<ResourceRequestDto> getAllResourceRequests(Pageable pageable) {
+        return resourceRequestMapper.toDtoSlice(resourceRequestRepository.findAllBy(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllResourceRequests(Consumer<ResourceRequestDto> consumer) {
+        EntityStreams.forEach(resourceRequestRepository.streamAll(), entityManager, resourceRequestMapper::toDto, consumer);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ResourceRequestDto> getResourceRequestsByOrphanage(Long orphanageId) {
-        return resourceRequestRepository.findByOrphanageId(orphanageId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return resourceRequestMapper.toDtoList(resourceRequestRepository.findByOrphanageId(orphanageId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status, Pageable pageable) {
+        return resourceRequestMapper.toDtoSlice(resourceRequestRepository.findByStatus(status, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status) {
-        return resourceRequestRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public void streamResourceRequestsByStatus(ResourceRequestStatus status, Consumer<ResourceRequestDto> consumer) {
+        EntityStreams.forEach(resourceRequestRepository.streamByStatus(status), entityManager,
+                resourceRequestMapper::toDto, consumer);
     }
 
     @Override
@@ -134,7 +146,7 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             id
         );
 
-        return convertToDto(updatedRequest);
+        return resourceRequestMapper.toDto(updatedRequest);
     }
 
     @Override
@@ -152,22 +164,4 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             id
         );
     }
-
-    private ResourceRequestDto convertToDto(ResourceRequest request) {
-        ResourceRequestDto dto = new ResourceRequestDto();
-        dto.setId(request.getId());
-        dto.setName(request.getName());
-        dto.setDescription(request.getDescription());
-        dto.setCategory(ResourceCategory.valueOf(request.getCategory()));
-        dto.setQuantity(request.getQuantity());
-        dto.setUnit(request.getUnit());
-        dto.setOrphanageName(request.getOrphanage().getName());
-        dto.setOrphanageId(request.getOrphanage().getId());
-        dto.setStatus(request.getStatus());
-        dto.setFulfilledBy(request.getFulfilledBy());
-        dto.setFulfilledAt(request.getFulfilledAt());
-        dto.setCreatedAt(request.getCreatedAt());
-        dto.setUpdatedAt(request.getUpdatedAt());
-        return dto;
-    }
 }
\ No newline at end of file
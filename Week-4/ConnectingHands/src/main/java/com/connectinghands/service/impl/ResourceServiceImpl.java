@@ -2,26 +2,39 @@ package com.connectinghands.service.impl;
 
 import com.connectinghands.dto.CreateResourceRequest;
 import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.dto.ResourceInventoryDto;
 import com.connectinghands.dto.UpdateResourceDto;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceMovementType;
 import com.connectinghands.entity.ResourceStatus;
 import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.inventory.HotResourceAccumulator;
+import com.connectinghands.mapper.ResourceMapper;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.projection.ResourceInventory;
+import com.connectinghands.service.ResourceLedgerService;
 import com.connectinghands.service.ResourceService;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
 
 /**
  * Implementation of the ResourceService interface.
- * Handles CRUD operations for resources.
+ * Handles CRUD operations for resources. Every change to a resource's quantities is
+ * recorded in the resource ledger in the same transaction.
  *
  * @author Ragul Venkatesan
  */
@@ -30,10 +43,21 @@ public class ResourceServiceImpl implements ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final OrphanageRepository orphanageRepository;
+    private final EntityManager entityManager;
+    private final ResourceMapper resourceMapper;
+    private final HotResourceAccumulator hotResourceAccumulator;
+    private final ResourceLedgerService resourceLedgerService;
 
-    public ResourceServiceImpl(ResourceRepository resourceRepository, OrphanageRepository orphanageRepository) {
+    public ResourceServiceImpl(ResourceRepository resourceRepository, OrphanageRepository orphanageRepository,
+                               EntityManager entityManager, ResourceMapper resourceMapper,
+                               HotResourceAccumulator hotResourceAccumulator,
+                               ResourceLedgerService resourceLedgerService) {
         this.resourceRepository = resourceRepository;
         this.orphanageRepository = orphanageRepository;
+        this.entityManager = entityManager;
+        this.resourceMapper = resourceMapper;
+        this.hotResourceAccumulator = hotResourceAccumulator;
+        this.resourceLedgerService = resourceLedgerService;
     }
 
     /**
@@ -60,7 +84,8 @@ public class ResourceServiceImpl implements ResourceService {
         resource.setStatus(ResourceStatus.AVAILABLE);
 
         Resource savedResource = resourceRepository.save(resource);
-        return convertToDto(savedResource);
+        resourceLedgerService.record(savedResource.getId(), ResourceMovementType.OPENED, savedResource.getQuantity());
+        return resourceMapper.toDto(savedResource);
     }
 
     /**
@@ -75,7 +100,7 @@ public class ResourceServiceImpl implements ResourceService {
     public ResourceDto getResource(Long id) {
         Resource resource = resourceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
-        return convertToDto(resource);
+        return resourceMapper.toDto(resource);
     }
 
     /**
@@ -88,8 +113,7 @@ public class ResourceServiceImpl implements ResourceService {
     @Override
     @Transactional(readOnly = true)
     public Page<ResourceDto> getAllResources(Pageable pageable) {
-        return resourceRepository.findAll(pageable)
-                .map(this::convertToDto);
+        return resourceMapper.toDtoPage(resourceRepository.findAll(pageable));
     }
 
     /**
@@ -101,37 +125,59 @@ public class ResourceServiceImpl implements ResourceService {
     @Override
     @Transactional(readOnly = true)
     public List<ResourceDto> getResourcesByOrphanage(Long orphanageId) {
-        return resourceRepository.findByOrphanageId(orphanageId).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return resourceMapper.toDtoList(resourceRepository.findByOrphanageId(orphanageId));
     }
 
     /**
      * Retrieves resources by category.
      *
      * @param category The category of the resources
-     * @return A list of resource DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResourceDto> getResourcesByCategory(ResourceCategory category, Pageable pageable) {
+        return resourceMapper.toDtoSlice(resourceRepository.findByCategory(category, pageable));
+    }
+
+    /**
+     * Streams every resource of a category to the consumer, in ID order.
+     *
+     * @param category The category of the resources
+     * @param consumer Receives each resource DTO
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ResourceDto> getResourcesByCategory(ResourceCategory category) {
-        return resourceRepository.findByCategory(category).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public void streamResourcesByCategory(ResourceCategory category, Consumer<ResourceDto> consumer) {
+        EntityStreams.forEach(resourceRepository.streamByCategory(category), entityManager,
+                resourceMapper::toDto, consumer);
     }
 
     /**
      * Retrieves resources by status.
      *
      * @param status The status of the resources
-     * @return A list of resource DTOs
+     * @param pageable Pagination and sorting information
+     * @return A slice of resource DTOs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResourceDto> getResourcesByStatus(ResourceStatus status, Pageable pageable) {
+        return resourceMapper.toDtoSlice(resourceRepository.findByStatus(status, pageable));
+    }
+
+    /**
+     * Streams every resource with a status to the consumer, in ID order.
+     *
+     * @param status The status of the resources
+     * @param consumer Receives each resource DTO
      */
     @Override
     @Transactional(readOnly = true)
-    public List<ResourceDto> getResourcesByStatus(ResourceStatus status) {
-        return resourceRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public void streamResourcesByStatus(ResourceStatus status, Consumer<ResourceDto> consumer) {
+        EntityStreams.forEach(resourceRepository.streamByStatus(status), entityManager,
+                resourceMapper::toDto, consumer);
     }
 
     /**
@@ -142,19 +188,19 @@ public class ResourceServiceImpl implements ResourceService {
     @Override
     @Transactional(readOnly = true)
     public List<ResourceDto> getAllResourcesWithOrphanage() {
-        return resourceRepository.findAllWithOrphanage().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return resourceMapper.toDtoList(resourceRepository.findAllWithOrphanage());
     }
 
     /**
      * Updates an existing resource.
-     * Logs the update action.
+     * A new quantity is applied with a conditional update against the quantity read, so a
+     * concurrent inventory operation is never overwritten, and recorded as an adjustment.
      *
      * @param id The ID of the resource to update
      * @param request The request containing updated resource details
      * @return The updated resource DTO
      * @throws ResourceNotFoundException if the resource is not found
+     * @throws ValidationException if the quantity is below the reserved quantity or changed concurrently
      */
     @Override
     @Transactional
@@ -171,7 +217,15 @@ public class ResourceServiceImpl implements ResourceService {
         if (request.getCategory() != null) {
             resource.setCategory(request.getCategory());
         }
-        if (request.getQuantity() != null) {
+        if (request.getQuantity() != null && !request.getQuantity().equals(resource.getQuantity())) {
+            if (request.getQuantity() < resource.getReservedQuantity()) {
+                throw new ValidationException("Quantity cannot be less than the reserved quantity");
+            }
+            if (resourceRepository.adjustQuantity(id, resource.getQuantity(), request.getQuantity()) == 0) {
+                throw new ValidationException("Quantity was changed concurrently; reload the resource and retry");
+            }
+            resourceLedgerService.record(id, ResourceMovementType.ADJUSTED,
+                    request.getQuantity() - resource.getQuantity());
             resource.setQuantity(request.getQuantity());
         }
         if (request.getUnit() != null) {
@@ -182,43 +236,152 @@ public class ResourceServiceImpl implements ResourceService {
         }
         
         Resource updatedResource = resourceRepository.save(resource);
-        return convertToDto(updatedResource);
+        return resourceMapper.toDto(updatedResource);
     }
 
     /**
-     * Deletes a resource by its ID.
-     * Logs the deletion action.
+     * Adds a received amount to the quantity of a resource with one conditional update.
+     * Amounts received by hot resources are accumulated in memory once the transaction
+     * commits and written in batches instead.
      *
-     * @param id The ID of the resource to delete
+     * @param id The ID of the resource
+     * @param amount The amount received
+     * @return The quantities of the resource, including accumulated amounts not yet written
      * @throws ResourceNotFoundException if the resource is not found
+     * @throws ValidationException if the amount is not positive
      */
     @Override
     @Transactional
-    public void deleteResource(Long id) {
-        if (!resourceRepository.existsById(id)) {
+    public ResourceInventoryDto incrementQuantity(Long id, int amount) {
+        checkAmount(amount);
+        if (hotResourceAccumulator.isHot(id)) {
+            ResourceInventory inventory = findInventory(id);
+            afterCommit(() -> hotResourceAccumulator.add(id, amount));
+            return toInventoryDto(inventory, hotResourceAccumulator.pending(id) + amount);
+        }
+        if (resourceRepository.incrementQuantity(id, amount) == 0) {
             throw new ResourceNotFoundException("Resource not found");
         }
-        resourceRepository.deleteById(id);
+        resourceLedgerService.record(id, ResourceMovementType.RECEIVED, amount);
+        return toInventoryDto(findInventory(id), 0);
+    }
+
+    /**
+     * Takes an amount that is not reserved from a resource with one conditional update,
+     * which fails instead of taking the quantity below the reserved amount.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount taken
+     * @return The quantities of the resource
+     * @throws ResourceNotFoundException if the resource is not found
+     * @throws ValidationException if the amount is not positive or not available
+     */
+    @Override
+    @Transactional
+    public ResourceInventoryDto decrementQuantity(Long id, int amount) {
+        return apply(id, amount, resourceRepository::decrementQuantity, ResourceMovementType.CONSUMED,
+                "Not enough quantity available");
+    }
+
+    /**
+     * Holds an amount of a resource with one conditional update, which fails instead of
+     * reserving more than is available.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount held
+     * @return The quantities of the resource
+     * @throws ResourceNotFoundException if the resource is not found
+     * @throws ValidationException if the amount is not positive or not available
+     */
+    @Override
+    @Transactional
+    public ResourceInventoryDto reserveQuantity(Long id, int amount) {
+        return apply(id, amount, resourceRepository::reserveQuantity, ResourceMovementType.RESERVED,
+                "Not enough quantity available");
+    }
+
+    /**
+     * Returns a held amount of a resource with one conditional update, which fails instead
+     * of releasing more than is held.
+     *
+     * @param id The ID of the resource
+     * @param amount The amount released
+     * @return The quantities of the resource
+     * @throws ResourceNotFoundException if the resource is not found
+     * @throws ValidationException if the amount is not positive or not reserved
+     */
+    @Override
+    @Transactional
+    public ResourceInventoryDto releaseQuantity(Long id, int amount) {
+        return apply(id, amount, resourceRepository::releaseQuantity, ResourceMovementType.RELEASED,
+                "Not enough quantity reserved");
     }
 
     /**
-     * Converts a Resource entity to a ResourceDto.
+     * Deletes a resource by its ID.
+     * Logs the deletion action. The ledger keeps the resource's history and records the
+     * release of any reserved quantity and the write-off of the rest.
      *
-     * @param resource The resource entity to convert
-     * @return The converted ResourceDto
+     * @param id The ID of the resource to delete
+     * @throws ResourceNotFoundException if the resource is not found
      */
-    private ResourceDto convertToDto(Resource resource) {
-        ResourceDto dto = new ResourceDto();
-        dto.setId(resource.getId());
-        dto.setName(resource.getName());
-        dto.setDescription(resource.getDescription());
-        dto.setCategory(resource.getCategory());
-        dto.setQuantity(resource.getQuantity());
-        dto.setUnit(resource.getUnit());
-        dto.setOrphanageName(resource.getOrphanage().getName());
-        dto.setStatus(resource.getStatus());
-        dto.setCreatedAt(resource.getCreatedAt());
-        dto.setUpdatedAt(resource.getUpdatedAt());
+    @Override
+    @Transactional
+    public void deleteResource(Long id) {
+        ResourceInventory inventory = findInventory(id);
+        if (inventory.getReservedQuantity() > 0) {
+            resourceLedgerService.record(id, ResourceMovementType.RELEASED, inventory.getReservedQuantity());
+        }
+        resourceLedgerService.record(id, ResourceMovementType.CLOSED, inventory.getQuantity());
+        resourceRepository.deleteById(id);
+    }
+
+    private ResourceInventoryDto apply(Long id, int amount, ToIntBiFunction<Long, Integer> update,
+                                       ResourceMovementType movementType, String insufficientMessage) {
+        checkAmount(amount);
+        int updated = update.applyAsInt(id, amount);
+        // amounts accumulated for a hot resource are not in the row yet; write them and retry
+        if (updated == 0 && hotResourceAccumulator.pending(id) > 0 && hotResourceAccumulator.flush(id)) {
+            updated = update.applyAsInt(id, amount);
+        }
+        ResourceInventory inventory = findInventory(id);
+        if (updated == 0) {
+            throw new ValidationException(insufficientMessage);
+        }
+        resourceLedgerService.record(id, movementType, amount);
+        return toInventoryDto(inventory, hotResourceAccumulator.pending(id));
+    }
+
+    private ResourceInventory findInventory(Long id) {
+        return resourceRepository.findInventoryById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+    }
+
+    private static void checkAmount(int amount) {
+        if (amount <= 0) {
+            throw new ValidationException("Amount must be positive");
+        }
+    }
+
+    private static ResourceInventoryDto toInventoryDto(ResourceInventory inventory, long pending) {
+        ResourceInventoryDto dto = new ResourceInventoryDto();
+        dto.setResourceId(inventory.getId());
+        dto.setQuantity((int) (inventory.getQuantity() + pending));
+        dto.setReservedQuantity(inventory.getReservedQuantity());
+        dto.setAvailableQuantity(dto.getQuantity() - inventory.getReservedQuantity());
         return dto;
     }
-}
\ No newline at end of file
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
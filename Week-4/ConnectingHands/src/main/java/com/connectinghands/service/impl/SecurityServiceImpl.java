@@ -1,8 +1,14 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.security.AuthorizationDecisionCache;
+import com.connectinghands.security.SecurityRequestContext;
+import com.connectinghands.security.jwt.JwtPrincipal;
 import com.connectinghands.service.SecurityService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -10,26 +16,49 @@ import org.springframework.stereotype.Service;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Implementation of SecurityService.
  * Handles security-related operations using Spring Security context.
+ * The current user and orphanage-admin decisions are resolved at most once per request,
+ * and decisions are additionally shared across requests through the
+ * {@link AuthorizationDecisionCache}.
  *
  * @author Ragul Venkatesan
  */
 @Service
 public class SecurityServiceImpl implements SecurityService, UserDetailsService {
+    private static final String REQUEST_CONTEXT_ATTRIBUTE = SecurityRequestContext.class.getName();
+
     private final UserRepository userRepository;
+    private final AuthorizationDecisionCache decisionCache;
+    private final DistributionSummary lookupsAvoided;
 
-    public SecurityServiceImpl(UserRepository userRepository) {
+    public SecurityServiceImpl(UserRepository userRepository, AuthorizationDecisionCache decisionCache,
+                               MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
+        this.decisionCache = decisionCache;
+        this.lookupsAvoided = DistributionSummary.builder("security.request.lookups.avoided")
+                .description("Security lookups per request answered without the database")
+                .register(meterRegistry);
     }
 
     @Override
     public User getCurrentUser() {
         Long userId = getCurrentUserId();
-        return userRepository.findById(userId)
+        SecurityRequestContext context = requestContext(userId);
+        if (context != null && context.getCurrentUser() != null) {
+            context.lookupAvoided();
+            return context.getCurrentUser();
+        }
+        User user = userRepository.findById(userId)
             .orElseThrow(() -> new AccessDeniedException("User not found"));
+        if (context != null) {
+            context.setCurrentUser(user);
+        }
+        return user;
     }
 
     @Override
@@ -51,16 +80,59 @@ public class SecurityServiceImpl implements SecurityService, UserDetailsService
     @Override
     public boolean isCurrentUserOrphanageAdmin(Long orphanageId) {
         try {
-            User currentUser = getCurrentUser();
-            // Check if user has orphanage admin role and is associated with the orphanage
-            return currentUser.getRole().name().equals("ROLE_ORPHANAGE_ADMIN") && 
-                   currentUser.getOrphanage() != null && 
-                   currentUser.getOrphanage().getId().equals(orphanageId);
+            if (currentPrincipal() instanceof JwtPrincipal principal) {
+                return principal.getRole() == UserRole.ROLE_ORPHANAGE_ADMIN &&
+                       orphanageId.equals(principal.getOrphanageId());
+            }
+            Long userId = getCurrentUserId();
+            SecurityRequestContext context = requestContext(userId);
+            Boolean decision = context != null ? context.getOrphanageAdminDecision(orphanageId) : null;
+            if (decision == null) {
+                decision = decisionCache.get(userId, orphanageId);
+                if (decision == null) {
+                    decision = loadOrphanageAdminDecision(orphanageId);
+                    decisionCache.put(userId, orphanageId, decision);
+                } else if (context != null) {
+                    context.lookupAvoided();
+                }
+                if (context != null) {
+                    context.putOrphanageAdminDecision(orphanageId, decision);
+                }
+            } else {
+                context.lookupAvoided();
+            }
+            return decision;
         } catch (AccessDeniedException e) {
             return false;
         }
     }
 
+    @Override
+    public void evictUserDecisions(Long userId) {
+        decisionCache.evictUser(userId);
+        SecurityRequestContext context = existingRequestContext();
+        if (context != null && userId.equals(context.getUserId())) {
+            context.clearOrphanageAdminDecisions();
+        }
+    }
+
+    @Override
+    public void evictOrphanageDecisions(Long orphanageId) {
+        decisionCache.evictOrphanage(orphanageId);
+        SecurityRequestContext context = existingRequestContext();
+        if (context != null) {
+            context.clearOrphanageAdminDecisions();
+        }
+    }
+
+    private boolean loadOrphanageAdminDecision(Long orphanageId) {
+        User currentUser = getCurrentUser();
+        // Check if user has orphanage admin role and is associated with the orphanage
+        return currentUser.getRole().name().equals("ROLE_ORPHANAGE_ADMIN") &&
+               currentUser.getOrphanage() != null &&
+               currentUser.getOrphanage().getId().equals(orphanageId);
+    }
+
     /**
      * Retrieves the ID of the currently authenticated user from the Spring Security context.
      * Throws AccessDeniedException if no authenticated user is found or if the user ID is invalid.
@@ -73,7 +145,9 @@ public class SecurityServiceImpl implements SecurityService, UserDetailsService
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated() && !"anonymousUser".equals(authentication.getPrincipal())) {
             try {
-                if (authentication.getPrincipal() instanceof User) {
+                if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+                    return principal.getUserId();
+                } else if (authentication.getPrincipal() instanceof User) {
                     return ((User) authentication.getPrincipal()).getId();
                 } else {
                     return Long.parseLong(authentication.getName());
@@ -84,4 +158,41 @@ public class SecurityServiceImpl implements SecurityService, UserDetailsService
         }
         throw new AccessDeniedException("No authenticated user found");
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the lookups already resolved in the current request for the given user,
+     * starting a fresh set if there is none yet or it belongs to another user.
+     * The number of lookups avoided is recorded when the request completes.
+     *
+     * @param userId The ID of the current user
+     * @return The request's security context, or null outside of a request
+     */
+    private SecurityRequestContext requestContext(Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        SecurityRequestContext context = (SecurityRequestContext)
+                attributes.getAttribute(REQUEST_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context == null || !userId.equals(context.getUserId())) {
+            SecurityRequestContext created = new SecurityRequestContext(userId);
+            attributes.setAttribute(REQUEST_CONTEXT_ATTRIBUTE, created, RequestAttributes.SCOPE_REQUEST);
+            attributes.registerDestructionCallback(REQUEST_CONTEXT_ATTRIBUTE,
+                    () -> lookupsAvoided.record(created.getLookupsAvoided()), RequestAttributes.SCOPE_REQUEST);
+            context = created;
+        }
+        return context;
+    }
+
+    private SecurityRequestContext existingRequestContext() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? (SecurityRequestContext) attributes.getAttribute(REQUEST_CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+
+    private Object currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getPrincipal() : null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.entity.UnreadMessageCounter;
+import com.connectinghands.messaging.UnreadCountCache;
+import com.connectinghands.repository.MessageRepository;
+import com.connectinghands.repository.UnreadMessageCounterRepository;
+import com.connectinghands.repository.projection.UnreadCounterCheck;
+import com.connectinghands.service.UnreadCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Implementation of the UnreadCounterService interface.
+ * Counters are adjusted with atomic updates in the caller's transaction and read through
+ * the {@link UnreadCountCache}. Reconciliation walks the counters in user ID order, one
+ * batch per transaction, and only overwrites a counter that has not changed since it was
+ * recounted.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+public class UnreadCounterServiceImpl implements UnreadCounterService {
+    private final UnreadMessageCounterRepository counterRepository;
+    private final MessageRepository messageRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+
+    private final Counter repairedCounter;
+
+    public UnreadCounterServiceImpl(UnreadMessageCounterRepository counterRepository,
+                                    MessageRepository messageRepository,
+                                    UnreadCountCache unreadCountCache,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${message.unread.reconcile-batch-size:1000}") int reconcileBatchSize) {
+        this.counterRepository = counterRepository;
+        this.messageRepository = messageRepository;
+        this.unreadCountCache = unreadCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileBatchSize = reconcileBatchSize;
+
+        this.repairedCounter = Counter.builder("message.unread.reconciled")
+                .description("Unread counters found to have drifted and repaired")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void increment(Long userId, long count) {
+        counterRepository.increment(userId, count);
+        unreadCountCache.evict(userId);
+    }
+
+    @Override
+    @Transactional
+    public void decrement(Long userId, long count) {
+        counterRepository.decrement(userId, count);
+        unreadCountCache.evict(userId);
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        // not transactional, so a cache hit never takes a connection
+        Long cached = unreadCountCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long count = counterRepository.findById(userId)
+                .map(UnreadMessageCounter::getUnreadCount)
+                .orElseGet(() -> transactionTemplate.execute(status -> {
+                    long counted = messageRepository.countByReceiverIdAndReadFalse(userId);
+                    counterRepository.insertIfAbsent(userId, counted);
+                    return counted;
+                }));
+        unreadCountCache.put(userId, count);
+        return count;
+    }
+
+    @Override
+    public int reconcile() {
+        int repaired = 0;
+        Long afterUserId = 0L;
+        while (true) {
+            Long after = afterUserId;
+            List<UnreadCounterCheck> checks = transactionTemplate.execute(status ->
+                    counterRepository.checkCounters(after, PageRequest.of(0, reconcileBatchSize)));
+            if (checks == null || checks.isEmpty()) {
+                return repaired;
+            }
+            repaired += transactionTemplate.execute(status -> repairDrifted(checks));
+            afterUserId = checks.get(checks.size() - 1).getUserId();
+        }
+    }
+
+    private int repairDrifted(List<UnreadCounterCheck> checks) {
+        int repaired = 0;
+        for (UnreadCounterCheck check : checks) {
+            if (!check.getStoredCount().equals(check.getActualCount())
+                    && counterRepository.repair(check.getUserId(), check.getStoredCount(), check.getActualCount()) > 0) {
+                unreadCountCache.evict(check.getUserId());
+                repairedCounter.increment();
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+}
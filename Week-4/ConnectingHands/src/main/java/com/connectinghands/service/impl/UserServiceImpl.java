@@ -4,7 +4,9 @@ import com.connectinghands.dto.*;
 import com.connectinghands.entity.User;
 import com.connectinghands.exception.ValidationException;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.security.jwt.JwtPrincipal;
 import com.connectinghands.security.jwt.JwtTokenProvider;
+import com.connectinghands.security.jwt.VerifiedTokenCache;
 import com.connectinghands.service.AuditLogService;
 import com.connectinghands.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +36,7 @@ public class UserServiceImpl implements UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final AuditLogService auditLogService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     @Transactional
@@ -74,6 +77,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public User getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return userRepository.findById(principal.getUserId())
+                    .orElseThrow(() -> new ValidationException("User not found"));
+        }
         return (User) authentication.getPrincipal();
     }
 
@@ -115,6 +122,7 @@ public class UserServiceImpl implements UserService {
         user.setResetToken(null);
         user.setResetTokenExpiry(null);
         userRepository.save(user);
+        verifiedTokenCache.evictUser(user.getEmail());
         auditLogService.logAction(user.getId(), "RESET_PASSWORD", "User", user.getId(), null, null, null, null);
     }
 
@@ -0,0 +1,9 @@
+-- Composite (created_at, id) indexes for the keyset-paginated /scroll listings.
+-- Each page seeks to the cursor and reads the next rows in index order, so the
+-- cost of a page no longer grows with how deep into the listing it is.
+
+CREATE INDEX idx_orphanages_created_at_id ON orphanages(created_at DESC, id DESC);
+CREATE INDEX idx_orphanages_status_created_at_id ON orphanages(status, created_at DESC, id DESC);
+
+CREATE INDEX idx_messages_receiver_created_at_id ON messages(receiver_id, created_at DESC, id DESC);
+CREATE INDEX idx_messages_sender_created_at_id ON messages(sender_id, created_at DESC, id DESC);
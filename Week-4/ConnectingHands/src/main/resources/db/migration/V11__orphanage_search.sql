@@ -0,0 +1,17 @@
+-- Full-text and trigram search over orphanage name, city, state and country.
+-- Both columns are generated, so every insert and update keeps them in sync without
+-- application code. search_vector answers word and prefix matches ranked by weight
+-- (name above location); search_text backs typo-tolerant trigram matching.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE orphanages
+    ADD COLUMN search_vector TSVECTOR GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple'::regconfig, name), 'A') ||
+        setweight(to_tsvector('simple'::regconfig, city || ' ' || state || ' ' || country), 'B')
+    ) STORED,
+    ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+        lower(name || ' ' || city || ' ' || state || ' ' || country)
+    ) STORED;
+
+CREATE INDEX idx_orphanages_search_vector ON orphanages USING GIN (search_vector);
+CREATE INDEX idx_orphanages_search_text_trgm ON orphanages USING GIN (search_text gin_trgm_ops);
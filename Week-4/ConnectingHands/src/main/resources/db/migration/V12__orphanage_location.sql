@@ -0,0 +1,11 @@
+-- Location of each orphanage for "nearest with free capacity" searches. geohash is
+-- derived from latitude/longitude by the application; byte-wise collation lets prefix
+-- matches on it use the index. The index only holds active orphanages with a location
+-- and a free place, so a proximity search probes a handful of small index ranges.
+ALTER TABLE orphanages
+    ADD COLUMN latitude DOUBLE PRECISION CHECK (latitude BETWEEN -90 AND 90),
+    ADD COLUMN longitude DOUBLE PRECISION CHECK (longitude BETWEEN -180 AND 180),
+    ADD COLUMN geohash VARCHAR(12) COLLATE "C";
+
+CREATE INDEX idx_orphanages_geohash_available ON orphanages (geohash)
+    WHERE geohash IS NOT NULL AND status = 'ACTIVE' AND current_children < capacity;
@@ -0,0 +1,15 @@
+-- Free places per orphanage. The application keeps available_slots in step with capacity
+-- and current_children on every write, and the check constraint rejects any row where it
+-- is not. Unlike the column-to-column comparison it replaces, it can be indexed: the
+-- partial index holds only active orphanages with room, most free places first, which is
+-- exactly the "has room" listing.
+ALTER TABLE orphanages ADD COLUMN available_slots INTEGER;
+
+UPDATE orphanages SET available_slots = capacity - current_children;
+
+ALTER TABLE orphanages
+    ALTER COLUMN available_slots SET NOT NULL,
+    ADD CONSTRAINT chk_orphanages_available_slots CHECK (available_slots = capacity - current_children);
+
+CREATE INDEX idx_orphanages_active_available_slots ON orphanages (available_slots DESC, id)
+    WHERE status = 'ACTIVE' AND available_slots > 0;
@@ -0,0 +1,13 @@
+-- Entities draw their IDs from the serial sequences through Hibernate's pooled optimizer
+-- instead of IDENTITY columns, so inserts can be batched. Each nextval reserves a block
+-- of 50 IDs, which must match the allocationSize of every @SequenceGenerator. The column
+-- defaults stay: plain SQL inserts still take one value per row and leave the rest of
+-- that block unused, so IDs stay unique but are no longer dense.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE orphanages_id_seq INCREMENT BY 50;
+ALTER SEQUENCE resources_id_seq INCREMENT BY 50;
+ALTER SEQUENCE donations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE resource_requests_id_seq INCREMENT BY 50;
+ALTER SEQUENCE messages_id_seq INCREMENT BY 50;
+ALTER SEQUENCE audit_logs_id_seq INCREMENT BY 50;
+ALTER SEQUENCE donation_rollups_id_seq INCREMENT BY 50;
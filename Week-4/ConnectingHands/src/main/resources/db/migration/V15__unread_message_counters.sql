@@ -0,0 +1,10 @@
+-- Number of unread messages per receiver, so the unread badge is a primary key lookup
+-- instead of a count over the receiver's messages. The application adjusts a row in the
+-- same transaction that sends or reads a message. A missing row means the user has not
+-- been counted yet; it is filled from messages on the first read, so no backfill is
+-- needed here. A periodic reconciliation job repairs any drift.
+CREATE TABLE unread_message_counters (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id),
+    unread_count BIGINT NOT NULL DEFAULT 0 CHECK (unread_count >= 0),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,33 @@
+-- One row per pair of users who exchange messages, stored with the lower user ID first so
+-- each pair has exactly one row. Messages reference their conversation, which turns the
+-- "A to B or B to A" predicate of a conversation listing into one equality, served by a
+-- single range of the (conversation_id, created_at, id) index in listing order.
+CREATE TABLE conversations (
+    id BIGSERIAL PRIMARY KEY,
+    user_low_id BIGINT NOT NULL REFERENCES users(id),
+    user_high_id BIGINT NOT NULL REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_conversations_participants UNIQUE (user_low_id, user_high_id),
+    CONSTRAINT ck_conversations_participants_ordered CHECK (user_low_id <= user_high_id)
+);
+
+-- Pooled like every other entity sequence (see V14).
+ALTER SEQUENCE conversations_id_seq INCREMENT BY 50;
+
+ALTER TABLE messages ADD COLUMN conversation_id BIGINT REFERENCES conversations(id);
+
+-- Backfill a conversation for every pair that has messages, then point the messages at it.
+INSERT INTO conversations (user_low_id, user_high_id, created_at)
+SELECT LEAST(sender_id, receiver_id), GREATEST(sender_id, receiver_id), MIN(created_at)
+FROM messages
+GROUP BY LEAST(sender_id, receiver_id), GREATEST(sender_id, receiver_id);
+
+UPDATE messages m
+SET conversation_id = c.id
+FROM conversations c
+WHERE c.user_low_id = LEAST(m.sender_id, m.receiver_id)
+  AND c.user_high_id = GREATEST(m.sender_id, m.receiver_id);
+
+ALTER TABLE messages ALTER COLUMN conversation_id SET NOT NULL;
+
+CREATE INDEX idx_messages_conversation_created_at_id ON messages(conversation_id, created_at DESC, id DESC);
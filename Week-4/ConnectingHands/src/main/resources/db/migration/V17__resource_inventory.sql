@@ -0,0 +1,9 @@
+-- Part of a resource's quantity held for accepted requests. Quantity changes are applied as
+-- conditional single-row updates, so these checks are a backstop rather than the mechanism;
+-- NOT VALID leaves existing rows alone and enforces the checks for every new write.
+ALTER TABLE resources ADD COLUMN reserved_quantity INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE resources ADD CONSTRAINT ck_resources_quantity_non_negative
+    CHECK (quantity >= 0) NOT VALID;
+ALTER TABLE resources ADD CONSTRAINT ck_resources_reserved_within_quantity
+    CHECK (reserved_quantity >= 0 AND reserved_quantity <= quantity) NOT VALID;
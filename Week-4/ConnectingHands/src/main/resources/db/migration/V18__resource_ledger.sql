@@ -0,0 +1,35 @@
+-- Append-only ledger of resource quantity changes. Every change to quantity or
+-- reserved_quantity is recorded in the transaction that applies it, so the position of a
+-- resource at any time is the latest snapshot before it plus the movements after that
+-- snapshot. Reports over a window then read one snapshot per resource and the movements
+-- of the window instead of the resource's whole history. Deleting a resource records a
+-- CLOSED movement and keeps its history, so resource_id is not a foreign key.
+CREATE TABLE resource_movements (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    quantity_change INTEGER NOT NULL,
+    reserved_change INTEGER NOT NULL,
+    occurred_at TIMESTAMP NOT NULL
+);
+ALTER SEQUENCE resource_movements_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_resource_movements_resource_occurred_at ON resource_movements (resource_id, occurred_at);
+
+-- Position of every resource at the time the snapshot job ran; every resource gets a row
+-- in each run, so the latest snapshot time before a window is one index lookup.
+CREATE TABLE resource_snapshots (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL,
+    snapshot_at TIMESTAMP NOT NULL,
+    quantity INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL,
+    CONSTRAINT uk_resource_snapshots_resource_snapshot_at UNIQUE (resource_id, snapshot_at)
+);
+ALTER SEQUENCE resource_snapshots_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_resource_snapshots_snapshot_at ON resource_snapshots (snapshot_at);
+
+-- The history before this migration is unknown; it starts from the current quantities.
+INSERT INTO resource_snapshots (resource_id, snapshot_at, quantity, reserved_quantity)
+SELECT id, LOCALTIMESTAMP, quantity, reserved_quantity FROM resources;
@@ -0,0 +1,28 @@
+CREATE TABLE donation_rollups (
+    id BIGSERIAL PRIMARY KEY,
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id),
+    currency VARCHAR(3) NOT NULL,
+    granularity VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    monetary_amount DECIMAL(19,2) NOT NULL DEFAULT 0,
+    resource_donation_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_donation_rollups_bucket UNIQUE (orphanage_id, currency, granularity, bucket_start)
+);
+
+CREATE INDEX idx_donation_rollups_lookup ON donation_rollups(orphanage_id, granularity, bucket_start);
+
+-- Backfill every granularity from existing donations. In-kind donations carry no
+-- currency and are bucketed under the ISO 4217 "no currency" code XXX.
+INSERT INTO donation_rollups (orphanage_id, currency, granularity, bucket_start,
+                              donation_count, monetary_amount, resource_donation_count)
+SELECT d.orphanage_id,
+       COALESCE(d.currency, 'XXX'),
+       g.granularity,
+       date_trunc(g.unit, d.created_at),
+       COUNT(*),
+       COALESCE(SUM(d.amount), 0),
+       SUM(CASE WHEN d.amount IS NULL THEN 1 ELSE 0 END)
+FROM donations d
+CROSS JOIN (VALUES ('HOUR', 'hour'), ('DAY', 'day'), ('MONTH', 'month')) AS g(granularity, unit)
+GROUP BY d.orphanage_id, COALESCE(d.currency, 'XXX'), g.granularity, date_trunc(g.unit, d.created_at);
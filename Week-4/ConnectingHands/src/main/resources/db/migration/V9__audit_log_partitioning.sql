@@ -0,0 +1,56 @@
+-- Rebuild audit_logs as a table range-partitioned by month on timestamp, with the
+-- columns the AuditLog entity maps. Partitions are named audit_logs_yYYYYmMM so the
+-- retention job can drop whole months instead of deleting rows.
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    user_id BIGINT REFERENCES users(id),
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id BIGINT,
+    old_value TEXT,
+    new_value TEXT,
+    additional_info TEXT,
+    ip_address VARCHAR(45),
+    user_agent TEXT,
+    timestamp TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+CREATE OR REPLACE FUNCTION create_audit_log_partition(month_start DATE) RETURNS TEXT AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month_start)::date;
+    partition_name TEXT := 'audit_logs_y' || to_char(start_date, 'YYYY') || 'm' || to_char(start_date, 'MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, start_date, (start_date + INTERVAL '1 month')::date);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- One partition per month from the oldest existing entry up to three months ahead.
+-- The default partition only catches rows if the retention job stops creating months.
+SELECT create_audit_log_partition(month::date)
+FROM generate_series(
+        date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), CURRENT_TIMESTAMP)),
+        date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months',
+        INTERVAL '1 month') AS month;
+
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+
+-- Composite indexes matching the AuditLogController access paths, newest first.
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs (timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_user_timestamp ON audit_logs (user_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_entity_timestamp ON audit_logs (entity_type, entity_id, timestamp DESC, id DESC);
+CREATE INDEX idx_audit_logs_action_timestamp ON audit_logs (action, timestamp DESC, id DESC);
+
+INSERT INTO audit_logs (id, user_id, action, entity_type, entity_id, old_value, new_value,
+                        ip_address, user_agent, timestamp)
+SELECT id, user_id, action, entity_type, entity_id, old_value, new_value, ip_address, user_agent, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
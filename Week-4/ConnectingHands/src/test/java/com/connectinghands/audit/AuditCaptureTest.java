@@ -0,0 +1,117 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.annotation.AuditLog;
+import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.dto.RegisterRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditCaptureTest {
+
+    private AuditCapture auditCapture;
+    private AuditMetadataRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        auditCapture = new AuditCapture(new ObjectMapper().findAndRegisterModules(), CaptureMode.FULL, 200,
+                new String[] {"password", " token "});
+        registry = new AuditMetadataRegistry();
+        registry.postProcessAfterInitialization(new SampleService(), "sampleService");
+    }
+
+    @Test
+    void postProcessAfterInitialization_AnnotatedMethods_ResolvedOnce() throws NoSuchMethodException {
+        // Arrange
+        Method method = SampleService.class.getMethod("update", String.class, Long.class);
+
+        // Act
+        AuditMethodMetadata metadata = registry.resolve(method, new SampleService());
+
+        // Assert
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(metadata).isSameAs(registry.resolve(method, new SampleService()));
+        assertThat(metadata.getAction()).isEqualTo("SampleService.update");
+        assertThat(metadata.getEntityType()).isEqualTo("SampleService");
+        assertThat(metadata.entityId(new Object[] {"name", 7L})).isEqualTo(7L);
+    }
+
+    @Test
+    void captureArguments_Full_RedactsConfiguredFields() throws NoSuchMethodException {
+        // Arrange
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail("donor@example.com");
+        request.setPassword("s3cret");
+
+        // Act
+        String captured = auditCapture.captureArguments(metadata("register"), new Object[] {request});
+
+        // Assert
+        assertThat(captured).contains("donor@example.com").contains("\"password\":\"***\"").doesNotContain("s3cret");
+    }
+
+    @Test
+    void captureResult_FullLargePage_TruncatedAtMaxLength() throws NoSuchMethodException {
+        // Act
+        String captured = auditCapture.captureResult(metadata("update"), page(1000));
+
+        // Assert
+        assertThat(captured).hasSize(200 + AuditCapture.TRUNCATED.length()).endsWith(AuditCapture.TRUNCATED);
+    }
+
+    @Test
+    void captureResult_IdsMode_RecordsOnlyIds() throws NoSuchMethodException {
+        // Act
+        String captured = auditCapture.captureResult(metadata("search"), page(3));
+        String capturedArgs = auditCapture.captureArguments(metadata("search"), new Object[] {5L, "query"});
+
+        // Assert
+        assertThat(captured).isEqualTo("[1, 2, 3]");
+        assertThat(capturedArgs).isEqualTo("[5, query]");
+    }
+
+    private AuditMethodMetadata metadata(String methodName) throws NoSuchMethodException {
+        Method method = switch (methodName) {
+            case "register" -> SampleService.class.getMethod("register", RegisterRequest.class);
+            case "search" -> SampleService.class.getMethod("search", Long.class, String.class);
+            default -> SampleService.class.getMethod("update", String.class, Long.class);
+        };
+        return registry.resolve(method, new SampleService());
+    }
+
+    private PageImpl<OrphanageDto> page(int size) {
+        List<OrphanageDto> content = LongStream.rangeClosed(1, size).mapToObj(id -> {
+            OrphanageDto dto = new OrphanageDto();
+            dto.setId(id);
+            dto.setName("Orphanage " + id);
+            return dto;
+        }).toList();
+        return new PageImpl<>(content);
+    }
+
+    static class SampleService {
+        @AuditLog
+        public void register(RegisterRequest request) {
+        }
+
+        @AuditLog
+        public OrphanageDto update(String name, Long id) {
+            return null;
+        }
+
+        @AuditLog(capture = CaptureMode.IDS)
+        public List<OrphanageDto> search(Long id, String query) {
+            return List.of();
+        }
+
+        public void notAudited() {
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.annotation.AuditLog;
+import com.connectinghands.aspect.AuditLogAspect;
+import com.connectinghands.dto.AuditLogDto;
+import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.pagination.CursorPage;
+import com.connectinghands.service.AuditLogService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * JMH benchmark of the per-call overhead of {@link AuditLogAspect} on a method returning
+ * 500 orphanages, the shape of the list endpoints. {@code legacy} replays the previous aspect, which formatted
+ * {@code Arrays.toString(args)} and {@code result.toString()} and looked up the target class
+ * on every call; {@code full} and {@code ids} go through the cached metadata and capped
+ * capture. The audit service is a no-op so only the aspect is measured.
+ * Skipped by default; run with
+ * {@code mvn test -Dtest=AuditLogAspectBenchmark -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuditLogAspectBenchmark {
+    private SampleService legacy;
+    private SampleService full;
+    private SampleService ids;
+    private List<OrphanageDto> orphanages;
+
+    @Setup
+    public void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("1", null));
+        orphanages = LongStream.rangeClosed(1, 500).mapToObj(id -> {
+            OrphanageDto dto = new OrphanageDto();
+            dto.setId(id);
+            dto.setName("Orphanage " + id);
+            dto.setDescription("A home for children in city " + id);
+            dto.setCity("Chennai");
+            dto.setCapacity(120);
+            return dto;
+        }).toList();
+
+        AuditMetadataRegistry registry = new AuditMetadataRegistry();
+        AuditCapture capture = new AuditCapture(new ObjectMapper().findAndRegisterModules(),
+                CaptureMode.FULL, 2048, new String[] {"password", "token"});
+        SampleService target = new SampleService(orphanages);
+        registry.postProcessAfterInitialization(target, "sampleService");
+
+        legacy = proxy(target, new LegacyAuditLogAspect(new NoOpAuditLogService()));
+        full = proxy(target, new AuditLogAspect(new NoOpAuditLogService(), registry, capture));
+        ids = proxy(new IdsSampleService(orphanages), new AuditLogAspect(new NoOpAuditLogService(), registry, capture));
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return legacy.search(1L, "chennai");
+    }
+
+    @Benchmark
+    public Object full() {
+        return full.search(1L, "chennai");
+    }
+
+    @Benchmark
+    public Object ids() {
+        return ids.search(1L, "chennai");
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AuditLogAspectBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static SampleService proxy(SampleService target, Object aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    public static class SampleService {
+        private final List<OrphanageDto> orphanages;
+
+        public SampleService(List<OrphanageDto> orphanages) {
+            this.orphanages = orphanages;
+        }
+
+        @AuditLog
+        public List<OrphanageDto> search(Long id, String query) {
+            return orphanages;
+        }
+    }
+
+    public static class IdsSampleService extends SampleService {
+        public IdsSampleService(List<OrphanageDto> orphanages) {
+            super(orphanages);
+        }
+
+        @Override
+        @AuditLog(capture = CaptureMode.IDS)
+        public List<OrphanageDto> search(Long id, String query) {
+            return super.search(id, query);
+        }
+    }
+
+    /**
+     * The aspect as it was before metadata caching and capped capture.
+     */
+    @Aspect
+    public static class LegacyAuditLogAspect {
+        private final AuditLogService auditLogService;
+
+        public LegacyAuditLogAspect(AuditLogService auditLogService) {
+            this.auditLogService = auditLogService;
+        }
+
+        @Around("@annotation(com.connectinghands.annotation.AuditLog)")
+        public Object logAudit(ProceedingJoinPoint joinPoint) throws Throwable {
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            Method method = signature.getMethod();
+            String methodName = method.getName();
+            String className = joinPoint.getTarget().getClass().getSimpleName();
+            Object[] args = joinPoint.getArgs();
+            Long userId = Long.parseLong(SecurityContextHolder.getContext().getAuthentication().getName());
+            Long entityId = Arrays.stream(args).filter(Long.class::isInstance).map(Long.class::cast)
+                    .findFirst().orElse(null);
+            String action = String.format("%s.%s", className, methodName);
+            String description = String.format("Method %s called with arguments: %s", methodName, Arrays.toString(args));
+            Object result = joinPoint.proceed();
+            auditLogService.logAction(userId, action, className, entityId, null,
+                    result != null ? result.toString() : null, description, "unknown");
+            return result;
+        }
+    }
+
+    private static class NoOpAuditLogService implements AuditLogService {
+        @Override
+        public void logAction(Long userId, String action, String entityType, Long entityId,
+                              String oldValue, String newValue, String additionalInfo, String ipAddress) {
+        }
+
+        @Override
+        public void logAction(String action, String description, Long entityId) {
+        }
+
+        @Override
+        public void logActions(String action, Map<Long, String> descriptions) {
+        }
+
+        @Override
+        public Page<AuditLogDto> getAuditLogs(Long userId, String action, String entityType, Long entityId,
+                                              LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+            return Page.empty();
+        }
+
+        @Override
+        public AuditLogDto getAuditLog(Long id) {
+            return null;
+        }
+
+        @Override
+        public Page<AuditLogDto> getUserAuditLogs(Long userId, String action, String entityType, Long entityId,
+                                                  LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
+            return Page.empty();
+        }
+
+        @Override
+        public Page<AuditLogDto> getEntityAuditLogs(String entityType, Long entityId, Long userId, String action,
+                                                    LocalDateTime startDate, LocalDateTime endDate,
+                                                    Pageable pageable) {
+            return Page.empty();
+        }
+
+        @Override
+        public CursorPage<AuditLogDto> scrollAuditLogs(Long userId, String action, String entityType, Long entityId,
+                                                       LocalDateTime startDate, LocalDateTime endDate,
+                                                       String cursor, int size) {
+            return CursorPage.of(List.of(), size, null, null);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.connectinghands.audit;
+
+import com.connectinghands.entity.AuditLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogPipelineTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<Integer> batchSizes;
+    private AuditLogPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchSizes = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null && pipeline.isRunning()) {
+            pipeline.stop();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void enqueue_FullBatches_WrittenWithoutWaitingForLinger() throws InterruptedException {
+        // Arrange
+        recordBatches(null);
+        pipeline = pipeline(1024, 10, Duration.ofMinutes(1), OverflowPolicy.DROP);
+        pipeline.start();
+
+        // Act
+        for (long i = 0; i < 25; i++) {
+            pipeline.enqueue(entry(i));
+        }
+        awaitUntil(() -> batchSizes.size() == 2);
+        pipeline.stop();
+
+        // Assert
+        assertThat(batchSizes).containsExactly(10, 10, 5);
+        assertThat(meterRegistry.get("audit.pipeline.written").counter().count()).isEqualTo(25.0);
+        assertThat(meterRegistry.get("audit.pipeline.flush").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void enqueue_PartialBatch_WrittenAfterLinger() throws InterruptedException {
+        // Arrange
+        recordBatches(null);
+        pipeline = pipeline(1024, 100, Duration.ofMillis(20), OverflowPolicy.DROP);
+        pipeline.start();
+
+        // Act
+        pipeline.enqueue(entry(1L));
+        pipeline.enqueue(entry(2L));
+        awaitUntil(() -> !batchSizes.isEmpty());
+
+        // Assert
+        assertThat(batchSizes).containsExactly(2);
+        assertThat(pipeline.isRunning()).isTrue();
+    }
+
+    @Test
+    void enqueue_BufferFullWithDropPolicy_CountsDroppedEntry() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        recordBatches(release);
+        pipeline = pipeline(2, 1, Duration.ofMillis(1), OverflowPolicy.DROP);
+        pipeline.start();
+        pipeline.enqueue(entry(0L));
+        awaitUntil(() -> batchSizes.size() == 1);
+
+        // Act
+        pipeline.enqueue(entry(1L));
+        pipeline.enqueue(entry(2L));
+        pipeline.enqueue(entry(3L));
+
+        // Assert
+        assertThat(meterRegistry.get("audit.pipeline.dropped").tag("reason", "overflow").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("audit.pipeline.queue.depth").gauge().value()).isEqualTo(2.0);
+
+        release.countDown();
+        pipeline.stop();
+        assertThat(batchSizes).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    void enqueue_InsideTransaction_PublishedOnlyAfterCommit() {
+        // Arrange
+        recordBatches(null);
+        pipeline = pipeline(16, 10, Duration.ofMillis(1), OverflowPolicy.BLOCK);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        pipeline.enqueue(entry(1L));
+
+        // Assert
+        assertThat(batchSizes).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void writeAll_InsideTransaction_WrittenAsOneBatchAfterCommit() {
+        // Arrange
+        recordBatches(null);
+        pipeline = pipeline(16, 2, Duration.ofMillis(1), OverflowPolicy.BLOCK);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        pipeline.writeAll(List.of(entry(1L), entry(2L), entry(3L), entry(4L), entry(5L)));
+
+        // Assert
+        assertThat(batchSizes).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(batchSizes).containsExactly(5);
+        assertThat(meterRegistry.get("audit.pipeline.written").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    void enqueue_BatchFailsWithRuntimeException_WriterKeepsRunning() throws InterruptedException {
+        // Arrange
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+            if (batchSizes.size() == 1) {
+                throw new IllegalStateException("Bad entry");
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditLog>>any());
+        pipeline = pipeline(1024, 5, Duration.ofMinutes(1), OverflowPolicy.DROP);
+        pipeline.start();
+
+        // Act
+        for (long i = 0; i < 10; i++) {
+            pipeline.enqueue(entry(i));
+        }
+        awaitUntil(() -> batchSizes.size() == 2);
+
+        // Assert
+        assertThat(meterRegistry.get("audit.pipeline.dropped").tag("reason", "write_error").counter().count())
+                .isEqualTo(5.0);
+        assertThat(meterRegistry.get("audit.pipeline.written").counter().count()).isEqualTo(5.0);
+    }
+
+    @Test
+    void stop_PendingEntries_FlushedBeforeReturning() {
+        // Arrange
+        recordBatches(null);
+        pipeline = pipeline(1024, 500, Duration.ofMinutes(1), OverflowPolicy.BLOCK);
+        pipeline.start();
+        for (long i = 0; i < 42; i++) {
+            pipeline.enqueue(entry(i));
+        }
+
+        // Act
+        pipeline.stop();
+
+        // Assert
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(42);
+        assertThat(pipeline.isRunning()).isFalse();
+    }
+
+    private AuditLogPipeline pipeline(int capacity, int batchSize, Duration linger, OverflowPolicy policy) {
+        return new AuditLogPipeline(jdbcTemplate, meterRegistry, capacity, batchSize, linger, policy,
+                Duration.ofMillis(10), Duration.ofSeconds(5));
+    }
+
+    private void recordBatches(CountDownLatch release) {
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+            if (release != null && batchSizes.size() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditLog>>any());
+    }
+
+    private AuditLog entry(Long entityId) {
+        AuditLog entry = new AuditLog();
+        entry.setUserId(1L);
+        entry.setAction("UPDATE");
+        entry.setEntityType("Orphanage");
+        entry.setEntityId(entityId);
+        entry.setTimestamp(LocalDateTime.now());
+        return entry;
+    }
+
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
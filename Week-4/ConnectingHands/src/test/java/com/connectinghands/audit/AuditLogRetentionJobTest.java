@@ -0,0 +1,57 @@
+package com.connectinghands.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogRetentionJobTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void expiredPartitions_OlderThanRetention_SelectsOnlyMonthlyPartitions() {
+        List<String> partitions = List.of("audit_logs_y2024m05", "audit_logs_y2023m12", "audit_logs_default",
+                "audit_logs_y2024m06", "audit_logs_y2023m11");
+
+        List<String> expired = AuditLogRetentionJob.expiredPartitions(partitions, YearMonth.of(2024, 6));
+
+        assertThat(expired).containsExactly("audit_logs_y2023m11", "audit_logs_y2023m12", "audit_logs_y2024m05");
+    }
+
+    @Test
+    void run_CreatesUpcomingAndDropsExpiredPartitions() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-15T10:00:00Z"), ZoneOffset.UTC);
+        AuditLogRetentionJob job = new AuditLogRetentionJob(jdbcTemplate, clock, 12, 2);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("audit_logs_y2023m06", "audit_logs_y2023m07", "audit_logs_default"));
+
+        job.run();
+
+        for (String month : List.of("2024-06-01", "2024-07-01", "2024-08-01")) {
+            verify(jdbcTemplate).queryForObject("SELECT create_audit_log_partition(?)", String.class,
+                    Date.valueOf(LocalDate.parse(month)));
+        }
+        verify(jdbcTemplate).execute("DROP TABLE audit_logs_y2023m06");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_y2023m07");
+        verify(jdbcTemplate, never()).execute("DROP TABLE audit_logs_default");
+    }
+}
@@ -0,0 +1,36 @@
+package com.connectinghands.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void accepts_ListedCoding_ReturnsTrue() {
+        assertThat(AcceptEncoding.accepts("gzip", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("deflate, GZIP;q=0.5, br", "gzip")).isTrue();
+    }
+
+    @Test
+    void accepts_ZeroQuality_ReturnsFalse() {
+        assertThat(AcceptEncoding.accepts("gzip;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("br, gzip ; Q = 0.000", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=none", "gzip")).isFalse();
+    }
+
+    @Test
+    void accepts_Wildcard_AppliesOnlyToUnlistedCodings() {
+        assertThat(AcceptEncoding.accepts("*", "gzip")).isTrue();
+        assertThat(AcceptEncoding.accepts("*;q=0", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip;q=0, *", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("gzip, *;q=0", "gzip")).isTrue();
+    }
+
+    @Test
+    void accepts_MissingOrOtherCodings_ReturnsFalse() {
+        assertThat(AcceptEncoding.accepts(null, "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("", "gzip")).isFalse();
+        assertThat(AcceptEncoding.accepts("x-gzipped, identity", "gzip")).isFalse();
+    }
+}
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -110,12 +112,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.PENDING)
         );
 
-        when(donationService.getAllDonations()).thenReturn(donations);
+        when(donationService.getAllDonations(any(Pageable.class))).thenReturn(new SliceImpl<>(donations));
 
         mockMvc.perform(get("/donations"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2));
     }
 
     /**
@@ -130,12 +132,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByDonor(1L)).thenReturn(donations);
+        when(donationService.getDonationsByDonor(eq(1L), any(Pageable.class))).thenReturn(new SliceImpl<>(donations));
 
         mockMvc.perform(get("/donations/donor/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2));
     }
 
     /**
@@ -150,12 +152,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByOrphanage(1L)).thenReturn(donations);
+        when(donationService.getDonationsByOrphanage(eq(1L), any(Pageable.class))).thenReturn(new SliceImpl<>(donations));
 
         mockMvc.perform(get("/donations/orphanage/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2));
     }
 
     /**
@@ -170,12 +172,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByStatus(DonationStatus.COMPLETED)).thenReturn(donations);
+        when(donationService.getDonationsByStatus(eq(DonationStatus.COMPLETED), any(Pageable.class))).thenReturn(new SliceImpl<>(donations));
 
         mockMvc.perform(get("/donations/status/COMPLETED"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2));
     }
 
     /**
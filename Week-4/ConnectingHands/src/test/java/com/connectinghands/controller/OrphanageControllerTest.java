@@ -414,7 +414,7 @@ class OrphanageControllerTest {
         orphanage.setCapacity(100);
 
         Page<OrphanageDto> page = new PageImpl<>(List.of(orphanage));
-        when(orphanageService.getOrphanagesWithAvailableCapacity(any(PageRequest.class)))
+        when(orphanageService.getOrphanagesWithAvailableCapacity(eq(1), any(PageRequest.class)))
                 .thenReturn(page);
 
         mockMvc.perform(get("/orphanages/available"))
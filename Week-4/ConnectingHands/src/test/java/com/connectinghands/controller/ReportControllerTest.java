@@ -14,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -172,10 +174,12 @@ class ReportControllerTest {
         // Arrange
         byte[] reportData = "PDF content".getBytes();
 
-        when(reportService.exportDonationReport(
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(7).write(reportData);
+            return null;
+        }).when(reportService).exportDonationReport(
                 anyLong(), any(LocalDateTime.class), any(LocalDateTime.class),
-                anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(reportData);
+                anyString(), anyString(), anyString(), anyString(), any(OutputStream.class));
 
         // Act & Assert
         mockMvc.perform(get("/api/reports/donations/1/export")
@@ -196,10 +200,12 @@ class ReportControllerTest {
         // Arrange
         byte[] reportData = "PDF content".getBytes();
 
-        when(reportService.exportResourceUtilizationReport(
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(6).write(reportData);
+            return null;
+        }).when(reportService).exportResourceUtilizationReport(
                 anyLong(), any(LocalDateTime.class), any(LocalDateTime.class),
-                anyString(), anyString(), anyString()))
-                .thenReturn(reportData);
+                anyString(), anyString(), anyString(), any(OutputStream.class));
 
         // Act & Assert
         mockMvc.perform(get("/api/reports/resources/1/export")
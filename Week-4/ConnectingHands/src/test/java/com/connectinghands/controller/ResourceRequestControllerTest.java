@@ -15,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -121,13 +123,13 @@ class ResourceRequestControllerTest {
     @WithMockUser(roles = "SYSTEM_ADMIN")
     void getAllResourceRequests_ShouldReturnAllRequests() throws Exception {
         List<ResourceRequestDto> requests = Arrays.asList(resourceRequestDto);
-        when(resourceRequestService.getAllResourceRequests()).thenReturn(requests);
+        when(resourceRequestService.getAllResourceRequests(any(Pageable.class))).thenReturn(new SliceImpl<>(requests));
 
         mockMvc.perform(get("/api/resource-requests"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(resourceRequestDto.getId()))
-                .andExpect(jsonPath("$[0].name").value(resourceRequestDto.getName()));
+                .andExpect(jsonPath("$.content[0].id").value(resourceRequestDto.getId()))
+                .andExpect(jsonPath("$.content[0].name").value(resourceRequestDto.getName()));
     }
 
     @Test
@@ -171,12 +173,13 @@ class ResourceRequestControllerTest {
     @WithMockUser(roles = "SYSTEM_ADMIN")
     void getResourceRequestsByStatus_ShouldReturnRequestsByStatus() throws Exception {
         List<ResourceRequestDto> requests = Arrays.asList(resourceRequestDto);
-        when(resourceRequestService.getResourceRequestsByStatus(any(ResourceRequestStatus.class))).thenReturn(requests);
+        when(resourceRequestService.getResourceRequestsByStatus(any(ResourceRequestStatus.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(requests));
 
         mockMvc.perform(get("/api/resource-requests/status/{status}", ResourceRequestStatus.PENDING))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$[0].id").value(resourceRequestDto.getId()))
-                .andExpect(jsonPath("$[0].name").value(resourceRequestDto.getName()));
+                .andExpect(jsonPath("$.content[0].id").value(resourceRequestDto.getId()))
+                .andExpect(jsonPath("$.content[0].name").value(resourceRequestDto.getName()));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.connectinghands.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRowReaderTest {
+
+    @Test
+    void csv_QuotedFields_KeepCommasQuotesAndLineBreaks() throws IOException {
+        List<ImportRow> rows = readAll(ImportFormat.CSV, "\uFEFFname,description\r\n"
+                + "Rice,\"Long grain, \"\"basmati\"\"\r\nfrom the north\"\r\n"
+                + "\r\n"
+                + "Wheat,\r\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).getNumber()).isEqualTo(1);
+        assertThat(rows.get(0).getValues()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "name", "Rice", "description", "Long grain, \"basmati\"\r\nfrom the north"));
+        assertThat(rows.get(1).getNumber()).isEqualTo(2);
+        assertThat(rows.get(1).getValues()).containsExactlyInAnyOrderEntriesOf(Map.of("name", "Wheat"));
+    }
+
+    @Test
+    void csv_WrongFieldCount_ReportsRowAndContinues() throws IOException {
+        List<ImportRow> rows = readAll(ImportFormat.CSV, "name,unit\nRice\nWheat,kg\n");
+
+        assertThat(rows.get(0).getError()).isEqualTo("Expected 2 fields but found 1");
+        assertThat(rows.get(1).getError()).isNull();
+        assertThat(rows.get(1).getValues()).containsEntry("unit", "kg");
+    }
+
+    @Test
+    void csv_UnterminatedQuote_ReportsLastRow() throws IOException {
+        List<ImportRow> rows = readAll(ImportFormat.CSV, "name,unit\nRice,\"kg\nWheat,kg\n");
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getError()).isEqualTo("Unterminated quoted field");
+    }
+
+    @Test
+    void ndjson_ScalarFields_ReadAsText() throws IOException {
+        List<ImportRow> rows = readAll(ImportFormat.NDJSON,
+                "{\"name\":\"Rice\",\"quantity\":10,\"description\":null}\n\n[1]\n{\"name\":\n{\"tags\":[\"a\"]}\n");
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).getValues()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "name", "Rice", "quantity", "10"));
+        assertThat(rows.get(1).getError()).isEqualTo("Expected a JSON object");
+        assertThat(rows.get(2).getError()).startsWith("Invalid JSON");
+        assertThat(rows.get(3).getError()).isEqualTo("Field tags must be a single value");
+        assertThat(rows.get(3).getNumber()).isEqualTo(4);
+    }
+
+    @Test
+    void fromContentType_IgnoresParameters() {
+        assertThat(ImportFormat.fromContentType("text/csv; charset=UTF-8")).isEqualTo(ImportFormat.CSV);
+        assertThat(ImportFormat.fromContentType("application/x-ndjson")).isEqualTo(ImportFormat.NDJSON);
+    }
+
+    private List<ImportRow> readAll(ImportFormat format, String content) throws IOException {
+        ImportRowReader reader = format.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), new ObjectMapper());
+        List<ImportRow> rows = new ArrayList<>();
+        for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,113 @@
+package com.connectinghands.inventory;
+
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.service.ResourceLedgerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that accumulated amounts are written in one batch with their ledger movements,
+ * kept when the write fails and only accepted for the configured resources.
+ */
+@ExtendWith(MockitoExtension.class)
+class HotResourceAccumulatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResourceLedgerService resourceLedgerService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private HotResourceAccumulator accumulator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accumulator = new HotResourceAccumulator(jdbcTemplate, resourceLedgerService, transactionManager,
+                meterRegistry, "1, 2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushAll_WritesEveryChangedResourceInOneBatch() {
+        accumulator.add(1L, 3);
+        accumulator.add(1L, 4);
+        accumulator.add(2L, 5);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1, 1});
+
+        accumulator.flushAll();
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).extracting(row -> row[2] + "=" + row[0])
+                .containsExactlyInAnyOrder("1=7", "2=5");
+        assertThat(accumulator.pending(1L)).isZero();
+        assertThat(meterRegistry.get("resource.inventory.flushed").counter().count()).isEqualTo(2);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.RECEIVED, 7);
+        verify(resourceLedgerService).record(2L, ResourceMovementType.RECEIVED, 5);
+    }
+
+    @Test
+    void flushAll_NothingAccumulated_WritesNothing() {
+        accumulator.flushAll();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flushAll_WriteFails_KeepsAmountsForNextFlush() {
+        accumulator.add(1L, 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        accumulator.flushAll();
+        accumulator.add(1L, 2);
+
+        assertThat(accumulator.pending(1L)).isEqualTo(5);
+        assertThat(meterRegistry.get("resource.inventory.flush.failures").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("resource.inventory.pending").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    void flush_DeletedResource_DropsAmount() {
+        accumulator.add(2L, 3);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {0});
+
+        assertThat(accumulator.flush(2L)).isTrue();
+
+        assertThat(accumulator.pending(2L)).isZero();
+        assertThat(meterRegistry.get("resource.inventory.dropped").counter().count()).isEqualTo(1);
+        verify(resourceLedgerService, never()).record(2L, ResourceMovementType.RECEIVED, 3);
+    }
+
+    @Test
+    void add_ResourceNotHot_ThrowsException() {
+        assertThat(accumulator.isHot(3L)).isFalse();
+        assertThatThrownBy(() -> accumulator.add(3L, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(accumulator.flush(3L)).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,106 @@
+package com.connectinghands.mapper;
+
+import com.connectinghands.dto.MessageDto;
+import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.dto.ResourceRequestDto;
+import com.connectinghands.entity.Message;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.User;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntityMapperTest {
+    private final OrphanageMapper orphanageMapper = Mappers.getMapper(OrphanageMapper.class);
+    private final ResourceRequestMapper resourceRequestMapper = Mappers.getMapper(ResourceRequestMapper.class);
+    private final MessageMapper messageMapper = Mappers.getMapper(MessageMapper.class);
+
+    @Test
+    void orphanageMapper_FlattensAdmin() {
+        OrphanageDto dto = orphanageMapper.toDto(orphanage(1L, user(7L, "Jane", "Doe")));
+
+        assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getName()).isEqualTo("Orphanage 1");
+        assertThat(dto.getAdminId()).isEqualTo(7L);
+        assertThat(dto.getAdminName()).isEqualTo("Jane Doe");
+    }
+
+    @Test
+    void orphanageMapper_WithoutAdmin_LeavesAdminFieldsNull() {
+        OrphanageDto dto = orphanageMapper.toDto(orphanage(1L, null));
+
+        assertThat(dto.getAdminId()).isNull();
+        assertThat(dto.getAdminName()).isNull();
+    }
+
+    @Test
+    void orphanageMapper_MapsPagesAndLists() {
+        List<Orphanage> orphanages = List.of(orphanage(1L, null), orphanage(2L, null));
+
+        Page<OrphanageDto> page = orphanageMapper.toDtoPage(new PageImpl<>(orphanages, PageRequest.of(1, 2), 10));
+
+        assertThat(page.getContent()).extracting(OrphanageDto::getId).containsExactly(1L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(page.getNumber()).isEqualTo(1);
+        assertThat(orphanageMapper.toDtoList(orphanages)).extracting(OrphanageDto::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void resourceRequestMapper_ConvertsCategoryAndOrphanage() {
+        ResourceRequest request = new ResourceRequest();
+        request.setId(3L);
+        request.setCategory("FOOD");
+        request.setOrphanage(orphanage(1L, null));
+
+        ResourceRequestDto dto = resourceRequestMapper.toDto(request);
+
+        assertThat(dto.getCategory()).isEqualTo(ResourceCategory.FOOD);
+        assertThat(dto.getOrphanageId()).isEqualTo(1L);
+        assertThat(dto.getOrphanageName()).isEqualTo("Orphanage 1");
+    }
+
+    @Test
+    void messageMapper_FlattensSenderAndReceiver() {
+        User sender = user(1L, "Sam", "Smith");
+        sender.setName("sam");
+        User receiver = user(2L, "Rae", "Ray");
+        receiver.setName("rae");
+        Message message = new Message();
+        message.setSender(sender);
+        message.setReceiver(receiver);
+        message.setContent("Hello");
+        message.setRead(true);
+
+        MessageDto dto = messageMapper.toDto(message);
+
+        assertThat(dto.getSenderId()).isEqualTo(1L);
+        assertThat(dto.getSenderName()).isEqualTo("sam");
+        assertThat(dto.getReceiverId()).isEqualTo(2L);
+        assertThat(dto.getReceiverName()).isEqualTo("rae");
+        assertThat(dto.isRead()).isTrue();
+    }
+
+    private static Orphanage orphanage(Long id, User admin) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(id);
+        orphanage.setName("Orphanage " + id);
+        orphanage.setAdmin(admin);
+        return orphanage;
+    }
+
+    private static User user(Long id, String firstName, String lastName) {
+        User user = new User();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        return user;
+    }
+}
@@ -0,0 +1,187 @@
+package com.connectinghands.messaging;
+
+import com.connectinghands.dto.MessageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pushes messages to recording emitters and checks fan-out per user, the connection cap
+ * and that broken or backed-up connections are dropped. Sends run on a queue the test
+ * drains, standing in for the send pool.
+ */
+class MessagePushRegistryTest {
+    private SimpleMeterRegistry meterRegistry;
+    private MessagePushRegistry registry;
+    private final Deque<Runnable> sends = new ArrayDeque<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new MessagePushRegistry(meterRegistry, sends::add, Duration.ofMinutes(1), 2, 10, 3,
+                Duration.ZERO) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                return new RecordingEmitter();
+            }
+        };
+    }
+
+    @Test
+    void publish_ReachesEveryConnectionOfReceiverOnly() {
+        // Arrange
+        RecordingEmitter phone = (RecordingEmitter) registry.connect(1L);
+        RecordingEmitter laptop = (RecordingEmitter) registry.connect(1L);
+        RecordingEmitter other = (RecordingEmitter) registry.connect(2L);
+
+        // Act
+        registry.publish(1L, message(7L));
+        assertThat(phone.events).isEmpty();
+        runSends();
+
+        // Assert
+        assertThat(phone.events).singleElement().satisfies(event -> assertThat(event).contains("id:7", "event:message"));
+        assertThat(laptop.events).hasSize(1);
+        assertThat(other.events).isEmpty();
+        assertThat(meterRegistry.get("message.push.events").tag("source", "live").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void connect_OverLimit_ClosesOldestConnection() {
+        // Arrange
+        RecordingEmitter first = (RecordingEmitter) registry.connect(1L);
+        registry.connect(1L);
+
+        // Act
+        registry.connect(1L);
+        registry.publish(1L, message(7L));
+        runSends();
+
+        // Assert
+        assertThat(registry.connectionCount(1L)).isEqualTo(2);
+        assertThat(first.completed).isTrue();
+        assertThat(first.events).isEmpty();
+        assertThat(meterRegistry.get("message.push.connections").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void publish_BrokenConnection_IsDropped() {
+        // Arrange
+        RecordingEmitter broken = (RecordingEmitter) registry.connect(1L);
+        broken.broken = true;
+
+        // Act
+        registry.publish(1L, message(7L));
+        runSends();
+        registry.heartbeat();
+
+        // Assert
+        assertThat(registry.connectionCount(1L)).isZero();
+        assertThat(meterRegistry.get("message.push.dropped").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("message.push.connections").gauge().value()).isZero();
+    }
+
+    @Test
+    void publish_ConnectionNotKeepingUp_IsDroppedWithItsUnsentEvents() {
+        // Arrange
+        RecordingEmitter slow = (RecordingEmitter) registry.connect(1L);
+        RecordingEmitter fast = (RecordingEmitter) registry.connect(2L);
+
+        // Act
+        for (long id = 1; id <= 4; id++) {
+            registry.publish(1L, message(id));
+        }
+        registry.publish(2L, message(5L));
+        runSends();
+
+        // Assert: the client replays what it missed when it reconnects
+        assertThat(slow.events).isEmpty();
+        assertThat(slow.erroredWith).hasMessage("too many unsent events");
+        assertThat(registry.connectionCount(1L)).isZero();
+        assertThat(fast.events).hasSize(1);
+        assertThat(meterRegistry.get("message.push.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void heartbeat_SendStalled_DropsConnectionWithoutWaiting() {
+        // Arrange
+        RecordingEmitter stalled = (RecordingEmitter) registry.connect(1L);
+        RecordingEmitter idle = (RecordingEmitter) registry.connect(2L);
+        stalled.onSend = registry::heartbeat;
+        registry.publish(1L, message(7L));
+
+        // Act
+        runSends();
+        registry.heartbeat();
+        runSends();
+
+        // Assert
+        assertThat(registry.connectionCount(1L)).isZero();
+        assertThat(stalled.erroredWith).hasMessage("send stalled");
+        assertThat(idle.events).containsOnly(":heartbeat\n\n");
+    }
+
+    private void runSends() {
+        Runnable send;
+        while ((send = sends.poll()) != null) {
+            send.run();
+        }
+    }
+
+    private static MessageDto message(Long id) {
+        MessageDto message = new MessageDto();
+        message.setId(id);
+        message.setContent("Hello");
+        return message;
+    }
+
+    /**
+     * Emitter that records the text of each event instead of writing to a response.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private boolean broken;
+        private boolean completed;
+        private Throwable erroredWith;
+        private Runnable onSend;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (broken) {
+                throw new IOException("Broken pipe");
+            }
+            if (onSend != null) {
+                // runs while this send is still in progress, as another thread would
+                Runnable whileSending = onSend;
+                onSend = null;
+                whileSending.run();
+            }
+            Set<DataWithMediaType> parts = builder.build();
+            StringBuilder text = new StringBuilder();
+            parts.forEach(part -> text.append(part.getData()));
+            events.add(text.toString());
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable error) {
+            completed = true;
+            erroredWith = error;
+        }
+    }
+}
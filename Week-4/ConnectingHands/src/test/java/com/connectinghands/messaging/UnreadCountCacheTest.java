@@ -0,0 +1,117 @@
+package com.connectinghands.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCountCacheTest {
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private UnreadCountCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        cache = new UnreadCountCache(meterRegistry, clock, 4, 8, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_AfterPut_ReturnsCountAndCountsHit() {
+        cache.put(1L, 5);
+
+        assertThat(cache.get(1L)).isEqualTo(5L);
+        assertThat(cache.get(2L)).isNull();
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void get_AfterTtl_Misses() {
+        cache.put(1L, 5);
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(cache.get(1L)).isEqualTo(5L);
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_StripeFull_EvictsLeastRecentlyUsedOfThatStripe() {
+        // four stripes of two entries; users 1, 5 and 9 share a stripe
+        cache.put(1L, 1);
+        cache.put(5L, 5);
+        cache.get(1L);
+        cache.put(9L, 9);
+
+        assertThat(cache.get(1L)).isEqualTo(1L);
+        assertThat(cache.get(5L)).isNull();
+        assertThat(cache.get(9L)).isEqualTo(9L);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void evict_InTransaction_EvictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.put(1L, 5);
+
+        cache.evict(1L);
+        // a concurrent reader caches the count from before the commit
+        cache.put(1L, 5);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("message.unread.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.connectinghands.pagination;
+
+import com.connectinghands.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void decode_EncodedCursor_ReturnsSamePosition() {
+        Cursor cursor = Cursor.of(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("|", "+", "/", "=");
+        assertThat(Cursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void decode_BlankToken_ReturnsNull() {
+        assertThat(Cursor.decode(null)).isNull();
+        assertThat(Cursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void decode_MalformedToken_ThrowsException() {
+        String tampered = Base64.getUrlEncoder().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> Cursor.decode("%%%")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> Cursor.decode(tampered)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void of_ExtraRowFetched_ReturnsSizeRowsAndCursorToLastOne() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 0, 0);
+        Function<Long, Cursor> cursorOf = id -> Cursor.of(now.minusMinutes(id), id);
+
+        CursorPage<String> page = CursorPage.of(List.of(3L, 2L, 1L), 2, cursorOf, String::valueOf);
+        CursorPage<String> lastPage = CursorPage.of(List.of(1L), 2, cursorOf, String::valueOf);
+
+        assertThat(page.getContent()).containsExactly("3", "2");
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(Cursor.decode(page.getNextCursor())).isEqualTo(cursorOf.apply(2L));
+        assertThat(lastPage.getContent()).containsExactly("1");
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void checkSize_OutOfRange_ThrowsException() {
+        assertThat(CursorPage.checkSize(CursorPage.MAX_SIZE)).isEqualTo(CursorPage.MAX_SIZE);
+        assertThatThrownBy(() -> CursorPage.checkSize(0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> CursorPage.checkSize(CursorPage.MAX_SIZE + 1)).isInstanceOf(ValidationException.class);
+    }
+}
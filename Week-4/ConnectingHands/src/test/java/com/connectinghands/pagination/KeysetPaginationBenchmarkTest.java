@@ -0,0 +1,175 @@
+package com.connectinghands.pagination;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency benchmark comparing offset and keyset pagination of the orphanage listing on page 1
+ * and on a deep page. Runs the same statement shapes Hibernate generates for
+ * {@code GET /orphanages} (page query plus count) and {@code GET /orphanages/scroll} against an
+ * in-memory H2 {@code orphanages} table carrying the V10 (created_at, id) index, and reports
+ * the median latency of each. Skipped by default; run with
+ * {@code mvn test -Dtest=KeysetPaginationBenchmarkTest -Dbenchmark=true [-Dbenchmark.page=10000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class KeysetPaginationBenchmarkTest {
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = Integer.getInteger("benchmark.page", 10_000);
+    private static final long ROWS = (long) DEEP_PAGE * PAGE_SIZE + PAGE_SIZE;
+    private static final int ITERATIONS = 30;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private static final String OFFSET_SQL = "SELECT id, name, city, status, created_at FROM orphanages " +
+            "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String COUNT_SQL = "SELECT COUNT(id) FROM orphanages";
+    private static final String FIRST_KEYSET_SQL = "SELECT id, name, city, status, created_at FROM orphanages " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?";
+    private static final String KEYSET_SQL = "SELECT id, name, city, status, created_at FROM orphanages " +
+            "WHERE created_at <= ? AND (created_at < ? OR (created_at = ? AND id < ?)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createOrphanages() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:keyset-benchmark;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE orphanages (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                    "city VARCHAR(100) NOT NULL, status VARCHAR(20) NOT NULL, created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_orphanages_created_at_id ON orphanages(created_at DESC, id DESC)");
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO orphanages VALUES (?, ?, ?, ?, ?)")) {
+            for (long id = 1; id <= ROWS; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "Orphanage " + id);
+                insert.setString(3, "City " + id % 50);
+                insert.setString(4, "ACTIVE");
+                insert.setTimestamp(5, Timestamp.valueOf(createdAt(id)));
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @AfterAll
+    static void dropOrphanages() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void deepPage_KeysetStaysFlatWhileOffsetGrows() throws SQLException {
+        // Act
+        double offsetFirst = medianMicros(() -> offsetPage(1));
+        double offsetDeep = medianMicros(() -> offsetPage(DEEP_PAGE));
+        double keysetFirst = medianMicros(() -> keysetPage(1));
+        double keysetDeep = medianMicros(() -> keysetPage(DEEP_PAGE));
+
+        // Assert
+        System.out.printf("%,d orphanages, %d per page%n", ROWS, PAGE_SIZE);
+        System.out.printf("offset  page 1: %,10.1f us   page %,d: %,10.1f us%n", offsetFirst, DEEP_PAGE, offsetDeep);
+        System.out.printf("keyset  page 1: %,10.1f us   page %,d: %,10.1f us%n", keysetFirst, DEEP_PAGE, keysetDeep);
+        assertThat(keysetDeep).isLessThan(offsetDeep);
+    }
+
+    /**
+     * Offset listing as served by {@code Page}: the page itself plus the total count.
+     */
+    private static long offsetPage(int page) throws SQLException {
+        long lastId;
+        try (PreparedStatement query = connection.prepareStatement(OFFSET_SQL)) {
+            query.setInt(1, PAGE_SIZE);
+            query.setLong(2, (long) (page - 1) * PAGE_SIZE);
+            lastId = readPage(query);
+        }
+        try (PreparedStatement count = connection.prepareStatement(COUNT_SQL)) {
+            try (ResultSet rows = count.executeQuery()) {
+                rows.next();
+                assertThat(rows.getLong(1)).isEqualTo(ROWS);
+            }
+        }
+        return lastId;
+    }
+
+    /**
+     * Keyset listing as served by {@code CursorPage}: one extra row and no count. The cursor
+     * is the last row of the previous page, which is known here without walking the pages.
+     */
+    private static long keysetPage(int page) throws SQLException {
+        if (page == 1) {
+            try (PreparedStatement query = connection.prepareStatement(FIRST_KEYSET_SQL)) {
+                query.setInt(1, PAGE_SIZE + 1);
+                return readPage(query);
+            }
+        }
+        long cursorId = ROWS - (long) (page - 1) * PAGE_SIZE + 1;
+        Timestamp cursorCreatedAt = Timestamp.valueOf(createdAt(cursorId));
+        try (PreparedStatement query = connection.prepareStatement(KEYSET_SQL)) {
+            query.setTimestamp(1, cursorCreatedAt);
+            query.setTimestamp(2, cursorCreatedAt);
+            query.setTimestamp(3, cursorCreatedAt);
+            query.setLong(4, cursorId);
+            query.setInt(5, PAGE_SIZE + 1);
+            return readPage(query);
+        }
+    }
+
+    private static long readPage(PreparedStatement query) throws SQLException {
+        long lastId = -1;
+        int count = 0;
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next() && count++ < PAGE_SIZE) {
+                lastId = rows.getLong(1);
+            }
+        }
+        return lastId;
+    }
+
+    private static double medianMicros(PageQuery query) throws SQLException {
+        for (int i = 0; i < 5; i++) {
+            query.run();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[ITERATIONS / 2] / 1_000.0;
+    }
+
+    /**
+     * Two orphanages share each second, so pages also cross ties on created_at.
+     */
+    private static LocalDateTime createdAt(long id) {
+        return EPOCH.plusSeconds(id / 2);
+    }
+
+    @FunctionalInterface
+    private interface PageQuery {
+        long run() throws SQLException;
+    }
+}
@@ -0,0 +1,137 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.repository.projection.DonationAggregate;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the per-orphanage donation aggregates behind the report listings against the embedded database.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class DonationRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    private final LocalDateTime startDate = LocalDateTime.now().minusDays(1);
+    private final LocalDateTime endDate = LocalDateTime.now().plusDays(1);
+
+    private User donor;
+
+    @BeforeEach
+    void setUp() {
+        donor = new User();
+        donor.setName("Donor");
+        donor.setFirstName("Dana");
+        donor.setLastName("Donor");
+        donor.setEmail("donor@example.com");
+        donor.setPassword("password");
+        donor.setRole(UserRole.ROLE_USER);
+        entityManager.persist(donor);
+    }
+
+    @Test
+    void aggregateByOrphanageIds_MixedCurrencies_SumsOnlyRequestedCurrency() {
+        // Arrange
+        Orphanage orphanage = persistOrphanage("Sunrise Home");
+        persistDonation(orphanage, new BigDecimal("100.00"), "USD");
+        persistDonation(orphanage, new BigDecimal("50.00"), "usd");
+        persistDonation(orphanage, new BigDecimal("70.00"), "EUR");
+        persistDonation(orphanage, null, null);
+        entityManager.flush();
+
+        // Act
+        List<DonationAggregate> aggregates = donationRepository.aggregateByOrphanageIds(
+                List.of(orphanage.getId()), startDate, endDate, "USD");
+
+        // Assert
+        assertThat(aggregates).singleElement().satisfies(aggregate -> {
+            assertThat(aggregate.getTotalDonations()).isEqualTo(4L);
+            assertThat(aggregate.getTotalMonetaryAmount()).isEqualByComparingTo("150.00");
+            assertThat(aggregate.getTotalResourceDonations()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void aggregateByOrphanage_EqualSortKeys_PagesOrderedById() {
+        // Arrange
+        Orphanage first = persistOrphanage("Same Name");
+        Orphanage second = persistOrphanage("Same Name");
+        Orphanage third = persistOrphanage("Same Name");
+        persistDonation(second, new BigDecimal("20.00"), "EUR");
+        entityManager.flush();
+        Sort sort = Sort.by("name").and(Sort.by("id"));
+
+        // Act
+        Page<DonationAggregate> firstPage = donationRepository.aggregateByOrphanage(
+                startDate, endDate, "USD", PageRequest.of(0, 2, sort));
+        Page<DonationAggregate> secondPage = donationRepository.aggregateByOrphanage(
+                startDate, endDate, "USD", PageRequest.of(1, 2, sort));
+
+        // Assert
+        assertThat(firstPage.getContent()).extracting(DonationAggregate::getOrphanageId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.getContent().get(1).getTotalDonations()).isEqualTo(1L);
+        assertThat(firstPage.getContent().get(1).getTotalMonetaryAmount()).isNull();
+        assertThat(secondPage.getContent()).extracting(DonationAggregate::getOrphanageId)
+                .containsExactly(third.getId());
+    }
+
+    private Orphanage persistOrphanage(String name) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setName(name);
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("5550000000");
+        orphanage.setEmail("home@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(donor);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        return orphanage;
+    }
+
+    private void persistDonation(Orphanage orphanage, BigDecimal amount, String currency) {
+        Donation donation = new Donation();
+        donation.setDonor(donor);
+        donation.setOrphanage(orphanage);
+        donation.setAmount(amount);
+        donation.setCurrency(currency);
+        donation.setStatus(DonationStatus.COMPLETED);
+        donation.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        donation.setCreatedAt(LocalDateTime.now());
+        donation.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(donation);
+    }
+}
@@ -0,0 +1,125 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.AuditLog;
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput benchmark for audit logs and donations persisted through the entity
+ * manager, flushing and clearing every batch as a bulk writer would. Compare runs with
+ * {@code -Dspring.jpa.properties.hibernate.jdbc.batch_size=1} to see the batching gain.
+ * Skipped by default; run with
+ * {@code mvn test -Dtest=InsertBatchingBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=100000]}.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InsertBatchingBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int FLUSH_EVERY = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User donor;
+    private Orphanage orphanage;
+
+    @BeforeEach
+    void setUp() {
+        donor = new User();
+        donor.setName("Donor");
+        donor.setFirstName("Dana");
+        donor.setLastName("Donor");
+        donor.setEmail("donor@example.com");
+        donor.setPassword("password");
+        donor.setRole(UserRole.ROLE_USER);
+        entityManager.persist(donor);
+
+        orphanage = new Orphanage();
+        orphanage.setName("Sunrise Home");
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("5550000000");
+        orphanage.setEmail("sunrise@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(donor);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("benchmark");
+        entityManager.persist(orphanage);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void persist_AuditLogs_ReportsThroughput() {
+        insert("audit logs", index -> {
+            AuditLog auditLog = new AuditLog();
+            auditLog.setUserId(donor.getId());
+            auditLog.setAction("DONATION_CREATED");
+            auditLog.setEntityType("Donation");
+            auditLog.setEntityId((long) index);
+            auditLog.setNewValue("{\"amount\":" + index + "}");
+            auditLog.setTimestamp(LocalDateTime.now());
+            return auditLog;
+        });
+        assertThat(entityManager.createQuery("SELECT COUNT(a) FROM AuditLog a", Long.class).getSingleResult())
+                .isEqualTo(ROWS);
+    }
+
+    @Test
+    void persist_Donations_ReportsThroughput() {
+        insert("donations", index -> {
+            Donation donation = new Donation();
+            donation.setDonor(entityManager.getReference(User.class, donor.getId()));
+            donation.setOrphanage(entityManager.getReference(Orphanage.class, orphanage.getId()));
+            donation.setAmount(BigDecimal.valueOf(index % 1000 + 1));
+            donation.setCurrency("USD");
+            donation.setStatus(DonationStatus.COMPLETED);
+            donation.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+            donation.setCreatedAt(LocalDateTime.now());
+            donation.setUpdatedAt(LocalDateTime.now());
+            return donation;
+        });
+        assertThat(entityManager.createQuery("SELECT COUNT(d) FROM Donation d", Long.class).getSingleResult())
+                .isEqualTo(ROWS);
+    }
+
+    private void insert(String label, IntFunction<Object> row) {
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(row.apply(i));
+            if ((i + 1) % FLUSH_EVERY == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("Inserted %,d %s in %.1fs (%,.0f rows/s)%n", ROWS, label, seconds, ROWS / seconds);
+    }
+}
@@ -0,0 +1,131 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.AuditLog;
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that entity inserts are sent in JDBC batches: IDs come from pooled sequences, so
+ * persisting many rows costs one statement per batch plus one sequence call per block of
+ * fifty IDs, not one statement per row.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class InsertBatchingTest {
+    private static final int ROWS = 120;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User donor;
+    private Orphanage orphanage;
+
+    @BeforeEach
+    void setUp() {
+        donor = new User();
+        donor.setName("Donor");
+        donor.setFirstName("Dana");
+        donor.setLastName("Donor");
+        donor.setEmail("donor@example.com");
+        donor.setPassword("password");
+        donor.setRole(UserRole.ROLE_USER);
+        entityManager.persist(donor);
+
+        orphanage = new Orphanage();
+        orphanage.setName("Sunrise Home");
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("5550000000");
+        orphanage.setEmail("sunrise@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(donor);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void persist_Donations_InsertedInBatches() {
+        // Act
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(donation(i));
+        }
+        entityManager.flush();
+
+        // Assert: three batches of at most fifty rows and three sequence blocks
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void persist_InterleavedAuditLogsAndDonations_OrderedIntoBatches() {
+        // Act
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(auditLog(i));
+            entityManager.persist(donation(i));
+        }
+        entityManager.flush();
+
+        // Assert: ordered inserts keep each table in its own batches despite the interleaving
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(12);
+    }
+
+    private Donation donation(int index) {
+        Donation donation = new Donation();
+        donation.setDonor(entityManager.getReference(User.class, donor.getId()));
+        donation.setOrphanage(entityManager.getReference(Orphanage.class, orphanage.getId()));
+        donation.setAmount(BigDecimal.valueOf(index + 1));
+        donation.setCurrency("USD");
+        donation.setStatus(DonationStatus.COMPLETED);
+        donation.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        donation.setCreatedAt(LocalDateTime.now());
+        donation.setUpdatedAt(LocalDateTime.now());
+        return donation;
+    }
+
+    private AuditLog auditLog(int index) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setUserId(donor.getId());
+        auditLog.setAction("DONATION_CREATED");
+        auditLog.setEntityType("Donation");
+        auditLog.setEntityId((long) index);
+        auditLog.setTimestamp(LocalDateTime.now());
+        return auditLog;
+    }
+}
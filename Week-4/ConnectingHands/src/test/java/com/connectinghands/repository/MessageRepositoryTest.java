@@ -0,0 +1,171 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Conversation;
+import com.connectinghands.entity.Message;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.pagination.Cursor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.connectinghands.repository.specification.KeysetSpecifications.NEWEST_FIRST;
+import static com.connectinghands.repository.specification.KeysetSpecifications.createdBefore;
+import static com.connectinghands.repository.specification.MessageSpecifications.inConversation;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the set-based mark-as-read updates and the conversation listings against the
+ * embedded database.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class MessageRepositoryTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 10, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    private User alice;
+    private User bob;
+    private User carol;
+
+    @BeforeEach
+    void setUp() {
+        alice = persistUser("alice");
+        bob = persistUser("bob");
+        carol = persistUser("carol");
+    }
+
+    @Test
+    void markRead_SecondCall_ChangesNothing() {
+        Message message = persistMessage(bob, alice, T0);
+
+        assertThat(messageRepository.markRead(message.getId(), LocalDateTime.now())).isEqualTo(1);
+        assertThat(messageRepository.markRead(message.getId(), LocalDateTime.now())).isZero();
+    }
+
+    @Test
+    void markRead_Ids_OnlyChangesUnreadMessagesOfReceiver() {
+        Message first = persistMessage(bob, alice, T0);
+        Message second = persistMessage(carol, alice, T0.plusMinutes(1));
+        Message toBob = persistMessage(alice, bob, T0.plusMinutes(2));
+        messageRepository.markRead(second.getId(), LocalDateTime.now());
+
+        int changed = messageRepository.markRead(alice.getId(),
+                List.of(first.getId(), second.getId(), toBob.getId()), LocalDateTime.now());
+
+        assertThat(changed).isEqualTo(1);
+        assertThat(isRead(first)).isTrue();
+        assertThat(isRead(toBob)).isFalse();
+    }
+
+    @Test
+    void markConversationRead_StopsAtCursorAndStaysInConversation() {
+        Message first = persistMessage(bob, alice, T0);
+        // same creation time as the cursor message, so the ID decides
+        Message tied = persistMessage(bob, alice, T0.plusMinutes(1));
+        Message cursor = persistMessage(bob, alice, T0.plusMinutes(1));
+        Message later = persistMessage(bob, alice, T0.plusMinutes(2));
+        Message fromCarol = persistMessage(carol, alice, T0);
+        Message fromAlice = persistMessage(alice, bob, T0);
+
+        int changed = messageRepository.markConversationRead(cursor.getConversationId(), alice.getId(),
+                cursor.getCreatedAt(), cursor.getId(), LocalDateTime.now());
+
+        assertThat(changed).isEqualTo(3);
+        assertThat(List.of(first, tied, cursor)).allSatisfy(message -> assertThat(isRead(message)).isTrue());
+        assertThat(List.of(later, fromCarol, fromAlice)).allSatisfy(message -> assertThat(isRead(message)).isFalse());
+    }
+
+    @Test
+    void findByConversationId_ReturnsBothDirectionsOfOneConversation() {
+        Message first = persistMessage(bob, alice, T0);
+        Message reply = persistMessage(alice, bob, T0.plusMinutes(1));
+        persistMessage(carol, alice, T0.plusMinutes(2));
+        persistMessage(bob, carol, T0.plusMinutes(3));
+
+        List<Message> messages = messageRepository.findByConversationId(reply.getConversationId(),
+                PageRequest.of(0, 10, Sort.by("createdAt").descending())).getContent();
+
+        assertThat(messages).extracting(Message::getId).containsExactly(reply.getId(), first.getId());
+    }
+
+    @Test
+    void inConversation_ScrollsNewestFirstWithinConversation() {
+        Message first = persistMessage(bob, alice, T0);
+        Message second = persistMessage(alice, bob, T0.plusMinutes(1));
+        Message third = persistMessage(bob, alice, T0.plusMinutes(2));
+        persistMessage(carol, alice, T0.plusMinutes(3));
+
+        List<Message> page = messageRepository.findBy(inConversation(third.getConversationId())
+                        .and(createdBefore(Cursor.of(third.getCreatedAt(), third.getId()))),
+                query -> query.sortBy(NEWEST_FIRST).limit(10).all());
+
+        assertThat(page).extracting(Message::getId).containsExactly(second.getId(), first.getId());
+    }
+
+    private boolean isRead(Message message) {
+        entityManager.clear();
+        return entityManager.find(Message.class, message.getId()).isRead();
+    }
+
+    private User persistUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@example.com");
+        user.setPassword("password");
+        user.setRole(UserRole.ROLE_USER);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Long conversationOf(User from, User to) {
+        Long low = Math.min(from.getId(), to.getId());
+        Long high = Math.max(from.getId(), to.getId());
+        return conversationRepository.findIdByParticipants(low, high).orElseGet(() -> {
+            Conversation conversation = new Conversation();
+            conversation.setUserLowId(low);
+            conversation.setUserHighId(high);
+            conversation.setCreatedAt(T0);
+            entityManager.persist(conversation);
+            entityManager.flush();
+            return conversation.getId();
+        });
+    }
+
+    private Message persistMessage(User from, User to, LocalDateTime createdAt) {
+        Message message = new Message();
+        message.setSender(from);
+        message.setReceiver(to);
+        message.setConversationId(conversationOf(from, to));
+        message.setContent("Hello");
+        message.setCreatedBy("test");
+        entityManager.persist(message);
+        entityManager.flush();
+        // auditing stamps the current time on persist, so the position is set afterwards
+        entityManager.createNativeQuery("UPDATE messages SET created_at = :createdAt WHERE id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", message.getId())
+                .executeUpdate();
+        message.setCreatedAt(createdAt);
+        return message;
+    }
+}
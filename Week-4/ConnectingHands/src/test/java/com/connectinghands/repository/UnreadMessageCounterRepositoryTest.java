@@ -0,0 +1,117 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Message;
+import com.connectinghands.entity.UnreadMessageCounter;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.repository.projection.UnreadCounterCheck;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the counter updates and the reconciliation recount against the embedded database.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class UnreadMessageCounterRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UnreadMessageCounterRepository counterRepository;
+
+    private User sender;
+    private User receiver;
+
+    @BeforeEach
+    void setUp() {
+        sender = persistUser("sender");
+        receiver = persistUser("receiver");
+    }
+
+    @Test
+    void incrementAndDecrement_StopAtZero() {
+        persistCounter(receiver, 1);
+
+        counterRepository.increment(receiver.getId(), 2);
+        counterRepository.decrement(receiver.getId(), 5);
+        int missing = counterRepository.increment(sender.getId(), 1);
+
+        entityManager.clear();
+        assertThat(counterRepository.findById(receiver.getId())).get()
+                .extracting(UnreadMessageCounter::getUnreadCount).isEqualTo(0L);
+        assertThat(missing).isZero();
+    }
+
+    @Test
+    void checkCounters_RecountsUnreadMessagesAfterUserId() {
+        persistCounter(sender, 0);
+        persistCounter(receiver, 5);
+        persistMessage(sender, receiver, false);
+        persistMessage(sender, receiver, false);
+        persistMessage(sender, receiver, true);
+        entityManager.flush();
+
+        List<UnreadCounterCheck> checks = counterRepository.checkCounters(0L, PageRequest.of(0, 10));
+        List<UnreadCounterCheck> afterSender = counterRepository.checkCounters(sender.getId(), PageRequest.of(0, 10));
+
+        assertThat(checks).extracting(UnreadCounterCheck::getUserId).containsExactly(sender.getId(), receiver.getId());
+        assertThat(checks).extracting(UnreadCounterCheck::getActualCount).containsExactly(0L, 2L);
+        assertThat(afterSender).singleElement().satisfies(check -> {
+            assertThat(check.getStoredCount()).isEqualTo(5L);
+            assertThat(check.getActualCount()).isEqualTo(2L);
+        });
+    }
+
+    @Test
+    void repair_OnlyWhenCounterStillHoldsExpectedValue() {
+        persistCounter(receiver, 5);
+
+        assertThat(counterRepository.repair(receiver.getId(), 4, 2)).isZero();
+        assertThat(counterRepository.repair(receiver.getId(), 5, 2)).isEqualTo(1);
+    }
+
+    private User persistUser(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setFirstName(name);
+        user.setLastName("Test");
+        user.setEmail(name + "@example.com");
+        user.setPassword("password");
+        user.setRole(UserRole.ROLE_USER);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private void persistCounter(User user, long count) {
+        UnreadMessageCounter counter = new UnreadMessageCounter();
+        counter.setUserId(user.getId());
+        counter.setUnreadCount(count);
+        counter.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(counter);
+        entityManager.flush();
+    }
+
+    private void persistMessage(User from, User to, boolean read) {
+        Message message = new Message();
+        message.setSender(from);
+        message.setReceiver(to);
+        message.setContent("Hello");
+        message.setRead(read);
+        message.setCreatedAt(LocalDateTime.now());
+        message.setCreatedBy("test");
+        entityManager.persist(message);
+    }
+}
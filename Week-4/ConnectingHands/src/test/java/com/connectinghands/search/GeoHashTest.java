@@ -0,0 +1,77 @@
+package com.connectinghands.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+    @Test
+    void encode_MatchesReferenceHashes() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(42.6, -5.6, 5)).isEqualTo("ezs42");
+    }
+
+    @Test
+    void encode_LongerPrecisionExtendsShorterHash() {
+        String fine = GeoHash.encode(9.9252, 78.1198, GeoHash.MAX_PRECISION);
+
+        assertThat(fine).hasSize(GeoHash.MAX_PRECISION).startsWith(GeoHash.encode(9.9252, 78.1198, 5));
+    }
+
+    @Test
+    void neighbourhood_ContainsOwnCellAndEightNeighbours() {
+        List<String> cells = GeoHash.neighbourhood(42.6, -5.6, 5);
+
+        assertThat(cells).hasSize(9).doesNotHaveDuplicates().contains("ezs42", "ezs43", "ezs48", "ezs40");
+        assertThat(cells).allMatch(cell -> cell.length() == 5);
+    }
+
+    @Test
+    void neighbourhood_WrapsAroundAntimeridianAndStopsAtPole() {
+        assertThat(GeoHash.neighbourhood(0, 179.999, 4))
+                .contains(GeoHash.encode(0, -179.99, 4), GeoHash.encode(0, 179.99, 4));
+        assertThat(GeoHash.neighbourhood(89.999, 0, 3)).hasSize(6);
+    }
+
+    @Test
+    void coveredRadiusKm_EveryPointWithinRadiusLiesInNeighbourhood() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int precision = 1 + random.nextInt(7);
+            double latitude = random.nextDouble() * 170 - 85;
+            double longitude = random.nextDouble() * 360 - 180;
+            double radius = GeoHash.coveredRadiusKm(latitude, precision);
+            double bearing = random.nextDouble() * 2 * Math.PI;
+            double[] target = destination(latitude, longitude, bearing, radius * random.nextDouble());
+
+            List<String> cells = GeoHash.neighbourhood(latitude, longitude, precision);
+
+            assertThat(cells).as("precision %d around %f,%f", precision, latitude, longitude)
+                    .contains(GeoHash.encode(target[0], target[1], precision));
+        }
+    }
+
+    @Test
+    void distanceKm_MatchesKnownDistance() {
+        // Chennai to Madurai
+        assertThat(GeoHash.distanceKm(13.0827, 80.2707, 9.9252, 78.1198)).isCloseTo(422, within(2.0));
+        assertThat(GeoHash.distanceKm(1, 2, 1, 2)).isZero();
+    }
+
+    private static double[] destination(double latitude, double longitude, double bearing, double distanceKm) {
+        double angular = distanceKm / 6371.0088;
+        double lat1 = Math.toRadians(latitude);
+        double lon1 = Math.toRadians(longitude);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        double longitude2 = (Math.toDegrees(lon2) + 540) % 360 - 180;
+        return new double[] {Math.toDegrees(lat2), longitude2};
+    }
+}
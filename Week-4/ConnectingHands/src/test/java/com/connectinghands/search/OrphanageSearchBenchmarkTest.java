@@ -0,0 +1,192 @@
+package com.connectinghands.search;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency benchmark for orphanage search at a million rows, comparing the previous
+ * {@code LOWER(col) LIKE '%term%'} scan with the V11 full-text and trigram search. Each
+ * search runs the page query and the count query the service issues, over a mix of whole
+ * words, prefixes, multi-word terms and typos, and the p50/p99 latency is reported.
+ * Needs PostgreSQL with pg_trgm available; the benchmark works in a scratch schema that
+ * is dropped afterwards. Skipped by default; run with
+ * {@code mvn test -Dtest=OrphanageSearchBenchmarkTest -Dbenchmark=true
+ * -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/connecting_hands
+ * [-Dbenchmark.postgres.user=postgres -Dbenchmark.postgres.password=postgres -Dbenchmark.rows=1000000]}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+class OrphanageSearchBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int SEARCH_ITERATIONS = 500;
+    private static final int SCAN_ITERATIONS = 40;
+    private static final String SCHEMA = "orphanage_search_benchmark";
+
+    private static final List<String> TERMS = List.of(
+            "hope", "sunris", "grace madurai", "little angels", "chennnai", "kerala", "angles home",
+            "st joseph", "bethel", "karunai illam");
+
+    private static final String LIKE_SQL = "SELECT o.id FROM orphanages o WHERE " +
+            "LOWER(o.name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(o.city) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(o.state) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(o.country) LIKE LOWER(CONCAT('%', ?, '%')) " +
+            "LIMIT ?";
+    private static final String LIKE_COUNT_SQL = "SELECT COUNT(*) FROM orphanages o WHERE " +
+            "LOWER(o.name) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(o.city) LIKE LOWER(CONCAT('%', ?, '%')) OR " +
+            "LOWER(o.state) LIKE LOWER(CONCAT('%', ?, '%')) OR LOWER(o.country) LIKE LOWER(CONCAT('%', ?, '%'))";
+    private static final String SEARCH_SQL = "SELECT o.id FROM orphanages o " +
+            "WHERE o.search_vector @@ to_tsquery('simple', ?) OR ? <% o.search_text " +
+            "ORDER BY ts_rank_cd(o.search_vector, to_tsquery('simple', ?)) " +
+            "+ word_similarity(?, o.search_text) DESC, o.id LIMIT ?";
+    private static final String SEARCH_COUNT_SQL = "SELECT COUNT(*) FROM orphanages o " +
+            "WHERE o.search_vector @@ to_tsquery('simple', ?) OR ? <% o.search_text";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void createOrphanages() throws SQLException, IOException {
+        connection = DriverManager.getConnection(System.getProperty("benchmark.postgres.url"),
+                System.getProperty("benchmark.postgres.user", "postgres"),
+                System.getProperty("benchmark.postgres.password", "postgres"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA + ", public");
+            statement.execute("CREATE TABLE orphanages (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, " +
+                    "city VARCHAR(100) NOT NULL, state VARCHAR(100) NOT NULL, country VARCHAR(100) NOT NULL)");
+            statement.execute("INSERT INTO orphanages " +
+                    "SELECT i, " +
+                    "(ARRAY['Hope','Sunrise','Grace','Little','Bethel','Karunai','Anbu','Shanti','Joy','Mercy'," +
+                    "'St Joseph','Nest','Ray','Haven','Harbor','Bright','New Life','Morning Star','Shelter','Seed'])" +
+                    "[1 + i % 20] || ' ' || " +
+                    "(ARRAY['Home','Angels','Illam','House','Foundation','Trust','Village','Children','Kids','Care'," +
+                    "'Ashram','Centre','Family','Society','Mission'])[1 + (i / 20) % 15] || ' ' || i, " +
+                    "(ARRAY['Chennai','Madurai','Coimbatore','Kochi','Bengaluru','Mysuru','Hyderabad','Pune'," +
+                    "'Mumbai','Delhi','Kolkata','Jaipur','Lucknow','Patna','Bhopal','Trichy','Salem','Vellore'])" +
+                    "[1 + (i / 300) % 18], " +
+                    "(ARRAY['Tamil Nadu','Kerala','Karnataka','Telangana','Maharashtra','Delhi','West Bengal'," +
+                    "'Rajasthan','Uttar Pradesh','Bihar','Madhya Pradesh'])[1 + (i / 7) % 11], " +
+                    "(ARRAY['India','Sri Lanka','Nepal'])[1 + (i / 1000) % 3] " +
+                    "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute(migration("db/migration/V11__orphanage_search.sql"));
+            statement.execute("ANALYZE orphanages");
+        }
+    }
+
+    @AfterAll
+    static void dropOrphanages() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Test
+    void search_P99StaysFarBelowLikeScan() throws SQLException {
+        // Act
+        double[] like = latenciesMillis(SCAN_ITERATIONS, OrphanageSearchBenchmarkTest::likeSearch);
+        double[] search = latenciesMillis(SEARCH_ITERATIONS, OrphanageSearchBenchmarkTest::indexedSearch);
+
+        // Assert
+        System.out.printf("%,d orphanages, %d per page, %d terms%n", ROWS, PAGE_SIZE, TERMS.size());
+        System.out.printf("LIKE scan    p50: %,9.2f ms   p99: %,9.2f ms%n", percentile(like, 50), percentile(like, 99));
+        System.out.printf("text search  p50: %,9.2f ms   p99: %,9.2f ms%n", percentile(search, 50), percentile(search, 99));
+        assertThat(percentile(search, 99)).isLessThan(percentile(like, 99));
+    }
+
+    private static long likeSearch(String term) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(LIKE_SQL)) {
+            for (int i = 1; i <= 4; i++) {
+                query.setString(i, term);
+            }
+            query.setInt(5, PAGE_SIZE);
+            readIds(query);
+        }
+        try (PreparedStatement count = connection.prepareStatement(LIKE_COUNT_SQL)) {
+            for (int i = 1; i <= 4; i++) {
+                count.setString(i, term);
+            }
+            return readCount(count);
+        }
+    }
+
+    private static long indexedSearch(String term) throws SQLException {
+        SearchQuery searchQuery = SearchQuery.parse(term);
+        try (PreparedStatement query = connection.prepareStatement(SEARCH_SQL)) {
+            query.setString(1, searchQuery.toTsQuery());
+            query.setString(2, searchQuery.toText());
+            query.setString(3, searchQuery.toTsQuery());
+            query.setString(4, searchQuery.toText());
+            query.setInt(5, PAGE_SIZE);
+            readIds(query);
+        }
+        try (PreparedStatement count = connection.prepareStatement(SEARCH_COUNT_SQL)) {
+            count.setString(1, searchQuery.toTsQuery());
+            count.setString(2, searchQuery.toText());
+            return readCount(count);
+        }
+    }
+
+    private static void readIds(PreparedStatement query) throws SQLException {
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                rows.getLong(1);
+            }
+        }
+    }
+
+    private static long readCount(PreparedStatement count) throws SQLException {
+        try (ResultSet rows = count.executeQuery()) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static double[] latenciesMillis(int iterations, Search search) throws SQLException {
+        for (String term : TERMS) {
+            search.run(term);
+        }
+        double[] millis = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            String term = TERMS.get(i % TERMS.size());
+            long start = System.nanoTime();
+            search.run(term);
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private static double percentile(double[] sorted, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static String migration(String location) throws IOException {
+        try (InputStream in = OrphanageSearchBenchmarkTest.class.getClassLoader().getResourceAsStream(location)) {
+            assertThat(in).as(location).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Search {
+        long run(String term) throws SQLException;
+    }
+}
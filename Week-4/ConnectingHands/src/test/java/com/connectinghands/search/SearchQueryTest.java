@@ -0,0 +1,37 @@
+package com.connectinghands.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchQueryTest {
+
+    @Test
+    void parse_LowerCasesWordsAndDropsOperators() {
+        SearchQuery query = SearchQuery.parse("  Hope's HOME | !Chennai:* ");
+
+        assertThat(query.getWords()).containsExactly("hope", "s", "home", "chennai");
+        assertThat(query.toText()).isEqualTo("hope s home chennai");
+    }
+
+    @Test
+    void toTsQuery_RequiresEveryWordAndPrefixesLongOnes() {
+        assertThat(SearchQuery.parse("hope ho sunrise").toTsQuery()).isEqualTo("hope:* & ho & sunrise:*");
+    }
+
+    @Test
+    void parse_KeepsNonLatinWords() {
+        assertThat(SearchQuery.parse("Ünïcode அன்பு").getWords()).containsExactly("ünïcode", "அன்பு");
+    }
+
+    @Test
+    void parse_LimitsNumberOfWords() {
+        assertThat(SearchQuery.parse("a b c d e f g h i j").getWords()).hasSize(SearchQuery.MAX_WORDS);
+    }
+
+    @Test
+    void parse_NullOrPunctuationOnly_IsEmpty() {
+        assertThat(SearchQuery.parse(null).isEmpty()).isTrue();
+        assertThat(SearchQuery.parse(" &|!:* ").isEmpty()).isTrue();
+    }
+}
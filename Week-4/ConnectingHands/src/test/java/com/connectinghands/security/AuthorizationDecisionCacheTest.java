@@ -0,0 +1,146 @@
+package com.connectinghands.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorizationDecisionCacheTest {
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private AuthorizationDecisionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        cache = new AuthorizationDecisionCache(meterRegistry, clock, 3, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_AfterPut_ReturnsDecisionAndCountsHit() {
+        cache.put(1L, 10L, true);
+        cache.put(1L, 11L, false);
+
+        assertThat(cache.get(1L, 10L)).isTrue();
+        assertThat(cache.get(1L, 11L)).isFalse();
+        assertThat(cache.get(2L, 10L)).isNull();
+        assertThat(requests("hit")).isEqualTo(2);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void get_AfterTtl_Misses() {
+        cache.put(1L, 10L, true);
+
+        clock.advance(Duration.ofSeconds(29));
+        assertThat(cache.get(1L, 10L)).isTrue();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(1L, 10L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_WhenFull_PurgesExpiredEntriesBeforeGivingUp() {
+        cache.put(1L, 10L, true);
+        clock.advance(Duration.ofSeconds(20));
+        cache.put(2L, 10L, true);
+        cache.put(3L, 10L, true);
+
+        clock.advance(Duration.ofSeconds(10));
+        cache.put(4L, 10L, true);
+        cache.put(5L, 10L, true);
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(4L, 10L)).isTrue();
+        assertThat(cache.get(5L, 10L)).isNull();
+    }
+
+    @Test
+    void evictUser_RemovesOnlyThatUsersDecisions() {
+        cache.put(1L, 10L, true);
+        cache.put(1L, 11L, false);
+        cache.put(2L, 10L, false);
+
+        cache.evictUser(1L);
+
+        assertThat(cache.get(1L, 10L)).isNull();
+        assertThat(cache.get(1L, 11L)).isNull();
+        assertThat(cache.get(2L, 10L)).isFalse();
+    }
+
+    @Test
+    void evictOrphanage_RemovesOnlyThatOrphanagesDecisions() {
+        cache.put(1L, 10L, true);
+        cache.put(2L, 10L, false);
+        cache.put(1L, 11L, false);
+
+        cache.evictOrphanage(10L);
+
+        assertThat(cache.get(1L, 10L)).isNull();
+        assertThat(cache.get(2L, 10L)).isNull();
+        assertThat(cache.get(1L, 11L)).isFalse();
+    }
+
+    @Test
+    void evictOrphanage_InTransaction_EvictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictOrphanage(10L);
+
+        // a concurrent request decides again before the change is committed
+        cache.put(1L, 10L, true);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get(1L, 10L)).isNull();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("security.authorization.cache.requests").tag("result", result).counter().count();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.connectinghands.security.jwt;
+
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JMH benchmark of the per-request overhead of {@link JwtAuthenticationFilter} under
+ * concurrent load, with and without the verified-token cache ({@code max-size} 0 disables
+ * it). The user lookup is simulated by parking for {@code lookupMicros}, standing in for
+ * the {@code findByEmail} round-trip; 0 measures the signature checks alone.
+ * Skipped by default; run with
+ * {@code mvn test -Dtest=JwtAuthenticationFilterBenchmark -Dbenchmark=true}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @Param({"0", "10000"})
+    private int cacheSize;
+
+    @Param({"0", "300"})
+    private long lookupMicros;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("alice@example.com");
+        user.setRole(UserRole.ROLE_USER);
+        UserDetailsService userDetailsService = username -> {
+            if (lookupMicros > 0) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(lookupMicros));
+            }
+            return user;
+        };
+        JwtTokenProvider tokenProvider = JwtAuthenticationFilterTest.tokenProvider(
+                "benchmark-secret-key-that-is-at-least-256-bits-long-for-hs256");
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService,
+                new VerifiedTokenCache(new SimpleMeterRegistry(), cacheSize, Duration.ofMinutes(5)));
+        token = JwtAuthenticationFilterTest.token(tokenProvider, user);
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(JwtAuthenticationFilterBenchmark benchmark) {
+            request = new MockHttpServletRequest();
+            request.addHeader("Authorization", "Bearer " + benchmark.token);
+            response = new MockHttpServletResponse();
+        }
+
+        @TearDown
+        public void tearDown() {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object filter(Exchange exchange) throws Exception {
+        filter.doFilter(exchange.request, exchange.response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationFilterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
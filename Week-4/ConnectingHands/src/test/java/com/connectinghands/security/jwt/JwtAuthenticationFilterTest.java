@@ -0,0 +1,131 @@
+package com.connectinghands.security.jwt;
+
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+    private static final String SECRET = "test-secret-key-that-is-at-least-256-bits-long-for-testing-purposes";
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = tokenProvider(SECRET);
+        verifiedTokenCache = new VerifiedTokenCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, verifiedTokenCache);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("alice@example.com");
+        user.setRole(UserRole.ROLE_USER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_RepeatedToken_LoadsUserOnce() throws Exception {
+        when(userDetailsService.loadUserByUsername("alice@example.com")).thenReturn(user);
+        String token = token(tokenProvider, user);
+
+        assertThat(authenticate(token).getPrincipal()).isSameAs(user);
+        assertThat(authenticate(token).getPrincipal()).isSameAs(user);
+
+        verify(userDetailsService, times(1)).loadUserByUsername("alice@example.com");
+    }
+
+    @Test
+    void doFilter_AfterUserEvicted_LoadsUserAgain() throws Exception {
+        when(userDetailsService.loadUserByUsername("alice@example.com")).thenReturn(user);
+        String token = token(tokenProvider, user);
+
+        authenticate(token);
+        verifiedTokenCache.evictUser("alice@example.com");
+        authenticate(token);
+
+        verify(userDetailsService, times(2)).loadUserByUsername("alice@example.com");
+    }
+
+    @Test
+    void doFilter_TokenSignedWithOtherKey_IsNotAuthenticatedOrCached() throws Exception {
+        String forged = token(tokenProvider(SECRET.replace('t', 'x')), user);
+
+        assertThat(authenticate(forged)).isNull();
+        assertThat(authenticate(forged)).isNull();
+
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    void doFilter_ClaimsToken_AuthenticatesWithoutLoadingUser() throws Exception {
+        JwtTokenProvider claimsProvider = tokenProvider(SECRET, JwtTokenFormat.CLAIMS);
+        filter = new JwtAuthenticationFilter(claimsProvider, userDetailsService, verifiedTokenCache);
+
+        Authentication authentication = authenticate(token(claimsProvider, user));
+
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(JwtPrincipal.class,
+                principal -> assertThat(principal.getUserId()).isEqualTo(1L));
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ROLE_USER");
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    static JwtTokenProvider tokenProvider(String secret) {
+        return tokenProvider(secret, JwtTokenFormat.SUBJECT);
+    }
+
+    static JwtTokenProvider tokenProvider(String secret, JwtTokenFormat format, String... previousSecrets) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtExpiration", Duration.ofHours(1).toMillis());
+        ReflectionTestUtils.setField(provider, "tokenFormat", format);
+        ReflectionTestUtils.setField(provider, "previousSecrets", previousSecrets);
+        provider.init();
+        return provider;
+    }
+
+    static String token(JwtTokenProvider provider, User user) {
+        return provider.generateToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.connectinghands.security.jwt;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static com.connectinghands.security.jwt.JwtAuthenticationFilterTest.token;
+import static com.connectinghands.security.jwt.JwtAuthenticationFilterTest.tokenProvider;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+    private static final String OLD_SECRET = "old-secret-key-that-is-at-least-256-bits-long-for-testing-purposes";
+    private static final String NEW_SECRET = "new-secret-key-that-is-at-least-256-bits-long-for-testing-purposes";
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(7L);
+        user = new User();
+        user.setId(3L);
+        user.setEmail("admin@example.com");
+        user.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+        user.setOrphanage(orphanage);
+    }
+
+    @Test
+    void getPrincipal_ClaimsToken_CarriesUserRoleAndOrphanage() {
+        JwtTokenProvider provider = tokenProvider(NEW_SECRET, JwtTokenFormat.CLAIMS);
+
+        JwtPrincipal principal = provider.getPrincipal(provider.parseClaims(token(provider, user)));
+
+        assertThat(principal.getUserId()).isEqualTo(3L);
+        assertThat(principal.getUsername()).isEqualTo("admin@example.com");
+        assertThat(principal.getRole()).isEqualTo(UserRole.ROLE_ORPHANAGE_ADMIN);
+        assertThat(principal.getOrphanageId()).isEqualTo(7L);
+    }
+
+    @Test
+    void getPrincipal_SubjectToken_ReturnsNull() {
+        JwtTokenProvider provider = tokenProvider(NEW_SECRET, JwtTokenFormat.SUBJECT);
+
+        Claims claims = provider.parseClaims(token(provider, user));
+
+        assertThat(claims.getSubject()).isEqualTo("admin@example.com");
+        assertThat(provider.getPrincipal(claims)).isNull();
+    }
+
+    @Test
+    void parseClaims_TokenSignedWithPreviousSecret_IsAcceptedAfterRotation() {
+        String issuedBeforeRotation = token(tokenProvider(OLD_SECRET, JwtTokenFormat.CLAIMS), user);
+
+        JwtTokenProvider rotated = tokenProvider(NEW_SECRET, JwtTokenFormat.CLAIMS, OLD_SECRET);
+
+        assertThat(rotated.parseClaims(issuedBeforeRotation)).isNotNull();
+        assertThat(rotated.parseClaims(token(rotated, user))).isNotNull();
+    }
+
+    @Test
+    void parseClaims_TokenSignedWithRetiredSecret_IsRejected() {
+        String issuedBeforeRotation = token(tokenProvider(OLD_SECRET, JwtTokenFormat.CLAIMS), user);
+
+        assertThat(tokenProvider(NEW_SECRET, JwtTokenFormat.CLAIMS).parseClaims(issuedBeforeRotation)).isNull();
+    }
+
+    @Test
+    void parseClaims_TokenWithoutKeyId_IsCheckedAgainstCurrentSecret() {
+        String legacy = Jwts.builder()
+                .setSubject("admin@example.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(NEW_SECRET.getBytes()))
+                .compact();
+
+        assertThat(tokenProvider(NEW_SECRET, JwtTokenFormat.SUBJECT).parseClaims(legacy).getSubject())
+                .isEqualTo("admin@example.com");
+        assertThat(tokenProvider(OLD_SECRET, JwtTokenFormat.SUBJECT, NEW_SECRET).parseClaims(legacy)).isNull();
+    }
+}
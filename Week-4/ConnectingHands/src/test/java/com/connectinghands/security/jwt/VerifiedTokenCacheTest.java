@@ -0,0 +1,160 @@
+package com.connectinghands.security.jwt;
+
+import com.connectinghands.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+    private static final Instant NOW = Instant.parse("2024-03-01T10:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        cache = new VerifiedTokenCache(meterRegistry, clock, 3, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_AfterPut_ReturnsPrincipalAndCountsHit() {
+        User alice = user("alice@example.com");
+        cache.put("token-a", alice, expiresIn(Duration.ofHours(1)));
+
+        assertThat(cache.get("token-a")).isSameAs(alice);
+        assertThat(cache.get("token-b")).isNull();
+        assertThat(requests("hit")).isEqualTo(1);
+        assertThat(requests("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void get_AfterTokenExpiry_Misses() {
+        cache.put("token-a", user("alice@example.com"), expiresIn(Duration.ofSeconds(30)));
+
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(cache.get("token-a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_AfterMaxTtl_MissesEvenIfTokenIsStillValid() {
+        cache.put("token-a", user("alice@example.com"), expiresIn(Duration.ofHours(24)));
+
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.get("token-a")).isNotNull();
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    @Test
+    void put_ExpiredToken_IsNotCached() {
+        cache.put("token-a", user("alice@example.com"), expiresIn(Duration.ofSeconds(-1)));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_WhenFull_PurgesExpiredEntriesBeforeGivingUp() {
+        cache.put("token-a", user("a@example.com"), expiresIn(Duration.ofSeconds(10)));
+        cache.put("token-b", user("b@example.com"), expiresIn(Duration.ofHours(1)));
+        cache.put("token-c", user("c@example.com"), expiresIn(Duration.ofHours(1)));
+
+        clock.advance(Duration.ofSeconds(10));
+        cache.put("token-d", user("d@example.com"), expiresIn(Duration.ofHours(1)));
+        cache.put("token-e", user("e@example.com"), expiresIn(Duration.ofHours(1)));
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get("token-d")).isNotNull();
+        assertThat(cache.get("token-e")).isNull();
+    }
+
+    @Test
+    void evictUser_RemovesOnlyThatUsersTokens() {
+        cache.put("token-a1", user("alice@example.com"), expiresIn(Duration.ofHours(1)));
+        cache.put("token-a2", user("alice@example.com"), expiresIn(Duration.ofHours(1)));
+        cache.put("token-b", user("bob@example.com"), expiresIn(Duration.ofHours(1)));
+
+        cache.evictUser("alice@example.com");
+
+        assertThat(cache.get("token-a1")).isNull();
+        assertThat(cache.get("token-a2")).isNull();
+        assertThat(cache.get("token-b")).isNotNull();
+        assertThat(meterRegistry.get("security.jwt.cache.evictions").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void evictUser_InTransaction_EvictsAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.evictUser("alice@example.com");
+
+        // a concurrent request reloads the user before the change is committed
+        cache.put("token-a", user("alice@example.com"), expiresIn(Duration.ofHours(1)));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(cache.get("token-a")).isNull();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("security.jwt.cache.requests").tag("result", result).counter().count();
+    }
+
+    private Date expiresIn(Duration duration) {
+        return Date.from(clock.instant().plus(duration));
+    }
+
+    private static User user(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return user;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
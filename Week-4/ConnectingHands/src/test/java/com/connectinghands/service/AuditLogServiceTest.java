@@ -1,25 +1,37 @@
 package com.connectinghands.service;
 
+import com.connectinghands.audit.AuditLogPipeline;
 import com.connectinghands.dto.AuditLogDto;
 import com.connectinghands.entity.AuditLog;
+import com.connectinghands.mapper.AuditLogMapper;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.repository.AuditLogRepository;
+import com.connectinghands.repository.specification.AuditLogSpecifications;
 import com.connectinghands.service.impl.AuditLogServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,6 +46,10 @@ class AuditLogServiceTest {
     private AuditLogRepository auditLogRepository;
     @Mock
     private SecurityService securityService;
+    @Mock
+    private AuditLogPipeline auditLogPipeline;
+    @Spy
+    private AuditLogMapper auditLogMapper = Mappers.getMapper(AuditLogMapper.class);
     @InjectMocks
     private AuditLogServiceImpl auditLogService;
 
@@ -60,25 +76,68 @@ class AuditLogServiceTest {
     }
 
     @Test
-    void logAction_Detailed_SavesAuditLog() {
+    void logAction_Detailed_EnqueuesAuditLog() {
         auditLogService.logAction(1L, "CREATE", "User", 1L, null, "new", "info", "127.0.0.1");
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogPipeline, times(1)).enqueue(any(AuditLog.class));
+        verify(auditLogRepository, never()).save(any(AuditLog.class));
     }
 
     @Test
-    void logAction_Simple_SavesAuditLog() {
+    void logAction_Simple_EnqueuesAuditLog() {
         when(securityService.getCurrentUserId()).thenReturn(1L);
         auditLogService.logAction("CREATE", "desc", 1L);
-        verify(auditLogRepository, times(1)).save(any(AuditLog.class));
+        verify(auditLogPipeline, times(1)).enqueue(any(AuditLog.class));
+    }
+
+    @Test
+    void logActions_WritesOneEntryPerEntityInOneBatch() {
+        when(securityService.getCurrentUserId()).thenReturn(1L);
+        Map<Long, String> descriptions = new LinkedHashMap<>();
+        descriptions.put(7L, "Suspended orphanage: A");
+        descriptions.put(9L, "Suspended orphanage: B");
+
+        auditLogService.logActions("ORPHANAGE_SUSPENDED", descriptions);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(auditLogPipeline).writeAll(captor.capture());
+        verify(auditLogPipeline, never()).enqueue(any(AuditLog.class));
+        assertThat(captor.getValue()).extracting(AuditLog::getEntityId).containsExactly(7L, 9L);
+        assertThat(captor.getValue()).allSatisfy(log -> {
+            assertThat(log.getAction()).isEqualTo("ORPHANAGE_SUSPENDED");
+            assertThat(log.getUserId()).isEqualTo(1L);
+        });
     }
 
     @Test
     void getAuditLogs_ReturnsPage() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<AuditLog> page = new PageImpl<>(Collections.singletonList(auditLog));
-        when(auditLogRepository.findByFilters(any(), any(), any(), any(), any(), any(), any())).thenReturn(page);
+        when(auditLogRepository.findAll(any(Specification.class), any(Pageable.class))).thenReturn(page);
         Page<AuditLogDto> result = auditLogService.getAuditLogs(null, null, null, null, null, null, pageable);
         assertThat(result.getContent()).hasSize(1);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(auditLogRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getSort()).isEqualTo(AuditLogSpecifications.NEWEST_FIRST);
+    }
+
+    @Test
+    void scrollAuditLogs_MoreEntriesThanSize_ReturnsCursorToLastEntry() {
+        AuditLog older = new AuditLog();
+        older.setId(2L);
+        older.setTimestamp(auditLog.getTimestamp().minusMinutes(1));
+        AuditLog oldest = new AuditLog();
+        oldest.setId(3L);
+        oldest.setTimestamp(auditLog.getTimestamp().minusMinutes(2));
+        when(auditLogRepository.findBy(any(Specification.class), any())).thenReturn(List.of(auditLog, older, oldest));
+
+        CursorPage<AuditLogDto> result = auditLogService.scrollAuditLogs(
+                null, "CREATE", null, null, null, null, Cursor.of(LocalDateTime.now(), 10L).encode(), 2);
+
+        assertThat(result.getContent()).extracting(AuditLogDto::getId).containsExactly(1L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(Cursor.decode(result.getNextCursor())).isEqualTo(Cursor.of(older.getTimestamp(), 2L));
     }
 
     @Test
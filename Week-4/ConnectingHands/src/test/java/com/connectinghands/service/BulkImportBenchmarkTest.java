@@ -0,0 +1,171 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ImportProgressDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.importer.ImportBatchWriter;
+import com.connectinghands.importer.ImportFormat;
+import com.connectinghands.importer.ImportTarget;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.impl.BulkImportServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput benchmark for the bulk import. Imports a generated CSV of resources spread
+ * over a few hundred orphanages into the embedded database and reports rows per second.
+ * The file is generated while it is read, so it is never held in memory; heap use is not
+ * checked because the in-memory database keeps the imported rows on the heap.
+ * Skipped by default; run with
+ * {@code mvn test -Dtest=BulkImportBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=1000000]}.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkImportBenchmarkTest {
+    private static final long ROWS = Long.getLong("benchmark.rows", 1_000_000L);
+    private static final int ORPHANAGES = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    @Test
+    void importRows_MillionResources_ReportsThroughput() throws IOException {
+        // Arrange
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setFirstName("Ada");
+        admin.setLastName("Admin");
+        admin.setEmail("admin@example.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ROLE_SYSTEM_ADMIN);
+        entityManager.persist(admin);
+        long[] orphanageIds = new long[ORPHANAGES];
+        for (int i = 0; i < ORPHANAGES; i++) {
+            orphanageIds[i] = persistOrphanage(i, admin).getId();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SecurityService securityService = mock(SecurityService.class);
+        when(securityService.getCurrentUser()).thenReturn(admin);
+        BulkImportServiceImpl bulkImportService = new BulkImportServiceImpl(orphanageRepository,
+                mock(UserRepository.class), securityService, mock(AuditLogService.class),
+                new ImportBatchWriter(jdbcTemplate, entityManagerFactory), Validation.buildDefaultValidatorFactory().getValidator(),
+                Jackson2ObjectMapperBuilder.json().build(), transactionManager, new SimpleMeterRegistry(), 1000);
+        AtomicReference<ImportProgressDto> last = new AtomicReference<>();
+
+        long startNanos = System.nanoTime();
+
+        // Act
+        bulkImportService.importRows(ImportTarget.RESOURCES, ImportFormat.CSV,
+                new GeneratedCsv(orphanageIds), last::set);
+
+        // Assert
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("Imported %,d resources in %.1fs (%,.0f rows/s)%n",
+                last.get().getRowsImported(), seconds, ROWS / seconds);
+        assertThat(last.get().getRowsImported()).isEqualTo(ROWS);
+    }
+
+    private Orphanage persistOrphanage(int index, User admin) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setName("Orphanage " + index);
+        orphanage.setAddress("Street " + index);
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("555-" + index);
+        orphanage.setEmail("orphanage" + index + "@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("benchmark");
+        entityManager.persist(orphanage);
+        return orphanage;
+    }
+
+    /**
+     * CSV of ROWS resources produced one line at a time as it is read.
+     */
+    private static class GeneratedCsv extends InputStream {
+        private final long[] orphanageIds;
+        private byte[] line = "name,description,category,quantity,unit,orphanageId\n".getBytes(StandardCharsets.UTF_8);
+        private int position;
+        private long row;
+
+        GeneratedCsv(long[] orphanageIds) {
+            this.orphanageIds = orphanageIds;
+        }
+
+        @Override
+        public int read() {
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            return line[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == line.length && !nextLine()) {
+                return -1;
+            }
+            int count = Math.min(length, line.length - position);
+            System.arraycopy(line, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+
+        private boolean nextLine() {
+            if (row == ROWS) {
+                return false;
+            }
+            row++;
+            line = ("Item " + row + ",Donated stock," + (row % 2 == 0 ? "FOOD" : "CLOTHING") + ","
+                    + (row % 100 + 1) + ",pieces," + orphanageIds[(int) (row % orphanageIds.length)] + "\n")
+                    .getBytes(StandardCharsets.UTF_8);
+            position = 0;
+            return true;
+        }
+    }
+}
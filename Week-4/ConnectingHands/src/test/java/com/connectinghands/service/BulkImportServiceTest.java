@@ -0,0 +1,262 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ImportProgressDto;
+import com.connectinghands.dto.ImportProgressDto.RowError;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceMovement;
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.importer.ImportBatchWriter;
+import com.connectinghands.importer.ImportFormat;
+import com.connectinghands.importer.ImportTarget;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.search.GeoHash;
+import com.connectinghands.service.impl.BulkImportServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Imports small files with a chunk size of two and checks the rows written, the row
+ * errors and that foreign keys are resolved with one lookup per chunk.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class BulkImportServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    private UserRepository userRepository;
+    private SecurityService securityService;
+    private AuditLogService auditLogService;
+    private OrphanageRepository spiedOrphanageRepository;
+    private BulkImportServiceImpl bulkImportService;
+    private User admin;
+    private Orphanage orphanage;
+    private final List<ImportProgressDto> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        admin = new User();
+        admin.setName("Admin");
+        admin.setFirstName("Ada");
+        admin.setLastName("Admin");
+        admin.setEmail("admin@example.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ROLE_SYSTEM_ADMIN);
+        entityManager.persist(admin);
+
+        orphanage = new Orphanage();
+        orphanage.setName("Existing Home");
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("5550000000");
+        orphanage.setEmail("existing@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        entityManager.flush();
+
+        // the user repository cannot be created in this slice, so its two lookups are stubbed
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findExistingIds(anyCollection())).thenAnswer(invocation ->
+                invocation.<Collection<Long>>getArgument(0).stream().filter(admin.getId()::equals).toList());
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(invocation ->
+                entityManager.getReference(User.class, invocation.getArgument(0)));
+        securityService = mock(SecurityService.class);
+        when(securityService.getCurrentUser()).thenReturn(admin);
+        auditLogService = mock(AuditLogService.class);
+        spiedOrphanageRepository = mock(OrphanageRepository.class, delegatesTo(orphanageRepository));
+
+        bulkImportService = new BulkImportServiceImpl(spiedOrphanageRepository, userRepository, securityService,
+                auditLogService, new ImportBatchWriter(jdbcTemplate, entityManagerFactory),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Jackson2ObjectMapperBuilder.json().build(), transactionManager, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    void importRows_ResourcesCsv_WritesValidRowsAndReportsTheRest() throws IOException {
+        // Act
+        importRows(ImportTarget.RESOURCES, ImportFormat.CSV,
+                "name,description,category,quantity,unit,orphanageId\n"
+                        + "Rice,Long grain,FOOD,10,kg," + orphanage.getId() + "\n"
+                        + "Books,,EDUCATION,0,pieces," + orphanage.getId() + "\n"
+                        + "Shoes,Pairs,FOOTWEAR,5,pairs," + orphanage.getId() + "\n"
+                        + "Milk,Fresh,FOOD,20,liters,999999\n"
+                        + "Blankets,Wool,CLOTHING,many,pieces," + orphanage.getId() + "\n");
+
+        // Assert
+        assertThat(events).hasSize(4);
+        assertThat(events.get(0).getErrors()).extracting(RowError::getRow).containsExactly(2L);
+        assertThat(events.get(1).getErrors()).extracting(RowError::getMessage)
+                .containsExactly("Unknown category: FOOTWEAR", "Orphanage not found: 999999");
+        assertThat(events.get(2).getErrors()).extracting(RowError::getMessage)
+                .containsExactly("Invalid value for field quantity");
+        ImportProgressDto last = events.get(3);
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getRowsRead()).isEqualTo(5);
+        assertThat(last.getRowsImported()).isEqualTo(1);
+        assertThat(last.getRowsRejected()).isEqualTo(4);
+
+        List<Resource> resources = entityManager
+                .createQuery("SELECT r FROM Resource r", Resource.class).getResultList();
+        assertThat(resources).singleElement().satisfies(resource -> {
+            assertThat(resource.getName()).isEqualTo("Rice");
+            assertThat(resource.getCategory()).isEqualTo(ResourceCategory.FOOD);
+            assertThat(resource.getOrphanage().getId()).isEqualTo(orphanage.getId());
+        });
+        assertThat(entityManager.createQuery("SELECT m FROM ResourceMovement m", ResourceMovement.class)
+                .getResultList()).singleElement().satisfies(movement -> {
+                    assertThat(movement.getResourceId()).isEqualTo(resources.get(0).getId());
+                    assertThat(movement.getType()).isEqualTo(ResourceMovementType.OPENED);
+                    assertThat(movement.getQuantityChange()).isEqualTo(10);
+                });
+        // one orphanage lookup per chunk with rows left to check; the last chunk had none
+        verify(spiedOrphanageRepository, times(2)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void importRows_OrphanagesNdjson_RejectsDuplicatesAndUnknownAdmins() throws IOException {
+        String valid = "\"description\":\"Home\",\"address\":\"Street\",\"city\":\"Chennai\",\"state\":\"TN\","
+                + "\"country\":\"India\",\"postalCode\":\"600001\",\"capacity\":40,\"currentChildren\":12,"
+                + "\"verificationDocuments\":\"docs.pdf\",\"latitude\":13.08,\"longitude\":80.27";
+
+        // Act
+        importRows(ImportTarget.ORPHANAGES, ImportFormat.NDJSON,
+                "{\"name\":\"Sunrise Home\",\"email\":\"sunrise@example.com\",\"phone\":\"5551111111\"," + valid + "}\n"
+                        + "{\"name\":\"Existing Home\",\"email\":\"other@example.com\",\"phone\":\"5552222222\"," + valid + "}\n"
+                        + "{\"name\":\"Moonrise Home\",\"email\":\"sunrise@example.com\",\"phone\":\"5553333333\"," + valid + "}\n"
+                        + "{\"name\":\"Starlight Home\",\"email\":\"star@example.com\",\"phone\":\"5554444444\","
+                        + "\"adminId\":424242," + valid + "}\n");
+
+        // Assert
+        ImportProgressDto last = events.get(events.size() - 1);
+        assertThat(last.getRowsImported()).isEqualTo(1);
+        assertThat(events.stream().flatMap(event -> event.getErrors().stream()).map(RowError::getMessage))
+                .containsExactly(
+                        "An orphanage with this name already exists",
+                        "An orphanage with this email already exists",
+                        "User not found: 424242");
+
+        Orphanage imported = entityManager.createQuery(
+                "SELECT o FROM Orphanage o WHERE o.name = 'Sunrise Home'", Orphanage.class).getSingleResult();
+        assertThat(imported.getStatus()).isEqualTo(OrphanageStatus.PENDING);
+        assertThat(imported.getAvailableSlots()).isEqualTo(28);
+        assertThat(imported.getGeohash()).isEqualTo(GeoHash.encode(13.08, 80.27, GeoHash.MAX_PRECISION));
+        assertThat(imported.getAdmin().getId()).isEqualTo(admin.getId());
+        assertThat(imported.getCreatedBy()).isEqualTo("admin@example.com");
+        verify(auditLogService).logAction("ORPHANAGES_IMPORTED", "Imported 1 of rows 1-2", null);
+    }
+
+    @Test
+    void importRows_ResourceRequests_CreatedPending() throws IOException {
+        // Act
+        importRows(ImportTarget.RESOURCE_REQUESTS, ImportFormat.CSV,
+                "name,category,quantity,unit,orphanageId\n"
+                        + "Rice,FOOD,10,kg," + orphanage.getId() + "\n"
+                        + "Books,EDUCATION,3,pieces," + orphanage.getId() + "\n"
+                        + "Pens,EDUCATION,30,pieces," + orphanage.getId() + "\n");
+
+        // Assert
+        assertThat(events.get(events.size() - 1).getRowsImported()).isEqualTo(3);
+        List<ResourceRequest> requests = entityManager
+                .createQuery("SELECT r FROM ResourceRequest r ORDER BY r.id", ResourceRequest.class).getResultList();
+        assertThat(requests).extracting(ResourceRequest::getName).containsExactly("Rice", "Books", "Pens");
+        assertThat(requests).extracting(ResourceRequest::getStatus).containsOnly(ResourceRequestStatus.PENDING);
+    }
+
+    @Test
+    void importRows_ChunkRejectedByDatabase_StopsWithFailureAfterLastCommittedRow() throws IOException {
+        // Arrange
+        ImportBatchWriter writer = spy(new ImportBatchWriter(jdbcTemplate, entityManagerFactory));
+        doCallRealMethod().doThrow(new DataIntegrityViolationException("duplicate key"))
+                .when(writer).insertResourceRequests(anyList());
+        bulkImportService = new BulkImportServiceImpl(spiedOrphanageRepository, userRepository, securityService,
+                auditLogService, writer,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                Jackson2ObjectMapperBuilder.json().build(), transactionManager, new SimpleMeterRegistry(), 2);
+
+        // Act
+        importRows(ImportTarget.RESOURCE_REQUESTS, ImportFormat.CSV,
+                "name,category,quantity,unit,orphanageId\n"
+                        + "Rice,FOOD,10,kg," + orphanage.getId() + "\n"
+                        + "Books,EDUCATION,3,pieces," + orphanage.getId() + "\n"
+                        + "Pens,EDUCATION,30,pieces," + orphanage.getId() + "\n"
+                        + "Milk,FOOD,5,liters," + orphanage.getId() + "\n"
+                        + "Soap,HYGIENE,8,bars," + orphanage.getId() + "\n");
+
+        // Assert
+        assertThat(events).hasSize(2);
+        assertThat(events.get(0).getFailure()).isNull();
+        ImportProgressDto last = events.get(1);
+        assertThat(last.isCompleted()).isTrue();
+        assertThat(last.getFailure()).isEqualTo("Rows 3-4 could not be written");
+        assertThat(last.getLastCommittedRow()).isEqualTo(2);
+        assertThat(last.getRowsRead()).isEqualTo(2);
+        assertThat(last.getRowsImported()).isEqualTo(2);
+        verify(writer, times(2)).insertResourceRequests(anyList());
+    }
+
+    private void importRows(ImportTarget target, ImportFormat format, String content) throws IOException {
+        bulkImportService.importRows(target, format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), events::add);
+    }
+}
@@ -0,0 +1,186 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.BulkTransitionResultDto;
+import com.connectinghands.dto.BulkTransitionResultDto.Item;
+import com.connectinghands.dto.BulkTransitionResultDto.Outcome;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.OrphanageTransition;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.OrphanageMapper;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.impl.OrphanageServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Applies bulk status transitions to orphanages in mixed statuses and checks the per-ID
+ * outcomes, the stored rows and the batched audit entries.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class BulkOrphanageTransitionTest {
+    private static final long ADMIN_ID = 99L;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private AuditLogService auditLogService;
+    private OrphanageServiceImpl orphanageService;
+    private Orphanage pending;
+    private Orphanage active;
+    private Orphanage suspended;
+    private Orphanage closed;
+
+    @BeforeEach
+    void setUp() {
+        User currentUser = new User();
+        currentUser.setId(ADMIN_ID);
+        currentUser.setEmail("reviewer@example.com");
+        SecurityService securityService = mock(SecurityService.class);
+        when(securityService.getCurrentUserId()).thenReturn(ADMIN_ID);
+        when(securityService.getCurrentUser()).thenReturn(currentUser);
+        auditLogService = mock(AuditLogService.class);
+        orphanageService = new OrphanageServiceImpl(orphanageRepository, userRepository,
+                securityService, auditLogService, Mappers.getMapper(OrphanageMapper.class));
+
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setFirstName("Ada");
+        admin.setLastName("Admin");
+        admin.setEmail("admin@example.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+        entityManager.persist(admin);
+
+        pending = persistOrphanage("Pending Home", admin, OrphanageStatus.PENDING);
+        active = persistOrphanage("Active Home", admin, OrphanageStatus.ACTIVE);
+        suspended = persistOrphanage("Suspended Home", admin, OrphanageStatus.SUSPENDED);
+        closed = persistOrphanage("Closed Home", admin, OrphanageStatus.CLOSED);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void transitionOrphanages_MixedStatuses_ChangesOnlyEligibleRows() {
+        // Act
+        BulkTransitionResultDto result = orphanageService.transitionOrphanages(OrphanageTransition.SUSPEND,
+                List.of(suspended.getId(), active.getId(), 12345L, pending.getId(), active.getId()), "Inspection");
+
+        // Assert
+        assertThat(result.getTransition()).isEqualTo(OrphanageTransition.SUSPEND);
+        assertThat(result.getTransitioned()).isEqualTo(1);
+        assertThat(result.getResults()).containsExactly(
+                new Item(suspended.getId(), Outcome.INVALID_STATUS, OrphanageStatus.SUSPENDED),
+                new Item(active.getId(), Outcome.TRANSITIONED, OrphanageStatus.SUSPENDED),
+                new Item(12345L, Outcome.NOT_FOUND, null),
+                new Item(pending.getId(), Outcome.INVALID_STATUS, OrphanageStatus.PENDING));
+
+        entityManager.clear();
+        Orphanage changed = orphanageRepository.findById(active.getId()).orElseThrow();
+        assertThat(changed.getStatus()).isEqualTo(OrphanageStatus.SUSPENDED);
+        assertThat(changed.getVerificationNotes()).isEqualTo("Inspection");
+        assertThat(changed.getVerifiedBy()).isEqualTo(ADMIN_ID);
+        assertThat(changed.getUpdatedBy()).isEqualTo("reviewer@example.com");
+        assertThat(orphanageRepository.findById(pending.getId()).orElseThrow().getStatus())
+                .isEqualTo(OrphanageStatus.PENDING);
+        verify(auditLogService).logActions("ORPHANAGE_SUSPENDED",
+                Map.of(active.getId(), "Suspended orphanage: Active Home"));
+    }
+
+    @Test
+    void transitionOrphanages_Close_AppliesToEveryOpenStatus() {
+        // Act
+        BulkTransitionResultDto result = orphanageService.transitionOrphanages(OrphanageTransition.CLOSE,
+                List.of(pending.getId(), active.getId(), suspended.getId(), closed.getId()), "Shut down");
+
+        // Assert
+        assertThat(result.getTransitioned()).isEqualTo(3);
+        assertThat(result.getResults()).extracting(Item::getOutcome).containsExactly(
+                Outcome.TRANSITIONED, Outcome.TRANSITIONED, Outcome.TRANSITIONED, Outcome.INVALID_STATUS);
+        entityManager.clear();
+        assertThat(orphanageRepository.findAllById(List.of(pending.getId(), active.getId(), suspended.getId())))
+                .extracting(Orphanage::getStatus)
+                .containsOnly(OrphanageStatus.CLOSED);
+    }
+
+    @Test
+    void transitionOrphanages_Reactivate_KeepsExistingNotes() {
+        // Act
+        orphanageService.transitionOrphanages(OrphanageTransition.REACTIVATE, List.of(suspended.getId()), "ignored");
+
+        // Assert
+        entityManager.clear();
+        Orphanage changed = orphanageRepository.findById(suspended.getId()).orElseThrow();
+        assertThat(changed.getStatus()).isEqualTo(OrphanageStatus.ACTIVE);
+        assertThat(changed.getVerificationNotes()).isEqualTo("Original notes");
+    }
+
+    @Test
+    void transitionOrphanages_NothingEligible_WritesNoAudit() {
+        // Act
+        BulkTransitionResultDto result = orphanageService.transitionOrphanages(OrphanageTransition.VERIFY,
+                List.of(active.getId(), closed.getId()), "Looks good");
+
+        // Assert
+        assertThat(result.getTransitioned()).isZero();
+        verify(auditLogService, never()).logActions(anyString(), anyMap());
+    }
+
+    @Test
+    void transitionOrphanages_NoIds_ThrowsValidationException() {
+        assertThatThrownBy(() -> orphanageService.transitionOrphanages(OrphanageTransition.VERIFY,
+                Collections.emptyList(), "notes"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private Orphanage persistOrphanage(String name, User admin, OrphanageStatus status) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setName(name);
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("555-0000");
+        orphanage.setEmail(name.replace(' ', '.') + "@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(status);
+        orphanage.setVerificationNotes("Original notes");
+        orphanage.setAdmin(admin);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        return orphanage;
+    }
+}
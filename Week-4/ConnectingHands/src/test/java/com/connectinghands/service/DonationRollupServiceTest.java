@@ -0,0 +1,146 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.DonationTotalsDto;
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.RollupGranularity;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.DonationRollupRepository;
+import com.connectinghands.repository.projection.CurrencyTotals;
+import com.connectinghands.service.impl.DonationRollupServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DonationRollupServiceTest {
+
+    @Mock
+    private DonationRollupRepository donationRollupRepository;
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @InjectMocks
+    private DonationRollupServiceImpl donationRollupService;
+
+    private Donation donation;
+
+    @BeforeEach
+    void setUp() {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(1L);
+
+        donation = new Donation();
+        donation.setOrphanage(orphanage);
+        donation.setAmount(new BigDecimal("100.00"));
+        donation.setCurrency("USD");
+        donation.setCreatedAt(LocalDateTime.of(2024, 3, 10, 14, 25));
+    }
+
+    @Test
+    void recordDonation_IncrementsEveryGranularity() {
+        donationRollupService.recordDonation(donation);
+
+        verify(donationRollupRepository).increment(1L, "USD", "HOUR",
+                LocalDateTime.of(2024, 3, 10, 14, 0), 1L, new BigDecimal("100.00"), 0L);
+        verify(donationRollupRepository).increment(1L, "USD", "DAY",
+                LocalDateTime.of(2024, 3, 10, 0, 0), 1L, new BigDecimal("100.00"), 0L);
+        verify(donationRollupRepository).increment(1L, "USD", "MONTH",
+                LocalDateTime.of(2024, 3, 1, 0, 0), 1L, new BigDecimal("100.00"), 0L);
+    }
+
+    @Test
+    void reverseDonation_InKindDonation_DecrementsNoCurrencyBuckets() {
+        donation.setAmount(null);
+        donation.setCurrency(null);
+
+        donationRollupService.reverseDonation(donation);
+
+        verify(donationRollupRepository, times(3)).increment(eq(1L), eq("XXX"), any(), any(),
+                eq(-1L), eq(BigDecimal.ZERO), eq(-1L));
+    }
+
+    @Test
+    void recordDonation_NoCreationTime_ThrowsException() {
+        donation.setCreatedAt(null);
+
+        assertThatThrownBy(() -> donationRollupService.recordDonation(donation))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoMoreInteractions(donationRollupRepository);
+    }
+
+    @Test
+    void getTotals_CombinesCoarseAndFineBuckets() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 15, 10, 30);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 10, 5, 59, 59);
+        LocalDateTime endExclusive = end.plusNanos(1);
+
+        when(donationRollupRepository.sumBuckets(1L, RollupGranularity.MONTH,
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 3, 1, 0, 0)))
+                .thenReturn(List.of(totals("USD", 5L, "500.00", 0L), totals("XXX", 2L, "0", 2L)));
+        when(donationRollupRepository.sumBuckets(1L, RollupGranularity.DAY,
+                LocalDateTime.of(2024, 1, 16, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)))
+                .thenReturn(List.of(totals("EUR", 1L, "40.00", 0L)));
+        when(donationRepository.sumByCurrency(1L, start, LocalDateTime.of(2024, 1, 15, 11, 0)))
+                .thenReturn(List.of(totals("USD", 1L, "25.00", 0L)));
+
+        DonationTotalsDto result = donationRollupService.getTotals(1L, start, end, "USD");
+
+        assertThat(result.getTotalDonations()).isEqualTo(9L);
+        assertThat(result.getTotalMonetaryAmount()).isEqualByComparingTo("525.00");
+        assertThat(result.getTotalResourceDonations()).isEqualTo(2L);
+
+        verify(donationRollupRepository).sumBuckets(1L, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 1, 15, 11, 0), LocalDateTime.of(2024, 1, 16, 0, 0));
+        verify(donationRollupRepository).sumBuckets(1L, RollupGranularity.DAY,
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 3, 10, 0, 0));
+        verify(donationRollupRepository).sumBuckets(1L, RollupGranularity.HOUR,
+                LocalDateTime.of(2024, 3, 10, 0, 0), LocalDateTime.of(2024, 3, 10, 5, 0));
+        verify(donationRepository).sumByCurrency(1L, LocalDateTime.of(2024, 3, 10, 5, 0), endExclusive);
+    }
+
+    @Test
+    void getTotals_RangeWithinOneHour_UsesRawDonationsOnly() {
+        LocalDateTime start = LocalDateTime.of(2024, 3, 10, 14, 5);
+        LocalDateTime end = LocalDateTime.of(2024, 3, 10, 14, 50);
+
+        donationRollupService.getTotals(1L, start, end, "USD");
+
+        verify(donationRepository).sumByCurrency(1L, start, end.plusNanos(1));
+        verifyNoMoreInteractions(donationRollupRepository);
+    }
+
+    private CurrencyTotals totals(String currency, Long donationCount, String monetaryAmount,
+                                  Long resourceDonationCount) {
+        return new CurrencyTotals() {
+            @Override
+            public String getCurrency() { return currency; }
+
+            @Override
+            public Long getDonationCount() { return donationCount; }
+
+            @Override
+            public BigDecimal getMonetaryAmount() { return new BigDecimal(monetaryAmount); }
+
+            @Override
+            public Long getResourceDonationCount() { return resourceDonationCount; }
+        };
+    }
+}
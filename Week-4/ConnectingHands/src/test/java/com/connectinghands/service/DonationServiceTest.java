@@ -8,22 +8,33 @@ import com.connectinghands.entity.DonationStatus;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.PaymentMethod;
 import com.connectinghands.entity.User;
+import com.connectinghands.mapper.DonationMapper;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.impl.DonationServiceImpl;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -45,7 +56,15 @@ class DonationServiceTest {
     
     @Mock
     private SecurityService securityService;
+
+    @Mock
+    private DonationRollupService donationRollupService;
+
+    @Mock
+    private EntityManager entityManager;
     
+    @Spy
+    private DonationMapper donationMapper = Mappers.getMapper(DonationMapper.class);
     @InjectMocks
     private DonationServiceImpl donationService;
 
@@ -90,6 +109,7 @@ class DonationServiceTest {
         when(donationRepository.save(any(Donation.class))).thenReturn(donation);
 
         DonationDto dto = donationService.createDonation(request);
+        verify(donationRollupService).recordDonation(donation);
         assertThat(dto).isNotNull();
         assertThat(dto.getOrphanageId()).isEqualTo(1L);
         assertThat(dto.getAmount()).isEqualByComparingTo("100.00");
@@ -123,35 +143,64 @@ class DonationServiceTest {
     }
 
     @Test
-    void getAllDonations_ReturnsList() {
-        when(donationRepository.findAll()).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getAllDonations();
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getId()).isEqualTo(1L);
+    void getAllDonations_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(donationRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(donation), pageable, true));
+        Slice<DonationDto> slice = donationService.getAllDonations(pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void getDonationsByDonor_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(donationRepository.findByDonorId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(donation)));
+        Slice<DonationDto> slice = donationService.getDonationsByDonor(1L, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getDonorId()).isEqualTo(1L);
     }
 
     @Test
-    void getDonationsByDonor_ReturnsList() {
-        when(donationRepository.findByDonorId(1L)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByDonor(1L);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getDonorId()).isEqualTo(1L);
+    void getDonationsByOrphanage_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(donationRepository.findByOrphanageId(1L, pageable)).thenReturn(new SliceImpl<>(List.of(donation)));
+        Slice<DonationDto> slice = donationService.getDonationsByOrphanage(1L, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getOrphanageId()).isEqualTo(1L);
     }
 
     @Test
-    void getDonationsByOrphanage_ReturnsList() {
-        when(donationRepository.findByOrphanageId(1L)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByOrphanage(1L);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getOrphanageId()).isEqualTo(1L);
+    void getDonationsByStatus_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(donationRepository.findByStatus(DonationStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(donation)));
+        Slice<DonationDto> slice = donationService.getDonationsByStatus(DonationStatus.PENDING, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getStatus()).isEqualTo(DonationStatus.PENDING);
     }
 
     @Test
-    void getDonationsByStatus_ReturnsList() {
-        when(donationRepository.findByStatus(DonationStatus.PENDING)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByStatus(DonationStatus.PENDING);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(DonationStatus.PENDING);
+    void streamDonationsByStatus_ClearsPersistenceContextPeriodically() {
+        when(donationRepository.streamByStatusOrderByIdAsc(DonationStatus.PENDING))
+                .thenReturn(Stream.generate(() -> donation).limit(1200));
+        List<DonationDto> received = new ArrayList<>();
+
+        donationService.streamDonationsByStatus(DonationStatus.PENDING, received::add);
+
+        assertThat(received).hasSize(1200);
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void streamAllDonations_ClosesCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(donationRepository.streamAllByOrderByIdAsc())
+                .thenReturn(Stream.of(donation).onClose(() -> closed.set(true)));
+
+        donationService.streamAllDonations(dto -> { });
+
+        assertThat(closed).isTrue();
     }
 
     @Test
@@ -164,6 +213,19 @@ class DonationServiceTest {
         DonationDto dto = donationService.updateDonation(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
+        verify(donationRollupService).reverseDonation(donation);
+        verify(donationRollupService).recordDonation(donation);
+    }
+
+    @Test
+    void updateDonation_StatusOnly_LeavesRollupsUntouched() {
+        UpdateDonationRequest request = new UpdateDonationRequest();
+        request.setAmount(new BigDecimal("100.0"));
+        request.setStatus(DonationStatus.COMPLETED);
+        when(donationRepository.findById(1L)).thenReturn(Optional.of(donation));
+        when(donationRepository.save(any(Donation.class))).thenReturn(donation);
+        donationService.updateDonation(1L, request);
+        verifyNoInteractions(donationRollupService);
     }
 
     @Test
@@ -177,15 +239,15 @@ class DonationServiceTest {
 
     @Test
     void deleteDonation_ValidId_DeletesDonation() {
-        when(donationRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(donationRepository).deleteById(1L);
+        when(donationRepository.findById(1L)).thenReturn(Optional.of(donation));
         donationService.deleteDonation(1L);
-        verify(donationRepository, times(1)).deleteById(1L);
+        verify(donationRollupService, times(1)).reverseDonation(donation);
+        verify(donationRepository, times(1)).delete(donation);
     }
 
     @Test
     void deleteDonation_NotFound_ThrowsException() {
-        when(donationRepository.existsById(2L)).thenReturn(false);
+        when(donationRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> donationService.deleteDonation(2L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Donation not found");
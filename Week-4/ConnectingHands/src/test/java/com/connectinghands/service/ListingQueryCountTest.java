@@ -0,0 +1,269 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.Message;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.inventory.HotResourceAccumulator;
+import com.connectinghands.mapper.DonationMapper;
+import com.connectinghands.mapper.MessageMapper;
+import com.connectinghands.mapper.OrphanageMapper;
+import com.connectinghands.mapper.ResourceMapper;
+import com.connectinghands.mapper.ResourceRequestMapper;
+import com.connectinghands.messaging.MessagePushRegistry;
+import com.connectinghands.repository.ConversationRepository;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.MessageRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.impl.DonationServiceImpl;
+import com.connectinghands.service.impl.MessageServiceImpl;
+import com.connectinghands.service.impl.OrphanageServiceImpl;
+import com.connectinghands.service.impl.ResourceRequestServiceImpl;
+import com.connectinghands.service.impl.ResourceServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Statement-count harness for the list endpoints. Every listing is read over rows whose
+ * associations all point at different entities, so a mapper that lazily loads an
+ * association per row shows up as extra statements. Each listing must issue a fixed
+ * number of statements: one for a slice or cursor page, two for a page (rows and count).
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ListingQueryCountTest {
+    private static final int ROWS = 6;
+    private static final Pageable PAGE = PageRequest.of(0, ROWS - 1);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DonationRepository donationRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ResourceRequestRepository resourceRequestRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    private Statistics statistics;
+    private OrphanageServiceImpl orphanageService;
+    private DonationServiceImpl donationService;
+    private MessageServiceImpl messageService;
+    private ResourceRequestServiceImpl resourceRequestService;
+    private ResourceServiceImpl resourceService;
+    private User recipient;
+    private Orphanage firstOrphanage;
+
+    @BeforeEach
+    void setUp() {
+        orphanageService = new OrphanageServiceImpl(orphanageRepository, userRepository,
+                mock(SecurityService.class), mock(AuditLogService.class), Mappers.getMapper(OrphanageMapper.class));
+        donationService = new DonationServiceImpl(donationRepository, userRepository, orphanageRepository,
+                mock(DonationRollupService.class), entityManager, Mappers.getMapper(DonationMapper.class));
+        messageService = new MessageServiceImpl(messageRepository, userRepository,
+                Mappers.getMapper(MessageMapper.class), mock(MessagePushRegistry.class),
+                mock(UnreadCounterService.class), mock(ConversationRepository.class));
+        resourceRequestService = new ResourceRequestServiceImpl(resourceRequestRepository, orphanageRepository,
+                mock(SecurityService.class), mock(AuditLogService.class), entityManager,
+                Mappers.getMapper(ResourceRequestMapper.class));
+        resourceService = new ResourceServiceImpl(resourceRepository, orphanageRepository, entityManager,
+                Mappers.getMapper(ResourceMapper.class), mock(HotResourceAccumulator.class),
+                mock(ResourceLedgerService.class));
+
+        recipient = persistUser(0, null);
+        List<Orphanage> orphanages = new ArrayList<>();
+        for (int i = 1; i <= ROWS; i++) {
+            User admin = persistUser(i, null);
+            Orphanage orphanage = persistOrphanage(i, admin);
+            admin.setOrphanage(orphanage);
+            orphanages.add(orphanage);
+            User donor = persistUser(ROWS + i, orphanage);
+            persistDonation(donor, orphanage);
+            persistMessage(donor, recipient);
+            persistResourceRequest(orphanage);
+            persistResource(orphanage);
+        }
+        firstOrphanage = orphanages.get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void orphanageListings_UseConstantStatements() {
+        assertStatements(2, () -> orphanageService.getAllOrphanages(PAGE));
+        assertStatements(2, () -> orphanageService.getOrphanagesByStatus(OrphanageStatus.ACTIVE, PAGE));
+        assertStatements(2, () -> orphanageService.getOrphanagesWithAvailableCapacity(1, PAGE));
+        assertStatements(1, () -> orphanageService.scrollOrphanages(null, null, null, null, null, null, ROWS - 1));
+    }
+
+    @Test
+    void donationListings_UseConstantStatements() {
+        assertStatements(1, () -> donationService.getAllDonations(PAGE));
+        assertStatements(1, () -> donationService.getDonationsByStatus(DonationStatus.COMPLETED, PAGE));
+        assertStatements(1, () -> donationService.streamAllDonations(donation -> { }));
+    }
+
+    @Test
+    void messageListings_UseConstantStatements() {
+        assertStatements(2, () -> messageService.getInbox(recipient.getId(), PAGE));
+        assertStatements(1, () -> messageService.scrollInbox(recipient.getId(), null, ROWS - 1));
+    }
+
+    @Test
+    void resourceRequestListings_UseConstantStatements() {
+        assertStatements(1, () -> resourceRequestService.getAllResourceRequests(PAGE));
+        assertStatements(1, () -> resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING, PAGE));
+        assertStatements(1, () -> resourceRequestService.getResourceRequestsByOrphanage(firstOrphanage.getId()));
+        assertStatements(1, () -> resourceRequestService.streamAllResourceRequests(request -> { }));
+    }
+
+    @Test
+    void resourceListings_UseConstantStatements() {
+        assertStatements(2, () -> resourceService.getAllResources(PAGE));
+        assertStatements(1, () -> resourceService.getResourcesByOrphanage(firstOrphanage.getId()));
+        assertStatements(1, () -> resourceService.getResourcesByCategory(ResourceCategory.FOOD, PAGE));
+        assertStatements(1, () -> resourceService.streamResourcesByStatus(ResourceStatus.AVAILABLE, resource -> { }));
+    }
+
+    private void assertStatements(long expected, Runnable listing) {
+        entityManager.clear();
+        statistics.clear();
+        listing.run();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("statements issued: %s", List.of(statistics.getQueries()))
+                .isEqualTo(expected);
+    }
+
+    private User persistUser(int index, Orphanage orphanage) {
+        User user = new User();
+        user.setName("User " + index);
+        user.setFirstName("First" + index);
+        user.setLastName("Last" + index);
+        user.setEmail("user" + index + "@example.com");
+        user.setPassword("password");
+        user.setRole(orphanage != null ? UserRole.ROLE_ORPHANAGE_ADMIN : UserRole.ROLE_USER);
+        user.setOrphanage(orphanage);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Orphanage persistOrphanage(int index, User admin) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setName("Orphanage " + index);
+        orphanage.setAddress("Street " + index);
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("555-000" + index);
+        orphanage.setEmail("orphanage" + index + "@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
+        orphanage.setCreatedAt(LocalDateTime.now().minusMinutes(index));
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        return orphanage;
+    }
+
+    private void persistDonation(User donor, Orphanage orphanage) {
+        Donation donation = new Donation();
+        donation.setDonor(donor);
+        donation.setOrphanage(orphanage);
+        donation.setAmount(BigDecimal.TEN);
+        donation.setCurrency("USD");
+        donation.setStatus(DonationStatus.COMPLETED);
+        donation.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        donation.setCreatedAt(LocalDateTime.now());
+        donation.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(donation);
+    }
+
+    private void persistMessage(User sender, User receiver) {
+        Message message = new Message();
+        message.setSender(sender);
+        message.setReceiver(receiver);
+        message.setContent("Hello");
+        message.setCreatedAt(LocalDateTime.now());
+        message.setCreatedBy("test");
+        entityManager.persist(message);
+    }
+
+    private void persistResourceRequest(Orphanage orphanage) {
+        ResourceRequest request = new ResourceRequest();
+        request.setName("Rice");
+        request.setDescription("Rice for the kitchen");
+        request.setCategory(ResourceCategory.FOOD.name());
+        request.setQuantity(10);
+        request.setUnit("kg");
+        request.setOrphanage(orphanage);
+        request.setStatus(ResourceRequestStatus.PENDING);
+        request.setCreatedAt(LocalDateTime.now());
+        request.setCreatedBy("test");
+        entityManager.persist(request);
+    }
+
+    private void persistResource(Orphanage orphanage) {
+        Resource resource = new Resource();
+        resource.setName("Rice");
+        resource.setDescription("Rice in stock");
+        resource.setCategory(ResourceCategory.FOOD);
+        resource.setQuantity(10);
+        resource.setUnit("kg");
+        resource.setOrphanage(orphanage);
+        resource.setStatus(ResourceStatus.AVAILABLE);
+        resource.setCreatedAt(LocalDateTime.now());
+        resource.setUpdatedAt(LocalDateTime.now());
+        entityManager.persist(resource);
+    }
+}
@@ -4,6 +4,11 @@ import com.connectinghands.dto.CreateMessageRequest;
 import com.connectinghands.dto.MessageDto;
 import com.connectinghands.entity.Message;
 import com.connectinghands.entity.User;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.MessageMapper;
+import com.connectinghands.messaging.MessagePushRegistry;
+import com.connectinghands.pagination.CursorPage;
+import com.connectinghands.repository.ConversationRepository;
 import com.connectinghands.repository.MessageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.impl.MessageServiceImpl;
@@ -11,23 +16,31 @@ import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +51,17 @@ class MessageServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private MessagePushRegistry messagePushRegistry;
+    @Mock
+    private UnreadCounterService unreadCounterService;
+    @Mock
+    private ConversationRepository conversationRepository;
+    @Mock
     private SecurityContext securityContext;
     @Mock
     private Authentication authentication;
+    @Spy
+    private MessageMapper messageMapper = Mappers.getMapper(MessageMapper.class);
     @InjectMocks
     private MessageServiceImpl messageService;
 
@@ -140,14 +161,36 @@ class MessageServiceTest {
     void getConversation_ReturnsPageOfMessages() {
         Pageable pageable = PageRequest.of(0, 10);
         Page<Message> messagePage = new PageImpl<>(Collections.singletonList(message));
-        when(messageRepository.findBySenderIdAndReceiverIdOrReceiverIdAndSenderId(
-                sender.getId(), receiver.getId(), sender.getId(), receiver.getId(), pageable)).thenReturn(messagePage);
-        Page<MessageDto> dtoPage = messageService.getConversation(sender.getId(), receiver.getId(), pageable);
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.of(5L));
+        when(messageRepository.findByConversationId(5L, pageable)).thenReturn(messagePage);
+        Page<MessageDto> dtoPage = messageService.getConversation(receiver.getId(), sender.getId(), pageable);
         assertThat(dtoPage).isNotNull();
         assertThat(dtoPage.getContent()).hasSize(1);
         assertThat(dtoPage.getContent().get(0).getId()).isEqualTo(1L);
     }
 
+    @Test
+    void getConversation_NoConversation_ReturnsEmptyPageWithoutQuery() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.empty());
+
+        Page<MessageDto> dtoPage = messageService.getConversation(1L, 2L, pageable);
+
+        assertThat(dtoPage.getContent()).isEmpty();
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void scrollConversation_NoConversation_ReturnsEmptyPage() {
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.empty());
+
+        CursorPage<MessageDto> page = messageService.scrollConversation(2L, 1L, null, 10);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        verifyNoInteractions(messageRepository);
+    }
+
     @Test
     void getInbox_ReturnsPageOfMessages() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -159,6 +202,24 @@ class MessageServiceTest {
         assertThat(dtoPage.getContent().get(0).getId()).isEqualTo(1L);
     }
 
+    @Test
+    void scrollInbox_LastPage_ReturnsNoCursor() {
+        message.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(messageRepository.findBy(any(Specification.class), any())).thenReturn(List.of(message));
+        CursorPage<MessageDto> page = messageService.scrollInbox(receiver.getId(), null, 10);
+        assertThat(page.getContent()).extracting(MessageDto::getId).containsExactly(1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void scrollInbox_InvalidCursor_ThrowsException() {
+        assertThatThrownBy(() -> messageService.scrollInbox(receiver.getId(), "not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Invalid cursor");
+        verifyNoInteractions(messageRepository);
+    }
+
     @Test
     void getSent_ReturnsPageOfMessages() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -170,13 +231,114 @@ class MessageServiceTest {
         assertThat(dtoPage.getContent().get(0).getId()).isEqualTo(1L);
     }
 
+    @Test
+    void sendMessage_KnownUsers_PushesToReceiver() {
+        CreateMessageRequest request = new CreateMessageRequest();
+        request.setSenderId(1L);
+        request.setReceiverId(2L);
+        request.setContent("Test message");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.of(5L));
+        when(messageRepository.save(any(Message.class))).thenReturn(message);
+
+        MessageDto dto = messageService.sendMessage(request);
+
+        verify(unreadCounterService).increment(2L, 1);
+        verify(messagePushRegistry).publish(2L, dto);
+    }
+
+    @Test
+    void sendMessage_FirstMessageOfPair_CreatesConversation() {
+        CreateMessageRequest request = new CreateMessageRequest();
+        request.setSenderId(2L);
+        request.setReceiverId(1L);
+        request.setContent("Test message");
+        when(userRepository.findById(2L)).thenReturn(Optional.of(receiver));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(sender));
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.empty(), Optional.of(5L));
+        when(messageRepository.save(any(Message.class))).thenReturn(message);
+
+        messageService.sendMessage(request);
+
+        verify(conversationRepository).insertIfAbsent(1L, 2L);
+        verify(messageRepository).save(argThat(saved -> saved.getConversationId().equals(5L)));
+    }
+
+    @Test
+    void subscribe_WithoutLastMessage_OnlyConnects() {
+        SseEmitter emitter = new SseEmitter();
+        when(messagePushRegistry.connect(2L)).thenReturn(emitter);
+
+        assertThat(messageService.subscribe(2L, null)).isSameAs(emitter);
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void subscribe_AfterLastMessage_ReplaysMissedMessages() {
+        SseEmitter emitter = new SseEmitter();
+        message.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        Message missed = new Message();
+        missed.setId(2L);
+        missed.setSender(sender);
+        missed.setReceiver(receiver);
+        missed.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 5));
+        when(messagePushRegistry.connect(2L)).thenReturn(emitter);
+        when(messagePushRegistry.getReplayLimit()).thenReturn(10);
+        when(messagePushRegistry.replay(eq(2L), eq(emitter), any(MessageDto.class))).thenReturn(true);
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+        when(messageRepository.findBy(any(Specification.class), any())).thenReturn(List.of(missed));
+
+        messageService.subscribe(2L, 1L);
+
+        verify(messagePushRegistry).replay(eq(2L), eq(emitter), argThat(dto -> dto.getId().equals(2L)));
+        verify(messagePushRegistry, never()).resync(any(), any());
+    }
+
+    @Test
+    void subscribe_TooManyMissed_SendsResync() {
+        SseEmitter emitter = new SseEmitter();
+        message.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(messagePushRegistry.connect(2L)).thenReturn(emitter);
+        when(messagePushRegistry.getReplayLimit()).thenReturn(1);
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+        when(messageRepository.findBy(any(Specification.class), any())).thenReturn(List.of(message, message));
+
+        messageService.subscribe(2L, 1L);
+
+        verify(messagePushRegistry).resync(2L, emitter);
+        verify(messagePushRegistry, never()).replay(any(), any(), any());
+    }
+
+    @Test
+    void subscribe_LastMessageOfAnotherUser_SendsResync() {
+        SseEmitter emitter = new SseEmitter();
+        when(messagePushRegistry.connect(3L)).thenReturn(emitter);
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        messageService.subscribe(3L, 1L);
+
+        verify(messagePushRegistry).resync(3L, emitter);
+        verify(messageRepository, never()).findBy(any(Specification.class), any());
+    }
+
     @Test
     void markAsRead_ValidId_MarksMessageAsRead() {
         when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
-        when(messageRepository.save(any(Message.class))).thenReturn(message);
+        when(messageRepository.markRead(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        messageService.markAsRead(1L);
+        verify(messageRepository).markRead(eq(1L), any(LocalDateTime.class));
+        verify(unreadCounterService).decrement(2L, 1);
+    }
+
+    @Test
+    void markAsRead_AlreadyRead_LeavesCounterAlone() {
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+        when(messageRepository.markRead(eq(1L), any(LocalDateTime.class))).thenReturn(0);
 
         messageService.markAsRead(1L);
-        verify(messageRepository).save(any(Message.class));
+        verifyNoInteractions(unreadCounterService);
     }
 
     @Test
@@ -188,9 +350,50 @@ class MessageServiceTest {
                 .hasMessageContaining("Message not found");
     }
 
+    @Test
+    void markMessagesRead_DecrementsCounterByMessagesChanged() {
+        when(messageRepository.markRead(eq(2L), eq(List.of(1L, 5L, 9L)), any(LocalDateTime.class))).thenReturn(2);
+
+        int changed = messageService.markMessagesRead(2L, List.of(1L, 5L, 9L));
+
+        assertThat(changed).isEqualTo(2);
+        verify(unreadCounterService).decrement(2L, 2);
+    }
+
+    @Test
+    void markMessagesRead_NoIds_ThrowsException() {
+        assertThatThrownBy(() -> messageService.markMessagesRead(2L, List.of()))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    void markConversationRead_UpToMessage_MarksWithOneUpdate() {
+        message.setCreatedAt(LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+        when(conversationRepository.findIdByParticipants(1L, 2L)).thenReturn(Optional.of(5L));
+        when(messageRepository.markConversationRead(eq(5L), eq(2L), eq(message.getCreatedAt()), eq(1L),
+                any(LocalDateTime.class))).thenReturn(3);
+
+        int changed = messageService.markConversationRead(2L, 1L, 1L);
+
+        assertThat(changed).isEqualTo(3);
+        verify(unreadCounterService).decrement(2L, 3);
+    }
+
+    @Test
+    void markConversationRead_MessageOfOtherConversation_ThrowsException() {
+        when(messageRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        assertThatThrownBy(() -> messageService.markConversationRead(2L, 3L, 1L))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("not part of this conversation");
+        verifyNoInteractions(unreadCounterService);
+    }
+
     @Test
     void countUnread_ReturnsCount() {
-        when(messageRepository.countByReceiverAndReadFalse(receiver)).thenReturn(5L);
+        when(unreadCounterService.getUnreadCount(receiver.getId())).thenReturn(5L);
         long count = messageService.countUnread(receiver.getId());
         assertThat(count).isEqualTo(5L);
     }
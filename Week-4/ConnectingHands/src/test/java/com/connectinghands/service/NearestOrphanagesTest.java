@@ -0,0 +1,157 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.NearbyOrphanageDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.OrphanageMapper;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.search.GeoHash;
+import com.connectinghands.service.impl.OrphanageServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks the geohash proximity search against a brute-force scan over orphanages scattered
+ * around two cities, some of them full, some suspended and some without a location.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class NearestOrphanagesTest {
+    private static final double[][] CITIES = {{13.0827, 80.2707}, {9.9252, 78.1198}};
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private OrphanageServiceImpl orphanageService;
+    private final List<Orphanage> orphanages = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        orphanageService = new OrphanageServiceImpl(orphanageRepository, userRepository,
+                mock(SecurityService.class), mock(AuditLogService.class), Mappers.getMapper(OrphanageMapper.class));
+
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setFirstName("Ada");
+        admin.setLastName("Admin");
+        admin.setEmail("admin@example.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+        entityManager.persist(admin);
+
+        Random random = new Random(7);
+        for (int i = 0; i < 300; i++) {
+            double[] city = CITIES[i % CITIES.length];
+            // spread over roughly 60km around each city, denser near the centre
+            double spread = random.nextDouble() * random.nextDouble() * 0.6;
+            Double latitude = i % 25 == 0 ? null : city[0] + (random.nextDouble() * 2 - 1) * spread;
+            Double longitude = latitude == null ? null : city[1] + (random.nextDouble() * 2 - 1) * spread;
+            orphanages.add(persistOrphanage(i, admin, latitude, longitude, i % 4 == 0 ? 50 : 10));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findNearestWithCapacity_MatchesBruteForce() {
+        double[][] points = {CITIES[0], CITIES[1], {13.2, 80.1}, {11.5, 79.2}, {10.2, 78.5}};
+        for (double[] point : points) {
+            for (double radiusKm : new double[] {2, 80, 400}) {
+                for (int limit : new int[] {1, 40}) {
+                    List<NearbyOrphanageDto> nearest =
+                            orphanageService.findNearestWithCapacity(point[0], point[1], limit, radiusKm);
+
+                    assertThat(nearest).extracting(nearby -> nearby.getOrphanage().getId())
+                            .as("%d nearest within %.0fkm of %f,%f", limit, radiusKm, point[0], point[1])
+                            .containsExactlyElementsOf(bruteForce(point[0], point[1], limit, radiusKm));
+                }
+            }
+        }
+    }
+
+    @Test
+    void findNearestWithCapacity_ReturnsDistancesInAscendingOrder() {
+        List<NearbyOrphanageDto> nearest = orphanageService.findNearestWithCapacity(CITIES[0][0], CITIES[0][1], 10, 50);
+
+        assertThat(nearest).hasSize(10).isSortedAccordingTo(Comparator.comparingDouble(NearbyOrphanageDto::getDistanceKm));
+        assertThat(nearest).allSatisfy(nearby -> {
+            assertThat(nearby.getOrphanage().getStatus()).isEqualTo(OrphanageStatus.ACTIVE);
+            assertThat(nearby.getOrphanage().getCurrentChildren()).isLessThan(nearby.getOrphanage().getCapacity());
+            assertThat(nearby.getOrphanage().getAdminId()).isNotNull();
+        });
+    }
+
+    @Test
+    void findNearestWithCapacity_InvalidArguments_Throw() {
+        assertThatThrownBy(() -> orphanageService.findNearestWithCapacity(91, 0, 10, 50))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> orphanageService.findNearestWithCapacity(0, 0, 0, 50))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> orphanageService.findNearestWithCapacity(0, 0, 10, 0))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    private List<Long> bruteForce(double latitude, double longitude, int limit, double radiusKm) {
+        return orphanages.stream()
+                .filter(orphanage -> orphanage.getLatitude() != null)
+                .filter(orphanage -> orphanage.getStatus() == OrphanageStatus.ACTIVE)
+                .filter(orphanage -> orphanage.getCurrentChildren() < orphanage.getCapacity())
+                .filter(orphanage -> distance(orphanage, latitude, longitude) <= radiusKm)
+                .sorted(Comparator.comparingDouble(orphanage -> distance(orphanage, latitude, longitude)))
+                .limit(limit)
+                .map(Orphanage::getId)
+                .toList();
+    }
+
+    private static double distance(Orphanage orphanage, double latitude, double longitude) {
+        return GeoHash.distanceKm(latitude, longitude, orphanage.getLatitude(), orphanage.getLongitude());
+    }
+
+    private Orphanage persistOrphanage(int index, User admin, Double latitude, Double longitude, int capacity) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setName("Orphanage " + index);
+        orphanage.setAddress("Street " + index);
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("555-" + index);
+        orphanage.setEmail("orphanage" + index + "@example.com");
+        orphanage.setCapacity(capacity);
+        orphanage.setCurrentChildren(capacity == 10 && index % 3 == 0 ? 10 : 5);
+        orphanage.setStatus(index % 7 == 0 ? OrphanageStatus.SUSPENDED : OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
+        orphanage.setLatitude(latitude);
+        orphanage.setLongitude(longitude);
+        orphanage.setCreatedAt(LocalDateTime.now());
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+        return orphanage;
+    }
+}
@@ -5,19 +5,24 @@ import com.connectinghands.dto.OrphanageDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.mapper.OrphanageMapper;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.service.impl.OrphanageServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +39,8 @@ class OrphanageServiceTest {
 
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Spy
+    private OrphanageMapper orphanageMapper = Mappers.getMapper(OrphanageMapper.class);
     @InjectMocks
     private OrphanageServiceImpl orphanageService;
 
@@ -104,6 +111,61 @@ class OrphanageServiceTest {
         assertThat(page.getContent().get(0).getStatus()).isEqualTo(OrphanageStatus.SUSPENDED);
     }
 
+    @Test
+    void searchOrphanages_KeepsRelevanceOrderOfIds() {
+        Orphanage other = new Orphanage();
+        other.setId(2L);
+        other.setName("Hope Home");
+        other.setStatus(OrphanageStatus.ACTIVE);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        when(orphanageRepository.searchIds("hope:* & ho", "hope ho", PageRequest.of(0, 10)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), PageRequest.of(0, 10), 12));
+        when(orphanageRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(orphanage, other));
+
+        Page<OrphanageDto> page = orphanageService.searchOrphanages("Hope, ho!", pageable);
+
+        assertThat(page.getContent()).extracting(OrphanageDto::getId).containsExactly(2L, 1L);
+        assertThat(page.getTotalElements()).isEqualTo(12);
+    }
+
+    @Test
+    void searchOrphanages_TermWithoutWords_ReturnsEmptyPageWithoutQuerying() {
+        Page<OrphanageDto> page = orphanageService.searchOrphanages(" %&! ", PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        verifyNoInteractions(orphanageRepository);
+    }
+
+    @Test
+    void getOrphanagesWithAvailableCapacity_Unsorted_PutsMostFreePlacesFirst() {
+        orphanage.setCapacity(20);
+        orphanage.setCurrentChildren(5);
+        Pageable expected = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("availableSlots"), Sort.Order.asc("id")));
+        when(orphanageRepository.findOrphanagesWithAvailableCapacity(3, expected))
+                .thenReturn(new PageImpl<>(List.of(orphanage), expected, 1));
+
+        Page<OrphanageDto> page = orphanageService.getOrphanagesWithAvailableCapacity(3, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(OrphanageDto::getAvailableSlots).containsExactly(15);
+    }
+
+    @Test
+    void getOrphanagesWithAvailableCapacity_MinSlotsBelowOne_Throws() {
+        assertThatThrownBy(() -> orphanageService.getOrphanagesWithAvailableCapacity(0, PageRequest.of(0, 10)))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(orphanageRepository);
+    }
+
+    @Test
+    void availableSlots_FollowsCapacityAndCurrentChildren() {
+        orphanage.setCapacity(30);
+        orphanage.setCurrentChildren(12);
+        assertThat(orphanage.getAvailableSlots()).isEqualTo(18);
+
+        orphanage.setCurrentChildren(30);
+        assertThat(orphanage.getAvailableSlots()).isZero();
+    }
+
     @Test
     void updateOrphanage_ValidRequest_ReturnsUpdatedDto() {
         UpdateOrphanageRequest request = new UpdateOrphanageRequest();
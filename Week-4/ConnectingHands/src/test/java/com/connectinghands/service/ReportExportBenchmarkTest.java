@@ -0,0 +1,124 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.projection.DonationExportRow;
+import com.connectinghands.service.impl.ReportServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Throughput benchmark for the streaming donation export. Exports synthetic donations
+ * through the real CSV writer and gzip into a byte-counting sink and reports rows per
+ * second and heap growth. Skipped by default; run with
+ * {@code mvn test -Dtest=ReportExportBenchmarkTest -Dbenchmark=true [-Dbenchmark.rows=10000000]}.
+ */
+@ExtendWith(MockitoExtension.class)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ReportExportBenchmarkTest {
+    private static final long ROWS = Long.getLong("benchmark.rows", 10_000_000L);
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Mock
+    private DonationRepository donationRepository;
+
+    @Mock
+    private OrphanageRepository orphanageRepository;
+
+    @InjectMocks
+    private ReportServiceImpl reportService;
+
+    @Test
+    void exportDonationReport_SyntheticDonations_RunsInConstantMemory() throws IOException {
+        // Arrange
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(1L);
+        orphanage.setName("Benchmark Orphanage");
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(donationRepository.streamExportRows(1L, start, start.plusYears(1)))
+                .thenReturn(LongStream.rangeClosed(1, ROWS).mapToObj(id -> syntheticRow(id, start)));
+        CountingOutputStream sink = new CountingOutputStream();
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long startNanos = System.nanoTime();
+
+        // Act
+        try (GZIPOutputStream gzip = new GZIPOutputStream(sink, 64 * 1024)) {
+            reportService.exportDonationReport(
+                    1L, start, start.plusYears(1), "DETAILED", "USD", "UTC", "CSV", gzip);
+        }
+
+        // Assert
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.gc();
+        long heapGrowth = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+        System.out.printf("Exported %,d donations in %.1fs (%,.0f rows/s), %,d gzipped bytes, heap growth %,d bytes%n",
+                ROWS, seconds, ROWS / seconds, sink.count, heapGrowth);
+        assertThat(sink.count).isPositive();
+        assertThat(heapGrowth).isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    private DonationExportRow syntheticRow(long id, LocalDateTime start) {
+        return new DonationExportRow() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public LocalDateTime getCreatedAt() { return start.plusSeconds(id); }
+
+            @Override
+            public Long getDonorId() { return id % 10_000; }
+
+            @Override
+            public BigDecimal getAmount() { return BigDecimal.valueOf(id % 100_000, 2); }
+
+            @Override
+            public String getCurrency() { return "USD"; }
+
+            @Override
+            public DonationStatus getStatus() { return DonationStatus.COMPLETED; }
+
+            @Override
+            public PaymentMethod getPaymentMethod() { return PaymentMethod.CREDIT_CARD; }
+
+            @Override
+            public String getTransactionId() { return "txn-" + id; }
+        };
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.DonationReportDto;
+import com.connectinghands.dto.DonationTotalsDto;
+import com.connectinghands.dto.ResourceUtilizationDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
-import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.DonationStatus;
 import com.connectinghands.entity.Orphanage;
-import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.PaymentMethod;
 import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.pagination.Cursor;
+import com.connectinghands.pagination.CursorPage;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.projection.DonationAggregate;
+import com.connectinghands.repository.projection.DonationExportRow;
+import com.connectinghands.repository.projection.ResourceQuantity;
 import com.connectinghands.service.impl.ReportServiceImpl;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,18 +32,30 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +73,12 @@ class ReportServiceTest {
     @Mock
     private OrphanageRepository orphanageRepository;
 
+    @Mock
+    private DonationRollupService donationRollupService;
+
+    @Mock
+    private ResourceLedgerService resourceLedgerService;
+
     @InjectMocks
     private ReportServiceImpl reportService;
 
@@ -70,16 +99,13 @@ class ReportServiceTest {
     @Test
     void generateDonationReport_ValidData_ReturnsReport() {
         // Arrange
-        Donation monetaryDonation = new Donation();
-        monetaryDonation.setAmount(new BigDecimal("100.00"));
-        monetaryDonation.setOrphanage(orphanage);
-
-        Donation resourceDonation = new Donation();
-        resourceDonation.setOrphanage(orphanage);
+        DonationTotalsDto totals = new DonationTotalsDto();
+        totals.setTotalDonations(2L);
+        totals.setTotalMonetaryAmount(new BigDecimal("100.00"));
+        totals.setTotalResourceDonations(1L);
 
         when(orphanageRepository.findById(anyLong())).thenReturn(Optional.of(orphanage));
-        when(donationRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
-                .thenReturn(Arrays.asList(monetaryDonation, resourceDonation));
+        when(donationRollupService.getTotals(1L, startDate, endDate, "USD")).thenReturn(totals);
 
         // Act
         DonationReportDto report = reportService.generateDonationReport(
@@ -92,17 +118,16 @@ class ReportServiceTest {
         assertThat(report.getTotalDonations()).isEqualTo(2L);
         assertThat(report.getTotalMonetaryAmount()).isEqualByComparingTo(new BigDecimal("100.00"));
         assertThat(report.getTotalResourceDonations()).isEqualTo(1L);
+        verify(donationRepository, never()).findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any());
     }
 
     @Test
     void generateDonationReports_ValidData_ReturnsPage() {
         // Arrange
-        List<Orphanage> orphanages = Collections.singletonList(orphanage);
-        Page<Orphanage> orphanagePage = new PageImpl<>(orphanages);
+        Page<DonationAggregate> aggregatePage = new PageImpl<>(
+                Collections.singletonList(aggregate(1L, "Test Orphanage", 3L, new BigDecimal("250.00"), 1L)));
 
-        when(orphanageRepository.findAll(any(Pageable.class))).thenReturn(orphanagePage);
-        when(donationRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(donationRepository.aggregateByOrphanage(any(), any(), any(), any(Pageable.class))).thenReturn(aggregatePage);
 
         // Act
         Page<DonationReportDto> reports = reportService.generateDonationReports(
@@ -113,29 +138,103 @@ class ReportServiceTest {
         assertThat(reports.getContent()).hasSize(1);
         assertThat(reports.getContent().get(0).getOrphanageId()).isEqualTo(1L);
         assertThat(reports.getContent().get(0).getOrphanageName()).isEqualTo("Test Orphanage");
+        assertThat(reports.getContent().get(0).getTotalDonations()).isEqualTo(3L);
+        assertThat(reports.getContent().get(0).getTotalMonetaryAmount()).isEqualByComparingTo("250.00");
+        assertThat(reports.getContent().get(0).getTotalResourceDonations()).isEqualTo(1L);
+        verify(donationRepository).aggregateByOrphanage(startDate, endDate, "USD", PageRequest.of(0, 10, Sort.by("id")));
+        verify(orphanageRepository, never()).findById(anyLong());
+        verify(donationRepository, never()).findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any());
     }
 
     @Test
-    void generateResourceUtilizationReport_ValidData_ReturnsReport() {
+    void scrollDonationReports_MoreOrphanagesThanSize_AggregatesOnlyCurrentPage() {
+        // Arrange
+        Orphanage newer = new Orphanage();
+        newer.setId(2L);
+        newer.setName("Newer Orphanage");
+        newer.setCreatedAt(LocalDateTime.of(2024, 2, 1, 0, 0));
+        orphanage.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        Orphanage oldest = new Orphanage();
+        oldest.setId(3L);
+        oldest.setCreatedAt(LocalDateTime.of(2023, 12, 1, 0, 0));
+
+        when(orphanageRepository.findBy(any(Specification.class), any())).thenReturn(List.of(newer, orphanage, oldest));
+        when(donationRepository.aggregateByOrphanageIds(List.of(2L, 1L), startDate, endDate, "USD")).thenReturn(List.of(
+                aggregate(1L, "Test Orphanage", 3L, new BigDecimal("250.00"), 1L),
+                aggregate(2L, "Newer Orphanage", 0L, null, 0L)));
+
+        // Act
+        CursorPage<DonationReportDto> reports = reportService.scrollDonationReports(
+                startDate, endDate, "SUMMARY", "USD", "UTC", null, 2);
+
+        // Assert
+        assertThat(reports.getContent()).extracting(DonationReportDto::getOrphanageId).containsExactly(2L, 1L);
+        assertThat(reports.getContent().get(0).getTotalMonetaryAmount()).isEqualByComparingTo("0");
+        assertThat(reports.getContent().get(1).getTotalDonations()).isEqualTo(3L);
+        assertThat(reports.isHasNext()).isTrue();
+        assertThat(Cursor.decode(reports.getNextCursor())).isEqualTo(Cursor.of(orphanage.getCreatedAt(), 1L));
+        verify(donationRepository, never()).aggregateByOrphanage(any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void scrollResourceUtilizationReports_ReadsQuantitiesForWholePageAtOnce() {
+        // Arrange
+        Orphanage newer = new Orphanage();
+        newer.setId(2L);
+        newer.setName("Newer Orphanage");
+        newer.setCreatedAt(LocalDateTime.of(2024, 2, 1, 0, 0));
+        orphanage.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+
+        when(orphanageRepository.findBy(any(Specification.class), any())).thenReturn(List.of(newer, orphanage));
+        when(resourceRepository.findQuantitiesByOrphanageIds(List.of(2L, 1L))).thenReturn(List.of(
+                quantity(10L, 1L, "Food"), quantity(11L, 1L, "Clothing"), quantity(20L, 2L, "Books")));
+        when(resourceLedgerService.getUtilization(List.of(10L, 11L, 20L), startDate, endDate)).thenReturn(Map.of(
+                10L, utilization(10L, 5, 100, 0), 11L, utilization(11L, 0, 50, 0), 20L, utilization(20L, 0, 30, 0)));
+
+        // Act
+        CursorPage<ResourceUtilizationReportDto> reports = reportService.scrollResourceUtilizationReports(
+                startDate, endDate, "SUMMARY", "UTC", null, 2);
+
+        // Assert
+        assertThat(reports.getContent()).extracting(ResourceUtilizationReportDto::getOrphanageId).containsExactly(2L, 1L);
+        assertThat(reports.getContent().get(0).getResourceUtilization()).containsOnly(entry("Books", 30L));
+        assertThat(reports.getContent().get(1).getResourceUtilization())
+                .containsOnly(entry("Food", 100L), entry("Clothing", 50L));
+        assertThat(reports.getContent().get(1).getResourceDonations()).containsEntry("Food", 5L);
+        verify(resourceRepository, never()).findByOrphanageId(anyLong());
+    }
+
+    @Test
+    void streamDonationReports_ValidData_EmitsReportPerOrphanage() {
         // Arrange
-        Resource resource1 = new Resource();
-        resource1.setName("Food");
-        resource1.setQuantity(100);
-        resource1.setOrphanage(orphanage);
+        when(donationRepository.streamAggregatesByOrphanage(any(), any(), any())).thenReturn(Stream.of(
+                aggregate(1L, "Test Orphanage", 2L, new BigDecimal("100.00"), 0L),
+                aggregate(2L, "Empty Orphanage", 0L, null, 0L)));
+        List<DonationReportDto> reports = new ArrayList<>();
 
-        Resource resource2 = new Resource();
-        resource2.setName("Clothing");
-        resource2.setQuantity(50);
-        resource2.setOrphanage(orphanage);
+        // Act
+        reportService.streamDonationReports(startDate, endDate, "SUMMARY", "USD", "UTC", reports::add);
+
+        // Assert
+        assertThat(reports).hasSize(2);
+        assertThat(reports.get(0).getTotalMonetaryAmount()).isEqualByComparingTo("100.00");
+        assertThat(reports.get(1).getOrphanageName()).isEqualTo("Empty Orphanage");
+        assertThat(reports.get(1).getTotalMonetaryAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
 
+    @Test
+    void generateResourceUtilizationReport_ValidData_ReturnsReport() {
+        // Arrange
         ResourceRequest request = new ResourceRequest();
         request.setName("Food Request");
         request.setQuantity(20);
         request.setOrphanage(orphanage);
 
         when(orphanageRepository.findById(anyLong())).thenReturn(Optional.of(orphanage));
-        when(resourceRepository.findByOrphanageId(anyLong()))
-                .thenReturn(Arrays.asList(resource1, resource2));
+        when(resourceRepository.findQuantitiesByOrphanageIds(List.of(1L)))
+                .thenReturn(List.of(quantity(10L, 1L, "Food"), quantity(11L, 1L, "Clothing")));
+        when(resourceLedgerService.getUtilization(List.of(10L, 11L), startDate, endDate)).thenReturn(Map.of(
+                10L, utilization(10L, 40, 100, 0), 11L, utilization(11L, 0, 50, 90)));
         when(resourceRequestRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
                 .thenReturn(Collections.singletonList(request));
 
@@ -149,7 +248,32 @@ class ReportServiceTest {
         assertThat(report.getOrphanageName()).isEqualTo("Test Orphanage");
         assertThat(report.getResourceUtilization()).containsEntry("Food", 100L);
         assertThat(report.getResourceUtilization()).containsEntry("Clothing", 50L);
+        assertThat(report.getResourceDonations()).containsEntry("Food", 40L);
+        assertThat(report.getLowStockResources()).containsExactly("Clothing");
+        assertThat(report.getResources()).extracting(ResourceUtilizationDto::getResourceName)
+                .containsExactly("Food", "Clothing");
         assertThat(report.getResourceRequests()).hasSize(1);
+        verify(resourceRepository, never()).findByOrphanageId(anyLong());
+    }
+
+    @Test
+    void generateResourceUtilizationReport_ResourcesSharingName_AddsThemUp() {
+        // Arrange
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(resourceRepository.findQuantitiesByOrphanageIds(List.of(1L)))
+                .thenReturn(List.of(quantity(10L, 1L, "Rice"), quantity(11L, 1L, "Rice")));
+        when(resourceLedgerService.getUtilization(List.of(10L, 11L), startDate, endDate)).thenReturn(Map.of(
+                10L, utilization(10L, 4, 7, 0), 11L, utilization(11L, 6, 3, 0)));
+
+        // Act
+        ResourceUtilizationReportDto report = reportService.generateResourceUtilizationReport(
+                1L, startDate, endDate, "DETAILED", "UTC");
+
+        // Assert
+        assertThat(report.getResourceUtilization()).containsOnly(entry("Rice", 10L));
+        assertThat(report.getResourceDonations()).containsOnly(entry("Rice", 10L));
+        assertThat(report.getResources()).hasSize(2);
+        assertThat(report.getLowStockResources()).isEmpty();
     }
 
     @Test
@@ -159,9 +283,7 @@ class ReportServiceTest {
         Page<Orphanage> orphanagePage = new PageImpl<>(orphanages);
 
         when(orphanageRepository.findAll(any(Pageable.class))).thenReturn(orphanagePage);
-        when(resourceRepository.findByOrphanageId(anyLong())).thenReturn(Collections.emptyList());
-        when(resourceRequestRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(resourceRepository.findQuantitiesByOrphanageIds(List.of(1L))).thenReturn(Collections.emptyList());
 
         // Act
         Page<ResourceUtilizationReportDto> reports = reportService.generateResourceUtilizationReports(
@@ -172,23 +294,179 @@ class ReportServiceTest {
         assertThat(reports.getContent()).hasSize(1);
         assertThat(reports.getContent().get(0).getOrphanageId()).isEqualTo(1L);
         assertThat(reports.getContent().get(0).getOrphanageName()).isEqualTo("Test Orphanage");
+        verify(resourceRepository, never()).findByOrphanageId(anyLong());
+    }
+
+    @Test
+    void exportDonationReport_Csv_StreamsOneLinePerDonation() throws IOException {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 5, 10, 0);
+        String timeZone = ZoneId.systemDefault().getId();
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(donationRepository.streamExportRows(1L, startDate, endDate)).thenReturn(Stream.of(
+                exportRow(1L, createdAt, 7L, new BigDecimal("100.00"), "USD", DonationStatus.COMPLETED,
+                        PaymentMethod.CREDIT_CARD, "txn-1"),
+                exportRow(2L, createdAt, 8L, null, null, DonationStatus.PENDING, null, "a,\"b\"")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reportService.exportDonationReport(1L, startDate, endDate, "DETAILED", "USD", timeZone, "csv", out);
+
+        // Assert
+        String offsetCreatedAt = createdAt.atZone(ZoneId.systemDefault()).toOffsetDateTime().toString();
+        assertThat(out.toString(StandardCharsets.UTF_8).split("\r\n")).containsExactly(
+                "Donation ID,Date,Donor ID,Amount,Currency,Status,Payment Method,Transaction ID",
+                "1," + offsetCreatedAt + ",7,100.00,USD,COMPLETED,CREDIT_CARD,txn-1",
+                "2," + offsetCreatedAt + ",8,,,PENDING,,\"a,\"\"b\"\"\"");
     }
 
     @Test
-    void exportDonationReport_NotImplemented_ThrowsException() {
+    void exportDonationReport_Pdf_WritesPdfDocument() throws IOException {
+        // Arrange
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(donationRepository.streamExportRows(1L, startDate, endDate)).thenReturn(Stream.of(
+                exportRow(1L, startDate, 7L, new BigDecimal("100.00"), "USD", DonationStatus.COMPLETED,
+                        PaymentMethod.CREDIT_CARD, "txn-1")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reportService.exportDonationReport(1L, startDate, endDate, "DETAILED", "USD", "UTC", "PDF", out);
+
+        // Assert
+        assertThat(out.toString(StandardCharsets.ISO_8859_1)).startsWith("%PDF-").contains("%%EOF");
+    }
+
+    @Test
+    void exportDonationReport_UnsupportedFormat_ThrowsException() {
+        // Arrange
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+
         // Act & Assert
         assertThatThrownBy(() -> reportService.exportDonationReport(
-                1L, startDate, endDate, "DETAILED", "USD", "UTC", "PDF"))
-                .isInstanceOf(UnsupportedOperationException.class)
-                .hasMessage("Export functionality not implemented yet");
+                1L, startDate, endDate, "DETAILED", "USD", "UTC", "DOCX", new ByteArrayOutputStream()))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unsupported export format: DOCX");
+        verify(donationRepository, never()).streamExportRows(anyLong(), any(), any());
     }
 
     @Test
-    void exportResourceUtilizationReport_NotImplemented_ThrowsException() {
+    void checkExport_UnknownOrphanage_ThrowsNotFound() {
+        // Arrange
+        when(orphanageRepository.existsById(1L)).thenReturn(false);
+
         // Act & Assert
-        assertThatThrownBy(() -> reportService.exportResourceUtilizationReport(
-                1L, startDate, endDate, "DETAILED", "UTC", "PDF"))
-                .isInstanceOf(UnsupportedOperationException.class)
-                .hasMessage("Export functionality not implemented yet");
+        assertThatThrownBy(() -> reportService.checkExport(1L, "UTC", "CSV"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void checkExport_UnsupportedTimeZone_ThrowsException() {
+        // Arrange
+        when(orphanageRepository.existsById(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> reportService.checkExport(1L, "Mars/Olympus", "CSV"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Unsupported time zone: Mars/Olympus");
+        reportService.checkExport(1L, "Asia/Kolkata", "csv");
+    }
+
+    @Test
+    void exportResourceUtilizationReport_Excel_WritesWorkbook() throws IOException {
+        // Arrange
+        when(orphanageRepository.findById(anyLong())).thenReturn(Optional.of(orphanage));
+        when(resourceRepository.findQuantitiesByOrphanageIds(List.of(1L)))
+                .thenReturn(List.of(quantity(10L, 1L, "Food")));
+        when(resourceLedgerService.getUtilization(List.of(10L), startDate, endDate))
+                .thenReturn(Map.of(10L, utilization(10L, 20, 100, 0)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        reportService.exportResourceUtilizationReport(1L, startDate, endDate, "DETAILED", "UTC", "EXCEL", out);
+
+        // Assert
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Resource");
+            assertThat(sheet.getRow(0).getCell(3).getStringCellValue()).isEqualTo("Consumed");
+            assertThat(sheet.getRow(1).getCell(0).getStringCellValue()).isEqualTo("Food");
+            assertThat(sheet.getRow(1).getCell(2).getNumericCellValue()).isEqualTo(20.0);
+            assertThat(sheet.getRow(1).getCell(3).getNumericCellValue()).isEqualTo(100.0);
+        }
+    }
+
+    private DonationAggregate aggregate(Long orphanageId, String orphanageName, Long totalDonations,
+                                        BigDecimal totalMonetaryAmount, Long totalResourceDonations) {
+        return new DonationAggregate() {
+            @Override
+            public Long getOrphanageId() { return orphanageId; }
+
+            @Override
+            public String getOrphanageName() { return orphanageName; }
+
+            @Override
+            public Long getTotalDonations() { return totalDonations; }
+
+            @Override
+            public BigDecimal getTotalMonetaryAmount() { return totalMonetaryAmount; }
+
+            @Override
+            public Long getTotalResourceDonations() { return totalResourceDonations; }
+        };
+    }
+
+    private ResourceQuantity quantity(Long id, Long orphanageId, String name) {
+        return new ResourceQuantity() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public Long getOrphanageId() { return orphanageId; }
+
+            @Override
+            public String getName() { return name; }
+
+            @Override
+            public Integer getQuantity() { return 0; }
+        };
+    }
+
+    private DonationExportRow exportRow(Long id, LocalDateTime createdAt, Long donorId, BigDecimal amount,
+                                        String currency, DonationStatus status, PaymentMethod paymentMethod,
+                                        String transactionId) {
+        return new DonationExportRow() {
+            @Override
+            public Long getId() { return id; }
+
+            @Override
+            public LocalDateTime getCreatedAt() { return createdAt; }
+
+            @Override
+            public Long getDonorId() { return donorId; }
+
+            @Override
+            public BigDecimal getAmount() { return amount; }
+
+            @Override
+            public String getCurrency() { return currency; }
+
+            @Override
+            public DonationStatus getStatus() { return status; }
+
+            @Override
+            public PaymentMethod getPaymentMethod() { return paymentMethod; }
+
+            @Override
+            public String getTransactionId() { return transactionId; }
+        };
+    }
+
+    private ResourceUtilizationDto utilization(Long resourceId, long received, long consumed, long stockOutMinutes) {
+        ResourceUtilizationDto utilization = new ResourceUtilizationDto();
+        utilization.setResourceId(resourceId);
+        utilization.setReceivedQuantity(received);
+        utilization.setConsumedQuantity(consumed);
+        utilization.setStockOutMinutes(stockOutMinutes);
+        return utilization;
     }
-} 
\ No newline at end of file
+}
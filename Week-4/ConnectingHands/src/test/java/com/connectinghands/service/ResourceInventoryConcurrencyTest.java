@@ -0,0 +1,270 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ResourceUtilizationDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.inventory.HotResourceAccumulator;
+import com.connectinghands.mapper.ResourceMapper;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.ResourceMovementRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceSnapshotRepository;
+import com.connectinghands.repository.projection.ResourceInventory;
+import com.connectinghands.service.impl.ResourceLedgerServiceImpl;
+import com.connectinghands.service.impl.ResourceServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers one resource from several threads, each operation in its own committed
+ * transaction, and checks that the final quantities equal what the successful operations
+ * add up to, so no update was lost and no quantity went below what is reserved, and that
+ * the resource ledger arrives at the same quantity. Reports
+ * throughput; raise the load with {@code -Dbenchmark.threads=16 -Dbenchmark.ops=100000}.
+ */
+// statement logging, not the database, would otherwise bound the throughput
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY, showSql = false, properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql=WARN"})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResourceInventoryConcurrencyTest {
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+    private static final int OPS = Integer.getInteger("benchmark.ops", 2000);
+    private static final int INITIAL_QUANTITY = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrphanageRepository orphanageRepository;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceMovementRepository resourceMovementRepository;
+
+    @Autowired
+    private ResourceSnapshotRepository resourceSnapshotRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private ResourceLedgerService resourceLedgerService;
+    private HotResourceAccumulator hotResourceAccumulator;
+    private LocalDateTime startedAt;
+    private User admin;
+    private Orphanage orphanage;
+    private Resource resource;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        resourceLedgerService = new ResourceLedgerServiceImpl(resourceMovementRepository, resourceSnapshotRepository,
+                resourceRepository, transactionManager, 1000);
+        startedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            admin = new User();
+            admin.setName("Admin");
+            admin.setFirstName("Ada");
+            admin.setLastName("Admin");
+            admin.setEmail("inventory-admin@example.com");
+            admin.setPassword("password");
+            admin.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+            entityManager.persist(admin);
+
+            orphanage = new Orphanage();
+            orphanage.setName("Sunrise Home");
+            orphanage.setAddress("Street");
+            orphanage.setCity("City");
+            orphanage.setState("State");
+            orphanage.setCountry("Country");
+            orphanage.setPostalCode("00000");
+            orphanage.setPhone("5550000000");
+            orphanage.setEmail("inventory@example.com");
+            orphanage.setCapacity(50);
+            orphanage.setCurrentChildren(10);
+            orphanage.setStatus(OrphanageStatus.ACTIVE);
+            orphanage.setAdmin(admin);
+            orphanage.setCreatedAt(LocalDateTime.now());
+            orphanage.setCreatedBy("test");
+            entityManager.persist(orphanage);
+
+            resource = new Resource();
+            resource.setName("Rice");
+            resource.setDescription("Donated stock");
+            resource.setCategory(ResourceCategory.FOOD);
+            resource.setQuantity(INITIAL_QUANTITY);
+            resource.setUnit("kg");
+            resource.setOrphanage(orphanage);
+            resource.setStatus(ResourceStatus.AVAILABLE);
+            entityManager.persist(resource);
+            resourceLedgerService.record(resource.getId(), ResourceMovementType.OPENED, INITIAL_QUANTITY);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM resource_movements WHERE resource_id = ?", resource.getId());
+            jdbcTemplate.update("DELETE FROM resources WHERE id = ?", resource.getId());
+            jdbcTemplate.update("DELETE FROM orphanages WHERE id = ?", orphanage.getId());
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", admin.getId());
+        });
+    }
+
+    @Test
+    void mixedOperations_NoUpdateIsLost() throws Exception {
+        ResourceServiceImpl resourceService = resourceService("");
+        AtomicLong received = new AtomicLong();
+        AtomicLong taken = new AtomicLong();
+        AtomicLong reserved = new AtomicLong();
+        AtomicLong released = new AtomicLong();
+        Long id = resource.getId();
+
+        double seconds = run(() -> {
+            int amount = ThreadLocalRandom.current().nextInt(1, 6);
+            try {
+                switch (ThreadLocalRandom.current().nextInt(4)) {
+                    case 0 -> {
+                        inTransaction(() -> resourceService.incrementQuantity(id, amount));
+                        received.addAndGet(amount);
+                    }
+                    case 1 -> {
+                        inTransaction(() -> resourceService.decrementQuantity(id, amount));
+                        taken.addAndGet(amount);
+                    }
+                    case 2 -> {
+                        inTransaction(() -> resourceService.reserveQuantity(id, amount));
+                        reserved.addAndGet(amount);
+                    }
+                    default -> {
+                        inTransaction(() -> resourceService.releaseQuantity(id, amount));
+                        released.addAndGet(amount);
+                    }
+                }
+            } catch (ValidationException e) {
+                // not enough available or reserved; the row was left unchanged
+            }
+        });
+
+        ResourceInventory inventory = resourceRepository.findInventoryById(id).orElseThrow();
+        System.out.printf("%,d inventory operations on one resource from %d threads in %.2fs (%,.0f ops/s)%n",
+                OPS, THREADS, seconds, OPS / seconds);
+        assertThat(inventory.getQuantity()).isEqualTo(INITIAL_QUANTITY + received.get() - taken.get());
+        assertThat(inventory.getReservedQuantity()).isEqualTo(reserved.get() - released.get());
+        assertThat(inventory.getReservedQuantity()).isBetween(0, inventory.getQuantity());
+        ResourceUtilizationDto utilization = utilization(id);
+        assertThat(utilization.getClosingQuantity()).isEqualTo(inventory.getQuantity().longValue());
+        assertThat(utilization.getReceivedQuantity()).isEqualTo(received.get());
+        assertThat(utilization.getConsumedQuantity()).isEqualTo(taken.get());
+    }
+
+    @Test
+    void hotResource_ConcurrentIncrementsAndFlushes_NoUpdateIsLost() throws Exception {
+        ResourceServiceImpl resourceService = resourceService(String.valueOf(resource.getId()));
+        AtomicLong received = new AtomicLong();
+        AtomicLong taken = new AtomicLong();
+        Long id = resource.getId();
+
+        double seconds = run(() -> {
+            int amount = ThreadLocalRandom.current().nextInt(1, 6);
+            int choice = ThreadLocalRandom.current().nextInt(10);
+            if (choice == 0) {
+                hotResourceAccumulator.flushAll();
+            } else if (choice == 1) {
+                try {
+                    inTransaction(() -> resourceService.decrementQuantity(id, amount));
+                    taken.addAndGet(amount);
+                } catch (ValidationException e) {
+                    // not enough even after writing the accumulated amount
+                }
+            } else {
+                inTransaction(() -> resourceService.incrementQuantity(id, amount));
+                received.addAndGet(amount);
+            }
+        });
+        hotResourceAccumulator.flushAll();
+
+        System.out.printf("%,d operations on one hot resource from %d threads in %.2fs (%,.0f ops/s)%n",
+                OPS, THREADS, seconds, OPS / seconds);
+        assertThat(resourceRepository.findInventoryById(id).orElseThrow().getQuantity())
+                .isEqualTo(INITIAL_QUANTITY + received.get() - taken.get());
+        assertThat(utilization(id).getClosingQuantity()).isEqualTo(INITIAL_QUANTITY + received.get() - taken.get());
+    }
+
+    private ResourceServiceImpl resourceService(String hotResourceIds) {
+        hotResourceAccumulator = new HotResourceAccumulator(jdbcTemplate, resourceLedgerService, transactionManager,
+                new SimpleMeterRegistry(), hotResourceIds);
+        return new ResourceServiceImpl(resourceRepository, orphanageRepository, entityManager,
+                Mappers.getMapper(ResourceMapper.class), hotResourceAccumulator, resourceLedgerService);
+    }
+
+    private ResourceUtilizationDto utilization(Long id) {
+        return resourceLedgerService.getUtilization(List.of(id), startedAt, LocalDateTime.now()).get(id);
+    }
+
+    private void inTransaction(Runnable operation) {
+        transactionTemplate.executeWithoutResult(status -> operation.run());
+    }
+
+    private double run(Runnable operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int share = OPS / THREADS + (thread < OPS % THREADS ? 1 : 0);
+                workers.add(() -> {
+                    for (int i = 0; i < share; i++) {
+                        operation.run();
+                    }
+                    return null;
+                });
+            }
+            long startNanos = System.nanoTime();
+            for (Future<Void> result : executor.invokeAll(workers)) {
+                result.get();
+            }
+            return (System.nanoTime() - startNanos) / 1e9;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
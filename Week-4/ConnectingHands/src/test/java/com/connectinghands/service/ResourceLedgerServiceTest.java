@@ -0,0 +1,221 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ResourceUtilizationDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceMovement;
+import com.connectinghands.entity.ResourceMovementType;
+import com.connectinghands.entity.ResourceSnapshot;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.ResourceMovementRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceSnapshotRepository;
+import com.connectinghands.service.impl.ResourceLedgerServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.repository.config.BootstrapMode;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Computes utilization windows and snapshots against the embedded database. Movements made
+ * before a snapshot are already counted in it, so some tests record large movements there
+ * to show that they are never read again.
+ */
+@DataJpaTest(bootstrapMode = BootstrapMode.LAZY)
+@ActiveProfiles("test")
+class ResourceLedgerServiceTest {
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ResourceRepository resourceRepository;
+
+    @Autowired
+    private ResourceMovementRepository movementRepository;
+
+    @Autowired
+    private ResourceSnapshotRepository snapshotRepository;
+
+    private ResourceLedgerService resourceLedgerService;
+    private Orphanage orphanage;
+
+    @BeforeEach
+    void setUp() {
+        resourceLedgerService = new ResourceLedgerServiceImpl(movementRepository, snapshotRepository,
+                resourceRepository, transactionManager, 2);
+
+        User admin = new User();
+        admin.setName("Admin");
+        admin.setFirstName("Ada");
+        admin.setLastName("Admin");
+        admin.setEmail("ledger-admin@example.com");
+        admin.setPassword("password");
+        admin.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+        entityManager.persist(admin);
+
+        orphanage = new Orphanage();
+        orphanage.setName("Sunrise Home");
+        orphanage.setAddress("Street");
+        orphanage.setCity("City");
+        orphanage.setState("State");
+        orphanage.setCountry("Country");
+        orphanage.setPostalCode("00000");
+        orphanage.setPhone("5550000000");
+        orphanage.setEmail("ledger@example.com");
+        orphanage.setCapacity(50);
+        orphanage.setCurrentChildren(10);
+        orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
+        orphanage.setCreatedAt(T0);
+        orphanage.setCreatedBy("test");
+        entityManager.persist(orphanage);
+    }
+
+    @Test
+    void getUtilization_StartsFromSnapshotAndReplaysWindow() {
+        Long id = persistResource("Rice", 15);
+        movement(id, ResourceMovementType.RECEIVED, 1000, T0.minusDays(1));
+        snapshot(id, T0, 10, 0);
+        movement(id, ResourceMovementType.RECEIVED, 5, T0.plusHours(1));
+        movement(id, ResourceMovementType.CONSUMED, 15, T0.plusHours(3));
+        movement(id, ResourceMovementType.RECEIVED, 20, T0.plusHours(5));
+        movement(id, ResourceMovementType.CONSUMED, 5, T0.plusHours(8));
+        movement(id, ResourceMovementType.CONSUMED, 500, T0.plusHours(11));
+
+        ResourceUtilizationDto utilization = resourceLedgerService
+                .getUtilization(List.of(id), T0.plusHours(2), T0.plusHours(10)).get(id);
+
+        assertThat(utilization.getOpeningQuantity()).isEqualTo(15);
+        assertThat(utilization.getReceivedQuantity()).isEqualTo(20);
+        assertThat(utilization.getConsumedQuantity()).isEqualTo(20);
+        assertThat(utilization.getClosingQuantity()).isEqualTo(15);
+        assertThat(utilization.getStockOutMinutes()).isEqualTo(120);
+        // 15 for 1h, 0 for 2h, 20 for 3h and 15 for 2h
+        assertThat(utilization.getAverageQuantity()).isCloseTo(105.0 / 8, within(1e-9));
+        assertThat(utilization.getConsumptionPerDay()).isCloseTo(60.0, within(1e-9));
+        assertThat(utilization.getTurnover()).isCloseTo(20 / (105.0 / 8), within(1e-9));
+    }
+
+    @Test
+    void getUtilization_ReservedStock_CountsAsStockOut() {
+        Long id = persistResource("Milk", 4);
+        snapshot(id, T0, 4, 0);
+        movement(id, ResourceMovementType.RESERVED, 4, T0.plusMinutes(30));
+        movement(id, ResourceMovementType.RELEASED, 4, T0.plusMinutes(75));
+
+        ResourceUtilizationDto utilization = resourceLedgerService
+                .getUtilization(List.of(id), T0, T0.plusHours(2)).get(id);
+
+        assertThat(utilization.getStockOutMinutes()).isEqualTo(45);
+        assertThat(utilization.getClosingQuantity()).isEqualTo(4);
+        assertThat(utilization.getConsumedQuantity()).isZero();
+    }
+
+    @Test
+    void getUtilization_ResourceOpenedInWindow_IsNotOutOfStockBeforeIt() {
+        Long id = persistResource("Books", 8);
+        movement(id, ResourceMovementType.OPENED, 8, T0.plusHours(6));
+
+        ResourceUtilizationDto utilization = resourceLedgerService
+                .getUtilization(List.of(id), T0, T0.plusHours(12)).get(id);
+
+        assertThat(utilization.getOpeningQuantity()).isZero();
+        assertThat(utilization.getAdjustedQuantity()).isEqualTo(8);
+        assertThat(utilization.getClosingQuantity()).isEqualTo(8);
+        assertThat(utilization.getStockOutMinutes()).isZero();
+        assertThat(utilization.getTurnover()).isZero();
+    }
+
+    @Test
+    void getUtilization_StartAfterEnd_ThrowsException() {
+        assertThatThrownBy(() -> resourceLedgerService.getUtilization(List.of(1L), T0.plusDays(1), T0))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void takeSnapshots_BringsEachResourceForwardFromItsLatestSnapshot() {
+        Long snapshotted = persistResource("Rice", 10);
+        Long skipped = persistResource("Milk", 10);
+        Long created = persistResource("Books", 3);
+        movement(snapshotted, ResourceMovementType.RECEIVED, 1000, T0.minusHours(1));
+        snapshot(snapshotted, T0, 10, 2);
+        snapshot(skipped, T0.minusDays(1), 7, 0);
+        movement(skipped, ResourceMovementType.RECEIVED, 3, T0.minusHours(2));
+        movement(snapshotted, ResourceMovementType.CONSUMED, 4, T0.plusHours(1));
+        movement(created, ResourceMovementType.OPENED, 3, T0.plusHours(2));
+        movement(created, ResourceMovementType.CONSUMED, 1, T0.plusHours(4));
+
+        int written = resourceLedgerService.takeSnapshots(T0.plusHours(3));
+
+        assertThat(written).isEqualTo(3);
+        Map<Long, ResourceSnapshot> snapshots = snapshotsAt(T0.plusHours(3));
+        assertThat(snapshots.get(snapshotted).getQuantity()).isEqualTo(6);
+        assertThat(snapshots.get(snapshotted).getReservedQuantity()).isEqualTo(2);
+        assertThat(snapshots.get(skipped).getQuantity()).isEqualTo(10);
+        assertThat(snapshots.get(created).getQuantity()).isEqualTo(3);
+        assertThat(resourceLedgerService.getUtilization(List.of(created), T0.plusHours(3), T0.plusHours(5))
+                .get(created).getClosingQuantity()).isEqualTo(2);
+    }
+
+    private Map<Long, ResourceSnapshot> snapshotsAt(LocalDateTime snapshotAt) {
+        entityManager.flush();
+        return snapshotRepository.findAll().stream()
+                .filter(snapshot -> snapshot.getSnapshotAt().equals(snapshotAt))
+                .collect(Collectors.toMap(ResourceSnapshot::getResourceId, snapshot -> snapshot));
+    }
+
+    private Long persistResource(String name, int quantity) {
+        Resource resource = new Resource();
+        resource.setName(name);
+        resource.setDescription("Donated stock");
+        resource.setCategory(ResourceCategory.FOOD);
+        resource.setQuantity(quantity);
+        resource.setUnit("kg");
+        resource.setOrphanage(orphanage);
+        resource.setStatus(ResourceStatus.AVAILABLE);
+        entityManager.persist(resource);
+        return resource.getId();
+    }
+
+    private void movement(Long resourceId, ResourceMovementType type, int amount, LocalDateTime occurredAt) {
+        ResourceMovement movement = new ResourceMovement();
+        movement.setResourceId(resourceId);
+        movement.setType(type);
+        movement.setQuantityChange(type.quantityChange(amount));
+        movement.setReservedChange(type.reservedChange(amount));
+        movement.setOccurredAt(occurredAt);
+        entityManager.persist(movement);
+    }
+
+    private void snapshot(Long resourceId, LocalDateTime snapshotAt, int quantity, int reservedQuantity) {
+        ResourceSnapshot snapshot = new ResourceSnapshot();
+        snapshot.setResourceId(resourceId);
+        snapshot.setSnapshotAt(snapshotAt);
+        snapshot.setQuantity(quantity);
+        snapshot.setReservedQuantity(reservedQuantity);
+        entityManager.persist(snapshot);
+    }
+}
@@ -7,20 +7,30 @@ import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.mapper.ResourceRequestMapper;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
 import com.connectinghands.service.impl.ResourceRequestServiceImpl;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -35,6 +45,12 @@ class ResourceRequestServiceTest {
     private ResourceRequestRepository resourceRequestRepository;
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ResourceRequestMapper resourceRequestMapper = Mappers.getMapper(ResourceRequestMapper.class);
+
     @InjectMocks
     private ResourceRequestServiceImpl resourceRequestService;
 
@@ -105,11 +121,20 @@ class ResourceRequestServiceTest {
     }
 
     @Test
-    void getAllResourceRequests_ReturnsList() {
-        when(resourceRequestRepository.findAll()).thenReturn(Collections.singletonList(resourceRequest));
-        List<ResourceRequestDto> list = resourceRequestService.getAllResourceRequests();
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getId()).isEqualTo(1L);
+    void getAllResourceRequests_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(resourceRequestRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(resourceRequest)));
+        Slice<ResourceRequestDto> slice = resourceRequestService.getAllResourceRequests(pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getId()).isEqualTo(1L);
+    }
+
+    @Test
+    void streamAllResourceRequests_StreamsEveryRow() {
+        when(resourceRequestRepository.streamAll()).thenReturn(Stream.of(resourceRequest, resourceRequest));
+        List<ResourceRequestDto> received = new ArrayList<>();
+        resourceRequestService.streamAllResourceRequests(received::add);
+        assertThat(received).extracting(ResourceRequestDto::getId).containsExactly(1L, 1L);
     }
 
     @Test
@@ -121,12 +146,14 @@ class ResourceRequestServiceTest {
     }
 
     @Test
-    void getResourceRequestsByStatus_ReturnsList() {
-        when(resourceRequestRepository.findByStatus(ResourceRequestStatus.PENDING))
-                .thenReturn(Collections.singletonList(resourceRequest));
-        List<ResourceRequestDto> list = resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
+    void getResourceRequestsByStatus_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(resourceRequestRepository.findByStatus(ResourceRequestStatus.PENDING, pageable))
+                .thenReturn(new SliceImpl<>(List.of(resourceRequest)));
+        Slice<ResourceRequestDto> slice =
+                resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
     }
 
     @Test
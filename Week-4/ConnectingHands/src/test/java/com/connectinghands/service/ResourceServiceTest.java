@@ -2,25 +2,36 @@ package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateResourceRequest;
 import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.dto.ResourceInventoryDto;
 import com.connectinghands.dto.UpdateResourceDto;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceMovementType;
 import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.inventory.HotResourceAccumulator;
+import com.connectinghands.mapper.ResourceMapper;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.projection.ResourceInventory;
 import com.connectinghands.service.impl.ResourceServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -30,6 +41,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -40,6 +52,12 @@ class ResourceServiceTest {
     private ResourceRepository resourceRepository;
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private HotResourceAccumulator hotResourceAccumulator;
+    @Mock
+    private ResourceLedgerService resourceLedgerService;
+    @Spy
+    private ResourceMapper resourceMapper = Mappers.getMapper(ResourceMapper.class);
     @InjectMocks
     private ResourceServiceImpl resourceService;
 
@@ -81,6 +99,7 @@ class ResourceServiceTest {
         assertThat(dto.getOrphanageName()).isEqualTo("Test Orphanage");
         assertThat(dto.getName()).isEqualTo("Test Resource");
         assertThat(dto.getStatus()).isEqualTo(ResourceStatus.AVAILABLE);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.OPENED, 10);
     }
 
     @Test
@@ -128,19 +147,23 @@ class ResourceServiceTest {
     }
 
     @Test
-    void getResourcesByCategory_ReturnsList() {
-        when(resourceRepository.findByCategory(ResourceCategory.FOOD)).thenReturn(Collections.singletonList(resource));
-        List<ResourceDto> list = resourceService.getResourcesByCategory(ResourceCategory.FOOD);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getCategory()).isEqualTo(ResourceCategory.FOOD);
+    void getResourcesByCategory_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(resourceRepository.findByCategory(ResourceCategory.FOOD, pageable))
+                .thenReturn(new SliceImpl<>(List.of(resource)));
+        Slice<ResourceDto> slice = resourceService.getResourcesByCategory(ResourceCategory.FOOD, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getCategory()).isEqualTo(ResourceCategory.FOOD);
     }
 
     @Test
-    void getResourcesByStatus_ReturnsList() {
-        when(resourceRepository.findByStatus(ResourceStatus.AVAILABLE)).thenReturn(Collections.singletonList(resource));
-        List<ResourceDto> list = resourceService.getResourcesByStatus(ResourceStatus.AVAILABLE);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(ResourceStatus.AVAILABLE);
+    void getResourcesByStatus_ReturnsSlice() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(resourceRepository.findByStatus(ResourceStatus.AVAILABLE, pageable))
+                .thenReturn(new SliceImpl<>(List.of(resource)));
+        Slice<ResourceDto> slice = resourceService.getResourcesByStatus(ResourceStatus.AVAILABLE, pageable);
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.getContent().get(0).getStatus()).isEqualTo(ResourceStatus.AVAILABLE);
     }
 
     @Test
@@ -150,10 +173,25 @@ class ResourceServiceTest {
         request.setQuantity(15);
         request.setStatus(ResourceStatus.UNAVAILABLE);
         when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
+        when(resourceRepository.adjustQuantity(1L, 10, 15)).thenReturn(1);
         when(resourceRepository.save(any(Resource.class))).thenReturn(resource);
         ResourceDto dto = resourceService.updateResource(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
+        assertThat(dto.getQuantity()).isEqualTo(15);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.ADJUSTED, 5);
+    }
+
+    @Test
+    void updateResource_QuantityChangedConcurrently_ThrowsException() {
+        UpdateResourceDto request = new UpdateResourceDto();
+        request.setQuantity(6);
+        when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
+        when(resourceRepository.adjustQuantity(1L, 10, 6)).thenReturn(0);
+        assertThatThrownBy(() -> resourceService.updateResource(1L, request))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("changed concurrently");
+        verifyNoInteractions(resourceLedgerService);
     }
 
     @Test
@@ -167,9 +205,11 @@ class ResourceServiceTest {
 
     @Test
     void deleteResource_ValidId_DeletesResource() {
-        when(resourceRepository.existsById(1L)).thenReturn(true);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(10, 4)));
         doNothing().when(resourceRepository).deleteById(1L);
         resourceService.deleteResource(1L);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.RELEASED, 4);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.CLOSED, 10);
         verify(resourceRepository, times(1)).deleteById(1L);
     }
 
@@ -180,4 +220,110 @@ class ResourceServiceTest {
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Resource not found");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void updateResource_QuantityBelowReserved_ThrowsException() {
+        resource.setReservedQuantity(8);
+        UpdateResourceDto request = new UpdateResourceDto();
+        request.setQuantity(5);
+        when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
+        assertThatThrownBy(() -> resourceService.updateResource(1L, request))
+                .isInstanceOf(ValidationException.class);
+        verify(resourceRepository, never()).save(any(Resource.class));
+    }
+
+    @Test
+    void incrementQuantity_UpdatesRowConditionally() {
+        when(resourceRepository.incrementQuantity(1L, 5)).thenReturn(1);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(15, 4)));
+
+        ResourceInventoryDto dto = resourceService.incrementQuantity(1L, 5);
+
+        assertThat(dto.getQuantity()).isEqualTo(15);
+        assertThat(dto.getAvailableQuantity()).isEqualTo(11);
+        verify(resourceRepository, never()).save(any(Resource.class));
+        verify(resourceLedgerService).record(1L, ResourceMovementType.RECEIVED, 5);
+    }
+
+    @Test
+    void incrementQuantity_HotResource_AccumulatesWithoutUpdatingRow() {
+        when(hotResourceAccumulator.isHot(1L)).thenReturn(true);
+        when(hotResourceAccumulator.pending(1L)).thenReturn(3L);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(10, 0)));
+
+        ResourceInventoryDto dto = resourceService.incrementQuantity(1L, 5);
+
+        verify(hotResourceAccumulator).add(1L, 5);
+        verify(resourceRepository, never()).incrementQuantity(anyLong(), anyInt());
+        assertThat(dto.getQuantity()).isEqualTo(18);
+        // recorded by the accumulator when it writes the amount
+        verifyNoInteractions(resourceLedgerService);
+    }
+
+    @Test
+    void incrementQuantity_NotFound_ThrowsException() {
+        when(resourceRepository.incrementQuantity(2L, 5)).thenReturn(0);
+        assertThatThrownBy(() -> resourceService.incrementQuantity(2L, 5))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Resource not found");
+    }
+
+    @Test
+    void decrementQuantity_NotEnoughAvailable_ThrowsException() {
+        when(resourceRepository.decrementQuantity(1L, 7)).thenReturn(0);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(10, 4)));
+        assertThatThrownBy(() -> resourceService.decrementQuantity(1L, 7))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Not enough quantity available");
+        verifyNoInteractions(resourceLedgerService);
+    }
+
+    @Test
+    void decrementQuantity_HotResourceWithPendingAmount_FlushesAndRetries() {
+        when(resourceRepository.decrementQuantity(1L, 12)).thenReturn(0, 1);
+        when(hotResourceAccumulator.pending(1L)).thenReturn(5L, 0L);
+        when(hotResourceAccumulator.flush(1L)).thenReturn(true);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(3, 0)));
+
+        ResourceInventoryDto dto = resourceService.decrementQuantity(1L, 12);
+
+        verify(resourceRepository, times(2)).decrementQuantity(1L, 12);
+        verify(resourceLedgerService).record(1L, ResourceMovementType.CONSUMED, 12);
+        assertThat(dto.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void reserveQuantity_NonPositiveAmount_ThrowsException() {
+        assertThatThrownBy(() -> resourceService.reserveQuantity(1L, 0))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(resourceRepository);
+    }
+
+    @Test
+    void releaseQuantity_NotReserved_ThrowsException() {
+        when(resourceRepository.releaseQuantity(1L, 2)).thenReturn(0);
+        when(resourceRepository.findInventoryById(1L)).thenReturn(Optional.of(inventory(10, 1)));
+        assertThatThrownBy(() -> resourceService.releaseQuantity(1L, 2))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("Not enough quantity reserved");
+    }
+
+    private static ResourceInventory inventory(int quantity, int reservedQuantity) {
+        return new ResourceInventory() {
+            @Override
+            public Long getId() {
+                return 1L;
+            }
+
+            @Override
+            public Integer getQuantity() {
+                return quantity;
+            }
+
+            @Override
+            public Integer getReservedQuantity() {
+                return reservedQuantity;
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.security.AuthorizationDecisionCache;
+import com.connectinghands.service.impl.SecurityServiceImpl;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that the current user and orphanage-admin decisions are resolved once per
+ * request, and that decisions are reused across requests until evicted.
+ */
+class SecurityServiceMemoizationTest {
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private SecurityServiceImpl securityService;
+    private User admin;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        securityService = new SecurityServiceImpl(userRepository,
+                new AuthorizationDecisionCache(meterRegistry, 1000, Duration.ofSeconds(30)), meterRegistry);
+
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(10L);
+        admin = new User();
+        admin.setId(1L);
+        admin.setEmail("admin@example.com");
+        admin.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+        admin.setOrphanage(orphanage);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(admin));
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(admin, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getCurrentUser_WithinRequest_LoadsUserOnce() {
+        ServletRequestAttributes request = startRequest();
+
+        assertThat(securityService.getCurrentUser()).isSameAs(admin);
+        assertThat(securityService.getCurrentUser()).isSameAs(admin);
+        assertThat(securityService.getCurrentUser()).isSameAs(admin);
+        request.requestCompleted();
+
+        verify(userRepository, times(1)).findById(1L);
+        DistributionSummary avoided = meterRegistry.get("security.request.lookups.avoided").summary();
+        assertThat(avoided.count()).isEqualTo(1);
+        assertThat(avoided.totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void getCurrentUser_OutsideRequest_LoadsUserEachTime() {
+        securityService.getCurrentUser();
+        securityService.getCurrentUser();
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void isCurrentUserOrphanageAdmin_AcrossRequests_ReusesCachedDecision() {
+        startRequest();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isTrue();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isTrue();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(11L)).isFalse();
+
+        startRequest();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isTrue();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(11L)).isFalse();
+
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void evictOrphanageDecisions_ForcesFreshDecision() {
+        startRequest();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isTrue();
+
+        admin.setOrphanage(null);
+        securityService.evictOrphanageDecisions(10L);
+        startRequest();
+
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isFalse();
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void evictUserDecisions_ClearsDecisionsMadeInCurrentRequest() {
+        startRequest();
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isTrue();
+
+        admin.setOrphanage(null);
+        securityService.evictUserDecisions(1L);
+
+        // the user itself is still memoized for the request, so the fresh decision costs no lookup
+        assertThat(securityService.isCurrentUserOrphanageAdmin(10L)).isFalse();
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    private static ServletRequestAttributes startRequest() {
+        ServletRequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        return attributes;
+    }
+}
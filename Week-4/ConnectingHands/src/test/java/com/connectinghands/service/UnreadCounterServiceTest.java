@@ -0,0 +1,125 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.UnreadMessageCounter;
+import com.connectinghands.messaging.UnreadCountCache;
+import com.connectinghands.repository.MessageRepository;
+import com.connectinghands.repository.UnreadMessageCounterRepository;
+import com.connectinghands.repository.projection.UnreadCounterCheck;
+import com.connectinghands.service.impl.UnreadCounterServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UnreadCounterServiceTest {
+
+    @Mock
+    private UnreadMessageCounterRepository counterRepository;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UnreadCountCache unreadCountCache;
+    private UnreadCounterServiceImpl unreadCounterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        unreadCountCache = new UnreadCountCache(meterRegistry, 4, 100, Duration.ofMinutes(1));
+        unreadCounterService = new UnreadCounterServiceImpl(counterRepository, messageRepository,
+                unreadCountCache, transactionManager, meterRegistry, 2);
+    }
+
+    @Test
+    void getUnreadCount_StoredCounter_ReadOnceThenCached() {
+        UnreadMessageCounter counter = new UnreadMessageCounter();
+        counter.setUserId(1L);
+        counter.setUnreadCount(3);
+        when(counterRepository.findById(1L)).thenReturn(Optional.of(counter));
+
+        assertThat(unreadCounterService.getUnreadCount(1L)).isEqualTo(3);
+        assertThat(unreadCounterService.getUnreadCount(1L)).isEqualTo(3);
+
+        verify(counterRepository, times(1)).findById(1L);
+        verify(messageRepository, never()).countByReceiverIdAndReadFalse(anyLong());
+    }
+
+    @Test
+    void getUnreadCount_NoCounter_CountsMessagesAndStoresCounter() {
+        when(counterRepository.findById(1L)).thenReturn(Optional.empty());
+        when(messageRepository.countByReceiverIdAndReadFalse(1L)).thenReturn(4L);
+
+        assertThat(unreadCounterService.getUnreadCount(1L)).isEqualTo(4);
+
+        verify(counterRepository).insertIfAbsent(1L, 4L);
+        assertThat(unreadCountCache.get(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    void increment_EvictsCachedCount() {
+        unreadCountCache.put(1L, 3);
+
+        unreadCounterService.increment(1L, 1);
+
+        verify(counterRepository).increment(1L, 1L);
+        assertThat(unreadCountCache.get(1L)).isNull();
+    }
+
+    @Test
+    void reconcile_RepairsOnlyDriftedCountersThatDidNotChangeMeanwhile() {
+        unreadCountCache.put(2L, 5);
+        when(counterRepository.checkCounters(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(check(1L, 3, 3), check(2L, 5, 4)));
+        when(counterRepository.checkCounters(2L, PageRequest.of(0, 2))).thenReturn(List.of(check(7L, 0, 1)));
+        when(counterRepository.checkCounters(7L, PageRequest.of(0, 2))).thenReturn(List.of());
+        when(counterRepository.repair(2L, 5L, 4L)).thenReturn(1);
+        // counter 7 changed after it was recounted, so it is left for the next run
+        when(counterRepository.repair(7L, 0L, 1L)).thenReturn(0);
+
+        int repaired = unreadCounterService.reconcile();
+
+        assertThat(repaired).isEqualTo(1);
+        verify(counterRepository, never()).repair(1L, 3L, 3L);
+        assertThat(unreadCountCache.get(2L)).isNull();
+        assertThat(meterRegistry.get("message.unread.reconciled").counter().count()).isEqualTo(1);
+    }
+
+    private static UnreadCounterCheck check(Long userId, long stored, long actual) {
+        return new UnreadCounterCheck() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getStoredCount() {
+                return stored;
+            }
+
+            @Override
+            public Long getActualCount() {
+                return actual;
+            }
+        };
+    }
+}